@@ -22,6 +22,7 @@
 import org.hibernate.ogm.dialect.impl.OptimisticLockingAwareGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.QueryableGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.StoredProcedureGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.TupleCacheStatisticsInitiator;
 import org.hibernate.ogm.jdbc.impl.OgmConnectionProviderInitiator;
 import org.hibernate.ogm.jpa.impl.OgmMutableIdentifierGeneratorFactoryInitiator;
 import org.hibernate.ogm.jpa.impl.OgmPersisterClassResolverInitiator;
@@ -84,6 +85,7 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( OptimisticLockingAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( MultigetGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( StoredProcedureGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( TupleCacheStatisticsInitiator.INSTANCE );
 	}
 
 	private boolean isOgmEnabled(Map<?, ?> settings) {
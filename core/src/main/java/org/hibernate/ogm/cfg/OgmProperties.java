@@ -107,6 +107,28 @@ public interface OgmProperties {
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
 
+	/**
+	 * The maximum number of tuples and associations kept in the cache shared by all the sessions of a session
+	 * factory. Accepts an integer value, the cache is disabled if not set or set to 0.
+	 */
+	String TUPLE_CACHE_MAX_ENTRIES = "hibernate.ogm.datastore.tuple_cache.max_entries";
+
+	/**
+	 * The time in milliseconds after which an entry of the tuple cache is considered stale. Accepts an integer value,
+	 * entries only leave the cache when evicted or invalidated if not set or set to 0.
+	 *
+	 * @see #TUPLE_CACHE_MAX_ENTRIES
+	 */
+	String TUPLE_CACHE_EXPIRATION = "hibernate.ogm.datastore.tuple_cache.expiration";
+
+	/**
+	 * The number of pools identifiers generated from sequences and tables are handed out from, so that threads
+	 * inserting entities concurrently do not wait for each other. When a pool runs low, its next block of values is
+	 * reserved in the background. Accepts an integer value; if not set or set to 0, a single pool is shared by all
+	 * threads. Only applies to the default "pooled" and "none" optimizers, with a positive increment.
+	 */
+	String ID_GENERATION_STRIPES = "hibernate.ogm.id.generation_stripes";
+
 	/**
 	 * Optional JNDI resource string to fetch a native data store client
 	 */
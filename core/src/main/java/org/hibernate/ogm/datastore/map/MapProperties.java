@@ -0,0 +1,43 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+
+/**
+ * Properties for configuring OGM's simple map data store via {@code persistence.xml} or
+ * {@link org.hibernate.boot.registry.StandardServiceRegistryBuilder}.
+ */
+public final class MapProperties implements OgmProperties {
+
+	/**
+	 * The local directory the content of the data store is persisted to. When set, the data store writes a snapshot of
+	 * its content to this directory periodically and on stop, together with a log of the changes applied since the
+	 * last snapshot, and reloads them on start. Accepts a {@code String} representing a path. The content is only kept
+	 * in memory if not set.
+	 */
+	public static final String PERSISTENCE_DIRECTORY = "hibernate.ogm.map.persistence_directory";
+
+	/**
+	 * The interval in seconds between two snapshots of the content of the data store. The longer the interval, the
+	 * longer the log of changes to replay on start. Accepts an integer value, defaults to 60; snapshots are only taken
+	 * on stop if set to 0.
+	 *
+	 * @see #PERSISTENCE_DIRECTORY
+	 */
+	public static final String SNAPSHOT_INTERVAL = "hibernate.ogm.map.snapshot_interval";
+
+	/**
+	 * The number of locks shared by the keys locked with a pessimistic lock mode. A key is locked by locking the one it
+	 * maps to, so two transactions locking different keys may wait for each other. Accepts an integer value, rounded up
+	 * to a power of two, defaults to 1024.
+	 */
+	public static final String LOCK_STRIPES = "hibernate.ogm.map.lock_stripes";
+
+	private MapProperties() {
+	}
+}
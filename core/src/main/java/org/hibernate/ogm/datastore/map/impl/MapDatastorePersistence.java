@@ -0,0 +1,648 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.util.impl.Executors;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Persists the content of the {@link MapDatastoreProvider} to a local directory, so that it survives a restart.
+ * <p>
+ * The directory contains a snapshot of the whole content and a log of the changes applied since that snapshot. Each
+ * snapshot starts a new generation: the changes are appended to the log of the new generation while the snapshot is
+ * written, and the files of the previous generations are deleted once the {@code CURRENT} file points to the new,
+ * complete, snapshot. On start, the snapshot is loaded and the logs of its generation and of the following ones, if a
+ * snapshot failed, are replayed.
+ * <p>
+ * A snapshot is split into several files, written and loaded concurrently. The values are written with Java
+ * serialization, the keys are written as their table, column names and column values and recreated with the default
+ * metadata implementations, which are the only parts of the keys taken into account by their identity.
+ * <p>
+ * The log of a generation is split into one file per partition of the keys, each with its own lock, so that writes of
+ * keys of different partitions do not wait for each other. All the changes of a key go to the same file, in the order
+ * they are applied, and replaying the files of a generation in any order gives the same content.
+ * <p>
+ * A change is appended to the log before the call applying it returns, but the log is only forced to the disk when a
+ * snapshot is taken: the last changes may be lost if the machine crashes.
+ * <p>
+ * The maps of the entities are never updated once stored, see {@link MapDialect}, so they are written as they are; the
+ * maps of the associations are copied while holding their monitor.
+ */
+public class MapDatastorePersistence {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String CURRENT = "CURRENT";
+	private static final Pattern CHANGE_LOG = Pattern.compile( "changes-(\\d+)-\\d+\\.log" );
+	private static final Pattern SNAPSHOT = Pattern.compile( "snapshot-(\\d+)" );
+
+	private static final byte END = 0;
+	private static final byte PUT_ENTITY = 1;
+	private static final byte REMOVE_ENTITY = 2;
+	private static final byte PUT_ASSOCIATION = 3;
+	private static final byte REMOVE_ASSOCIATION = 4;
+	private static final byte SEQUENCE_VALUE = 5;
+
+	private final Path directory;
+	private final int partitions;
+	private final ConcurrentMap<EntityKey, Map<String, Object>> entities;
+	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associations;
+	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequences;
+
+	private final ChangeLog[] changeLogs;
+
+	private final Object snapshotLock = new Object();
+
+	// Guarded by snapshotLock
+	private long generation;
+
+	public MapDatastorePersistence(Path directory, ConcurrentMap<EntityKey, Map<String, Object>> entities,
+			ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associations, ConcurrentMap<IdSourceKey, AtomicInteger> sequences) {
+		this.directory = directory;
+		this.partitions = Runtime.getRuntime().availableProcessors();
+		this.entities = entities;
+		this.associations = associations;
+		this.sequences = sequences;
+		this.changeLogs = new ChangeLog[partitions];
+		for ( int i = 0; i < partitions; i++ ) {
+			changeLogs[i] = new ChangeLog( i );
+		}
+	}
+
+	/**
+	 * Loads the content persisted in the directory, then takes a snapshot of it so that the logs replayed on
+	 * this start don't have to be replayed on the next one.
+	 */
+	public void load() {
+		try {
+			Files.createDirectories( directory );
+			long current = readCurrentGeneration();
+			Path snapshot = snapshotDirectory( current );
+			if ( Files.isDirectory( snapshot ) ) {
+				loadSnapshot( snapshot );
+			}
+			long last = current;
+			for ( Entry<Long, List<Path>> changeLogGeneration : generations( CHANGE_LOG ).entrySet() ) {
+				if ( changeLogGeneration.getKey() >= current ) {
+					for ( Path changeLog : changeLogGeneration.getValue() ) {
+						replay( changeLog );
+					}
+					last = Math.max( last, changeLogGeneration.getKey() );
+				}
+			}
+			synchronized ( snapshotLock ) {
+				generation = last;
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToReadMapDatastore( directory, e );
+		}
+		log.loadedMapDatastore( directory, entities.size(), associations.size() );
+		snapshot();
+	}
+
+	/**
+	 * Writes a snapshot of the content of the data store and deletes the files it makes useless.
+	 */
+	public void snapshot() {
+		synchronized ( snapshotLock ) {
+			long snapshotGeneration = generation + 1;
+			try {
+				// A change applied before its partition switches is in the snapshot, the following ones in the new logs
+				for ( ChangeLog changeLog : changeLogs ) {
+					changeLog.open( snapshotGeneration );
+				}
+				generation = snapshotGeneration;
+				writeSnapshot( snapshotGeneration );
+				writeCurrentGeneration( snapshotGeneration );
+			}
+			catch (IOException | RuntimeException e) {
+				// The logs of the generations following the current snapshot are kept and replayed on start
+				log.unableToSnapshotMapDatastore( directory, e );
+				return;
+			}
+			deleteGenerationsBefore( snapshotGeneration );
+		}
+	}
+
+	/**
+	 * Takes a last snapshot and closes the change logs.
+	 */
+	public void close() {
+		snapshot();
+		for ( ChangeLog changeLog : changeLogs ) {
+			changeLog.close();
+		}
+	}
+
+	public void putEntity(EntityKey key, Map<String, Object> tuple) {
+		byte[] record = record( out -> {
+			out.writeByte( PUT_ENTITY );
+			writeEntity( out, key, tuple );
+		} );
+		ChangeLog changeLog = changeLog( key );
+		synchronized ( changeLog ) {
+			entities.put( key, tuple );
+			changeLog.append( record );
+		}
+	}
+
+	public void removeEntity(EntityKey key) {
+		byte[] record = record( out -> {
+			out.writeByte( REMOVE_ENTITY );
+			writeEntityKey( out, key );
+		} );
+		ChangeLog changeLog = changeLog( key );
+		synchronized ( changeLog ) {
+			entities.remove( key );
+			changeLog.append( record );
+		}
+	}
+
+	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> rows) {
+		byte[] record = record( out -> {
+			out.writeByte( PUT_ASSOCIATION );
+			writeAssociation( out, key, rows );
+		} );
+		ChangeLog changeLog = changeLog( key );
+		synchronized ( changeLog ) {
+			associations.put( key, rows );
+			changeLog.append( record );
+		}
+	}
+
+	public void removeAssociation(AssociationKey key) {
+		byte[] record = record( out -> {
+			out.writeByte( REMOVE_ASSOCIATION );
+			writeAssociationKey( out, key );
+		} );
+		ChangeLog changeLog = changeLog( key );
+		synchronized ( changeLog ) {
+			associations.remove( key );
+			changeLog.append( record );
+		}
+	}
+
+	/**
+	 * Records a value handed out by a sequence. As the values may be recorded out of order, the greatest one wins when
+	 * they are replayed.
+	 */
+	public void sequenceValue(IdSourceKey key, int value) {
+		byte[] record = record( out -> {
+			out.writeByte( SEQUENCE_VALUE );
+			writeSequence( out, key, value );
+		} );
+		ChangeLog changeLog = changeLog( key );
+		synchronized ( changeLog ) {
+			changeLog.append( record );
+		}
+	}
+
+	private ChangeLog changeLog(Object key) {
+		return changeLogs[partition( key )];
+	}
+
+	private byte[] record(RecordWriter writer) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			writer.write( out );
+		}
+		catch (IOException e) {
+			throw log.unableToWriteMapDatastore( directory, e );
+		}
+		return bytes.toByteArray();
+	}
+
+	private void replay(Path changeLogFile) throws IOException {
+		try ( FileChannel channel = FileChannel.open( changeLogFile, StandardOpenOption.READ ) ) {
+			ByteBuffer length = ByteBuffer.allocate( Integer.BYTES );
+			while ( read( channel, length ) ) {
+				length.flip();
+				ByteBuffer record = ByteBuffer.allocate( length.getInt() );
+				length.clear();
+				if ( !read( channel, record ) ) {
+					// The last record was being written when the process stopped
+					log.truncatedMapDatastoreChangeLog( changeLogFile );
+					return;
+				}
+				try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( record.array() ) ) ) {
+					apply( in.readByte(), in );
+				}
+			}
+			if ( length.position() > 0 ) {
+				log.truncatedMapDatastoreChangeLog( changeLogFile );
+			}
+		}
+	}
+
+	private static boolean read(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while ( buffer.hasRemaining() ) {
+			if ( channel.read( buffer ) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void writeSnapshot(long snapshotGeneration) throws IOException {
+		Path snapshot = snapshotDirectory( snapshotGeneration );
+		Files.createDirectories( snapshot );
+		List<List<Entry<EntityKey, Map<String, Object>>>> entityPartitions = groupByPartition( entities );
+		List<List<Entry<AssociationKey, Map<RowKey, Map<String, Object>>>>> associationPartitions = groupByPartition( associations );
+		List<SnapshotTask> tasks = new ArrayList<>();
+		for ( int i = 0; i < partitions; i++ ) {
+			int partition = i;
+			List<Entry<EntityKey, Map<String, Object>>> entityPartition = entityPartitions.get( i );
+			tasks.add( () -> writeSnapshotFile( snapshot.resolve( "entities-" + partition + ".bin" ), out -> {
+				for ( Entry<EntityKey, Map<String, Object>> entry : entityPartition ) {
+					out.writeByte( PUT_ENTITY );
+					writeEntity( out, entry.getKey(), entry.getValue() );
+				}
+			} ) );
+			List<Entry<AssociationKey, Map<RowKey, Map<String, Object>>>> associationPartition = associationPartitions.get( i );
+			tasks.add( () -> writeSnapshotFile( snapshot.resolve( "associations-" + partition + ".bin" ), out -> {
+				for ( Entry<AssociationKey, Map<RowKey, Map<String, Object>>> entry : associationPartition ) {
+					out.writeByte( PUT_ASSOCIATION );
+					writeAssociation( out, entry.getKey(), entry.getValue() );
+				}
+			} ) );
+		}
+		tasks.add( () -> writeSnapshotFile( snapshot.resolve( "sequences.bin" ), out -> {
+			for ( Entry<IdSourceKey, AtomicInteger> entry : sequences.entrySet() ) {
+				out.writeByte( SEQUENCE_VALUE );
+				writeSequence( out, entry.getKey(), entry.getValue().get() );
+			}
+		} ) );
+		runConcurrently( tasks );
+	}
+
+	/**
+	 * Groups the entries of the given map by partition of their key, in a single pass.
+	 */
+	private <K, V> List<List<Entry<K, V>>> groupByPartition(Map<K, V> map) {
+		List<List<Entry<K, V>>> buckets = new ArrayList<>( partitions );
+		for ( int i = 0; i < partitions; i++ ) {
+			buckets.add( new ArrayList<>( map.size() / partitions + 1 ) );
+		}
+		for ( Entry<K, V> entry : map.entrySet() ) {
+			buckets.get( partition( entry.getKey() ) ).add( entry );
+		}
+		return buckets;
+	}
+
+	private void writeSnapshotFile(Path file, RecordWriter writer) throws IOException {
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) ) {
+			ObjectOutputStream out = new ObjectOutputStream( new BufferedOutputStream( Channels.newOutputStream( channel ) ) );
+			writer.write( out );
+			out.writeByte( END );
+			out.flush();
+			channel.force( false );
+		}
+	}
+
+	private void loadSnapshot(Path snapshot) throws IOException {
+		List<SnapshotTask> tasks = new ArrayList<>();
+		try ( DirectoryStream<Path> files = Files.newDirectoryStream( snapshot ) ) {
+			for ( Path file : files ) {
+				tasks.add( () -> {
+					try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ );
+							ObjectInputStream in = new ObjectInputStream( new BufferedInputStream( Channels.newInputStream( channel ) ) ) ) {
+						byte operation = in.readByte();
+						while ( operation != END ) {
+							apply( operation, in );
+							operation = in.readByte();
+						}
+					}
+				} );
+			}
+		}
+		runConcurrently( tasks );
+	}
+
+	private void runConcurrently(List<SnapshotTask> tasks) throws IOException {
+		if ( tasks.isEmpty() ) {
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool( Math.min( partitions, tasks.size() ), "Map datastore persistence" );
+		try {
+			List<Future<Void>> futures = new ArrayList<>( tasks.size() );
+			for ( SnapshotTask task : tasks ) {
+				futures.add( executor.submit( () -> {
+					task.run();
+					return null;
+				} ) );
+			}
+			for ( Future<Void> future : futures ) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof IOException ) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException( e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException( e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void apply(byte operation, ObjectInput in) throws IOException {
+		try {
+			switch ( operation ) {
+				case PUT_ENTITY:
+					EntityKey entityKey = readEntityKey( in );
+					entities.put( entityKey, readMap( in ) );
+					break;
+				case REMOVE_ENTITY:
+					entities.remove( readEntityKey( in ) );
+					break;
+				case PUT_ASSOCIATION:
+					AssociationKey associationKey = readAssociationKey( in );
+					int size = in.readInt();
+					Map<RowKey, Map<String, Object>> rows = new HashMap<>();
+					for ( int i = 0; i < size; i++ ) {
+						RowKey rowKey = new RowKey( (String[]) in.readObject(), (Object[]) in.readObject() );
+						rows.put( rowKey, readMap( in ) );
+					}
+					associations.put( associationKey, rows );
+					break;
+				case REMOVE_ASSOCIATION:
+					associations.remove( readAssociationKey( in ) );
+					break;
+				case SEQUENCE_VALUE:
+					IdSourceKey idSourceKey = readIdSourceKey( in );
+					int value = in.readInt();
+					sequences.computeIfAbsent( idSourceKey, k -> new AtomicInteger( value ) ).accumulateAndGet( value, Math::max );
+					break;
+				default:
+					throw new IOException( "Unknown operation " + operation );
+			}
+		}
+		catch (ClassNotFoundException e) {
+			throw new IOException( e );
+		}
+	}
+
+	private static void writeEntity(ObjectOutput out, EntityKey key, Map<String, Object> tuple) throws IOException {
+		writeEntityKey( out, key );
+		// Not updated once stored
+		out.writeObject( tuple );
+	}
+
+	private static void writeEntityKey(ObjectOutput out, EntityKey key) throws IOException {
+		out.writeObject( key.getTable() );
+		out.writeObject( key.getColumnNames() );
+		out.writeObject( key.getColumnValues() );
+	}
+
+	private static EntityKey readEntityKey(ObjectInput in) throws IOException, ClassNotFoundException {
+		DefaultEntityKeyMetadata metadata = new DefaultEntityKeyMetadata( (String) in.readObject(), (String[]) in.readObject() );
+		return new EntityKey( metadata, (Object[]) in.readObject() );
+	}
+
+	private static void writeAssociation(ObjectOutput out, AssociationKey key, Map<RowKey, Map<String, Object>> rows) throws IOException {
+		writeAssociationKey( out, key );
+		// Updated while holding its monitor, the maps of the rows are replaced rather than updated
+		Map<RowKey, Map<String, Object>> copy;
+		synchronized ( rows ) {
+			copy = new HashMap<>( rows );
+		}
+		out.writeInt( copy.size() );
+		for ( Entry<RowKey, Map<String, Object>> row : copy.entrySet() ) {
+			out.writeObject( row.getKey().getColumnNames() );
+			out.writeObject( row.getKey().getColumnValues() );
+			out.writeObject( row.getValue() );
+		}
+	}
+
+	private static void writeAssociationKey(ObjectOutput out, AssociationKey key) throws IOException {
+		out.writeObject( key.getTable() );
+		out.writeObject( key.getColumnNames() );
+		out.writeObject( key.getColumnValues() );
+	}
+
+	private static AssociationKey readAssociationKey(ObjectInput in) throws IOException, ClassNotFoundException {
+		DefaultAssociationKeyMetadata metadata = new DefaultAssociationKeyMetadata.Builder()
+				.table( (String) in.readObject() )
+				.columnNames( (String[]) in.readObject() )
+				.build();
+		// The owner of the association is not part of the identity of the key
+		return new AssociationKey( metadata, (Object[]) in.readObject(), null );
+	}
+
+	private static void writeSequence(ObjectOutput out, IdSourceKey key, int value) throws IOException {
+		out.writeObject( key.getMetadata().getType() );
+		out.writeObject( key.getMetadata().getName() );
+		out.writeObject( key.getMetadata().getKeyColumnName() );
+		out.writeObject( key.getMetadata().getValueColumnName() );
+		out.writeObject( key.getColumnValue() );
+		out.writeInt( value );
+	}
+
+	private static IdSourceKey readIdSourceKey(ObjectInput in) throws IOException, ClassNotFoundException {
+		IdSourceType type = (IdSourceType) in.readObject();
+		String name = (String) in.readObject();
+		String keyColumnName = (String) in.readObject();
+		String valueColumnName = (String) in.readObject();
+		String columnValue = (String) in.readObject();
+		if ( type == IdSourceType.TABLE ) {
+			return IdSourceKey.forTable( DefaultIdSourceKeyMetadata.forTable( name, keyColumnName, valueColumnName ), columnValue );
+		}
+		return IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( name ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Map<K, V> readMap(ObjectInput in) throws IOException, ClassNotFoundException {
+		return (Map<K, V>) in.readObject();
+	}
+
+	private int partition(Object key) {
+		return ( key.hashCode() & Integer.MAX_VALUE ) % partitions;
+	}
+
+	private long readCurrentGeneration() throws IOException {
+		Path current = directory.resolve( CURRENT );
+		if ( !Files.exists( current ) ) {
+			return 0;
+		}
+		return Long.parseLong( new String( Files.readAllBytes( current ), StandardCharsets.UTF_8 ).trim() );
+	}
+
+	private void writeCurrentGeneration(long currentGeneration) throws IOException {
+		Path temporary = directory.resolve( CURRENT + ".tmp" );
+		try ( FileChannel channel = FileChannel.open( temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) ) {
+			channel.write( ByteBuffer.wrap( String.valueOf( currentGeneration ).getBytes( StandardCharsets.UTF_8 ) ) );
+			channel.force( false );
+		}
+		Files.move( temporary, directory.resolve( CURRENT ), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+	}
+
+	private void deleteGenerationsBefore(long currentGeneration) {
+		try {
+			for ( Entry<Long, List<Path>> changeLogGeneration : generations( CHANGE_LOG ).entrySet() ) {
+				if ( changeLogGeneration.getKey() < currentGeneration ) {
+					for ( Path changeLog : changeLogGeneration.getValue() ) {
+						Files.deleteIfExists( changeLog );
+					}
+				}
+			}
+			for ( Entry<Long, List<Path>> snapshotGeneration : generations( SNAPSHOT ).entrySet() ) {
+				if ( snapshotGeneration.getKey() < currentGeneration ) {
+					for ( Path snapshot : snapshotGeneration.getValue() ) {
+						try ( DirectoryStream<Path> files = Files.newDirectoryStream( snapshot ) ) {
+							for ( Path file : files ) {
+								Files.delete( file );
+							}
+						}
+						Files.delete( snapshot );
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToWriteMapDatastore( directory, e );
+		}
+	}
+
+	private Map<Long, List<Path>> generations(Pattern pattern) throws IOException {
+		Map<Long, List<Path>> generations = new TreeMap<>();
+		try ( DirectoryStream<Path> files = Files.newDirectoryStream( directory ) ) {
+			for ( Path file : files ) {
+				Matcher matcher = pattern.matcher( file.getFileName().toString() );
+				if ( matcher.matches() ) {
+					generations.computeIfAbsent( Long.valueOf( matcher.group( 1 ) ), g -> new ArrayList<>() ).add( file );
+				}
+			}
+		}
+		return generations;
+	}
+
+	private Path changeLogFile(long logGeneration, int partition) {
+		return directory.resolve( "changes-" + logGeneration + "-" + partition + ".log" );
+	}
+
+	private Path snapshotDirectory(long snapshotGeneration) {
+		return directory.resolve( "snapshot-" + snapshotGeneration );
+	}
+
+	/**
+	 * The log of the changes of the keys of a partition; the changes are applied and appended while holding its
+	 * monitor.
+	 */
+	private final class ChangeLog {
+
+		private final int partition;
+
+		// Guarded by this
+		private FileChannel channel;
+
+		private ChangeLog(int partition) {
+			this.partition = partition;
+		}
+
+		/**
+		 * Switches to the log of the given generation, forcing the previous one to the disk.
+		 */
+		synchronized void open(long logGeneration) throws IOException {
+			FileChannel previous = channel;
+			channel = FileChannel.open( changeLogFile( logGeneration, partition ), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND );
+			if ( previous != null ) {
+				previous.force( false );
+				previous.close();
+			}
+		}
+
+		/**
+		 * Appends a record; the caller holds the monitor of this log.
+		 */
+		void append(byte[] record) {
+			if ( channel == null ) {
+				return;
+			}
+			ByteBuffer[] buffers = { (ByteBuffer) ByteBuffer.allocate( Integer.BYTES ).putInt( record.length ).flip(), ByteBuffer.wrap( record ) };
+			try {
+				while ( buffers[1].hasRemaining() ) {
+					channel.write( buffers );
+				}
+			}
+			catch (IOException e) {
+				throw log.unableToWriteMapDatastore( directory, e );
+			}
+		}
+
+		synchronized void close() {
+			try {
+				if ( channel != null ) {
+					channel.close();
+				}
+			}
+			catch (IOException e) {
+				throw log.unableToWriteMapDatastore( directory, e );
+			}
+			finally {
+				channel = null;
+			}
+		}
+	}
+
+	private interface RecordWriter {
+
+		void write(ObjectOutput out) throws IOException;
+	}
+
+	private interface SnapshotTask {
+
+		void run() throws IOException;
+	}
+}
@@ -8,30 +8,36 @@
 
 import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
-import javax.persistence.PessimisticLockException;
+import java.util.function.Consumer;
 
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.impl.MapLockTable.HeldLocks;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.impl.Executors;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
+import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
@@ -42,101 +48,155 @@
  * contents to other storage. Most important, it must be considered that different sessions won't be isolated
  * unless they avoid flushing.
  *
- * Oh and while we lock data when Hibernate ORM acquires locks, we never unlock as ORM expects locks
- * to be released by the transaction commit / rollback which does not happen here.
+ * The content can optionally be persisted to a local directory and reloaded on start, see
+ * {@link MapProperties#PERSISTENCE_DIRECTORY}.
+ *
+ * The locks acquired by Hibernate ORM are stripes of a fixed size {@link MapLockTable}, released once the transaction
+ * of the session completes.
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable {
+public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_LOCK_STRIPES = 1024;
+
 	private final ConcurrentMap<EntityKey, Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
 	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
 	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
-	private final ConcurrentMap<Object, ReadWriteLock> dataLocks = newConcurrentHashMap();
+	private final ConcurrentMap<SharedSessionContractImplementor, HeldLocks> heldLocksPerSession = newConcurrentHashMap();
 
-	/**
-	 * This simplistic data store only supports thread-bound transactions:
-	 */
-	private final ThreadLocal<Set<Lock>> acquiredLocksPerThread = new ThreadLocal<Set<Lock>>() {
-		@Override protected Set<Lock> initialValue() {
-			return new HashSet<Lock>();
-		}
-	};
+	private MapLockTable lockTable = new MapLockTable( DEFAULT_LOCK_STRIPES );
+
+	private Path persistenceDirectory;
+	private int snapshotInterval;
+
+	// null unless the content is persisted
+	private MapDatastorePersistence persistence;
+	private ScheduledExecutorService snapshotExecutor;
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
 		return MapDialect.class;
 	}
 
+	@Override
+	public void configure(Map configurationValues) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues );
+		String directory = propertyReader.property( MapProperties.PERSISTENCE_DIRECTORY, String.class ).getValue();
+		persistenceDirectory = directory == null ? null : Paths.get( directory );
+		snapshotInterval = propertyReader.property( MapProperties.SNAPSHOT_INTERVAL, int.class )
+				.withDefault( 60 )
+				.getValue();
+		lockTable = new MapLockTable( propertyReader.property( MapProperties.LOCK_STRIPES, int.class )
+				.withDefault( DEFAULT_LOCK_STRIPES )
+				.getValue() );
+	}
+
 	@Override
 	public void stop() {
+		if ( snapshotExecutor != null ) {
+			snapshotExecutor.shutdownNow();
+			snapshotExecutor = null;
+		}
+		if ( persistence != null ) {
+			persistence.close();
+			persistence = null;
+		}
 		entitiesKeyValueStorage.clear();
 		associationsKeyValueStorage.clear();
 		sequencesStorage.clear();
-		dataLocks.clear();
-		//not nice but that's the best we can do
-		acquiredLocksPerThread.remove();
+		heldLocksPerSession.clear();
 		log.debug( "Stopped and cleared MapDatastoreProvider" );
 	}
 
 	@Override
 	public void start() {
+		if ( persistenceDirectory != null ) {
+			persistence = new MapDatastorePersistence( persistenceDirectory, entitiesKeyValueStorage, associationsKeyValueStorage, sequencesStorage );
+			persistence.load();
+			if ( snapshotInterval > 0 ) {
+				snapshotExecutor = Executors.newSingleThreadScheduledExecutor( "Map datastore snapshot" );
+				snapshotExecutor.scheduleWithFixedDelay( persistence::snapshot, snapshotInterval, snapshotInterval, TimeUnit.SECONDS );
+			}
+		}
 		log.debug( "MapDatastoreProvider started" );
 	}
 
 	/**
-	 * Acquires a write lock on a specific key.
+	 * Acquires a write lock on a specific key, held until the end of the current transaction.
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param session the session acquiring the lock
 	 */
-	public void writeLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock writeLock = lock.writeLock();
-		acquireLock( key, timeout, writeLock );
+	public void writeLock(EntityKey key, int timeout, SharedSessionContractImplementor session) {
+		lock( session, heldLocks -> lockTable.writeLock( key, timeout, heldLocks ) );
 	}
 
 	/**
-	 * Acquires a read lock on a specific key.
+	 * Acquires a read lock on a specific key, held until the end of the current transaction.
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param session the session acquiring the lock
 	 */
-	public void readLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock readLock = lock.readLock();
-		acquireLock( key, timeout, readLock );
+	public void readLock(EntityKey key, int timeout, SharedSessionContractImplementor session) {
+		lock( session, heldLocks -> lockTable.readLock( key, timeout, heldLocks ) );
 	}
 
-	private ReadWriteLock getLock(EntityKey key) {
-		ReadWriteLock newLock = new ReentrantReadWriteLock();
-		ReadWriteLock previous = dataLocks.putIfAbsent( key, newLock );
-		return previous != null ? previous : newLock;
-	}
+	private void lock(SharedSessionContractImplementor session, Consumer<HeldLocks> locking) {
+		if ( session instanceof SessionImplementor && session.isTransactionInProgress() ) {
+			HeldLocks heldLocks = heldLocksPerSession.get( session );
+			if ( heldLocks == null ) {
+				heldLocks = new HeldLocks();
+				heldLocksPerSession.put( session, heldLocks );
+				// A session closed without completing its transaction must not keep the locks either
+				session.getEventListenerManager().addListener( new BaseSessionEventListener() {
 
-	private void acquireLock(EntityKey key, int timeout, Lock writeLock) {
-		try {
-			if ( timeout == -1 ) {
-				writeLock.lockInterruptibly();
+					@Override
+					public void end() {
+						HeldLocks released = heldLocksPerSession.remove( session );
+						if ( released != null ) {
+							lockTable.release( released );
+						}
+					}
+				} );
 			}
-			else if ( timeout == 0 ) {
-				boolean locked = writeLock.tryLock();
-				if ( ! locked ) {
-					throw new PessimisticLockException( "lock on key " + key + " was not available" );
-				}
-			}
-			else {
-				writeLock.tryLock( timeout, TimeUnit.MILLISECONDS );
+			if ( heldLocks.isEmpty() ) {
+				// First lock of the current transaction
+				HeldLocks transactionLocks = heldLocks;
+				( (SessionImplementor) session ).getActionQueue().registerProcess(
+						(AfterTransactionCompletionProcess) ( success, s ) -> lockTable.release( transactionLocks ) );
 			}
+			locking.accept( heldLocks );
 		}
-		catch ( InterruptedException e ) {
-			throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
+		else {
+			// Nothing would release the locks, we can only wait for them to be available
+			HeldLocks heldLocks = new HeldLocks();
+			try {
+				locking.accept( heldLocks );
+			}
+			finally {
+				lockTable.release( heldLocks );
+			}
 		}
-		acquiredLocksPerThread.get().add( writeLock );
+	}
+
+	/**
+	 * Meant to monitor the contention on the locks
+	 * @return the table of the locks acquired on the keys
+	 */
+	public MapLockTable getLockTable() {
+		return lockTable;
 	}
 
 	public void putEntity(EntityKey key, Map<String, Object> tuple) {
-		entitiesKeyValueStorage.put( key, tuple );
+		if ( persistence != null ) {
+			persistence.putEntity( key, tuple );
+		}
+		else {
+			entitiesKeyValueStorage.put( key, tuple );
+		}
 	}
 
 	public Map<String, Object> getEntityTuple(EntityKey key) {
@@ -152,11 +212,21 @@ public List<Map<String, Object>> getEntityTuples(EntityKey... keys) {
 	}
 
 	public void removeEntityTuple(EntityKey key) {
-		entitiesKeyValueStorage.remove( key );
+		if ( persistence != null ) {
+			persistence.removeEntity( key );
+		}
+		else {
+			entitiesKeyValueStorage.remove( key );
+		}
 	}
 
 	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> associationMap) {
-		associationsKeyValueStorage.put( key, associationMap );
+		if ( persistence != null ) {
+			persistence.putAssociation( key, associationMap );
+		}
+		else {
+			associationsKeyValueStorage.put( key, associationMap );
+		}
 	}
 
 	public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
@@ -164,13 +234,22 @@ public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
 	}
 
 	public void removeAssociation(AssociationKey key) {
-		associationsKeyValueStorage.remove( key );
+		if ( persistence != null ) {
+			persistence.removeAssociation( key );
+		}
+		else {
+			associationsKeyValueStorage.remove( key );
+		}
 	}
 
 	public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increment) {
 		AtomicInteger valueProposal = new AtomicInteger( initialValue );
 		AtomicInteger previous = sequencesStorage.putIfAbsent( key, valueProposal );
-		return previous == null ? initialValue : previous.addAndGet( increment );
+		int value = previous == null ? initialValue : previous.addAndGet( increment );
+		if ( persistence != null ) {
+			persistence.sequenceValue( key, value );
+		}
+		return value;
 	}
 
 	/**
@@ -20,6 +20,7 @@
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -37,16 +38,21 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.persister.entity.Lockable;
 
 /**
  * Grid dialect which uses a plain map for storing objects in memory. For testing purposes.
+ * <p>
+ * The maps of the entities are replaced rather than updated when written, so that they can be read and copied without
+ * locking. The maps of the associations are updated while holding their monitor.
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, SnapshotCopyingGridDialect {
 
 	private final MapDatastoreProvider provider;
 
@@ -82,7 +88,7 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 			return null;
 		}
 		else {
-			return new Tuple( new MapTupleSnapshot( entityMap ), SnapshotType.UPDATE );
+			return new Tuple( new MapTupleSnapshot( entityMap ), SnapshotType.UPDATE, operationContext.getTupleTypeContext().getTupleColumns() );
 		}
 	}
 
@@ -101,13 +107,16 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		HashMap<String,Object> tuple = new HashMap<String, Object>();
 		provider.putEntity( key, tuple );
-		return new Tuple( new MapTupleSnapshot( tuple ), SnapshotType.INSERT );
+		return new Tuple( new MapTupleSnapshot( tuple ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
-		Map<String,Object> entityRecord = ( (MapTupleSnapshot) tuplePointer.getTuple().getSnapshot() ).getMap();
+		// Apply the changes to the current state, which may have been written since the tuple was read
+		Map<String,Object> currentRecord = provider.getEntityTuple( key );
+		Map<String,Object> entityRecord = new HashMap<>( currentRecord != null ? currentRecord : ( (MapTupleSnapshot) tuplePointer.getTuple().getSnapshot() ).getMap() );
 		MapHelpers.applyTupleOpsOnMap( tuplePointer.getTuple(), entityRecord );
+		provider.putEntity( key, entityRecord );
 	}
 
 	@Override
@@ -140,6 +149,21 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		provider.removeAssociation( key );
 	}
 
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		// The map is not updated once stored
+		return new MapTupleSnapshot( new HashMap<>( ( (MapTupleSnapshot) snapshot ).getMap() ) );
+	}
+
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		Map<RowKey, Map<String, Object>> associationMap = ( (MapAssociationSnapshot) snapshot ).getUnderlyingMap();
+		// The maps of the rows are replaced rather than updated
+		synchronized ( associationMap ) {
+			return new MapAssociationSnapshot( new HashMap<>( associationMap ) );
+		}
+	}
+
 	@Override
 	public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
 		return false;
@@ -61,17 +61,20 @@ public static Map<String, Object> associationRowToMap(Tuple associationRow) {
 
 	public static void updateAssociation(Association association) {
 		Map<RowKey, Map<String, Object>> underlyingMap = ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap();
-		for ( AssociationOperation action : association.getOperations() ) {
-			switch ( action.getType() ) {
-				case CLEAR:
-					underlyingMap.clear();
-					break;
-				case PUT:
-					underlyingMap.put( action.getKey(), MapHelpers.associationRowToMap( action.getValue() ) );
-					break;
-				case REMOVE:
-					underlyingMap.remove( action.getKey() );
-					break;
+		// the map may be copied concurrently, see MapDialect#copyAssociationSnapshot()
+		synchronized ( underlyingMap ) {
+			for ( AssociationOperation action : association.getOperations() ) {
+				switch ( action.getType() ) {
+					case CLEAR:
+						underlyingMap.clear();
+						break;
+					case PUT:
+						underlyingMap.put( action.getKey(), MapHelpers.associationRowToMap( action.getValue() ) );
+						break;
+					case REMOVE:
+						underlyingMap.remove( action.getKey() );
+						break;
+				}
 			}
 		}
 		// the snapshot has been updated so we have to clear the various operations added to the Association
@@ -0,0 +1,227 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.persistence.PessimisticLockException;
+
+/**
+ * A fixed number of {@link StampedLock}s shared by all the keys: a key is locked by locking the stripe it belongs to.
+ * The memory used does not depend on the number of keys ever locked, at the price of some false contention between
+ * keys of the same stripe.
+ * <p>
+ * {@code StampedLock}s are not reentrant, so the stripes held by a transaction are tracked by its {@link HeldLocks}:
+ * locking another key of a stripe already held is a no-op, and a read lock is upgraded when the transaction asks for a
+ * write lock on the same stripe.
+ * <p>
+ * The counters are meant to monitor the contention on the locks.
+ */
+public final class MapLockTable {
+
+	private final StampedLock[] stripes;
+	private final int mask;
+
+	private final LongAdder acquisitions = new LongAdder();
+	private final LongAdder contendedAcquisitions = new LongAdder();
+	private final LongAdder failedAcquisitions = new LongAdder();
+
+	/**
+	 * @param stripes the minimum number of stripes, rounded up to a power of two
+	 */
+	public MapLockTable(int stripes) {
+		int size = stripes <= 1 ? 1 : Integer.highestOneBit( stripes - 1 ) << 1;
+		this.stripes = new StampedLock[size];
+		for ( int i = 0; i < size; i++ ) {
+			this.stripes[i] = new StampedLock();
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Acquires the write lock of the stripe of the given key.
+	 * <p>
+	 * A read lock held by the transaction on the stripe is released while waiting for the other readers. If the write
+	 * lock cannot be acquired, the read lock is acquired again before the exception is thrown, waiting up to the timeout
+	 * as well: the transaction only loses it if another transaction still writes the stripe by then.
+	 *
+	 * @param key The key to lock
+	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param heldLocks the locks held by the current transaction
+	 */
+	public void writeLock(Object key, int timeout, HeldLocks heldLocks) {
+		int index = index( key );
+		if ( heldLocks.writes.containsKey( index ) ) {
+			return;
+		}
+		StampedLock stripe = stripes[index];
+		Long readStamp = heldLocks.reads.remove( index );
+		if ( readStamp != null ) {
+			long stamp = stripe.tryConvertToWriteLock( readStamp );
+			if ( stamp != 0L ) {
+				acquisitions.increment();
+				heldLocks.hold( index, stamp, true );
+				return;
+			}
+			// Other transactions read the stripe as well, wait for them like any writer
+			stripe.unlockRead( readStamp );
+		}
+
+		long stamp = stripe.tryWriteLock();
+		if ( stamp == 0L ) {
+			contendedAcquisitions.increment();
+			try {
+				stamp = await( key, timeout, stripe, true );
+			}
+			catch ( PessimisticLockException e ) {
+				if ( readStamp != null ) {
+					reacquireReadLock( index, timeout, heldLocks );
+				}
+				throw e;
+			}
+		}
+		acquisitions.increment();
+		heldLocks.hold( index, stamp, true );
+	}
+
+	private void reacquireReadLock(int index, int timeout, HeldLocks heldLocks) {
+		StampedLock stripe = stripes[index];
+		long stamp = stripe.tryReadLock();
+		if ( stamp == 0L && timeout != 0 && !Thread.currentThread().isInterrupted() ) {
+			try {
+				stamp = timeout == -1 ? stripe.readLockInterruptibly() : stripe.tryReadLock( timeout, TimeUnit.MILLISECONDS );
+			}
+			catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if ( stamp != 0L ) {
+			heldLocks.hold( index, stamp, false );
+		}
+	}
+
+	/**
+	 * Acquires the read lock of the stripe of the given key. As long as no transaction writes the stripe, the lock is
+	 * acquired without waiting.
+	 *
+	 * @param key The key to lock
+	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param heldLocks the locks held by the current transaction
+	 */
+	public void readLock(Object key, int timeout, HeldLocks heldLocks) {
+		int index = index( key );
+		if ( heldLocks.writes.containsKey( index ) || heldLocks.reads.containsKey( index ) ) {
+			return;
+		}
+		StampedLock stripe = stripes[index];
+		long stamp = stripe.tryReadLock();
+		if ( stamp == 0L ) {
+			contendedAcquisitions.increment();
+			stamp = await( key, timeout, stripe, false );
+		}
+		acquisitions.increment();
+		heldLocks.hold( index, stamp, false );
+	}
+
+	private long await(Object key, int timeout, StampedLock stripe, boolean write) {
+		long stamp;
+		try {
+			if ( timeout == -1 ) {
+				stamp = write ? stripe.writeLockInterruptibly() : stripe.readLockInterruptibly();
+			}
+			else if ( timeout == 0 ) {
+				stamp = write ? stripe.tryWriteLock() : stripe.tryReadLock();
+			}
+			else {
+				stamp = write ? stripe.tryWriteLock( timeout, TimeUnit.MILLISECONDS ) : stripe.tryReadLock( timeout, TimeUnit.MILLISECONDS );
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			failedAcquisitions.increment();
+			throw new PessimisticLockException( "interrupted while waiting for lock on key " + key, e );
+		}
+		if ( stamp == 0L ) {
+			failedAcquisitions.increment();
+			throw new PessimisticLockException( "lock on key " + key + " was not available" );
+		}
+		return stamp;
+	}
+
+	/**
+	 * Releases all the locks held by a transaction.
+	 *
+	 * @param heldLocks the locks held by the transaction
+	 */
+	public void release(HeldLocks heldLocks) {
+		for ( Map.Entry<Integer, Long> read : heldLocks.reads.entrySet() ) {
+			stripes[read.getKey()].unlockRead( read.getValue() );
+		}
+		for ( Map.Entry<Integer, Long> write : heldLocks.writes.entrySet() ) {
+			stripes[write.getKey()].unlockWrite( write.getValue() );
+		}
+		heldLocks.reads.clear();
+		heldLocks.writes.clear();
+	}
+
+	private int index(Object key) {
+		int hash = key.hashCode();
+		// spread the higher bits, like HashMap does
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	public int getStripeCount() {
+		return stripes.length;
+	}
+
+	/**
+	 * @return the number of locks acquired so far
+	 */
+	public long getAcquisitionCount() {
+		return acquisitions.sum();
+	}
+
+	/**
+	 * @return the number of locks which could not be acquired right away, either acquired after waiting or not at all
+	 */
+	public long getContendedAcquisitionCount() {
+		return contendedAcquisitions.sum();
+	}
+
+	/**
+	 * @return the number of locks which could not be acquired within the timeout
+	 */
+	public long getFailedAcquisitionCount() {
+		return failedAcquisitions.sum();
+	}
+
+	/**
+	 * The stripes locked by a transaction, and the stamps to release them.
+	 */
+	public static final class HeldLocks {
+
+		private final Map<Integer, Long> reads = new HashMap<>();
+		private final Map<Integer, Long> writes = new HashMap<>();
+
+		boolean isEmpty() {
+			return reads.isEmpty() && writes.isEmpty();
+		}
+
+		private void hold(int index, long stamp, boolean write) {
+			if ( write ) {
+				writes.put( index, stamp );
+			}
+			else {
+				reads.put( index, stamp );
+			}
+		}
+	}
+}
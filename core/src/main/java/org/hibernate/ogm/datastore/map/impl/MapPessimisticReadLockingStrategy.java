@@ -37,6 +37,6 @@ public void lock(Serializable id, Object version, Object object, int timeout, Sh
 				identifierGridType,
 				id,
 				session );
-		dataStore.readLock( key, timeout );
+		dataStore.readLock( key, timeout, session );
 	}
 }
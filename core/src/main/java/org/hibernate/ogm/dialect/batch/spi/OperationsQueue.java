@@ -6,9 +6,10 @@
  */
 package org.hibernate.ogm.dialect.batch.spi;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -21,7 +22,9 @@
 /**
  * A queue for {@link Operation}s.
  * <p>
- * It keeps track of the elements that are going to be affected by an {@link InsertOrUpdateTupleOperation}.
+ * It keeps track of the elements that are going to be affected by an {@link InsertOrUpdateTupleOperation} or a
+ * {@link RemoveTupleOperation} and of the number of pending operations per type, so that lookups don't require
+ * walking the queue.
  * The queue can be closed, in that case it will throw an exception when trying to add or poll an operation.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
@@ -42,12 +45,22 @@ public boolean isClosed() {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
-	private final Queue<Operation> operations = new LinkedList<Operation>();
+	private final Queue<Operation> operations = new ArrayDeque<Operation>();
 
 	private final Map<EntityKey, GroupedChangesToEntityOperation> groupedOperations = new HashMap<>();
 
 	private final Set<EntityKey> insertionQueue = new HashSet<>();
 
+	/**
+	 * The number of pending {@link RemoveTupleOperation}s per entity key
+	 */
+	private final Map<EntityKey, Integer> removalQueue = new HashMap<>();
+
+	/**
+	 * The number of pending operations per type, operations grouped by entity are counted individually
+	 */
+	private final Map<Class<? extends Operation>, Integer> pendingOperations = new HashMap<>();
+
 	private boolean closed = false;
 
 	public OperationsQueue() {
@@ -58,6 +71,8 @@ public void add(Operation operation) {
 
 		log.debugf( "Add batched operation %1$s", operation );
 
+		count( pendingOperations, operation.getClass(), 1 );
+
 		if ( operation instanceof InsertOrUpdateTupleOperation ) {
 			addInsertOrUpdateTupleOperation( (InsertOrUpdateTupleOperation) operation );
 		}
@@ -65,6 +80,9 @@ else if ( operation instanceof GroupableEntityOperation ) {
 			addGroupableEntityOperation( (GroupableEntityOperation) operation );
 		}
 		else {
+			if ( operation instanceof RemoveTupleOperation ) {
+				count( removalQueue, ( (RemoveTupleOperation) operation ).getEntityKey(), 1 );
+			}
 			addOperation( operation );
 		}
 	}
@@ -102,13 +120,31 @@ private void validate() {
 
 	public Operation poll() {
 		validate();
-		return operations.poll();
+		Operation operation = operations.poll();
+		if ( operation instanceof GroupedChangesToEntityOperation ) {
+			for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+				count( pendingOperations, groupedOperation.getClass(), -1 );
+			}
+		}
+		else if ( operation != null ) {
+			count( pendingOperations, operation.getClass(), -1 );
+			if ( operation instanceof RemoveTupleOperation ) {
+				count( removalQueue, ( (RemoveTupleOperation) operation ).getEntityKey(), -1 );
+			}
+		}
+		return operation;
+	}
+
+	private static <K> void count(Map<K, Integer> counters, K key, int delta) {
+		counters.merge( key, delta, (current, increment) -> current + increment == 0 ? null : current + increment );
 	}
 
 	public void clear() {
 		groupedOperations.clear();
 		operations.clear();
 		insertionQueue.clear();
+		removalQueue.clear();
+		pendingOperations.clear();
 	}
 
 	public void close() {
@@ -135,15 +171,27 @@ public int size() {
 		return operations.size();
 	}
 
+	/**
+	 * @param entityKey the {@link EntityKey} that identify the element
+	 * @return true if a {@link RemoveTupleOperation} bound to the key is still in the queue, false otherwise
+	 */
 	public boolean isMarkedForRemoval(EntityKey entityKey) {
-		for ( Operation operation: operations ) {
-			if ( !( operation instanceof RemoveTupleOperation ) ) {
-				continue;
-			}
-			if ( ( (RemoveTupleOperation) operation ).getEntityKey().equals( entityKey ) ) {
-				return true;
-			}
-		}
-		return false;
+		return removalQueue.containsKey( entityKey );
+	}
+
+	/**
+	 * @param operationType the type of the operations to count
+	 * @return the number of operations of the given type still in the queue, including the ones grouped by entity
+	 */
+	public int getPendingOperationCount(Class<? extends Operation> operationType) {
+		Integer count = pendingOperations.get( operationType );
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * @return the number of operations still in the queue per operation type, including the ones grouped by entity
+	 */
+	public Map<Class<? extends Operation>, Integer> getPendingOperationCounts() {
+		return Collections.unmodifiableMap( new HashMap<>( pendingOperations ) );
 	}
 }
@@ -11,7 +11,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
 import org.hibernate.ogm.util.impl.Immutable;
@@ -59,35 +59,91 @@ public static boolean isEventContextRequired(ServiceRegistryImplementor serviceR
 	}
 
 	void onEventBegin(EventSource session) {
+		stateHolder.set( createStates( session ) );
+	}
+
+	void onEventFinished() {
+		Map<Class<?>, Object> states = stateHolder.get();
+		if ( states == null ) {
+			return;
+		}
+
+		try {
+			finish( states );
+		}
+		finally {
+			stateHolder.remove();
+		}
+	}
+
+	/**
+	 * Creates the states of an event context spanning several operations of a session without persistence context,
+	 * such as a stateless session. The operations are thus batched together until the session finishes the states.
+	 * <p>
+	 * The states must be made current with {@link #resume(Map)} around each operation.
+	 *
+	 * @param session the session performing the operations
+	 * @return the states of the event context
+	 */
+	public Map<Class<?>, Object> createStates(SharedSessionContractImplementor session) {
 		Map<Class<?>, Object> stateMap = new HashMap<>();
-		stateMap.put( SessionImplementor.class, session );
+		stateMap.put( SharedSessionContractImplementor.class, session );
 
 		for ( Entry<Class<?>, EventStateLifecycle<?>> lifecycle : enabledLifecycles.entrySet() ) {
 			Object value = lifecycle.getValue().create( session );
 			stateMap.put( lifecycle.getKey(), value );
 		}
 
-		stateHolder.set( stateMap );
+		return stateMap;
 	}
 
-	void onEventFinished() {
-		Map<Class<?>, Object> states = stateHolder.get();
-		if ( states == null ) {
-			return;
-		}
+	/**
+	 * Makes the given states those of the current event cycle, until {@link #suspend()} is invoked.
+	 *
+	 * @param states states created by {@link #createStates(SharedSessionContractImplementor)}
+	 */
+	public void resume(Map<Class<?>, Object> states) {
+		stateHolder.set( states );
+	}
+
+	/**
+	 * Ends the current event cycle without finishing its states.
+	 */
+	public void suspend() {
+		stateHolder.remove();
+	}
 
-		SessionImplementor session = (SessionImplementor) states.get( SessionImplementor.class );
+	/**
+	 * Finishes the given states, e.g. executes the operations they batch. They must not be used afterwards.
+	 *
+	 * @param states states created by {@link #createStates(SharedSessionContractImplementor)}
+	 */
+	public void finish(Map<Class<?>, Object> states) {
+		SharedSessionContractImplementor session = (SharedSessionContractImplementor) states.get( SharedSessionContractImplementor.class );
 
+		// All the states are finished even if one of them fails, e.g. so that the keys written are released
+		RuntimeException failure = null;
 		for ( Entry<Class<?>, Object> state : states.entrySet() ) {
 			if ( state.getValue() != session ) {
-				onFinish( state.getKey(), state.getValue(), session );
+				try {
+					onFinish( state.getKey(), state.getValue(), session );
+				}
+				catch ( RuntimeException e ) {
+					if ( failure == null ) {
+						failure = e;
+					}
+					else {
+						failure.addSuppressed( e );
+					}
+				}
 			}
 		}
-
-		stateHolder.remove();
+		if ( failure != null ) {
+			throw failure;
+		}
 	}
 
-	private <T> void onFinish(Class<T> stateType, Object state, SessionImplementor session) {
+	private <T> void onFinish(Class<T> stateType, Object state, SharedSessionContractImplementor session) {
 		@SuppressWarnings("unchecked")
 		T typedState = (T) state;
 
@@ -6,7 +6,7 @@
  */
 package org.hibernate.ogm.dialect.eventstate.impl;
 
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 /**
@@ -28,10 +28,10 @@
 	 * Creates a new instance of the represented event state type. Invoked by {@link EventContextManager} when
 	 * initializing the state context for a given event cycle.
 	 */
-	T create(SessionImplementor session);
+	T create(SharedSessionContractImplementor session);
 
 	/**
 	 * Invoked by {@link EventContextManager} if an event cycle is finished.
 	 */
-	void onFinish(T state, SessionImplementor session);
+	void onFinish(T state, SharedSessionContractImplementor session);
 }
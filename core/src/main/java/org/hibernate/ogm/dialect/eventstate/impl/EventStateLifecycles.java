@@ -12,13 +12,15 @@
 import java.util.Map.Entry;
 
 import org.hibernate.engine.config.spi.ConfigurationService;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.compensation.impl.ErrorHandlerEnabledTransactionCoordinatorDecorator;
 import org.hibernate.ogm.compensation.impl.OperationCollector;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.impl.TupleCacheInvalidations;
+import org.hibernate.ogm.dialect.impl.TupleCachingGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.util.impl.Immutable;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -40,6 +42,7 @@ private EventStateLifecycles() {
 
 		lifecycles.put( OperationCollector.class, OperationCollectorLifecycle.INSTANCE );
 		lifecycles.put( OperationsQueue.class, OperationsQueueLifecycle.INSTANCE );
+		lifecycles.put( TupleCacheInvalidations.class, TupleCacheInvalidationsLifecycle.INSTANCE );
 
 		this.lifecycles = Collections.unmodifiableMap( lifecycles );
 	}
@@ -69,12 +72,12 @@ public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
 		}
 
 		@Override
-		public OperationCollector create(SessionImplementor session) {
+		public OperationCollector create(SharedSessionContractImplementor session) {
 			return ( (ErrorHandlerEnabledTransactionCoordinatorDecorator) session.getTransactionCoordinator() ).getOperationCollector();
 		}
 
 		@Override
-		public void onFinish(OperationCollector state, SessionImplementor session) {
+		public void onFinish(OperationCollector state, SharedSessionContractImplementor session) {
 			// nothing to do
 		}
 	}
@@ -97,12 +100,12 @@ public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
 		}
 
 		@Override
-		public OperationsQueue create(SessionImplementor session) {
+		public OperationsQueue create(SharedSessionContractImplementor session) {
 			return new OperationsQueue();
 		}
 
 		@Override
-		public void onFinish(OperationsQueue operationsQueue, SessionImplementor session) {
+		public void onFinish(OperationsQueue operationsQueue, SharedSessionContractImplementor session) {
 			GridDialect gridDialect = session.getFactory()
 					.getServiceRegistry()
 					.getService( GridDialect.class );
@@ -114,4 +117,33 @@ public void onFinish(OperationsQueue operationsQueue, SessionImplementor session
 			operationsQueue.close();
 		}
 	}
+
+	/**
+	 * Collects the keys written during a given event cycle and invalidates them in the cache once the transaction
+	 * completes, or once the event cycle finishes if there is no transaction.
+	 */
+	private static class TupleCacheInvalidationsLifecycle implements EventStateLifecycle<TupleCacheInvalidations> {
+
+		private static EventStateLifecycle<?> INSTANCE = new TupleCacheInvalidationsLifecycle();
+
+		@Override
+		public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
+			GridDialect gridDialect = serviceRegistry.getService( GridDialect.class );
+			return GridDialects.getDelegateOrNull( gridDialect, TupleCachingGridDialect.class ) != null;
+		}
+
+		@Override
+		public TupleCacheInvalidations create(SharedSessionContractImplementor session) {
+			GridDialect gridDialect = session.getFactory()
+					.getServiceRegistry()
+					.getService( GridDialect.class );
+
+			return new TupleCacheInvalidations( GridDialects.getDelegateOrNull( gridDialect, TupleCachingGridDialect.class ), session );
+		}
+
+		@Override
+		public void onFinish(TupleCacheInvalidations invalidations, SharedSessionContractImplementor session) {
+			invalidations.onFinish();
+		}
+	}
 }
@@ -24,6 +24,7 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
@@ -41,7 +42,9 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.util.impl.Contracts;
@@ -62,7 +65,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, GroupingByEntityDialect, StoredProcedureAwareGridDialect, SnapshotCopyingGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -73,6 +76,7 @@
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
 	private final StoredProcedureAwareGridDialect storedProcedureAwareGridDialect;
+	private final SnapshotCopyingGridDialect snapshotCopyingGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -87,6 +91,7 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
 		this.storedProcedureAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, StoredProcedureAwareGridDialect.class );
+		this.snapshotCopyingGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, SnapshotCopyingGridDialect.class );
 	}
 
 	/**
@@ -317,4 +322,18 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName, P
 			TupleContext tupleContext) {
 		return storedProcedureAwareGridDialect.callStoredProcedure( storedProcedureName, queryParameters,tupleContext );
 	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect
+	 */
+
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		return snapshotCopyingGridDialect.copyTupleSnapshot( snapshot );
+	}
+
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		return snapshotCopyingGridDialect.copyAssociationSnapshot( snapshot );
+	}
 }
@@ -17,6 +17,7 @@
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.GroupingByEntityDialect;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.util.configurationreader.impl.DefaultClassPropertyReaderContext;
 import org.hibernate.ogm.util.configurationreader.impl.Instantiator;
@@ -55,11 +56,13 @@ public GridDialect initiateService(Map configurationValues, ServiceRegistryImple
 		EventContextManager eventContext = registry.getService( EventContextManager.class );
 
 		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues, registry.getService( ClassLoaderService.class ) );
+		int tupleCacheMaxEntries = propertyReader.property( OgmProperties.TUPLE_CACHE_MAX_ENTRIES, Integer.class ).withDefault( 0 ).getValue();
+		long tupleCacheExpiration = propertyReader.property( OgmProperties.TUPLE_CACHE_EXPIRATION, Long.class ).withDefault( 0L ).getValue();
 
 		return ( (DefaultClassPropertyReaderContext<GridDialect>) propertyReader.property( OgmProperties.GRID_DIALECT, GridDialect.class )
 				.instantiate() )
 				.withDefaultImplementation( registry.getService( DatastoreProvider.class ).getDefaultDialect() )
-				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext ) )
+				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext, tupleCacheMaxEntries, tupleCacheExpiration ) )
 				.getValue();
 	}
 
@@ -68,11 +71,15 @@ private static class GridDialectInstantiator implements Instantiator<GridDialect
 		private final DatastoreProvider datastore;
 		private final boolean errorHandlerConfigured;
 		private final EventContextManager eventContext;
+		private final int tupleCacheMaxEntries;
+		private final long tupleCacheExpiration;
 
-		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext) {
+		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext, int tupleCacheMaxEntries, long tupleCacheExpiration) {
 			this.datastore = datastore;
 			this.errorHandlerConfigured = errorHandlerConfigured;
 			this.eventContext = eventContext;
+			this.tupleCacheMaxEntries = tupleCacheMaxEntries;
+			this.tupleCacheExpiration = tupleCacheExpiration;
 		}
 
 		@Override
@@ -103,6 +110,17 @@ public GridDialect newInstance(Class<? extends GridDialect> clazz) {
 					gridDialect = new BatchOperationsDelegator( gridDialect, eventContext );
 				}
 
+				// Must see the writes when they happen, not when the batch is executed
+				if ( tupleCacheMaxEntries > 0 ) {
+					if ( GridDialects.hasFacet( gridDialect, SnapshotCopyingGridDialect.class ) ) {
+						gridDialect = new TupleCachingGridDialect( gridDialect, eventContext, tupleCacheMaxEntries, tupleCacheExpiration );
+						log.useTupleCache( tupleCacheMaxEntries, tupleCacheExpiration );
+					}
+					else {
+						log.tupleCacheNotSupported( GridDialects.getWrappedDialect( gridDialect ) );
+					}
+				}
+
 				log.useGridDialect( gridDialect.getClass() );
 				if ( GridDialectLogger.activationNeeded() ) {
 					gridDialect = new GridDialectLogger( gridDialect );
@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.transaction.Synchronization;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The keys written during an event cycle, which must be invalidated in the {@link TupleCachingGridDialect} once the
+ * current transaction completes, as other sessions may have cached their former state in the meantime.
+ * <p>
+ * The invalidation is registered as a synchronization of the transaction as soon as the first key is written, so that
+ * the keys are released whether the transaction commits or rolls back, even if the event cycle fails before finishing.
+ * The keys written outside of a transaction are released when the event cycle finishes.
+ */
+public class TupleCacheInvalidations {
+
+	private final TupleCachingGridDialect cache;
+	private final SharedSessionContractImplementor session;
+	private final Set<Object> keys = new HashSet<>();
+	private boolean synchronizationRegistered;
+
+	public TupleCacheInvalidations(TupleCachingGridDialect cache, SharedSessionContractImplementor session) {
+		this.cache = cache;
+		this.session = session;
+	}
+
+	synchronized boolean add(Object key) {
+		if ( !synchronizationRegistered && session.isTransactionInProgress() ) {
+			session.getTransactionCoordinator().getLocalSynchronizations().registerSynchronization( new InvalidationSynchronization() );
+			synchronizationRegistered = true;
+		}
+		return keys.add( key );
+	}
+
+	/**
+	 * Releases the written keys right away if they are not bound to the completion of a transaction; invoked when the
+	 * event cycle finishes.
+	 */
+	public synchronized void onFinish() {
+		if ( !synchronizationRegistered ) {
+			release();
+		}
+	}
+
+	private synchronized void release() {
+		synchronizationRegistered = false;
+		if ( keys.isEmpty() ) {
+			return;
+		}
+
+		Set<Object> written = new HashSet<>( keys );
+		keys.clear();
+		cache.afterTransactionCompletion( written );
+	}
+
+	private class InvalidationSynchronization implements Synchronization {
+
+		@Override
+		public void beforeCompletion() {
+			// nothing to do
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			release();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.dialect.snapshot.spi.TupleCacheStatistics;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link TupleCacheStatistics} service if the current grid dialect is wrapped by the tuple cache.
+ */
+public class TupleCacheStatisticsInitiator implements StandardServiceInitiator<TupleCacheStatistics> {
+
+	public static final TupleCacheStatisticsInitiator INSTANCE = new TupleCacheStatisticsInitiator();
+
+	private TupleCacheStatisticsInitiator() {
+	}
+
+	@Override
+	public Class<TupleCacheStatistics> getServiceInitiated() {
+		return TupleCacheStatistics.class;
+	}
+
+	@Override
+	public TupleCacheStatistics initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return GridDialects.getDelegateOrNull( registry.getService( GridDialect.class ), TupleCachingGridDialect.class );
+	}
+}
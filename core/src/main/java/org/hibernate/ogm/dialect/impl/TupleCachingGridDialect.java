@@ -0,0 +1,276 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.query.spi.QueryParameters;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
+import org.hibernate.ogm.dialect.snapshot.spi.TupleCacheStatistics;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.OperationContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * Caches the tuples and associations read from the datastore, so that they can be shared by all the sessions of a
+ * session factory.
+ * <p>
+ * Only copies of the snapshots are cached, as dialects may share a snapshot with the datastore or update it when it is
+ * written back; see {@link SnapshotCopyingGridDialect}. Every hit returns a new {@link Tuple} or {@link Association}
+ * without pending changes, on top of a new copy of the cached snapshot.
+ * Entries are evicted when the cache exceeds {@link OgmProperties#TUPLE_CACHE_MAX_ENTRIES} or when they are older than
+ * {@link OgmProperties#TUPLE_CACHE_EXPIRATION}. An entry is only returned to a read with the same type context as the
+ * read which cached it, as dialects may read different columns for different entity types sharing a table.
+ * Associations stored within the entity structure are not cached, the dialect reading them from the owning tuple.
+ * <p>
+ * An entry is invalidated as soon as it is written and the cache is bypassed for it until the transaction writing it
+ * completes, at which point it is invalidated again; see {@link TupleCacheInvalidations}.
+ */
+public class TupleCachingGridDialect extends ForwardingGridDialect<Serializable> implements TupleCacheStatistics {
+
+	private static final int INVALIDATION_STRIPES = 64;
+
+	private final SnapshotCopyingGridDialect snapshotCopier;
+
+	private final EventContextManager eventContext;
+
+	private final long expirationNanos;
+
+	private final ConcurrentMap<Object, CachedSnapshot> cache;
+
+	/**
+	 * The keys written by transactions that have not completed yet, with the number of such transactions
+	 */
+	private final ConcurrentMap<Object, Integer> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Counts the invalidations of the keys, striped by key hash; a result read from the datastore is not cached if its
+	 * key or the key of its owner was invalidated in the meantime, as it might be stale already.
+	 */
+	private final AtomicLongArray invalidations = new AtomicLongArray( INVALIDATION_STRIPES );
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public TupleCachingGridDialect(GridDialect dialect, EventContextManager eventContext, int maxEntries, long expiration) {
+		super( dialect );
+		this.snapshotCopier = GridDialects.getDialectFacetOrNull( dialect, SnapshotCopyingGridDialect.class );
+		this.eventContext = eventContext;
+		this.expirationNanos = TimeUnit.MILLISECONDS.toNanos( expiration );
+		this.cache = new BoundedConcurrentHashMap<Object, CachedSnapshot>(
+				maxEntries,
+				16,
+				BoundedConcurrentHashMap.Eviction.LIRS
+		);
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		TupleTypeContext typeContext = operationContext.getTupleTypeContext();
+		TupleSnapshot snapshot = (TupleSnapshot) lookup( key, key, typeContext );
+		if ( snapshot != null ) {
+			return new Tuple( snapshotCopier.copyTupleSnapshot( snapshot ), SnapshotType.UPDATE, typeContext.getTupleColumns() );
+		}
+
+		long generation = generation( key, key );
+		Tuple tuple = super.getTuple( key, operationContext );
+		if ( tuple != null && tuple.getSnapshotType() == SnapshotType.UPDATE && tuple.getOperations().isEmpty() ) {
+			store( key, key, typeContext, snapshotCopier.copyTupleSnapshot( tuple.getSnapshot() ), generation );
+		}
+		return tuple;
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
+		invalidate( key );
+		super.insertOrUpdateTuple( key, tuplePointer, tupleContext );
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		invalidate( key );
+		super.removeTuple( key, tupleContext );
+	}
+
+	@Override
+	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
+		invalidate( entityKey );
+		return super.updateTupleWithOptimisticLock( entityKey, oldLockState, tuple, tupleContext );
+	}
+
+	@Override
+	public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+		invalidate( entityKey );
+		return super.removeTupleWithOptimisticLock( entityKey, oldLockState, tupleContext );
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		AssociationTypeContext typeContext = associationContext.getAssociationTypeContext();
+		if ( isStoredInEntityStructure( key.getMetadata(), typeContext ) ) {
+			return super.getAssociation( key, associationContext );
+		}
+
+		// The association depends on the pending removal of the owning entity
+		AssociationSnapshot snapshot = (AssociationSnapshot) lookup( key, key.getEntityKey(), typeContext );
+		if ( snapshot != null ) {
+			return new Association( snapshotCopier.copyAssociationSnapshot( snapshot ) );
+		}
+
+		long generation = generation( key, key.getEntityKey() );
+		Association association = super.getAssociation( key, associationContext );
+		if ( association != null && association.getOperations().isEmpty() ) {
+			store( key, key.getEntityKey(), typeContext, snapshotCopier.copyAssociationSnapshot( association.getSnapshot() ), generation );
+		}
+		return association;
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		invalidate( key );
+		invalidate( key.getEntityKey() );
+		super.insertOrUpdateAssociation( key, association, associationContext );
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		invalidate( key );
+		invalidate( key.getEntityKey() );
+		super.removeAssociation( key, associationContext );
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		// There is no way to know which entries are affected by a native update
+		clear();
+		return super.executeBackendUpdateQuery( query, queryParameters, tupleContext );
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public int getSize() {
+		return cache.size();
+	}
+
+	@Override
+	public void clear() {
+		for ( int i = 0; i < INVALIDATION_STRIPES; i++ ) {
+			invalidations.incrementAndGet( i );
+		}
+		cache.clear();
+	}
+
+	/**
+	 * Invalidates the given keys once more and allows them to be cached again; invoked when the transaction which wrote
+	 * them completes.
+	 */
+	void afterTransactionCompletion(Iterable<Object> keys) {
+		for ( Object key : keys ) {
+			invalidations.incrementAndGet( stripe( key ) );
+			cache.remove( key );
+			inFlight.computeIfPresent( key, (k, count) -> count == 1 ? null : count - 1 );
+		}
+	}
+
+	private Object lookup(Object key, EntityKey owner, Object typeContext) {
+		if ( !inFlight.isEmpty() && ( inFlight.containsKey( key ) || inFlight.containsKey( owner ) ) ) {
+			misses.increment();
+			return null;
+		}
+
+		CachedSnapshot cached = cache.get( key );
+		if ( cached == null || cached.typeContext != typeContext ) {
+			misses.increment();
+			return null;
+		}
+		if ( expirationNanos > 0 && System.nanoTime() - cached.timestamp > expirationNanos ) {
+			cache.remove( key, cached );
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+		return cached.snapshot;
+	}
+
+	private void store(Object key, EntityKey owner, Object typeContext, Object snapshot, long generation) {
+		if ( inFlight.containsKey( key ) || inFlight.containsKey( owner ) ) {
+			return;
+		}
+		cache.put( key, new CachedSnapshot( typeContext, snapshot ) );
+		// An invalidation might have happened while reading from the datastore or before the put
+		if ( generation( key, owner ) != generation ) {
+			cache.remove( key );
+		}
+	}
+
+	/**
+	 * The counters only increase, so their sum changes whenever the key or its owner is invalidated.
+	 */
+	private long generation(Object key, EntityKey owner) {
+		long generation = invalidations.get( stripe( key ) );
+		return key == owner ? generation : generation + invalidations.get( stripe( owner ) );
+	}
+
+	private static int stripe(Object key) {
+		int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( INVALIDATION_STRIPES - 1 );
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet( stripe( key ) );
+		if ( eventContext.isActive() ) {
+			TupleCacheInvalidations pending = eventContext.get( TupleCacheInvalidations.class );
+			if ( pending.add( key ) ) {
+				inFlight.merge( key, 1, Integer::sum );
+			}
+		}
+		cache.remove( key );
+	}
+
+	private static class CachedSnapshot {
+
+		private final Object typeContext;
+		private final Object snapshot;
+		private final long timestamp;
+
+		private CachedSnapshot(Object typeContext, Object snapshot) {
+			this.typeContext = typeContext;
+			this.snapshot = snapshot;
+			this.timestamp = System.nanoTime();
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.dialect.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +15,7 @@
 
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.TupleColumns;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.impl.StringHelper;
 
@@ -37,6 +40,7 @@ public class TupleTypeContextImpl implements TupleTypeContext {
 
 	private final Map<String, String> roles;
 	private final Set<String> polymorphicEntityColumns;
+	private final TupleColumns tupleColumns;
 
 	public TupleTypeContextImpl(List<String> selectableColumns,
 			Set<String> polymorphicEntityColumns,
@@ -45,6 +49,18 @@ public TupleTypeContextImpl(List<String> selectableColumns,
 			OptionsContext optionsContext,
 			String discriminatorColumn,
 			Object discriminatorValue) {
+		this( selectableColumns, polymorphicEntityColumns, associatedEntityMetadata, roles, optionsContext, discriminatorColumn,
+				discriminatorValue, new String[0] );
+	}
+
+	public TupleTypeContextImpl(List<String> selectableColumns,
+			Set<String> polymorphicEntityColumns,
+			Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata,
+			Map<String, String> roles,
+			OptionsContext optionsContext,
+			String discriminatorColumn,
+			Object discriminatorValue,
+			String[] identifierColumns) {
 
 		this.polymorphicEntityColumns = Collections.unmodifiableSet( polymorphicEntityColumns );
 		this.selectableColumns = Collections.unmodifiableList( selectableColumns );
@@ -53,6 +69,17 @@ public TupleTypeContextImpl(List<String> selectableColumns,
 		this.optionsContext = optionsContext;
 		this.discriminatorColumn = discriminatorColumn;
 		this.discriminatorValue = discriminatorValue;
+		this.tupleColumns = tupleColumns( identifierColumns, selectableColumns, polymorphicEntityColumns, discriminatorColumn );
+	}
+
+	private static TupleColumns tupleColumns(String[] identifierColumns, List<String> selectableColumns,
+			Set<String> polymorphicEntityColumns, String discriminatorColumn) {
+		List<String> columns = new ArrayList<>( identifierColumns.length + selectableColumns.size() + polymorphicEntityColumns.size() + 1 );
+		columns.addAll( Arrays.asList( identifierColumns ) );
+		columns.addAll( selectableColumns );
+		columns.addAll( polymorphicEntityColumns );
+		columns.add( discriminatorColumn );
+		return new TupleColumns( columns );
 	}
 
 	@Override
@@ -105,6 +132,11 @@ public Object getDiscriminatorValue() {
 		return discriminatorValue;
 	}
 
+	@Override
+	public TupleColumns getTupleColumns() {
+		return tupleColumns;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder( "Tuple Context {" );
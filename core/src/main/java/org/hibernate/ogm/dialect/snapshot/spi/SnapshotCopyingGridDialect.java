@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.snapshot.spi;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * A {@link GridDialect} facet to be implemented by those stores which can copy the snapshots they return, so that the
+ * copies can be shared by several sessions, e.g. by the tuple cache.
+ * <p>
+ * A copy must not share any mutable state with the given snapshot nor with the datastore: later changes to either of
+ * them must not be visible through the copy and vice versa. It must be of the type the dialect expects when the tuple
+ * or association is written back.
+ * <p>
+ * A snapshot which is never updated once read may be returned as is. A snapshot which reads its values from the
+ * datastore within the transaction of the current thread, e.g. a node of an embedded graph database, never returns
+ * stale values: its copy may read from the same record, provided it is not affected by later changes to the snapshot.
+ */
+public interface SnapshotCopyingGridDialect extends GridDialect {
+
+	/**
+	 * Copies a tuple snapshot returned by this dialect.
+	 *
+	 * @param snapshot the snapshot to copy
+	 * @return a copy of the snapshot, detached from the given one and from the datastore
+	 */
+	TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot);
+
+	/**
+	 * Copies an association snapshot returned by this dialect.
+	 *
+	 * @param snapshot the snapshot to copy
+	 * @return a copy of the snapshot, detached from the given one and from the datastore
+	 */
+	AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot);
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.snapshot.spi;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.service.Service;
+
+/**
+ * Exposes the metrics of the cache of tuples and associations shared by the sessions of a session factory.
+ * <p>
+ * The service is only available if the cache is enabled through {@link OgmProperties#TUPLE_CACHE_MAX_ENTRIES} and
+ * the grid dialect implements {@link SnapshotCopyingGridDialect}.
+ */
+public interface TupleCacheStatistics extends Service {
+
+	/**
+	 * @return the number of reads served by the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of reads delegated to the datastore
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of cached entries, including the expired ones not evicted yet
+	 */
+	int getSize();
+
+	/**
+	 * Removes all the entries from the cache.
+	 */
+	void clear();
+}
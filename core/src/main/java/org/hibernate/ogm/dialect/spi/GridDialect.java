@@ -168,6 +168,10 @@ public interface GridDialect extends Service {
 	/**
 	 * A consumer is called for each tuple matching the selected {@link EntityKeyMetadata}. The tuples must be of the
 	 * same indexed type.
+	 * <p>
+	 * Dialects able to split a table in independent partitions should pass them to
+	 * {@link ModelConsumer#consume(java.util.List)}, using {@link ModelConsumer#getPartitionsHint()} to decide how many
+	 * partitions to create.
 	 *
 	 * @param consumer
 	 *            the instance that is going to be called for every {@link Tuple}
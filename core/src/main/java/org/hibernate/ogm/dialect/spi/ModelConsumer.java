@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.dialect.spi;
 
+import java.util.List;
+
 import org.hibernate.ogm.model.spi.Tuple;
 
 /**
@@ -21,4 +23,30 @@ public interface ModelConsumer {
 	 * @param supplier provides the tuples the model will consume
 	 */
 	void consume(TuplesSupplier supplier);
+
+	/**
+	 * Consume a model element on all the tuples of several independent partitions of the same table.
+	 * <p>
+	 * The partitions don't overlap, so each one of them can be consumed on a different thread. The default
+	 * implementation consumes them one after the other.
+	 *
+	 * @param partitions provide the tuples of each partition
+	 */
+	default void consume(List<TuplesSupplier> partitions) {
+		for ( TuplesSupplier partition : partitions ) {
+			consume( partition );
+		}
+	}
+
+	/**
+	 * The number of partitions a dialect should split a table into, if it can.
+	 * <p>
+	 * It is only a hint: dialects with a natural partitioning of the data (e.g. the segments of a cache) can use it as
+	 * they see fit.
+	 *
+	 * @return the number of partitions the consumer can process in parallel, 1 by default
+	 */
+	default int getPartitionsHint() {
+		return 1;
+	}
 }
@@ -12,6 +12,7 @@
 
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleColumns;
 import org.hibernate.ogm.options.spi.OptionsContext;
 
 /**
@@ -103,4 +104,15 @@ public interface TupleTypeContext {
 	 * @return the value of the discriminator. It can return {@code null}.
 	 */
 	Object getDiscriminatorValue();
+
+	/**
+	 * The columns of the tuple type with their slots. Dialects should pass them to the {@link Tuple}s they create for
+	 * this type, so that the changes of these columns are recorded without allocating an operation per column.
+	 *
+	 * @return the columns of the tuple type, {@code null} by default: the tuples then record their changes by column
+	 * name
+	 */
+	default TupleColumns getTupleColumns() {
+		return null;
+	}
 }
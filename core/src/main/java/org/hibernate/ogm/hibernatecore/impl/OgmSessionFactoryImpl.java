@@ -100,17 +100,17 @@ public CriteriaBuilder getCriteriaBuilder() {
 	@SuppressWarnings("rawtypes")
 	@Override
 	public StatelessSessionBuilder withStatelessOptions() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return new OgmStatelessSessionBuilder( (SessionFactoryImpl) delegate() );
 	}
 
 	@Override
 	public StatelessSession openStatelessSession() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return withStatelessOptions().openStatelessSession();
 	}
 
 	@Override
 	public StatelessSession openStatelessSession(Connection connection) {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		throw new IllegalStateException( "Hibernate OGM does not support SQL Connections" );
 	}
 
 	@Override
@@ -16,11 +16,9 @@
 import org.hibernate.Criteria;
 import org.hibernate.Filter;
 import org.hibernate.HibernateException;
-import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.SharedSessionBuilder;
-import org.hibernate.SimpleNaturalIdLoadAccess;
 import org.hibernate.engine.spi.SessionDelegatorBaseImpl;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -200,30 +198,6 @@ public void removeOrphanBeforeUpdates(String entityName, Object child) {
 		delegate.removeOrphanBeforeUpdates( entityName, child );
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	@Override
-	public NaturalIdLoadAccess byNaturalId(Class entityClass) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@SuppressWarnings("rawtypes")
-	@Override
-	public NaturalIdLoadAccess byNaturalId(String entityName) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	@Override
-	public SimpleNaturalIdLoadAccess bySimpleNaturalId(Class entityClass) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@SuppressWarnings("rawtypes")
-	@Override
-	public SimpleNaturalIdLoadAccess bySimpleNaturalId(String entityName) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> clazz) {
@@ -0,0 +1,38 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.sql.Connection;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.SessionFactoryImpl.StatelessSessionBuilderImpl;
+
+/**
+ * Builds {@link OgmStatelessSessionImpl}s.
+ */
+@SuppressWarnings("rawtypes")
+public class OgmStatelessSessionBuilder extends StatelessSessionBuilderImpl {
+
+	private final SessionFactoryImpl factory;
+
+	public OgmStatelessSessionBuilder(SessionFactoryImpl factory) {
+		super( factory );
+		this.factory = factory;
+	}
+
+	@Override
+	public StatelessSession openStatelessSession() {
+		return new OgmStatelessSessionImpl( factory, this );
+	}
+
+	@Override
+	public StatelessSessionBuilder connection(Connection connection) {
+		throw new IllegalStateException( "Hibernate OGM does not support SQL Connections" );
+	}
+}
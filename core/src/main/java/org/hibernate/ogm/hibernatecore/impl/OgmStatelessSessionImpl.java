@@ -0,0 +1,268 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.internal.SessionCreationOptions;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.StatelessSessionImpl;
+import org.hibernate.loader.custom.CustomQuery;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
+import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * An OGM specific stateless session: entities are written through the grid dialect right away, without persistence
+ * context, dirty checking or cascades.
+ * <p>
+ * The persisters expect the entities they write to have an entry in the persistence context, so each operation adds
+ * a temporary one, removed once the operation is done.
+ * <p>
+ * When the dialect supports batching, the operations are queued and executed together: when the queue reaches the
+ * JDBC batch size ({@value #DEFAULT_BATCH_SIZE} by default), before reading from the datastore or executing a bulk
+ * statement, when the transaction is about to complete and when the session is closed. The queued operations are
+ * discarded if the transaction is rolled back.
+ */
+public class OgmStatelessSessionImpl extends StatelessSessionImpl {
+
+	/**
+	 * The number of operations batched together if no JDBC batch size is configured.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final EventContextManager eventContext;
+
+	private final GridDialect gridDialect;
+
+	/**
+	 * The states of the event context of the pending operations, {@code null} if there are none.
+	 */
+	private Map<Class<?>, Object> pendingOperations;
+
+	public OgmStatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
+		super( factory, options );
+
+		this.eventContext = factory.getServiceRegistry().getService( EventContextManager.class );
+		this.gridDialect = factory.getServiceRegistry().getService( GridDialect.class );
+	}
+
+	@Override
+	public Serializable insert(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifierGenerator().generate( this, entity );
+		Object[] state = persister.getPropertyValues( entity );
+		if ( persister.isVersioned() ) {
+			boolean substitute = Versioning.seedVersion( state, persister.getVersionProperty(), persister.getVersionType(), this );
+			if ( substitute ) {
+				persister.setPropertyValues( entity, state );
+			}
+		}
+
+		Serializable generatedId = execute( () -> {
+			if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				addTemporaryEntry( entity, Status.SAVING, state, null, persister );
+				return persister.insert( state, entity, this );
+			}
+			else {
+				addTemporaryEntry( entity, Status.SAVING, state, id, persister );
+				persister.insert( id, state, entity, this );
+				return id;
+			}
+		} );
+
+		persister.setIdentifier( entity, generatedId, this );
+		return generatedId;
+	}
+
+	@Override
+	public void update(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		Object[] state = persister.getPropertyValues( entity );
+		Object oldVersion;
+		if ( persister.isVersioned() ) {
+			oldVersion = persister.getVersion( entity );
+			Object newVersion = Versioning.increment( oldVersion, persister.getVersionType(), this );
+			Versioning.setVersion( state, newVersion, persister );
+			persister.setPropertyValues( entity, state );
+		}
+		else {
+			oldVersion = null;
+		}
+
+		execute( () -> {
+			// The persister applies the properties to the tuple of the entry; without one it creates a new tuple, which
+			// replaces the stored one and drops the columns the entity does not map
+			addTemporaryEntry( entity, Status.MANAGED, null, id, persister );
+			OgmEntityEntryState.getStateFor( this, entity ).getTuplePointer().setTuple( getTuple( persister, id ) );
+			persister.update( id, state, null, false, null, oldVersion, entity, null, this );
+			return null;
+		} );
+	}
+
+	@Override
+	public void delete(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Serializable id = persister.getIdentifier( entity, this );
+		Object version = persister.getVersion( entity );
+
+		execute( () -> {
+			addTemporaryEntry( entity, Status.DELETED, null, id, persister );
+			persister.delete( id, version, entity, this );
+			return null;
+		} );
+	}
+
+	private Tuple getTuple(EntityPersister persister, Serializable id) {
+		OgmEntityPersister ogmPersister = (OgmEntityPersister) persister;
+		return gridDialect.getTuple( EntityKeyBuilder.fromPersister( ogmPersister, id, this ), ogmPersister.getTupleContext( this ) );
+	}
+
+	private EntityEntry addTemporaryEntry(Object entity, Status status, Object[] state, Serializable id, EntityPersister persister) {
+		Object version = state != null ? Versioning.getVersion( state, persister ) : null;
+		return getPersistenceContext().addEntry( entity, status, state, null, id, version, LockMode.WRITE, status != Status.SAVING, persister, false );
+	}
+
+	/**
+	 * Executes a write operation in the event context of the pending operations, creating it if needed. The batch is
+	 * executed if it is full, or right away if the dialect does not batch operations.
+	 */
+	private <T> T execute(Supplier<T> operation) {
+		if ( pendingOperations == null ) {
+			pendingOperations = eventContext.createStates( this );
+		}
+
+		T result;
+		eventContext.resume( pendingOperations );
+		try {
+			result = operation.get();
+		}
+		finally {
+			eventContext.suspend();
+			getPersistenceContext().clear();
+		}
+
+		OperationsQueue queue = (OperationsQueue) pendingOperations.get( OperationsQueue.class );
+		if ( queue == null || queue.size() >= getBatchSize() ) {
+			executePendingOperations();
+		}
+		return result;
+	}
+
+	private int getBatchSize() {
+		Integer batchSize = getJdbcBatchSize();
+		if ( batchSize == null ) {
+			batchSize = getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+		}
+		return batchSize > 1 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Executes the operations batched so far.
+	 */
+	public void executePendingOperations() {
+		if ( pendingOperations != null ) {
+			Map<Class<?>, Object> operations = pendingOperations;
+			pendingOperations = null;
+			eventContext.finish( operations );
+		}
+	}
+
+	private void discardPendingOperations() {
+		if ( pendingOperations != null ) {
+			OperationsQueue queue = (OperationsQueue) pendingOperations.get( OperationsQueue.class );
+			if ( queue != null ) {
+				queue.clear();
+			}
+			// Finishes the other states, e.g. releases the keys written
+			executePendingOperations();
+		}
+	}
+
+	@Override
+	public Object get(String entityName, Serializable id, LockMode lockMode) {
+		executePendingOperations();
+		return super.get( entityName, id, lockMode );
+	}
+
+	@Override
+	public void refresh(String entityName, Object entity, LockMode lockMode) {
+		executePendingOperations();
+		super.refresh( entityName, entity, lockMode );
+	}
+
+	@Override
+	public List list(String query, QueryParameters queryParameters) throws HibernateException {
+		executePendingOperations();
+		return super.list( query, queryParameters );
+	}
+
+	@Override
+	public ScrollableResultsImplementor scroll(String query, QueryParameters queryParameters) throws HibernateException {
+		executePendingOperations();
+		return super.scroll( query, queryParameters );
+	}
+
+	@Override
+	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
+		executePendingOperations();
+		return super.executeUpdate( query, queryParameters );
+	}
+
+	@Override
+	public List listCustomQuery(CustomQuery customQuery, QueryParameters queryParameters) throws HibernateException {
+		executePendingOperations();
+		return super.listCustomQuery( customQuery, queryParameters );
+	}
+
+	@Override
+	public ScrollableResultsImplementor scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters) throws HibernateException {
+		executePendingOperations();
+		return super.scrollCustomQuery( customQuery, queryParameters );
+	}
+
+	@Override
+	public void beforeTransactionCompletion() {
+		executePendingOperations();
+		super.beforeTransactionCompletion();
+	}
+
+	@Override
+	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		// Only left if the transaction was rolled back
+		discardPendingOperations();
+		super.afterTransactionCompletion( successful, delayed );
+	}
+
+	@Override
+	public void close() {
+		if ( !isClosed() ) {
+			executePendingOperations();
+		}
+		super.close();
+	}
+}
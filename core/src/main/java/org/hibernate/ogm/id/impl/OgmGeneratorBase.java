@@ -14,17 +14,22 @@
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.cfg.Environment;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.NoopOptimizer;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledOptimizer;
 import org.hibernate.id.enhanced.TableGenerator;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.OgmDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
@@ -60,6 +65,11 @@ public abstract class OgmGeneratorBase implements PersistentNoSqlIdentifierGener
 
 	private GridDialect gridDialect;
 
+	/**
+	 * Used instead of the optimizer if {@link OgmProperties#ID_GENERATION_STRIPES} is set
+	 */
+	private StripedIdentifierPool stripedPool;
+
 	@Override
 	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
 		identifierType = type;
@@ -83,6 +93,12 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 		);
 
 		gridDialect = ( (OgmDialect) serviceRegistry.getService( JdbcEnvironment.class ).getDialect() ).getGridDialect();
+
+		int stripes = ConfigurationHelper.getInt( OgmProperties.ID_GENERATION_STRIPES, serviceRegistry.getService( ConfigurationService.class ).getSettings(), 0 );
+		// Only the optimizers for which a source value is the upper bound of an ascending block can be replaced
+		if ( stripes > 0 && getSourceIncrement() > 0 && ( optimizer instanceof NoopOptimizer || optimizer instanceof PooledOptimizer ) ) {
+			stripedPool = new StripedIdentifierPool( stripes, getSourceIncrement(), initialValue );
+		}
 	}
 
 	/**
@@ -112,7 +128,27 @@ protected GridDialect getGridDialect() {
 	}
 
 	@Override
-	public synchronized Serializable generate(final SharedSessionContractImplementor session, Object obj) {
+	public Serializable generate(final SharedSessionContractImplementor session, Object obj) {
+		if ( stripedPool != null ) {
+			IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType.getReturnedClass() );
+			value.initialize( stripedPool.next(
+					() -> ( (IntegralDataTypeHolder) doWorkInIsolationTransaction( session ) ).makeValue().longValue(),
+					() -> {
+						// Resolved from the session before handing the work over to the prefetch thread
+						IsolationDelegate isolationDelegate = session.getTransactionCoordinator().createIsolationDelegate();
+						IdSourceKey key = getGeneratorKey( session );
+						return () -> ( (IntegralDataTypeHolder) doWorkInIsolationTransaction( isolationDelegate, key ) ).makeValue().longValue();
+					}
+			) );
+			return value.makeValue();
+		}
+
+		synchronized ( this ) {
+			return generateWithOptimizer( session );
+		}
+	}
+
+	private Serializable generateWithOptimizer(final SharedSessionContractImplementor session) {
 		return optimizer.generate(
 				new AccessCallback() {
 					@Override
@@ -128,16 +164,20 @@ public String getTenantIdentifier() {
 		);
 	}
 
-	//copied and altered from TransactionHelper
 	private Serializable doWorkInIsolationTransaction(final SharedSessionContractImplementor session)
 			throws HibernateException {
+		return doWorkInIsolationTransaction( session.getTransactionCoordinator().createIsolationDelegate(), getGeneratorKey( session ) );
+	}
+
+	//copied and altered from TransactionHelper
+	private Serializable doWorkInIsolationTransaction(IsolationDelegate isolationDelegate, final IdSourceKey key)
+			throws HibernateException {
 		class Work extends AbstractReturningWork<IntegralDataTypeHolder> {
-			private final SharedSessionContractImplementor localSession = session;
 
 			@Override
 			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
 				try {
-					return doWorkInCurrentTransactionIfAny( localSession );
+					return doWorkInCurrentTransactionIfAny( key );
 				}
 				catch ( RuntimeException sqle ) {
 					throw new HibernateException( "Could not get or update next value", sqle );
@@ -147,25 +187,31 @@ public IntegralDataTypeHolder execute(Connection connection) throws SQLException
 		//we want to work out of transaction
 		boolean workInTransaction = false;
 		Work work = new Work();
-		Serializable generatedValue = session.getTransactionCoordinator().createIsolationDelegate().delegateWork( work, workInTransaction );
+		Serializable generatedValue = isolationDelegate.delegateWork( work, workInTransaction );
 		return generatedValue;
 	}
 
-	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(SharedSessionContractImplementor session) {
-		IdSourceKey key = getGeneratorKey( session );
+	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(IdSourceKey key) {
+		Number nextValue = nextValue( key );
 
-		Number nextValue = gridDialect.nextValue(
+		IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType.getReturnedClass() );
+		value.initialize( nextValue.longValue() );
+
+		return value;
+	}
+
+	private Number nextValue(IdSourceKey key) {
+		return gridDialect.nextValue(
 				new NextValueRequest(
 						key,
-						optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1,
+						getSourceIncrement(),
 						initialValue
 				)
 		);
+	}
 
-		IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType.getReturnedClass() );
-		value.initialize( nextValue.longValue() );
-
-		return value;
+	private int getSourceIncrement() {
+		return optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1;
 	}
 
 	private int determineIncrementSize(Properties params) {
@@ -0,0 +1,116 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.ogm.util.impl.Contracts;
+
+/**
+ * Hands out identifiers from several pools of values, so that concurrent threads do not contend on a single lock.
+ * <p>
+ * Each thread is assigned to one of the pools (stripes). A pool holds a block of values reserved from the id source;
+ * when fewer than a quarter of its values remain, the next block is reserved on another thread, so that it is usually
+ * available by the time the current one is exhausted. At most one block is reserved at a time for each pool, so the
+ * blocks of a pool are handed out in the order they were reserved. If that reservation fails, the thread exhausting
+ * the pool reserves the block again itself, so that the failure is reported to it as usual.
+ * <p>
+ * A source value {@code hi} reserves the block {@code [hi - blockSize + 1, hi]}, as with the {@link PooledOptimizer},
+ * so that both can be used alternatively on the same id source. Values below the initial value are skipped. Only
+ * ascending id sources are supported.
+ */
+class StripedIdentifierPool {
+
+	private static final ExecutorService PREFETCH_EXECUTOR = newPrefetchExecutor();
+
+	private final Stripe[] stripes;
+	private final int blockSize;
+	private final long initialValue;
+	private final int lowWaterMark;
+
+	StripedIdentifierPool(int stripeCount, int blockSize, long initialValue) {
+		Contracts.assertTrue( blockSize > 0, "The increment of a striped id source must be positive: " + blockSize );
+		this.stripes = new Stripe[stripeCount];
+		for ( int i = 0; i < stripeCount; i++ ) {
+			stripes[i] = new Stripe();
+		}
+		this.blockSize = blockSize;
+		this.initialValue = initialValue;
+		this.lowWaterMark = blockSize / 4;
+	}
+
+	/**
+	 * Returns the next value of the pool of the current thread.
+	 *
+	 * @param fetch reserves the next block, on the calling thread
+	 * @param prefetch invoked on the calling thread, returns the task reserving the next block on another thread
+	 * @return the next identifier value
+	 */
+	long next(LongSupplier fetch, Supplier<LongSupplier> prefetch) {
+		Stripe stripe = stripes[(int) ( Thread.currentThread().getId() % stripes.length )];
+
+		synchronized ( stripe ) {
+			if ( stripe.next > stripe.hi ) {
+				stripe.reserve( awaitPrefetch( stripe, fetch ) );
+			}
+
+			long value = stripe.next++;
+
+			if ( stripe.prefetched == null && stripe.hi - stripe.next < lowWaterMark ) {
+				stripe.prefetched = CompletableFuture.supplyAsync( prefetch.get()::getAsLong, PREFETCH_EXECUTOR );
+			}
+
+			return value;
+		}
+	}
+
+	private long awaitPrefetch(Stripe stripe, LongSupplier fetch) {
+		CompletableFuture<Long> prefetched = stripe.prefetched;
+		stripe.prefetched = null;
+
+		if ( prefetched != null ) {
+			try {
+				return prefetched.join();
+			}
+			catch (CompletionException e) {
+				// The block is reserved again below, so that a failure is reported to the caller as usual
+			}
+		}
+
+		return fetch.getAsLong();
+	}
+
+	private static ExecutorService newPrefetchExecutor() {
+		AtomicInteger threadNumber = new AtomicInteger( 1 );
+		return new ThreadPoolExecutor( 0, Integer.MAX_VALUE, 10L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), r -> {
+			Thread thread = new Thread( r, "Hibernate OGM: id prefetch-" + threadNumber.getAndIncrement() );
+			thread.setDaemon( true );
+			return thread;
+		} );
+	}
+
+	private class Stripe {
+
+		private long next = 1;
+		private long hi = 0;
+		private CompletableFuture<Long> prefetched;
+
+		private void reserve(long sourceValue) {
+			hi = sourceValue;
+			next = Math.max( sourceValue - blockSize + 1, initialValue );
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.model.spi.EntityMetadataInformation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * Resolves the identifier of an entity from the values of its natural id with a native query selecting the entity by
+ * the natural id columns; the schema definers of the dialects create a unique index on these columns, so the look-up
+ * reads a single indexed document or node.
+ * <p>
+ * The native query is created by the dialect's query parser service from the JP-QL query
+ * {@code FROM <entity> e WHERE e.<property> = :<parameter> AND ...}, once for all the natural id values if the service
+ * can parse it as a parameterized query, otherwise for each look-up.
+ */
+public class NaturalIdLoader {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final OgmEntityPersister persister;
+	private final Type[] naturalIdTypes;
+	private final String query;
+
+	/**
+	 * The query parsed once for all the natural id values, {@code null} if it is parsed for each look-up. The query
+	 * parser service is scoped to the session factory, so it is parsed on first use rather than when the persister is
+	 * created.
+	 */
+	private volatile QueryParsingResult parameterizedQuery;
+	private volatile boolean parsed;
+
+	public NaturalIdLoader(OgmEntityPersister persister) {
+		this.persister = persister;
+
+		int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		this.naturalIdTypes = new Type[naturalIdProperties.length];
+		StringBuilder query = new StringBuilder( "FROM " ).append( persister.getEntityName() ).append( " e WHERE " );
+		for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+			naturalIdTypes[i] = persister.getPropertyTypes()[naturalIdProperties[i]];
+			if ( i > 0 ) {
+				query.append( " AND " );
+			}
+			query.append( "e." ).append( persister.getPropertyNames()[naturalIdProperties[i]] ).append( " = :" ).append( parameterName( i ) );
+		}
+		this.query = query.toString();
+	}
+
+	private static String parameterName(int index) {
+		return "naturalId" + index;
+	}
+
+	/**
+	 * Returns the identifier of the entity with the given natural id.
+	 *
+	 * @param naturalIdValues the values of the natural id properties, in the order of
+	 * {@link OgmEntityPersister#getNaturalIdentifierProperties()}
+	 * @param session the session
+	 * @return the identifier of the entity or {@code null} if there is none with this natural id
+	 */
+	public Serializable loadEntityId(Object[] naturalIdValues, SharedSessionContractImplementor session) {
+		SessionFactoryImplementor factory = session.getFactory();
+		@SuppressWarnings("unchecked")
+		QueryableGridDialect<Serializable> gridDialect = factory.getServiceRegistry().getService( QueryableGridDialect.class );
+		if ( gridDialect == null ) {
+			throw log.naturalIdLookupNotSupported( persister.getEntityName() );
+		}
+
+		QueryParsingResult parsingResult = getParameterizedQuery( factory );
+		if ( parsingResult == null ) {
+			Map<String, Object> parameterValues = new HashMap<>( naturalIdValues.length );
+			for ( int i = 0; i < naturalIdValues.length; i++ ) {
+				parameterValues.put( parameterName( i ), naturalIdValues[i] );
+			}
+			parsingResult = factory.getServiceRegistry().getService( QueryParserService.class ).parseQuery( factory, query, parameterValues );
+		}
+
+		BackendQuery<Serializable> backendQuery = new BackendQuery<>(
+				(Serializable) parsingResult.getQueryObject(),
+				new EntityMetadataInformation( persister.getEntityKeyMetadata(), persister.getMappedClass().getName() )
+		);
+
+		try ( ClosableIterator<Tuple> tuples = gridDialect.executeBackendQuery( backendQuery, getQueryParameters( naturalIdValues, factory ), persister.getTupleContext( session ) ) ) {
+			if ( !tuples.hasNext() ) {
+				return null;
+			}
+			return (Serializable) persister.getGridIdentifierType().nullSafeGet( tuples.next(), persister.getIdentifierColumnNames(), session, null );
+		}
+	}
+
+	private QueryParsingResult getParameterizedQuery(SessionFactoryImplementor factory) {
+		if ( !parsed ) {
+			parameterizedQuery = factory.getServiceRegistry().getService( QueryParserService.class ).parseParameterizedQuery( factory, query );
+			parsed = true;
+		}
+		return parameterizedQuery;
+	}
+
+	private QueryParameters getQueryParameters(Object[] naturalIdValues, SessionFactoryImplementor factory) {
+		TypeTranslator typeTranslator = factory.getServiceRegistry().getService( TypeTranslator.class );
+		Map<String, TypedGridValue> namedParameters = new HashMap<>( naturalIdValues.length );
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			TypedValue value = new TypedValue( naturalIdTypes[i], naturalIdValues[i] );
+			namedParameters.put( parameterName( i ), TypedGridValue.fromOrmTypedValue( value, typeTranslator, factory ) );
+		}
+		// A natural id is unique, there is no need to read further
+		return new QueryParameters( new RowSelection( null, 1 ), namedParameters, Collections.<TypedGridValue>emptyList(), Collections.<String>emptyList() );
+	}
+
+	@Override
+	public String toString() {
+		return "NaturalIdLoader [query=" + query + "]";
+	}
+}
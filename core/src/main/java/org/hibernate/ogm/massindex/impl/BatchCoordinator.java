@@ -12,6 +12,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.util.impl.Executors;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -47,12 +48,15 @@ public class BatchCoordinator implements Runnable {
 	private final MassIndexerProgressMonitor monitor;
 	private final ErrorHandler errorHandler;
 	private final String tenantId;
+	private final int batchSizeToLoadObjects;
+	private final int threadsToLoadObjects;
 
 	private final GridDialect gridDialect;
 
 	public BatchCoordinator(GridDialect gridDialect, IndexedTypeSet rootEntities, ExtendedSearchIntegrator searchFactoryImplementor,
 			SessionFactoryImplementor sessionFactory, int typesToIndexInParallel, CacheMode cacheMode, boolean optimizeAtEnd, boolean purgeAtStart,
-			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId) {
+			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId, int batchSizeToLoadObjects,
+			int threadsToLoadObjects) {
 		this.gridDialect = gridDialect;
 		this.tenantId = tenantId;
 		this.rootIndexedTypes = rootEntities;
@@ -63,6 +67,8 @@ public BatchCoordinator(GridDialect gridDialect, IndexedTypeSet rootEntities, Ex
 		this.optimizeAtEnd = optimizeAtEnd;
 		this.purgeAtStart = purgeAtStart;
 		this.optimizeAfterPurge = optimizeAfterPurge;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.threadsToLoadObjects = threadsToLoadObjects;
 		this.monitor = monitor;
 		this.endAllSignal = new CountDownLatch( rootEntities.size() );
 		this.errorHandler = searchFactoryImplementor.getErrorHandler();
@@ -104,12 +110,23 @@ public void run() {
 	 */
 	private void doBatchWork(BatchBackend backend) throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
-		for ( IndexedTypeIdentifier indexedTypeIdentifier : rootIndexedTypes ) {
-			executor.execute( new BatchIndexingWorkspace( gridDialect, searchFactoryImplementor, sessionFactory, indexedTypeIdentifier,
-					cacheMode, endAllSignal, monitor, backend, tenantId ) );
+		// The partitions of all the types are loaded by the same threads
+		ExecutorService loadingExecutor = threadsToLoadObjects > 1
+				? Executors.newFixedThreadPool( typesToIndexInParallel * threadsToLoadObjects, "TupleIndexer" )
+				: null;
+		try {
+			for ( IndexedTypeIdentifier indexedTypeIdentifier : rootIndexedTypes ) {
+				executor.execute( new BatchIndexingWorkspace( gridDialect, searchFactoryImplementor, sessionFactory, indexedTypeIdentifier,
+						cacheMode, endAllSignal, monitor, backend, tenantId, batchSizeToLoadObjects, threadsToLoadObjects, loadingExecutor ) );
+			}
+			executor.shutdown();
+			endAllSignal.await(); // waits for the executor to finish
+		}
+		finally {
+			if ( loadingExecutor != null ) {
+				loadingExecutor.shutdownNow();
+			}
 		}
-		executor.shutdown();
-		endAllSignal.await(); // waits for the executor to finish
 	}
 
 	/**
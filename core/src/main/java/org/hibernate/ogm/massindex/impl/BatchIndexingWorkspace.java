@@ -7,6 +7,7 @@
 package org.hibernate.ogm.massindex.impl;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -54,9 +55,16 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	private final String tenantId;
 
+	private final int batchSizeToLoadObjects;
+
+	private final int threadsToLoadObjects;
+
+	private final ExecutorService loadingExecutor;
+
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 			SessionFactoryImplementor sessionFactory, IndexedTypeIdentifier indexedTypeIdentifier, CacheMode cacheMode, CountDownLatch endAllSignal,
-			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
+			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId, int batchSizeToLoadObjects,
+			int threadsToLoadObjects, ExecutorService loadingExecutor) {
 		this.gridDialect = gridDialect;
 		this.indexedTypeIdentifier = indexedTypeIdentifier;
 		this.tenantId = tenantId;
@@ -66,6 +74,9 @@ public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 		this.endAllSignal = endAllSignal;
 		this.batchBackend = backend;
 		this.monitor = monitor;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.loadingExecutor = loadingExecutor;
 	}
 
 	@Override
@@ -76,7 +87,7 @@ public void run() {
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
 			final SessionAwareRunnable consumer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer, batchSizeToLoadObjects, threadsToLoadObjects, loadingExecutor ), persister.getTupleTypeContext(), keyMetadata );
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
@@ -14,6 +14,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.util.impl.Executors;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -48,6 +49,8 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int batchSizeToLoadObjects = 1;
+	private int threadsToLoadObjects = 1;
 
 	private final IndexedTypeSet rootEntities;
 
@@ -65,7 +68,8 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -77,7 +81,10 @@ public MassIndexerWithTenant tenantIdentifier(String tenantIdentifier) {
 
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
-		log.unsupportedIndexerConfigurationOption( "batchSizeToLoadObjects" );
+		if ( batchSize < 1 ) {
+			throw new IllegalArgumentException( "batchSize must be at least 1" );
+		}
+		this.batchSizeToLoadObjects = batchSize;
 		return this;
 	}
 
@@ -161,7 +168,8 @@ public void startAndWait() throws InterruptedException {
 
 	protected BatchCoordinator createCoordinator() {
 		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId, batchSizeToLoadObjects,
+				threadsToLoadObjects );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -6,6 +6,13 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import javax.transaction.Status;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
@@ -31,6 +38,9 @@
  * - if the existing Hibernate Core transaction strategy requires a TransactionManager
  * - if no JTA transaction is already started
  *
+ * The tuples are passed to the subsequent Runnable in chunks of the configured size. When the dialect splits a table in
+ * several partitions, they are consumed in parallel by the configured number of threads, taken from the given executor.
+ *
  * Unfortunately at this time we need to have access to SessionFactoryImplementor
  *
  * @author Emmanuel Bernard
@@ -42,9 +52,12 @@ public class OptionallyWrapInJTATransaction implements ModelConsumer {
 	private final SessionFactoryImplementor factory;
 	private final SessionAwareRunnable delegate;
 	private final ErrorHandler errorHandler;
+	private final int chunkSize;
+	private final int threads;
+	private final ExecutorService executor;
 
 	public OptionallyWrapInJTATransaction(SessionFactory factory, ErrorHandler errorHandler,
-			SessionAwareRunnable sessionAwareRunnable) {
+			SessionAwareRunnable sessionAwareRunnable, int chunkSize, int threads, ExecutorService executor) {
 		/*
 		 * Unfortunately we need to access SessionFactoryImplementor to detect:
 		 * - whether or not we need to start the JTA transaction
@@ -56,6 +69,9 @@ public OptionallyWrapInJTATransaction(SessionFactory factory, ErrorHandler error
 		this.factory = (SessionFactoryImplementor) factory;
 		this.delegate = sessionAwareRunnable;
 		this.errorHandler = errorHandler;
+		this.chunkSize = chunkSize;
+		this.threads = threads;
+		this.executor = executor;
 	}
 
 	private TransactionManager getTransactionManager() {
@@ -100,10 +116,7 @@ public void consume(TuplesSupplier supplier) {
 			else {
 				ClosableIterator<Tuple> tuples = supplier.get( null );
 				try {
-					while ( tuples.hasNext() ) {
-						Tuple tuple = tuples.next();
-						delegate.run( null, tuple );
-					}
+					runInChunks( null, tuples );
 				}
 				finally {
 					tuples.close();
@@ -115,6 +128,53 @@ public void consume(TuplesSupplier supplier) {
 		}
 	}
 
+	@Override
+	public void consume(List<TuplesSupplier> partitions) {
+		if ( executor == null || threads == 1 || partitions.size() < 2 ) {
+			for ( TuplesSupplier partition : partitions ) {
+				consume( partition );
+			}
+			return;
+		}
+
+		// Each task consumes the partitions left until there are none, so that at most the configured number of threads
+		// load the partitions of this table
+		Queue<TuplesSupplier> pending = new ConcurrentLinkedQueue<>( partitions );
+		int tasks = Math.min( threads, partitions.size() );
+		List<Future<?>> futures = new ArrayList<>( tasks );
+		try {
+			for ( int i = 0; i < tasks; i++ ) {
+				futures.add( executor.submit( () -> {
+					TuplesSupplier partition;
+					while ( ( partition = pending.poll() ) != null ) {
+						consume( partition );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				// consume(TuplesSupplier) already reports the errors to the error handler
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable e) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), e );
+		}
+		finally {
+			pending.clear();
+			for ( Future<?> future : futures ) {
+				future.cancel( true );
+			}
+		}
+	}
+
+	@Override
+	public int getPartitionsHint() {
+		return threads;
+	}
+
 	private void consumeInTransaction(TuplesSupplier supplier) {
 		TransactionManager transactionManager = getTransactionManager();
 		try {
@@ -124,10 +184,7 @@ private void consumeInTransaction(TuplesSupplier supplier) {
 				TransactionContext transactionContext = TransactionContextHelper.transactionContext( session );
 				ClosableIterator<Tuple> tuples = supplier.get( transactionContext );
 				try {
-					while ( tuples.hasNext() ) {
-						Tuple tuple = tuples.next();
-						delegate.run( session, tuple );
-					}
+					runInChunks( session, tuples );
 					transactionManager.commit();
 				}
 				finally {
@@ -144,6 +201,20 @@ private void consumeInTransaction(TuplesSupplier supplier) {
 		}
 	}
 
+	private void runInChunks(Session session, ClosableIterator<Tuple> tuples) {
+		List<Tuple> chunk = new ArrayList<>( chunkSize );
+		while ( tuples.hasNext() ) {
+			chunk.add( tuples.next() );
+			if ( chunk.size() == chunkSize ) {
+				delegate.run( session, chunk );
+				chunk = new ArrayList<>( chunkSize );
+			}
+		}
+		if ( !chunk.isEmpty() ) {
+			delegate.run( session, chunk );
+		}
+	}
+
 	private void rollback(TransactionManager transactionManager, Throwable e) {
 		try {
 			transactionManager.rollback();
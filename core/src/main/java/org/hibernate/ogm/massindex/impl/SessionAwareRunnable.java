@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.List;
+
 import org.hibernate.Session;
 import org.hibernate.ogm.model.spi.Tuple;
 
@@ -14,6 +16,10 @@
  */
 interface SessionAwareRunnable {
 
-	void run(Session upperSession, Tuple tuple);
+	/**
+	 * @param upperSession the session to use, {@code null} if the runnable has to open its own
+	 * @param tuples the chunk of tuples to process in the same session and transaction
+	 */
+	void run(Session upperSession, List<Tuple> tuples);
 
 }
@@ -10,9 +10,12 @@
 import static org.hibernate.ogm.model.spi.TupleOperationType.PUT_NULL;
 import static org.hibernate.ogm.model.spi.TupleOperationType.REMOVE;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,6 +32,9 @@
  * list of TupleOperation. It is intended that GridDialects retrieve to these actions and
  * reproduce them to the datastore. The list of changes is computed based off the snapshot.
  *
+ * If the tuple is created with the {@link TupleColumns} of its type, the changes of those columns are kept in slots and
+ * the corresponding TupleOperations are only created when {@link #getOperations()} is invoked.
+ *
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  * @author Sanne Grinovero  &lt;sanne@hibernate.org&gt;
  */
@@ -46,21 +52,46 @@ public enum SnapshotType {
 		UNKNOWN
 	}
 
+	/**
+	 * Marks a slot whose column has been removed.
+	 */
+	private static final Object REMOVED = new Object();
+
 	private final TupleSnapshot snapshot;
+	private final TupleColumns columns;
+	private Object[] values; //lazy initialize the slots, read-only tuples never need them
+	private BitSet dirty;
 	private Map<String, TupleOperation> currentState = null; //lazy initialize the Map as it costs quite some memory
+	private Set<String> columnNames;
+	private Set<TupleOperation> operations;
 	private SnapshotType snapshotType;
 
 	public Tuple() {
-		this.snapshot = EmptyTupleSnapshot.INSTANCE;
-		this.snapshotType = SnapshotType.INSERT;
+		this( EmptyTupleSnapshot.INSTANCE, SnapshotType.INSERT, null );
 	}
 
 	public Tuple(TupleSnapshot snapshot, SnapshotType snapshotType) {
+		this( snapshot, snapshotType, null );
+	}
+
+	/**
+	 * Creates a tuple recording the changes of the given columns by slot. Changes of other columns are still accepted.
+	 *
+	 * @param snapshot the state of the tuple at creation time
+	 * @param snapshotType the purpose of the snapshot
+	 * @param columns the columns of the tuple type, may be {@code null}
+	 */
+	public Tuple(TupleSnapshot snapshot, SnapshotType snapshotType, TupleColumns columns) {
 		this.snapshot = snapshot;
 		this.snapshotType = snapshotType;
+		this.columns = columns;
 	}
 
 	public Object get(String column) {
+		int slot = slot( column );
+		if ( slot >= 0 ) {
+			return get( slot );
+		}
 		if ( currentState == null ) {
 			return snapshot.get( column );
 		}
@@ -76,7 +107,26 @@ else if ( result.getType() == PUT_NULL || result.getType() == REMOVE ) {
 		}
 	}
 
+	/**
+	 * Returns the value of the column in the given slot of {@link #getColumns()}.
+	 *
+	 * @param slot the slot of the column
+	 * @return the value of the column
+	 */
+	public Object get(int slot) {
+		if ( dirty == null || !dirty.get( slot ) ) {
+			return snapshot.get( columns.getColumnName( slot ) );
+		}
+		Object value = values[slot];
+		return value == REMOVED ? null : value;
+	}
+
 	public void put(String column, Object value) {
+		int slot = slot( column );
+		if ( slot >= 0 ) {
+			put( slot, value );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
@@ -86,28 +136,95 @@ public void put(String column, Object value) {
 		else {
 			currentState.put( column, new TupleOperation( column, value, PUT ) );
 		}
+		columnNames = null;
+		operations = null;
+	}
+
+	/**
+	 * Sets the value of the column in the given slot of {@link #getColumns()}.
+	 *
+	 * @param slot the slot of the column
+	 * @param value the new value, may be {@code null}
+	 */
+	public void put(int slot, Object value) {
+		markDirty( slot );
+		values[slot] = value;
 	}
 
 	public void remove(String column) {
+		int slot = slot( column );
+		if ( slot >= 0 ) {
+			remove( slot );
+			return;
+		}
 		if ( currentState == null ) {
 			currentState = new HashMap<String, TupleOperation>();
 		}
 		currentState.put( column, new TupleOperation( column, null, REMOVE ) );
+		columnNames = null;
+		operations = null;
+	}
+
+	/**
+	 * Removes the column in the given slot of {@link #getColumns()}.
+	 *
+	 * @param slot the slot of the column
+	 */
+	public void remove(int slot) {
+		markDirty( slot );
+		values[slot] = REMOVED;
 	}
 
 	/**
 	 * Return the list of actions on the tuple.
 	 * Inherently deduplicated operations
 	 *
+	 * The operations of the slots are created once, until the tuple is changed again.
+	 *
 	 * @return the operations to execute on the Tuple
 	 */
 	public Set<TupleOperation> getOperations() {
-		if ( currentState == null ) {
-			return Collections.emptySet();
+		if ( operations == null ) {
+			operations = computeOperations();
 		}
-		else {
+		return operations;
+	}
+
+	private Set<TupleOperation> computeOperations() {
+		int dirtySlots = dirty == null ? 0 : dirty.cardinality();
+		if ( dirtySlots == 0 ) {
+			if ( currentState == null ) {
+				return Collections.emptySet();
+			}
 			return new SetFromCollection<TupleOperation>( currentState.values() );
 		}
+
+		List<TupleOperation> operations = new ArrayList<>( dirtySlots + ( currentState == null ? 0 : currentState.size() ) );
+		for ( int slot = dirty.nextSetBit( 0 ); slot >= 0; slot = dirty.nextSetBit( slot + 1 ) ) {
+			String column = columns.getColumnName( slot );
+			Object value = values[slot];
+			if ( value == REMOVED ) {
+				operations.add( new TupleOperation( column, null, REMOVE ) );
+			}
+			else if ( value == null ) {
+				operations.add( new TupleOperation( column, null, PUT_NULL ) );
+			}
+			else {
+				operations.add( new TupleOperation( column, value, PUT ) );
+			}
+		}
+		if ( currentState != null ) {
+			operations.addAll( currentState.values() );
+		}
+		return new SetFromCollection<TupleOperation>( operations );
+	}
+
+	/**
+	 * @return the columns whose changes are recorded by slot, {@code null} if the tuple records all its changes by
+	 * column name
+	 */
+	public TupleColumns getColumns() {
+		return columns;
 	}
 
 	public TupleSnapshot getSnapshot() {
@@ -123,32 +240,66 @@ public void setSnapshotType(SnapshotType snapshotType) {
 	}
 
 	public Set<String> getColumnNames() {
-		if ( currentState == null ) {
+		if ( currentState == null && dirty == null ) {
 			return snapshot.getColumnNames();
 		}
+		if ( columnNames == null ) {
+			columnNames = Collections.unmodifiableSet( computeColumnNames() );
+		}
+		return columnNames;
+	}
+
+	private Set<String> computeColumnNames() {
 		Set<String> columnNames = new HashSet<String>( snapshot.getColumnNames() );
-		for ( TupleOperation op : currentState.values() ) {
-			switch ( op.getType() ) {
-				case PUT :
-				case PUT_NULL :
-					columnNames.add( op.getColumn() );
-					break;
-				case REMOVE:
-					columnNames.remove( op.getColumn() );
-					break;
+		if ( dirty != null ) {
+			for ( int slot = dirty.nextSetBit( 0 ); slot >= 0; slot = dirty.nextSetBit( slot + 1 ) ) {
+				if ( values[slot] == REMOVED ) {
+					columnNames.remove( columns.getColumnName( slot ) );
+				}
+				else {
+					columnNames.add( columns.getColumnName( slot ) );
+				}
+			}
+		}
+		if ( currentState != null ) {
+			for ( TupleOperation op : currentState.values() ) {
+				switch ( op.getType() ) {
+					case PUT :
+					case PUT_NULL :
+						columnNames.add( op.getColumn() );
+						break;
+					case REMOVE:
+						columnNames.remove( op.getColumn() );
+						break;
+				}
 			}
 		}
 		return columnNames;
 	}
 
+	private int slot(String column) {
+		return columns == null ? -1 : columns.slot( column );
+	}
+
+	private void markDirty(int slot) {
+		if ( values == null ) {
+			values = new Object[columns.size()];
+			dirty = new BitSet( columns.size() );
+		}
+		dirty.set( slot );
+		columnNames = null;
+		operations = null;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( "Tuple[" );
+		Set<String> columnNames = getColumnNames();
 		int i = 0;
-		for ( String column : getColumnNames() ) {
+		for ( String column : columnNames ) {
 			sb.append( column ).append( "=" ).append( get( column ) );
 			i++;
-			if ( i < getColumnNames().size() ) {
+			if ( i < columnNames.size() ) {
 				sb.append( ", " );
 			}
 		}
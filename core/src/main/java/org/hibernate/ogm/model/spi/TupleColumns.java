@@ -0,0 +1,69 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The columns of a tuple type, each one assigned to a fixed slot.
+ * <p>
+ * An instance is computed once per entity type and shared by all the {@link Tuple}s of that type, so that changes to
+ * known columns can be recorded by slot rather than in a map of {@link TupleOperation}s.
+ */
+public final class TupleColumns {
+
+	private final String[] names;
+	private final Map<String, Integer> slots;
+
+	public TupleColumns(Collection<String> columns) {
+		this.slots = new HashMap<>( (int) ( columns.size() / .75f ) + 1 );
+		for ( String column : columns ) {
+			if ( column != null && !slots.containsKey( column ) ) {
+				slots.put( column, slots.size() );
+			}
+		}
+		this.names = new String[slots.size()];
+		for ( Map.Entry<String, Integer> entry : slots.entrySet() ) {
+			names[entry.getValue()] = entry.getKey();
+		}
+	}
+
+	/**
+	 * Returns the slot of the given column.
+	 *
+	 * @param column the column name
+	 * @return the slot of the column or {@code -1} if the column is not part of this tuple type
+	 */
+	public int slot(String column) {
+		Integer slot = slots.get( column );
+		return slot == null ? -1 : slot;
+	}
+
+	/**
+	 * Returns the name of the column stored in the given slot.
+	 *
+	 * @param slot the slot
+	 * @return the name of the column
+	 */
+	public String getColumnName(int slot) {
+		return names[slot];
+	}
+
+	/**
+	 * @return the number of slots
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	@Override
+	public String toString() {
+		return "TupleColumns" + slots.keySet();
+	}
+}
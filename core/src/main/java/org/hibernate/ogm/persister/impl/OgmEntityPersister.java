@@ -10,6 +10,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -68,6 +69,7 @@
 import org.hibernate.ogm.id.impl.OgmIdentityGenerator;
 import org.hibernate.ogm.loader.entity.impl.BatchingEntityLoaderBuilder;
 import org.hibernate.ogm.loader.entity.impl.OgmBatchableEntityLoaderBuilder;
+import org.hibernate.ogm.loader.impl.NaturalIdLoader;
 import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
@@ -161,6 +163,11 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 
 	private final EntityKeyMetadata entityKeyMetadata;
 	private final DuplicateInsertPreventionStrategy duplicateInsertPreventionStrategy;
+
+	/**
+	 * Resolves the entity identifiers from natural id values, {@code null} if the entity has no natural id.
+	 */
+	private final NaturalIdLoader naturalIdLoader;
 	/**
 	 * One-to-one associations are represented by a collection on the inverse side. This is the meta-data for these
 	 * virtual collections, keyed by property name from the <b>main side</b>.
@@ -335,6 +342,7 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 		jpaEntityName = persistentClass.getJpaEntityName();
 		entityKeyMetadata = new DefaultEntityKeyMetadata( getTableName(), getIdentifierColumnNames() );
 		duplicateInsertPreventionStrategy = gridDialect.getDuplicateInsertPreventionStrategy( entityKeyMetadata );
+		naturalIdLoader = hasNaturalIdentifier() ? new NaturalIdLoader( this ) : null;
 
 		initCustomSQLStrings();
 
@@ -619,7 +627,8 @@ private TupleTypeContextImpl createTupleTypeContext() {
 				roles,
 				optionsService.context().getEntityOptions( getMappedClass() ),
 				getDiscriminatorColumnName(),
-				getDiscriminatorValue()
+				getDiscriminatorValue(),
+				getIdentifierColumnNames()
 		);
 	}
 
@@ -668,6 +677,32 @@ public Object[] getDatabaseSnapshot(Serializable id, SharedSessionContractImplem
 		return values;
 	}
 
+	@Override
+	public Object[] getNaturalIdentifierSnapshot(Serializable id, SharedSessionContractImplementor session) throws HibernateException {
+		final Tuple resultset = getFreshTuple( EntityKeyBuilder.fromPersister( this, id, session ), session );
+		if ( resultset == null || resultset.getSnapshot().isEmpty() ) {
+			return null;
+		}
+
+		int[] naturalIdProperties = getNaturalIdentifierProperties();
+		Object[] snapshot = new Object[naturalIdProperties.length];
+		for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+			int property = naturalIdProperties[i];
+			GridType type = gridPropertyTypes[property];
+			Object value = type.hydrate( resultset, getPropertyAliases( "", property ), session, null );
+			snapshot[i] = getPropertyTypes()[property].isEntityType() ? type.resolve( value, session, null ) : value;
+		}
+		return snapshot;
+	}
+
+	@Override
+	public Serializable loadEntityIdByNaturalId(Object[] naturalIdValues, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Resolving natural id %s of %s", Arrays.toString( naturalIdValues ), getEntityName() );
+		}
+		return naturalIdLoader.loadEntityId( naturalIdValues, session );
+	}
+
 	@Override
 	public Object initializeLazyProperty(String fieldName, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
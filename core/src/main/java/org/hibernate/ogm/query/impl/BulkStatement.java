@@ -0,0 +1,267 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.hql.internal.antlr.HqlTokenTypes;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+import antlr.collections.AST;
+
+/**
+ * A JP-QL update or delete statement, applied to all the entities it targets by a single native query.
+ * <p>
+ * The entities are selected by a JP-QL query made of the {@code FROM} and {@code WHERE} clauses of the statement,
+ * translated by the dialect's query parser service like any other query. The values assigned by an update statement
+ * must be literals or named parameters; they are converted into column values by the grid types of the properties.
+ */
+public class BulkStatement {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final OgmEntityPersister persister;
+	private final String statement;
+	private final String selectionQuery;
+
+	/**
+	 * The assignments of an update statement, {@code null} for a delete statement.
+	 */
+	private final List<Assignment> assignments;
+
+	private BulkStatement(OgmEntityPersister persister, String statement, String selectionQuery, List<Assignment> assignments) {
+		this.persister = persister;
+		this.statement = statement;
+		this.selectionQuery = selectionQuery;
+		this.assignments = assignments;
+	}
+
+	/**
+	 * Creates the bulk statement corresponding to the given HQL AST.
+	 *
+	 * @param statement the {@code UPDATE} or {@code DELETE} node returned by the HQL parser
+	 * @param queryString the statement
+	 * @param sessionFactory the session factory
+	 * @return the bulk statement
+	 */
+	public static BulkStatement from(AST statement, String queryString, SessionFactoryImplementor sessionFactory) {
+		AST range = null;
+		AST set = null;
+		for ( AST child = statement.getFirstChild(); child != null; child = child.getNextSibling() ) {
+			switch ( child.getType() ) {
+				case HqlTokenTypes.VERSIONED:
+					throw log.versionedBulkUpdateNotSupported( queryString );
+				case HqlTokenTypes.FROM:
+					range = child.getFirstChild();
+					break;
+				case HqlTokenTypes.SET:
+					set = child;
+					break;
+				default:
+					break;
+			}
+		}
+
+		AST entityNameNode = range.getFirstChild();
+		String entityName = path( entityNameNode );
+		String alias = entityNameNode.getNextSibling() != null ? entityNameNode.getNextSibling().getText() : null;
+		String className = sessionFactory.getMetamodel().getImportedClassName( entityName );
+		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getMetamodel().entityPersister( className );
+
+		StringBuilder selectionQuery = new StringBuilder( "FROM " ).append( entityName );
+		if ( alias != null ) {
+			selectionQuery.append( " " ).append( alias );
+		}
+		selectionQuery.append( whereClause( queryString ) );
+
+		List<Assignment> assignments = null;
+		if ( statement.getType() == HqlTokenTypes.UPDATE ) {
+			TypeTranslator typeTranslator = sessionFactory.getServiceRegistry().getService( TypeTranslator.class );
+			assignments = new ArrayList<>();
+			for ( AST eq = set.getFirstChild(); eq != null; eq = eq.getNextSibling() ) {
+				assignments.add( assignment( eq, alias, persister, typeTranslator, queryString ) );
+			}
+		}
+
+		return new BulkStatement( persister, queryString, selectionQuery.toString(), assignments );
+	}
+
+	private static Assignment assignment(AST eq, String alias, OgmEntityPersister persister, TypeTranslator typeTranslator, String queryString) {
+		AST property = eq.getFirstChild();
+		AST value = property.getNextSibling();
+
+		String propertyPath = path( property );
+		if ( alias != null && propertyPath.startsWith( alias + "." ) ) {
+			propertyPath = propertyPath.substring( alias.length() + 1 );
+		}
+
+		Type type = persister.getPropertyType( propertyPath );
+		if ( type.isCollectionType() ) {
+			throw log.unsupportedBulkUpdateAssignment( queryString, propertyPath );
+		}
+		String[] columns = persister.getPropertyColumnNames( propertyPath );
+		GridType gridType = typeTranslator.getType( type );
+
+		switch ( value.getType() ) {
+			case HqlTokenTypes.COLON:
+				return new Assignment( columns, gridType, value.getFirstChild().getText(), null );
+			case HqlTokenTypes.NULL:
+				return new Assignment( columns, gridType, null, null );
+			case HqlTokenTypes.QUOTED_STRING:
+				String text = value.getText();
+				return new Assignment( columns, gridType, null, literal( text.substring( 1, text.length() - 1 ).replace( "''", "'" ), type, propertyPath, queryString ) );
+			case HqlTokenTypes.TRUE:
+			case HqlTokenTypes.FALSE:
+			case HqlTokenTypes.NUM_INT:
+				return new Assignment( columns, gridType, null, literal( value.getText(), type, propertyPath, queryString ) );
+			case HqlTokenTypes.NUM_LONG:
+			case HqlTokenTypes.NUM_FLOAT:
+			case HqlTokenTypes.NUM_DOUBLE:
+			case HqlTokenTypes.NUM_BIG_INTEGER:
+			case HqlTokenTypes.NUM_BIG_DECIMAL:
+				// Remove the type suffix, e.g. 'L' or 'bd'
+				String number = value.getText().replaceAll( "[a-zA-Z]+$", "" );
+				return new Assignment( columns, gridType, null, literal( number, type, propertyPath, queryString ) );
+			default:
+				throw log.unsupportedBulkUpdateAssignment( queryString, propertyPath );
+		}
+	}
+
+	private static Object literal(String text, Type type, String propertyPath, String queryString) {
+		if ( type instanceof AbstractStandardBasicType ) {
+			return ( (AbstractStandardBasicType<?>) type ).fromStringValue( text );
+		}
+		throw log.unsupportedBulkUpdateAssignment( queryString, propertyPath );
+	}
+
+	/**
+	 * Returns the path represented by an {@code IDENT} or a {@code DOT} node, e.g. {@code a.address.city}.
+	 */
+	private static String path(AST node) {
+		if ( node.getType() == HqlTokenTypes.DOT ) {
+			return path( node.getFirstChild() ) + "." + path( node.getFirstChild().getNextSibling() );
+		}
+		return node.getText();
+	}
+
+	/**
+	 * Returns the {@code WHERE} clause of the statement, including the leading space, or an empty string if there is
+	 * none. The assigned values are literals or parameters, so the first {@code where} keyword outside of a quoted
+	 * string starts the clause.
+	 */
+	private static String whereClause(String queryString) {
+		String lowerCase = queryString.toLowerCase( Locale.ROOT );
+		boolean quoted = false;
+		for ( int i = 0; i < lowerCase.length(); i++ ) {
+			char c = lowerCase.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted && lowerCase.startsWith( "where", i ) && isBoundary( lowerCase, i - 1 ) && isBoundary( lowerCase, i + 5 ) ) {
+				return " " + queryString.substring( i );
+			}
+		}
+		return "";
+	}
+
+	private static boolean isBoundary(String queryString, int index) {
+		return index < 0 || index >= queryString.length() || !Character.isJavaIdentifierPart( queryString.charAt( index ) );
+	}
+
+	public OgmEntityPersister getPersister() {
+		return persister;
+	}
+
+	/**
+	 * @return the JP-QL query selecting the entities targeted by the statement
+	 */
+	public String getSelectionQuery() {
+		return selectionQuery;
+	}
+
+	/**
+	 * @return {@code true} for a delete statement, {@code false} for an update statement
+	 */
+	public boolean isDelete() {
+		return assignments == null;
+	}
+
+	/**
+	 * Returns the values assigned by an update statement, keyed by column name, with the grid type of their property; a
+	 * column set to {@code null} is mapped to a {@code null} value.
+	 *
+	 * @param queryParameters the parameters of the statement
+	 * @param session the session executing the statement
+	 * @return the values assigned to the columns
+	 * @throws QueryException if a parameter assigned by the statement is not bound
+	 */
+	public Map<String, TypedGridValue> getColumnValues(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		Tuple tuple = new Tuple();
+		Map<String, TypedGridValue> columnValues = new HashMap<>();
+		for ( Assignment assignment : assignments ) {
+			Object value = assignment.getValue( queryParameters.getNamedParameters(), statement );
+			assignment.gridType.nullSafeSet( tuple, value, assignment.columns, session );
+			for ( String column : assignment.columns ) {
+				columnValues.put( column, new TypedGridValue( assignment.gridType, tuple.get( column ) ) );
+			}
+		}
+		return columnValues;
+	}
+
+	@Override
+	public String toString() {
+		return "BulkStatement [selectionQuery=" + selectionQuery + ", delete=" + isDelete() + "]";
+	}
+
+	private static class Assignment {
+
+		private final String[] columns;
+		private final GridType gridType;
+
+		/**
+		 * The name of the parameter holding the value, {@code null} if the value is a literal
+		 */
+		private final String parameterName;
+		private final Object literal;
+
+		Assignment(String[] columns, GridType gridType, String parameterName, Object literal) {
+			this.columns = columns;
+			this.gridType = gridType;
+			this.parameterName = parameterName;
+			this.literal = literal;
+		}
+
+		Object getValue(Map<String, TypedValue> namedParameters, String statement) {
+			if ( parameterName == null ) {
+				return literal;
+			}
+			TypedValue value = namedParameters.get( parameterName );
+			if ( value == null ) {
+				throw log.namedParameterNotBound( statement, parameterName );
+			}
+			return value.getValue();
+		}
+	}
+}
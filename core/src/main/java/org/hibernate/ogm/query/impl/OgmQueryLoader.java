@@ -16,6 +16,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.StatelessSession;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
@@ -43,6 +44,11 @@
  */
 public class OgmQueryLoader extends QueryLoader {
 
+	/**
+	 * The number of results hydrated at a time when iterating over the results of a query without fetch size.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 100;
+
 	private final OgmQueryLoaderContext<?> loaderContext;
 	private final boolean hasScalars;
 	private final List<String> scalarColumns;
@@ -69,13 +75,13 @@ private static <T extends Serializable> OgmQueryLoaderContext<T> getLoaderContex
 	protected List<?> list(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters, Set<Serializable> querySpaces,
 			Type[] resultTypes) throws HibernateException {
 
-		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		ClosableIterator<Tuple> tuples = executeQuery( session, queryParameters );
 		try {
 			if ( hasScalars ) {
 				return listOfArrays( session, tuples );
 			}
 			else {
-				return listOfEntities( session, resultTypes, tuples );
+				return listOfEntities( session, resultTypes, getTuplesAsList( tuples ) );
 			}
 		}
 		finally {
@@ -83,12 +89,54 @@ protected List<?> list(SharedSessionContractImplementor session, org.hibernate.e
 		}
 	}
 
+	/**
+	 * Executes the query, the results are hydrated lazily as they are iterated over.
+	 *
+	 * @see #iterate(SharedSessionContractImplementor, org.hibernate.engine.spi.QueryParameters)
+	 */
+	public OgmScrollableResults scroll(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) throws HibernateException {
+		return new OgmScrollableResults( iterate( session, queryParameters ), queryReturnTypes );
+	}
+
+	/**
+	 * Executes the query, the results are hydrated lazily as they are iterated over: the tuples are read from the
+	 * store and converted into entities or scalar values a chunk at a time. The size of the chunks is the fetch size
+	 * of the query, or {@value #DEFAULT_FETCH_SIZE} if it is not set.
+	 */
+	public OgmQueryResultsIterator iterate(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) throws HibernateException {
+		ClosableIterator<Tuple> tuples = executeQuery( session, queryParameters );
+		Integer fetchSize = queryParameters.getRowSelection() != null ? queryParameters.getRowSelection().getFetchSize() : null;
+		if ( fetchSize == null ) {
+			fetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		}
+		if ( fetchSize == null || fetchSize <= 0 ) {
+			fetchSize = DEFAULT_FETCH_SIZE;
+		}
+
+		if ( hasScalars ) {
+			return new OgmQueryResultsIterator( tuples, chunk -> listOfArrays( session, chunk.iterator() ), fetchSize );
+		}
+		else {
+			return new OgmQueryResultsIterator( tuples, chunk -> {
+				if ( session instanceof StatelessSession ) {
+					// The entities of the previous chunks are detached already, don't keep them around
+					session.getPersistenceContext().clear();
+				}
+				return listOfEntities( session, queryReturnTypes, chunk );
+			}, fetchSize );
+		}
+	}
+
+	private ClosableIterator<Tuple> executeQuery(SharedSessionContractImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		return loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+	}
+
 	// At the moment we only support the case where one entity type is returned
-	private List<Object> listOfEntities(SharedSessionContractImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
+	private List<Object> listOfEntities(SharedSessionContractImplementor session, Type[] resultTypes, List<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
 		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
+		ogmLoadingContext.setTuples( tuples );
 		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
 	}
 
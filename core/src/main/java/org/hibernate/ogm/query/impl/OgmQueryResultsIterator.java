@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Iterates over the results of a query, reading the tuples returned by the store and hydrating them a chunk at a time:
+ * at most one chunk of results is held in memory at any time.
+ * <p>
+ * The underlying cursor is closed once all the results have been read or when {@link #close()} is called.
+ */
+public class OgmQueryResultsIterator implements HibernateIterator {
+
+	private final ClosableIterator<Tuple> tuples;
+	private final Function<List<Tuple>, List<?>> hydration;
+	private final int fetchSize;
+
+	private Iterator<?> chunk = Collections.emptyIterator();
+	private boolean closed;
+
+	/**
+	 * @param tuples the tuples returned by the store
+	 * @param hydration converts a chunk of tuples into the corresponding results
+	 * @param fetchSize the maximum number of tuples in a chunk
+	 */
+	public OgmQueryResultsIterator(ClosableIterator<Tuple> tuples, Function<List<Tuple>, List<?>> hydration, int fetchSize) {
+		this.tuples = tuples;
+		this.hydration = hydration;
+		this.fetchSize = fetchSize;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while ( !chunk.hasNext() ) {
+			if ( closed ) {
+				return false;
+			}
+			List<Tuple> nextTuples = nextTuples();
+			if ( nextTuples.isEmpty() ) {
+				close();
+				return false;
+			}
+			chunk = hydration.apply( nextTuples ).iterator();
+		}
+		return true;
+	}
+
+	private List<Tuple> nextTuples() {
+		List<Tuple> nextTuples = new ArrayList<>( fetchSize );
+		while ( nextTuples.size() < fetchSize && tuples.hasNext() ) {
+			nextTuples.add( tuples.next() );
+		}
+		return nextTuples;
+	}
+
+	@Override
+	public Object next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return chunk.next();
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			chunk = Collections.emptyIterator();
+			tuples.close();
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+}
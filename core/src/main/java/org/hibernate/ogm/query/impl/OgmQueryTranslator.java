@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.query.impl;
 
+import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.HashMap;
@@ -18,6 +19,7 @@
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -32,11 +34,15 @@
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.ogm.query.spi.QueryParsingStatistics;
 import org.hibernate.ogm.type.spi.GridType;
+import org.hibernate.ogm.type.spi.TypeTranslator;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -52,9 +58,13 @@
  * Neo4j or {@code DBObject}-based queries for MongoDB.
  * <p>
  * Query conversion is done by invoking the dialect's query parser service. Results are loaded through OgmQueryLoader.
- * Depending on whether a store supports parameterized queries (Neo4j does, MongoDB doesn't) we either use one and the
- * same loader for a query executed several times with different parameter values or we create a new loader for each set
- * of parameter values.
+ * Whenever the query parser service can parse a query independently of its parameter values (Neo4j always can, MongoDB
+ * can for most queries) we use one and the same loader for a query executed several times with different parameter
+ * values, the values being bound by the dialect; otherwise we create a new loader for each set of parameter values.
+ * How often each case happens is recorded by {@link QueryParsingStatistics}.
+ * <p>
+ * Update and delete statements are applied by a single native query created by the query parser service, see
+ * {@link BulkStatement}.
  *
  * @author Gunnar Morling
  */
@@ -69,8 +79,8 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	private final QueryParserService queryParser;
 
 	/**
-	 * The query loader in case the dialect supports parameterized queries; We can re-execute it then with different
-	 * parameter values.
+	 * The query loader in case the query could be parsed as a parameterized query; We can re-execute it then with
+	 * different parameter values.
 	 */
 	private OgmQueryLoader loader;
 
@@ -86,12 +96,24 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	private EntityMetadataInformation singleEntityMetadataInformation;
 
 	/**
-	 * Not all stores support parameterized queries. As a temporary measure, we therefore cache created queries per set
-	 * of parameter values. At one point, this should be replaced by caching the AST after validation but before the
-	 * actual Lucene query is created.
+	 * Not all queries can be parsed as parameterized queries, e.g. when a parameter value is needed to build the native
+	 * query. We therefore cache the queries created for those per set of parameter values.
 	 */
 	private final ConcurrentMap<CacheKey, QueryParsingResult> queryCache;
 
+	private final QueryParsingStatisticsImpl statistics;
+
+	/**
+	 * The update or delete statement in case this query is a DML one.
+	 */
+	private BulkStatement bulkStatement;
+
+	/**
+	 * The query selecting the entities targeted by the DML statement in case it could be parsed as a parameterized
+	 * query.
+	 */
+	private QueryParsingResult bulkSelection;
+
 	public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserService queryParser, String queryIdentifier, String query, Map<?, ?> filters) {
 		super( sessionFactory, queryIdentifier, query, filters );
 
@@ -99,6 +121,7 @@ public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserS
 		this.query = query;
 		this.sessionFactory = sessionFactory;
 		this.filters = filters;
+		this.statistics = (QueryParsingStatisticsImpl) sessionFactory.getServiceRegistry().getService( QueryParsingStatistics.class );
 
 		queryCache = new BoundedConcurrentHashMap<CacheKey, QueryParsingResult>(
 				100,
@@ -109,6 +132,11 @@ public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserS
 
 	@Override
 	protected void doCompile(Map replacements, boolean shallow) throws QueryException, MappingException {
+		if ( isManipulationStatement() ) {
+			compileBulkStatement();
+			return;
+		}
+
 		try {
 			// Unfortunately, we cannot obtain the select clause from the delegate, so we need to parse it again
 			selectClause = getSelectClause( replacements, null );
@@ -119,22 +147,41 @@ protected void doCompile(Map replacements, boolean shallow) throws QueryExceptio
 			throw log.querySyntaxException( qse, query );
 		}
 
-		if ( queryParser.supportsParameters() ) {
-			loader = getLoader( null );
+		QueryParsingResult parameterizedQuery = parseParameterizedQuery( query );
+		if ( parameterizedQuery != null ) {
+			loader = getLoader( parameterizedQuery );
+		}
+	}
+
+	private void compileBulkStatement() {
+		try {
+			bulkStatement = BulkStatement.from( parse( false ).getAST(), query, sessionFactory );
+		}
+		catch (HibernateException e) {
+			throw e;
+		}
+		catch (Exception qse) {
+			throw log.querySyntaxException( qse, query );
+		}
+
+		bulkSelection = parseParameterizedQuery( bulkStatement.getSelectionQuery() );
+	}
+
+	private QueryParsingResult parseParameterizedQuery(String queryString) {
+		QueryParsingResult parsingResult = queryParser.parseParameterizedQuery( sessionFactory, queryString );
+		if ( parsingResult != null ) {
+			statistics.parameterizedQueryParsed();
 		}
+		return parsingResult;
 	}
 
 	@Override
 	public List<?> list(SharedSessionContractImplementor session, QueryParameters queryParameters) throws HibernateException {
-		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( getQuery( queryParameters ) );
 		return loaderToUse.list( session, queryParameters );
 	}
 
-	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
-		QueryParsingResult queryParsingResult = queryParameters != null
-				? getQuery( queryParameters )
-				: queryParser.parseQuery( sessionFactory, query );
-
+	private <T> OgmQueryLoader getLoader(QueryParsingResult queryParsingResult) {
 		BackendQuery<T> query = new BackendQuery<T>( (T) queryParsingResult.getQueryObject(), singleEntityMetadataInformation );
 
 		return new OgmQueryLoader( delegate, sessionFactory, selectClause, query, queryParsingResult.getColumnNames() );
@@ -167,6 +214,7 @@ private QueryParsingResult getQuery(QueryParameters queryParameters) {
 		QueryParsingResult parsingResult = queryCache.get( cacheKey );
 
 		if ( parsingResult == null ) {
+			statistics.cacheMiss();
 			parsingResult = queryParser.parseQuery(
 					sessionFactory,
 					query,
@@ -178,6 +226,9 @@ private QueryParsingResult getQuery(QueryParameters queryParameters) {
 				parsingResult = cached;
 			}
 		}
+		else {
+			statistics.cacheHit();
+		}
 
 		return parsingResult;
 	}
@@ -197,17 +248,55 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( getQuery( queryParameters ) );
+		return loaderToUse.iterate( session, queryParameters );
 	}
 
 	@Override
 	public ScrollableResultsImplementor scroll(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( getQuery( queryParameters ) );
+		return loaderToUse.scroll( session, queryParameters );
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public int executeUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		QueryParsingResult selection = bulkSelection != null
+				? bulkSelection
+				: queryParser.parseQuery( sessionFactory, bulkStatement.getSelectionQuery(), getNamedParameterValuesConvertedByGridType( queryParameters ) );
+
+		TypeTranslator typeTranslator = sessionFactory.getServiceRegistry().getService( TypeTranslator.class );
+		org.hibernate.ogm.dialect.query.spi.QueryParameters gridParameters = org.hibernate.ogm.dialect.query.spi.QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, sessionFactory );
+		Map<String, TypedGridValue> namedParameters = new HashMap<>( gridParameters.getNamedParameters() );
+
+		Map<String, TypedGridValue> columnValues = bulkStatement.isDelete() ? null : bulkStatement.getColumnValues( queryParameters, session );
+		Serializable nativeQuery = (Serializable) queryParser.createBulkUpdateQuery( sessionFactory, selection, columnValues, namedParameters );
+
+		OgmEntityPersister persister = bulkStatement.getPersister();
+		EntityMetadataInformation metadataInformation = new EntityMetadataInformation( persister.getEntityKeyMetadata(), persister.getMappedClass().getName() );
+		QueryableGridDialect<Serializable> gridDialect = sessionFactory.getServiceRegistry().getService( QueryableGridDialect.class );
+
+		int updates = gridDialect.executeBackendUpdateQuery(
+				new BackendQuery<>( nativeQuery, metadataInformation ),
+				new org.hibernate.ogm.dialect.query.spi.QueryParameters( gridParameters.getRowSelection(), namedParameters, gridParameters.getPositionalParameters(), gridParameters.getQueryHints() ),
+				persister.getTupleContext( session )
+		);
+
+		coordinateSharedCacheCleanup( session, persister );
+		return updates;
+	}
+
+	/**
+	 * Evicts the entities and queries affected by a DML statement from the second-level cache, like ORM does.
+	 */
+	private void coordinateSharedCacheCleanup(SharedSessionContractImplementor session, OgmEntityPersister persister) {
+		BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, persister );
+		if ( session.isEventSource() ) {
+			( (EventSource) session ).getActionQueue().addAction( action );
+		}
+		else {
+			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
+		}
 	}
 
 	private SelectClause getSelectClause(Map<?, ?> replacements, String collectionRole) throws Exception {
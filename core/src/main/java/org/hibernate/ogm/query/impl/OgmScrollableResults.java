@@ -0,0 +1,271 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * Forward-only {@link org.hibernate.ScrollableResults} over the results of a query, hydrated lazily by an
+ * {@link OgmQueryResultsIterator}.
+ * <p>
+ * The stores don't provide scrollable cursors, so the operations moving backwards or jumping to a given row throw an
+ * exception; those moving forward simply read the results in between.
+ */
+public class OgmScrollableResults implements ScrollableResultsImplementor {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final OgmQueryResultsIterator results;
+	private final Type[] types;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+	private boolean started;
+
+	public OgmScrollableResults(OgmQueryResultsIterator results, Type[] types) {
+		this.results = results;
+		this.types = types;
+	}
+
+	@Override
+	public boolean next() {
+		started = true;
+		if ( results.hasNext() ) {
+			currentRow = toRow( results.next() );
+			rowNumber++;
+			return true;
+		}
+		else {
+			currentRow = null;
+			rowNumber = -1;
+			return false;
+		}
+	}
+
+	private Object[] toRow(Object result) {
+		return types.length == 1 ? new Object[] { result } : (Object[]) result;
+	}
+
+	@Override
+	public boolean previous() {
+		throw log.onlyForwardScrollingSupported( "previous" );
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw log.onlyForwardScrollingSupported( "scroll(" + positions + ")" );
+		}
+		boolean onRow = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean last() {
+		boolean onRow = currentRow != null;
+		while ( results.hasNext() ) {
+			onRow = next();
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean first() {
+		if ( !started ) {
+			return next();
+		}
+		if ( rowNumber == 0 ) {
+			return true;
+		}
+		throw log.onlyForwardScrollingSupported( "first" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		if ( started ) {
+			throw log.onlyForwardScrollingSupported( "beforeFirst" );
+		}
+	}
+
+	@Override
+	public void afterLast() {
+		while ( next() ) {
+			// skip the remaining results
+		}
+	}
+
+	@Override
+	public boolean isFirst() {
+		return rowNumber == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && !results.hasNext();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		if ( rowNumber < 0 || rowNumber < this.rowNumber ) {
+			throw log.onlyForwardScrollingSupported( "setRowNumber(" + rowNumber + ")" );
+		}
+		if ( !started ) {
+			return next() && scroll( rowNumber );
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public void close() {
+		currentRow = null;
+		results.close();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return results.isClosed();
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return types.length;
+	}
+
+	@Override
+	public Object[] get() {
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int i) {
+		return currentRow[i];
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.ogm.query.spi.QueryParsingStatistics;
+
+/**
+ * The counters of {@link QueryParsingStatistics}, updated by {@link OgmQueryTranslator}.
+ */
+public class QueryParsingStatisticsImpl implements QueryParsingStatistics {
+
+	private final LongAdder parameterizedQueries = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	void parameterizedQueryParsed() {
+		parameterizedQueries.increment();
+	}
+
+	void cacheHit() {
+		hits.increment();
+	}
+
+	void cacheMiss() {
+		misses.increment();
+	}
+
+	@Override
+	public long getParameterizedQueryCount() {
+		return parameterizedQueries.sum();
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getCacheMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public void clear() {
+		parameterizedQueries.reset();
+		hits.reset();
+		misses.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryParsingStatisticsImpl [parameterizedQueries=" + getParameterizedQueryCount() + ", hits=" + getCacheHitCount()
+				+ ", misses=" + getCacheMissCount() + "]";
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.query.spi.QueryParsingStatistics;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+
+/**
+ * Initializes {@link QueryParsingStatistics}.
+ */
+public class QueryParsingStatisticsInitiator implements SessionFactoryServiceInitiator<QueryParsingStatistics> {
+
+	public static final QueryParsingStatisticsInitiator INSTANCE = new QueryParsingStatisticsInitiator();
+
+	@Override
+	public Class<QueryParsingStatistics> getServiceInitiated() {
+		return QueryParsingStatistics.class;
+	}
+
+	@Override
+	public QueryParsingStatistics initiateService(SessionFactoryImplementor sessionFactory, SessionFactoryOptions sessionFactoryOptions, ServiceRegistryImplementor registry) {
+		return new QueryParsingStatisticsImpl();
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.util.Experimental;
 import org.hibernate.service.Service;
 
@@ -54,4 +55,39 @@ public interface QueryParserService extends Service {
 	 * @return the parsed query
 	 */
 	QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString);
+
+	/**
+	 * Parses the given query once for all the values of its parameters, if possible. The parameters of the resulting
+	 * query are bound by the dialect when it is executed.
+	 * <p>
+	 * Implementations which don't support parameterized queries in general may still support them for some queries.
+	 * By default, this is {@link #parseQuery(SessionFactoryImplementor, String)} if {@link #supportsParameters()}.
+	 *
+	 * @param sessionFactory the session factory
+	 * @param queryString the query to parse
+	 * @return the parsed query or {@code null} if it must be parsed again for each set of parameter values
+	 */
+	default QueryParsingResult parseParameterizedQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		return supportsParameters() ? parseQuery( sessionFactory, queryString ) : null;
+	}
+
+	/**
+	 * Creates the native query applying a JP-QL update or delete statement to all the entities it targets at once. The
+	 * query is executed with
+	 * {@link org.hibernate.ogm.dialect.query.spi.QueryableGridDialect#executeBackendUpdateQuery(org.hibernate.ogm.dialect.query.spi.BackendQuery, org.hibernate.ogm.dialect.query.spi.QueryParameters, org.hibernate.ogm.dialect.spi.TupleContext)}.
+	 * <p>
+	 * Executing the query must return the number of entities updated or deleted. The query may refer to the assigned
+	 * values as parameters instead of inlining them, in which case it adds these parameters to the given named
+	 * parameters.
+	 *
+	 * @param sessionFactory the session factory
+	 * @param selection the parsed query selecting the entities targeted by the statement
+	 * @param columnValues the values assigned by an update statement, keyed by column name and converted by the grid
+	 * type of the properties; {@code null} for a delete statement
+	 * @param namedParameters the named parameters the native query is executed with
+	 * @return the native query updating or deleting the entities
+	 */
+	default Object createBulkUpdateQuery(SessionFactoryImplementor sessionFactory, QueryParsingResult selection, Map<String, TypedGridValue> columnValues, Map<String, TypedGridValue> namedParameters) {
+		throw new UnsupportedOperationException( getClass().getSimpleName() + " does not support bulk update and delete statements" );
+	}
 }
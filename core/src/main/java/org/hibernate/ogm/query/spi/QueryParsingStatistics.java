@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.spi;
+
+import org.hibernate.service.Service;
+
+/**
+ * Counts how often the JP-QL queries of a session factory are translated into native queries.
+ * <p>
+ * A parameterized query is translated once and re-used for all the values of its parameters, see
+ * {@link QueryParserService#parseParameterizedQuery(org.hibernate.engine.spi.SessionFactoryImplementor, String)}. The
+ * other queries are translated for each set of parameter values and the translations are cached: a hit is an
+ * execution re-using such a cached translation, a miss an execution translating the query again.
+ *
+ * @see QueryParserService
+ */
+public interface QueryParsingStatistics extends Service {
+
+	/**
+	 * @return the number of queries translated once for all the values of their parameters
+	 */
+	long getParameterizedQueryCount();
+
+	/**
+	 * @return the number of executions re-using the translation cached for their parameter values
+	 */
+	long getCacheHitCount();
+
+	/**
+	 * @return the number of executions translating their query for their parameter values
+	 */
+	long getCacheMissCount();
+
+	/**
+	 * Resets all the counters.
+	 */
+	void clear();
+}
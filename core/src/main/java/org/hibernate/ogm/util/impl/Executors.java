@@ -4,16 +4,17 @@
  * License: GNU Lesser General Public License (LGPL), version 2.1 or later
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
-package org.hibernate.ogm.massindex.impl;
+package org.hibernate.ogm.util.impl;
 
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.hibernate.ogm.util.impl.LoggerFactory;
 import org.hibernate.search.util.logging.impl.Log;
 import java.lang.invoke.MethodHandles;
 
@@ -63,6 +64,17 @@ public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupnam
 				queueSize ), new SearchThreadFactory( groupname ), new BlockPolicy() );
 	}
 
+	/**
+	 * Creates a new single threaded ScheduledThreadPoolExecutor
+	 *
+	 * @param groupname
+	 *            a label to identify the threadpool; useful for profiling.
+	 * @return the new ScheduledExecutorService
+	 */
+	public static ScheduledExecutorService newSingleThreadScheduledExecutor(String groupname) {
+		return new ScheduledThreadPoolExecutor( 1, new SearchThreadFactory( groupname ) );
+	}
+
 	/**
 	 * The thread factory, used to customize thread names
 	 */
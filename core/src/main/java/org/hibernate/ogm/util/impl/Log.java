@@ -13,6 +13,7 @@
 
 import java.io.Serializable;
 import java.lang.annotation.ElementType;
+import java.nio.file.Path;
 import java.util.Collection;
 
 import javax.persistence.PersistenceException;
@@ -20,6 +21,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.QueryException;
 import org.hibernate.TransactionException;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -340,4 +342,45 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 101, value = "Error introspecting an object instance.")
 	HibernateException errorIntrospectingObject(@Cause Exception e);
+
+	@LogMessage(level = INFO)
+	@Message(id = 102, value = "Tuple cache enabled, maximum entries: %1$d, expiration: %2$d ms")
+	void useTupleCache(int maxEntries, long expiration);
+
+	@LogMessage(level = INFO)
+	@Message(id = 103, value = "Loaded the Map datastore from '%1$s': %2$d entities and %3$d associations")
+	void loadedMapDatastore(Path directory, int entities, int associations);
+
+	@Message(id = 104, value = "Unable to read the content of the Map datastore from '%s'")
+	HibernateException unableToReadMapDatastore(Path directory, @Cause Exception e);
+
+	@Message(id = 105, value = "Unable to write the content of the Map datastore to '%s'")
+	HibernateException unableToWriteMapDatastore(Path directory, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 106, value = "The change log '%s' of the Map datastore is truncated, its last change is ignored")
+	void truncatedMapDatastoreChangeLog(Path changeLog);
+
+	@LogMessage(level = WARN)
+	@Message(id = 107, value = "Unable to take a snapshot of the Map datastore in '%s', the changes are kept in the log")
+	void unableToSnapshotMapDatastore(Path directory, @Cause Exception e);
+
+	@Message(id = 108, value = "The results of OGM queries can only be scrolled forward, '%s' is not supported")
+	HibernateException onlyForwardScrollingSupported(String operation);
+
+	@Message(id = 109, value = "Versioned bulk updates are not supported: '%s'")
+	HibernateException versionedBulkUpdateNotSupported(String statement);
+
+	@Message(id = 110, value = "The value assigned to '%2$s' by bulk update '%1$s' must be a named parameter or a literal of a basic type")
+	HibernateException unsupportedBulkUpdateAssignment(String statement, String propertyPath);
+
+	@Message(id = 111, value = "Natural id look-ups require a datastore supporting native queries, unable to look up entity '%s'")
+	HibernateException naturalIdLookupNotSupported(String entityName);
+
+	@LogMessage(level = WARN)
+	@Message(id = 112, value = "Tuple cache disabled, grid dialect %s cannot copy its snapshots")
+	void tupleCacheNotSupported(Class<? extends GridDialect> gridDialect);
+
+	@Message(id = 113, value = "Named parameter not bound : %2$s in bulk update '%1$s'")
+	QueryException namedParameterNotBound(String statement, String parameterName);
 }
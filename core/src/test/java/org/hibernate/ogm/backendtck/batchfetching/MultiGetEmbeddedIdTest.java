@@ -26,9 +26,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.utils.GridDialectOperationContexts;
-import org.hibernate.ogm.utils.GridDialectType;
 import org.hibernate.ogm.utils.OgmTestCase;
-import org.hibernate.ogm.utils.SkipByGridDialect;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,7 +37,6 @@
  *
  * @author Davide D'Alto
  */
-@SkipByGridDialect(value = { GridDialectType.INFINISPAN })
 public class MultiGetEmbeddedIdTest extends OgmTestCase {
 
 	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "BoardGame", new String[]{ "id.name", "id.publisher" } );
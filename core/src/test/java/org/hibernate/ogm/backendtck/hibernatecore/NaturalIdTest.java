@@ -0,0 +1,94 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.hibernatecore;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the look-up of entities by their natural id.
+ */
+@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Natural id look-ups require native queries")
+public class NaturalIdTest extends OgmTestCase {
+
+	private final Product lamp = new Product( 1L, "SKU-LAMP-01", "Desk lamp" );
+	private final Product chair = new Product( 2L, "SKU-CHAIR-07", "Office chair" );
+
+	@Before
+	public void init() {
+		inTransaction( session -> {
+			session.persist( lamp );
+			session.persist( chair );
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		deleteAll( Product.class, lamp.getId(), chair.getId() );
+	}
+
+	@Test
+	public void testLoadBySimpleNaturalId() {
+		inTransaction( session -> {
+			Product product = session.bySimpleNaturalId( Product.class ).load( "SKU-CHAIR-07" );
+			assertThat( product ).isNotNull();
+			assertThat( product.getId() ).isEqualTo( chair.getId() );
+			assertThat( product.getName() ).isEqualTo( "Office chair" );
+		} );
+	}
+
+	@Test
+	public void testLoadByNaturalId() {
+		inTransaction( session -> {
+			Product product = session.byNaturalId( Product.class ).using( "sku", "SKU-LAMP-01" ).load();
+			assertThat( product ).isNotNull();
+			assertThat( product.getId() ).isEqualTo( lamp.getId() );
+		} );
+	}
+
+	@Test
+	public void testLoadByUnknownNaturalId() {
+		inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Product.class ).load( "SKU-UNKNOWN" ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testLookupsInSameSessionReturnSameInstance() {
+		inTransaction( session -> {
+			Product product = session.bySimpleNaturalId( Product.class ).load( "SKU-LAMP-01" );
+			assertThat( session.bySimpleNaturalId( Product.class ).load( "SKU-LAMP-01" ) ).isSameAs( product );
+			assertThat( session.get( Product.class, lamp.getId() ) ).isSameAs( product );
+		} );
+	}
+
+	@Test
+	public void testLoadEntityPersistedInSameSession() {
+		Product desk = new Product( 3L, "SKU-DESK-03", "Standing desk" );
+		try {
+			inTransaction( session -> {
+				session.persist( desk );
+				assertThat( session.bySimpleNaturalId( Product.class ).load( "SKU-DESK-03" ) ).isSameAs( desk );
+			} );
+		}
+		finally {
+			deleteAll( Product.class, desk.getId() );
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Product.class };
+	}
+}
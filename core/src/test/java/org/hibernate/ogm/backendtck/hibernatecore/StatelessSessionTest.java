@@ -0,0 +1,138 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.hibernatecore;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.hibernatecore.impl.OgmStatelessSessionImpl;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test the operations of a {@link StatelessSession}, including more of them than fit in one batch.
+ */
+public class StatelessSessionTest extends OgmTestCase {
+
+	private static final int CONTACTS = OgmStatelessSessionImpl.DEFAULT_BATCH_SIZE + 10;
+
+	private final List<Serializable> ids = new ArrayList<>();
+
+	@After
+	public void deleteContacts() {
+		deleteAll( Contact.class, ids.toArray( new Serializable[ids.size()] ) );
+	}
+
+	@Test
+	public void testInsert() {
+		insertContacts();
+
+		inTransaction( session -> {
+			for ( int i = 0; i < CONTACTS; i++ ) {
+				Contact contact = session.get( Contact.class, ids.get( i ) );
+				assertThat( contact ).isNotNull();
+				assertThat( contact.getName() ).isEqualTo( "contact-" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testPendingInsertIsVisibleToGet() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Contact contact = new Contact();
+			contact.setName( "Emmanuel" );
+			ids.add( session.insert( contact ) );
+
+			Contact loaded = (Contact) session.get( Contact.class, contact.getId() );
+			assertThat( loaded ).isNotSameAs( contact );
+			assertThat( loaded.getName() ).isEqualTo( "Emmanuel" );
+			transaction.commit();
+		}
+	}
+
+	@Test
+	public void testUpdate() {
+		insertContacts();
+
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < CONTACTS; i++ ) {
+				Contact contact = (Contact) session.get( Contact.class, ids.get( i ) );
+				contact.setName( "updated-" + i );
+				session.update( contact );
+			}
+			transaction.commit();
+		}
+
+		inTransaction( session -> {
+			for ( int i = 0; i < CONTACTS; i++ ) {
+				assertThat( session.get( Contact.class, ids.get( i ) ).getName() ).isEqualTo( "updated-" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdateOfPendingInsert() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Contact contact = new Contact();
+			contact.setName( "Emmanuel" );
+			ids.add( session.insert( contact ) );
+
+			contact.setName( "Sanne" );
+			session.update( contact );
+			transaction.commit();
+		}
+
+		inTransaction( session -> assertThat( session.get( Contact.class, ids.get( 0 ) ).getName() ).isEqualTo( "Sanne" ) );
+	}
+
+	@Test
+	public void testDelete() {
+		insertContacts();
+
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			for ( Serializable id : ids ) {
+				Contact contact = new Contact();
+				contact.setId( (String) id );
+				session.delete( contact );
+			}
+			transaction.commit();
+		}
+
+		inTransaction( session -> {
+			for ( Serializable id : ids ) {
+				assertThat( session.get( Contact.class, id ) ).isNull();
+			}
+		} );
+	}
+
+	private void insertContacts() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < CONTACTS; i++ ) {
+				Contact contact = new Contact();
+				contact.setName( "contact-" + i );
+				ids.add( session.insert( contact ) );
+			}
+			transaction.commit();
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Contact.class };
+	}
+}
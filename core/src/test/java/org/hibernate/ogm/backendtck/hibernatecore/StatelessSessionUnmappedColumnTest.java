@@ -0,0 +1,61 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.hibernatecore;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that an update through a {@link StatelessSession} keeps the columns the entity does not map.
+ */
+@SkipByGridDialect(value = GridDialectType.INFINISPAN_REMOTE, comment = "The Protobuf schema of a table is generated from a single entity")
+public class StatelessSessionUnmappedColumnTest extends OgmTestCase {
+
+	private static final String ID = "contact-1";
+
+	@After
+	public void deleteContact() {
+		deleteAll( NicknamedContact.class, ID );
+	}
+
+	@Test
+	public void testUpdateKeepsUnmappedColumns() {
+		inTransaction( session -> {
+			NicknamedContact contact = new NicknamedContact();
+			contact.setId( ID );
+			contact.setName( "Emmanuel" );
+			contact.setNickname( "Manu" );
+			session.persist( contact );
+		} );
+
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			Contact contact = (Contact) session.get( Contact.class, ID );
+			contact.setName( "Emmanuel Bernard" );
+			session.update( contact );
+			transaction.commit();
+		}
+
+		inTransaction( session -> {
+			NicknamedContact contact = session.get( NicknamedContact.class, ID );
+			assertThat( contact.getName() ).isEqualTo( "Emmanuel Bernard" );
+			assertThat( contact.getNickname() ).isEqualTo( "Manu" );
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Contact.class, NicknamedContact.class };
+	}
+}
@@ -10,8 +10,11 @@
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Query;
@@ -21,6 +24,15 @@
 import org.hibernate.ogm.backendtck.id.NewsID;
 import org.hibernate.ogm.backendtck.massindex.model.IndexedLabel;
 import org.hibernate.ogm.backendtck.massindex.model.IndexedNews;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.util.impl.TransactionContextHelper;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.hibernate.ogm.utils.SkipByGridDialect;
 import org.hibernate.ogm.utils.TestHelper;
@@ -65,6 +77,63 @@ public void testSimpleEntityMassIndexing() throws Exception {
 		}
 	}
 
+	@Test
+	public void testSimpleEntityMassIndexingInChunks() throws Exception {
+		persistInsurances( "Chunk", 7 );
+		purgeAll( Insurance.class );
+		{
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			session.createIndexer( Insurance.class ).batchSizeToLoadObjects( 3 ).purgeAllOnStart( true ).startAndWait();
+			session.close();
+		}
+		assertIndexedInsurances( "chunk*", 7 );
+	}
+
+	@Test
+	public void testSimpleEntityMassIndexingWithPartitions() throws Exception {
+		persistInsurances( "Partition", 11 );
+		purgeAll( Insurance.class );
+		{
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			session.createIndexer( Insurance.class ).threadsToLoadObjects( 3 ).batchSizeToLoadObjects( 2 ).purgeAllOnStart( true ).startAndWait();
+			session.close();
+		}
+		assertIndexedInsurances( "partition*", 11 );
+	}
+
+	@Test
+	public void testPartitionsAreDisjointAndCoverAllTheEntities() throws Exception {
+		List<String> ids = persistInsurances( "Partitioned", 11 );
+
+		OgmEntityPersister persister = (OgmEntityPersister) getSessionFactory().getMetamodel().entityPersister( Insurance.class );
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
+		String idColumn = persister.getRootTableIdentifierColumnNames()[0];
+		List<Set<Object>> partitions = new ArrayList<>();
+
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		gridDialect.forEachTuple( new ModelConsumer() {
+
+			@Override
+			public void consume(TuplesSupplier supplier) {
+				partitions.add( readIds( supplier, idColumn ) );
+			}
+
+			@Override
+			public int getPartitionsHint() {
+				return 3;
+			}
+		}, persister.getTupleTypeContext(), keyMetadata );
+
+		Set<Object> allIds = new HashSet<>();
+		int partitionedIds = 0;
+		for ( Set<Object> partition : partitions ) {
+			partitionedIds += partition.size();
+			allIds.addAll( partition );
+		}
+		assertThat( partitionedIds ).as( "Ids found in several partitions" ).isEqualTo( allIds.size() );
+		assertThat( allIds ).containsOnly( ids.toArray() );
+	}
+
 	@Test
 	@SkipByGridDialect(value = { MONGODB }, comment = "Uses embedded key which is currently not supported by the db query parsers")
 	public void testEntityWithCompositeIdMassIndexing() throws Exception {
@@ -99,6 +168,53 @@ public void testEntityWithCompositeIdMassIndexing() throws Exception {
 		}
 	}
 
+	private List<String> persistInsurances(String namePrefix, int count) {
+		List<String> ids = new ArrayList<>( count );
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 0; i < count; i++ ) {
+			Insurance insurance = new Insurance();
+			insurance.setName( namePrefix + " " + i );
+			session.persist( insurance );
+			ids.add( insurance.getId() );
+		}
+		transaction.commit();
+		session.clear();
+		session.close();
+		return ids;
+	}
+
+	private Set<Object> readIds(TuplesSupplier supplier, String idColumn) {
+		Set<Object> ids = new HashSet<>();
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		ClosableIterator<Tuple> tuples = supplier.get( TransactionContextHelper.transactionContext( session ) );
+		try {
+			while ( tuples.hasNext() ) {
+				ids.add( tuples.next().get( idColumn ) );
+			}
+		}
+		finally {
+			tuples.close();
+		}
+		transaction.commit();
+		session.close();
+		return ids;
+	}
+
+	private void assertIndexedInsurances(String namePattern, int expectedCount) {
+		FullTextSession session = Search.getFullTextSession( openSession() );
+		QueryBuilder queryBuilder = session.getSearchFactory().buildQueryBuilder().forEntity( Insurance.class ).get();
+		Query luceneQuery = queryBuilder.keyword().wildcard().onField( "name" ).matching( namePattern ).createQuery();
+		Transaction transaction = session.beginTransaction();
+		@SuppressWarnings("unchecked")
+		List<Insurance> list = session.createFullTextQuery( luceneQuery ).list();
+		assertThat( list ).hasSize( expectedCount );
+		transaction.commit();
+		session.clear();
+		session.close();
+	}
+
 	private void startAndWaitMassIndexing(Class<?> entityType) throws InterruptedException, IOException {
 		FullTextSession session = Search.getFullTextSession( openSession() );
 		session.createIndexer( entityType ).purgeAllOnStart( true ).startAndWait();
@@ -0,0 +1,161 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN_REMOTE;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.queries.pagination.Poem;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test that JP-QL update and delete statements are applied to the entities they target.
+ */
+@SkipByGridDialect(value = { HASHMAP, INFINISPAN, INFINISPAN_REMOTE }, comment = "Bulk statements are not supported")
+public class BulkStatementTest extends OgmTestCase {
+
+	private final Poem portia = new Poem( 1L, "Portia", "Oscar Wilde", 1881 );
+	private final Poem athanasia = new Poem( 2L, "Athanasia", "Oscar Wilde", 1879 );
+	private final Poem ulalume = new Poem( 3L, "Ulalume", "Edgar Allan Poe", 1847 );
+
+	private final Poem[] poems = { portia, athanasia, ulalume };
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Before
+	public void init() {
+		inTransaction( session -> {
+			for ( Poem poem : poems ) {
+				session.persist( poem );
+			}
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		inTransaction( session -> {
+			for ( Poem poem : poems ) {
+				delete( session, poem );
+			}
+		} );
+	}
+
+	private void delete(Session session, Poem poem) {
+		Object entity = session.get( Poem.class, poem.getId() );
+		if ( entity != null ) {
+			session.delete( entity );
+		}
+	}
+
+	@Test
+	public void testUpdateWithParameters() {
+		inTransaction( session -> {
+			int updated = session.createQuery( "UPDATE Poem p SET p.author = :author, p.year = :year WHERE p.author = :previousAuthor" )
+					.setParameter( "author", "O. Wilde" )
+					.setParameter( "year", 1880 )
+					.setParameter( "previousAuthor", "Oscar Wilde" )
+					.executeUpdate();
+			assertThat( updated ).isEqualTo( 2 );
+		} );
+
+		inTransaction( session -> {
+			List<?> poems = session.createQuery( "FROM Poem p WHERE p.author = 'O. Wilde' AND p.year = 1880" ).list();
+			assertThat( poems ).onProperty( "name" ).containsOnly( "Portia", "Athanasia" );
+			assertThat( session.get( Poem.class, ulalume.getId() ).getAuthor() ).isEqualTo( "Edgar Allan Poe" );
+		} );
+	}
+
+	@Test
+	public void testUpdateWithLiterals() {
+		inTransaction( session -> {
+			int updated = session.createQuery( "UPDATE Poem p SET p.name = 'Where''s Portia', p.year = 1882 WHERE p.name = 'Portia'" ).executeUpdate();
+			assertThat( updated ).isEqualTo( 1 );
+		} );
+
+		inTransaction( session -> {
+			Poem poem = session.get( Poem.class, portia.getId() );
+			assertThat( poem.getName() ).isEqualTo( "Where's Portia" );
+			assertThat( poem.getYear() ).isEqualTo( 1882 );
+			assertThat( session.get( Poem.class, athanasia.getId() ).getName() ).isEqualTo( "Athanasia" );
+		} );
+	}
+
+	@Test
+	public void testUpdateToNull() {
+		inTransaction( session -> {
+			int updated = session.createQuery( "UPDATE Poem p SET p.year = null WHERE p.author = 'Edgar Allan Poe'" ).executeUpdate();
+			assertThat( updated ).isEqualTo( 1 );
+		} );
+
+		inTransaction( session -> {
+			assertThat( session.get( Poem.class, ulalume.getId() ).getYear() ).isNull();
+			assertThat( session.get( Poem.class, portia.getId() ).getYear() ).isEqualTo( 1881 );
+		} );
+	}
+
+	@Test
+	public void testDelete() {
+		inTransaction( session -> {
+			int deleted = session.createQuery( "DELETE FROM Poem p WHERE p.author = :author" )
+					.setParameter( "author", "Oscar Wilde" )
+					.executeUpdate();
+			assertThat( deleted ).isEqualTo( 2 );
+		} );
+
+		inTransaction( session -> {
+			assertThat( session.get( Poem.class, portia.getId() ) ).isNull();
+			assertThat( session.get( Poem.class, athanasia.getId() ) ).isNull();
+			assertThat( session.get( Poem.class, ulalume.getId() ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void testDeleteAll() {
+		inTransaction( session -> {
+			int deleted = session.createQuery( "DELETE FROM Poem" ).executeUpdate();
+			assertThat( deleted ).isEqualTo( 3 );
+		} );
+
+		inTransaction( session -> {
+			assertThat( session.createQuery( "FROM Poem" ).list() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testUpdateMatchingNoEntity() {
+		inTransaction( session -> {
+			int updated = session.createQuery( "UPDATE Poem p SET p.year = 1900 WHERE p.author = 'Lord Byron'" ).executeUpdate();
+			assertThat( updated ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testUnboundParameter() {
+		thrown.expectMessage( "Named parameter not bound" );
+
+		inTransaction( session -> {
+			session.createQuery( "UPDATE Poem p SET p.author = :author WHERE p.name = 'Portia'" ).executeUpdate();
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Poem.class };
+	}
+}
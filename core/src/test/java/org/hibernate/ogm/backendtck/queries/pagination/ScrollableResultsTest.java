@@ -0,0 +1,153 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries.pagination;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the results of a JPQL query can be scrolled and iterated over, with a fetch size smaller than the number
+ * of results so that they are hydrated in several chunks.
+ */
+@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Hibernate Search queries can't be scrolled")
+public class ScrollableResultsTest extends OgmTestCase {
+
+	private static final String JPQL_QUERY = "SELECT p FROM Poem p WHERE p.author = 'Oscar Wilde' ORDER BY p.name";
+
+	private static final int FETCH_SIZE = 3;
+
+	private final Poem portia = new Poem( 1L, "Portia", "Oscar Wilde", 1881 );
+	private final Poem athanasia = new Poem( 2L, "Athanasia", "Oscar Wilde", 1879 );
+	private final Poem imperatrix = new Poem( 3L, "Ave Imperatrix", "Oscar Wilde", 1882 );
+	private final Poem intellectualis = new Poem( 4L, "Amor Intellectualis", "Oscar Wilde", 1881 );
+	private final Poem apologia = new Poem( 5L, "Apologias", "Oscar Wilde", 1881 );
+	private final Poem easter = new Poem( 6L, "Easter Day", "Oscar Wilde", 1881 );
+	private final Poem rome = new Poem( 7L, "Rome Unvisited", "Oscar Wilde", 1881 );
+
+	private final Poem[] poems = { intellectualis, apologia, athanasia, imperatrix, easter, portia, rome };
+
+	@Before
+	public void init() {
+		inTransaction( session -> {
+			for ( Poem poem : poems ) {
+				session.persist( poem );
+			}
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		inTransaction( session -> {
+			for ( Poem poem : poems ) {
+				delete( session, poem );
+			}
+		} );
+	}
+
+	private void delete(Session session, Poem poem) {
+		Object entity = session.get( Poem.class, poem.getId() );
+		if ( entity != null ) {
+			session.delete( entity );
+		}
+	}
+
+	@Test
+	public void testScrollForward() {
+		inTransaction( session -> {
+			List<Object> result = new ArrayList<>();
+			try ( ScrollableResults results = session.createQuery( JPQL_QUERY )
+					.setFetchSize( FETCH_SIZE )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					assertThat( results.getRowNumber() ).isEqualTo( result.size() );
+					result.add( results.get( 0 ) );
+				}
+				assertThat( results.next() ).isFalse();
+			}
+			assertThat( result ).containsExactly( (Object[]) poems );
+		} );
+	}
+
+	@Test
+	public void testScrollSkippingResults() {
+		inTransaction( session -> {
+			try ( ScrollableResults results = session.createQuery( JPQL_QUERY )
+					.setFetchSize( FETCH_SIZE )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( results.first() ).isTrue();
+				assertThat( results.get( 0 ) ).isEqualTo( intellectualis );
+
+				assertThat( results.scroll( 4 ) ).isTrue();
+				assertThat( results.get( 0 ) ).isEqualTo( easter );
+
+				assertThat( results.last() ).isTrue();
+				assertThat( results.isLast() ).isTrue();
+				assertThat( results.get( 0 ) ).isEqualTo( rome );
+			}
+		} );
+	}
+
+	@Test(expected = HibernateException.class)
+	public void testScrollBackwardIsNotSupported() {
+		inTransaction( session -> {
+			try ( ScrollableResults results = session.createQuery( JPQL_QUERY ).scroll( ScrollMode.FORWARD_ONLY ) ) {
+				results.next();
+				results.next();
+				results.previous();
+			}
+		} );
+	}
+
+	@Test
+	public void testIterate() {
+		inTransaction( session -> {
+			List<Object> result = new ArrayList<>();
+			@SuppressWarnings("deprecation")
+			Iterator<?> iterator = session.createQuery( JPQL_QUERY )
+					.setFetchSize( FETCH_SIZE )
+					.iterate();
+			while ( iterator.hasNext() ) {
+				result.add( iterator.next() );
+			}
+			assertThat( result ).containsExactly( (Object[]) poems );
+		} );
+	}
+
+	@Test
+	public void testCloseIteratorBeforeTheEnd() {
+		inTransaction( session -> {
+			@SuppressWarnings("deprecation")
+			Iterator<?> iterator = session.createQuery( JPQL_QUERY )
+					.setFetchSize( FETCH_SIZE )
+					.iterate();
+			assertThat( iterator.next() ).isEqualTo( intellectualis );
+			Hibernate.close( iterator );
+			assertThat( iterator.hasNext() ).isFalse();
+		} );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Poem.class };
+	}
+}
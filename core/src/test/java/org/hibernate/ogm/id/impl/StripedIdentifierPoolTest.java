@@ -0,0 +1,88 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Test the reservation of the blocks of a {@link StripedIdentifierPool}, from an ascending id source.
+ */
+public class StripedIdentifierPoolTest {
+
+	private static final int BLOCK_SIZE = 8;
+
+	private final AtomicLong source = new AtomicLong();
+
+	@Test
+	public void testBlocksAreHandedOutInTheOrderTheyAreReserved() {
+		StripedIdentifierPool pool = new StripedIdentifierPool( 1, BLOCK_SIZE, 1 );
+
+		for ( long expected = 1; expected <= 10 * BLOCK_SIZE; expected++ ) {
+			assertThat( pool.next( this::reserve, () -> this::reserve ) ).isEqualTo( expected );
+		}
+		assertThat( source.get() ).isEqualTo( 10 * BLOCK_SIZE );
+	}
+
+	@Test
+	public void testOneBlockIsPrefetchedAtATime() {
+		StripedIdentifierPool pool = new StripedIdentifierPool( 1, BLOCK_SIZE, 1 );
+		AtomicInteger prefetches = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch( 1 );
+		Supplier<LongSupplier> prefetch = () -> {
+			prefetches.incrementAndGet();
+			return () -> {
+				await( release );
+				return reserve();
+			};
+		};
+
+		// The prefetch starts once the low-water mark is reached and does not complete before the block is exhausted
+		for ( long expected = 1; expected <= BLOCK_SIZE; expected++ ) {
+			assertThat( pool.next( this::reserve, prefetch ) ).isEqualTo( expected );
+		}
+		assertThat( prefetches.get() ).isEqualTo( 1 );
+
+		release.countDown();
+		assertThat( pool.next( this::reserve, prefetch ) ).isEqualTo( BLOCK_SIZE + 1 );
+		assertThat( source.get() ).isEqualTo( 2 * BLOCK_SIZE );
+	}
+
+	@Test
+	public void testFailedPrefetchIsReservedAgainByTheCaller() {
+		StripedIdentifierPool pool = new StripedIdentifierPool( 1, BLOCK_SIZE, 1 );
+		Supplier<LongSupplier> prefetch = () -> () -> {
+			throw new IllegalStateException( "The id source cannot be reached" );
+		};
+
+		for ( long expected = 1; expected <= 2 * BLOCK_SIZE; expected++ ) {
+			assertThat( pool.next( this::reserve, prefetch ) ).isEqualTo( expected );
+		}
+		assertThat( source.get() ).isEqualTo( 2 * BLOCK_SIZE );
+	}
+
+	private long reserve() {
+		return source.addAndGet( BLOCK_SIZE );
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await( 10, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -141,12 +141,59 @@ public void testQueueSizeWhenAddingRemoveTupleOperation() throws Exception {
 		Assertions.assertThat( queue.size() ).isEqualTo( 1 );
 	}
 
+	@Test
+	public void testIsMarkedForRemovalUntilRemoveTupleOperationIsPolled() throws Exception {
+		EntityKey key = entityKey( 1 );
+		EntityKey otherKey = entityKey( 2 );
+		queue.add( new InsertOrUpdateTupleOperation( null, otherKey, emptyTupleContext() ) );
+		queue.add( new RemoveTupleOperation( key, emptyTupleContext() ) );
+
+		Assertions.assertThat( queue.isMarkedForRemoval( key ) ).isTrue();
+		Assertions.assertThat( queue.isMarkedForRemoval( otherKey ) ).isFalse();
+
+		queue.poll();
+		Assertions.assertThat( queue.isMarkedForRemoval( key ) ).isTrue();
+
+		queue.poll();
+		Assertions.assertThat( queue.isMarkedForRemoval( key ) ).isFalse();
+	}
+
+	@Test
+	public void testPendingOperationCounts() throws Exception {
+		EntityKey key = entityKey( 1 );
+		queue.add( new InsertOrUpdateTupleOperation( null, key, emptyTupleContext() ) );
+		queue.add( new InsertOrUpdateAssociationOperation( null, getAssociationKey( key ), emptyAssociationContext() ) );
+		queue.add( new RemoveTupleOperation( entityKey( 2 ), emptyTupleContext() ) );
+		queue.add( new RemoveTupleOperation( entityKey( 3 ), emptyTupleContext() ) );
+
+		Assertions.assertThat( queue.getPendingOperationCount( InsertOrUpdateTupleOperation.class ) ).isEqualTo( 1 );
+		Assertions.assertThat( queue.getPendingOperationCount( InsertOrUpdateAssociationOperation.class ) ).isEqualTo( 1 );
+		Assertions.assertThat( queue.getPendingOperationCount( RemoveTupleOperation.class ) ).isEqualTo( 2 );
+		Assertions.assertThat( queue.getPendingOperationCount( GroupedChangesToEntityOperation.class ) ).isEqualTo( 0 );
+
+		queue.poll();
+		queue.poll();
+
+		Assertions.assertThat( queue.getPendingOperationCounts() ).hasSize( 1 );
+		Assertions.assertThat( queue.getPendingOperationCount( RemoveTupleOperation.class ) ).isEqualTo( 1 );
+
+		queue.clear();
+
+		Assertions.assertThat( queue.getPendingOperationCounts() ).isEmpty();
+		Assertions.assertThat( queue.isMarkedForRemoval( entityKey( 3 ) ) ).isFalse();
+	}
+
 	private EntityKey entityKey() {
 		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "MetadataTable", new String[] {} );
 		EntityKey key = new EntityKey( keyMetadata, new Object[] {} );
 		return key;
 	}
 
+	private EntityKey entityKey(Object id) {
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "MetadataTable", new String[] { "id" } );
+		return new EntityKey( keyMetadata, new Object[] { id } );
+	}
+
 	private AssociationKey getAssociationKey(EntityKey entityKey) {
 		String[] columnNames = new String[]{ "column1", "column2" };
 		AssociationKeyMetadata keyMetadata = new DefaultAssociationKeyMetadata.Builder()
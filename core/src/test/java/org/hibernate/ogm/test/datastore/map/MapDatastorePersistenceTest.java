@@ -0,0 +1,137 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.MapAssert.entry;
+import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.impl.MapDatastorePersistence;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that the content of the Map datastore is reloaded from its snapshot and change log.
+ *
+ * @see MapProperties#PERSISTENCE_DIRECTORY
+ */
+public class MapDatastorePersistenceTest {
+
+	private static final EntityKey HYPOTHESIS = new EntityKey( new DefaultEntityKeyMetadata( "Hypothesis", new String[] { "id" } ), new Object[] { "hyp-1" } );
+	private static final EntityKey REMOVED_HYPOTHESIS = new EntityKey( new DefaultEntityKeyMetadata( "Hypothesis", new String[] { "id" } ), new Object[] { "hyp-2" } );
+	private static final AssociationKey AUTHORS = new AssociationKey(
+			new DefaultAssociationKeyMetadata.Builder()
+					.table( "Hypothesis_Author" )
+					.columnNames( new String[] { "hypothesis_id" } )
+					.rowKeyColumnNames( new String[] { "hypothesis_id", "author_id" } )
+					.build(),
+			new Object[] { "hyp-1" },
+			HYPOTHESIS );
+	private static final RowKey AUTHOR = new RowKey( new String[] { "hypothesis_id", "author_id" }, new Object[] { "hyp-1", 42L } );
+	private static final IdSourceKey SEQUENCE = IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( "hypothesis_seq" ) );
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path directory;
+
+	@Before
+	public void createDirectory() throws Exception {
+		directory = folder.newFolder( "map" ).toPath();
+	}
+
+	@Test
+	public void testContentIsReloadedFromSnapshot() {
+		Storage storage = new Storage();
+		MapDatastorePersistence persistence = storage.load();
+		write( storage, persistence );
+		persistence.close();
+
+		Storage reloaded = new Storage();
+		reloaded.load().close();
+		assertContent( reloaded );
+	}
+
+	@Test
+	public void testContentIsReloadedFromChangeLog() {
+		Storage storage = new Storage();
+		MapDatastorePersistence persistence = storage.load();
+		write( storage, persistence );
+
+		// The first persistence is not closed, as if the process had been killed
+		Storage reloaded = new Storage();
+		MapDatastorePersistence reloadedPersistence = reloaded.load();
+		assertContent( reloaded );
+
+		// The content survives another restart once compacted in a snapshot
+		reloadedPersistence.close();
+		persistence.close();
+		Storage compacted = new Storage();
+		compacted.load().close();
+		assertContent( compacted );
+	}
+
+	private void write(Storage storage, MapDatastorePersistence persistence) {
+		Map<String, Object> tuple = new HashMap<>();
+		tuple.put( "id", "hyp-1" );
+		tuple.put( "description", "P = NP" );
+		persistence.putEntity( HYPOTHESIS, tuple );
+		tuple.put( "description", "P != NP" );
+		persistence.putEntity( HYPOTHESIS, tuple );
+
+		persistence.putEntity( REMOVED_HYPOTHESIS, new HashMap<>() );
+		persistence.removeEntity( REMOVED_HYPOTHESIS );
+
+		Map<RowKey, Map<String, Object>> rows = new HashMap<>();
+		Map<String, Object> row = new HashMap<>();
+		row.put( "hypothesis_id", "hyp-1" );
+		row.put( "author_id", 42L );
+		rows.put( AUTHOR, row );
+		persistence.putAssociation( AUTHORS, rows );
+
+		// The values of a sequence may be recorded out of order
+		storage.sequences.put( SEQUENCE, new AtomicInteger( 7 ) );
+		persistence.sequenceValue( SEQUENCE, 7 );
+		persistence.sequenceValue( SEQUENCE, 5 );
+	}
+
+	private void assertContent(Storage storage) {
+		assertThat( storage.entities ).hasSize( 1 );
+		assertThat( storage.entities.get( HYPOTHESIS ) ).includes( entry( "description", "P != NP" ) );
+		assertThat( storage.associations.get( AUTHORS ).get( AUTHOR ) ).includes( entry( "author_id", 42L ) );
+		assertThat( storage.sequences.get( SEQUENCE ).get() ).isEqualTo( 7 );
+	}
+
+	private class Storage {
+
+		private final ConcurrentMap<EntityKey, Map<String, Object>> entities = newConcurrentHashMap();
+		private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associations = newConcurrentHashMap();
+		private final ConcurrentMap<IdSourceKey, AtomicInteger> sequences = newConcurrentHashMap();
+
+		MapDatastorePersistence load() {
+			MapDatastorePersistence persistence = new MapDatastorePersistence( directory, entities, associations, sequences );
+			persistence.load();
+			return persistence;
+		}
+	}
+}
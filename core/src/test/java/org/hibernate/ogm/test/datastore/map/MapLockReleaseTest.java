@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapLockTable;
+import org.hibernate.ogm.datastore.map.impl.MapLockTable.HeldLocks;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that the locks of the Map datastore are released at the end of the transaction or session holding them.
+ */
+public class MapLockReleaseTest extends OgmTestCase {
+
+	private static final EntityKey KEY = new EntityKey( new DefaultEntityKeyMetadata( "Hypothesis", new String[] { "id" } ), new Object[] { "hyp-1" } );
+
+	@Test
+	public void testLocksAreReleasedOnCommit() {
+		try ( OgmSession session = openSession() ) {
+			session.beginTransaction();
+			provider().writeLock( KEY, 0, (SharedSessionContractImplementor) session );
+			session.getTransaction().commit();
+		}
+		assertLockIsAvailable();
+	}
+
+	@Test
+	public void testLocksAreReleasedWhenSessionIsClosedWithinTransaction() throws Exception {
+		OgmSession session = openSession();
+		session.beginTransaction();
+		provider().writeLock( KEY, 0, (SharedSessionContractImplementor) session );
+		session.close();
+
+		try {
+			assertLockIsAvailable();
+		}
+		finally {
+			TransactionManager transactionManager = getSessionFactory().getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+			if ( transactionManager != null && transactionManager.getTransaction() != null ) {
+				transactionManager.rollback();
+			}
+		}
+	}
+
+	private void assertLockIsAvailable() {
+		MapLockTable lockTable = provider().getLockTable();
+		HeldLocks otherTransaction = new HeldLocks();
+		lockTable.writeLock( KEY, 0, otherTransaction );
+		lockTable.release( otherTransaction );
+		assertThat( lockTable.getFailedAcquisitionCount() ).isEqualTo( 0 );
+	}
+
+	private MapDatastoreProvider provider() {
+		return (MapDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+}
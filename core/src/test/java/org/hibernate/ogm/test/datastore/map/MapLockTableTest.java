@@ -0,0 +1,120 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import javax.persistence.PessimisticLockException;
+
+import org.hibernate.ogm.datastore.map.impl.MapLockTable;
+import org.hibernate.ogm.datastore.map.impl.MapLockTable.HeldLocks;
+import org.junit.Test;
+
+/**
+ * Test the striped locks of the Map datastore.
+ */
+public class MapLockTableTest {
+
+	@Test
+	public void testStripeCountIsRoundedUpToPowerOfTwo() {
+		assertThat( new MapLockTable( 1 ).getStripeCount() ).isEqualTo( 1 );
+		assertThat( new MapLockTable( 1000 ).getStripeCount() ).isEqualTo( 1024 );
+		assertThat( new MapLockTable( 1024 ).getStripeCount() ).isEqualTo( 1024 );
+	}
+
+	@Test
+	public void testLocksOfTheSameTransactionAreReentrant() {
+		MapLockTable lockTable = new MapLockTable( 1 );
+		HeldLocks heldLocks = new HeldLocks();
+		lockTable.readLock( "key-1", 0, heldLocks );
+		lockTable.writeLock( "key-1", 0, heldLocks );
+		lockTable.writeLock( "key-2", 0, heldLocks );
+		lockTable.readLock( "key-2", 0, heldLocks );
+		assertThat( lockTable.getContendedAcquisitionCount() ).isEqualTo( 0 );
+		lockTable.release( heldLocks );
+	}
+
+	@Test
+	public void testWriteLockExcludesOtherTransactions() {
+		MapLockTable lockTable = new MapLockTable( 1 );
+		HeldLocks writer = new HeldLocks();
+		lockTable.writeLock( "key-1", 0, writer );
+
+		HeldLocks reader = new HeldLocks();
+		try {
+			lockTable.readLock( "key-2", 10, reader );
+			fail( "Expected PessimisticLockException" );
+		}
+		catch (PessimisticLockException e) {
+			// expected: both keys share the only stripe
+		}
+		assertThat( lockTable.getContendedAcquisitionCount() ).isEqualTo( 1 );
+		assertThat( lockTable.getFailedAcquisitionCount() ).isEqualTo( 1 );
+
+		lockTable.release( writer );
+		lockTable.readLock( "key-2", 0, reader );
+		lockTable.release( reader );
+		assertThat( lockTable.getAcquisitionCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testReadLocksAreShared() {
+		MapLockTable lockTable = new MapLockTable( 1 );
+		HeldLocks first = new HeldLocks();
+		HeldLocks second = new HeldLocks();
+		lockTable.readLock( "key-1", 0, first );
+		lockTable.readLock( "key-1", 0, second );
+		assertThat( lockTable.getContendedAcquisitionCount() ).isEqualTo( 0 );
+
+		try {
+			lockTable.writeLock( "key-1", 0, first );
+			fail( "Expected PessimisticLockException" );
+		}
+		catch (PessimisticLockException e) {
+			// expected: the second transaction reads the key
+		}
+		lockTable.release( first );
+		lockTable.release( second );
+	}
+
+	@Test
+	public void testFailedUpgradeKeepsTheReadLock() {
+		MapLockTable lockTable = new MapLockTable( 1 );
+		HeldLocks first = new HeldLocks();
+		HeldLocks second = new HeldLocks();
+		lockTable.readLock( "key-1", 0, first );
+		lockTable.readLock( "key-1", 0, second );
+
+		try {
+			lockTable.writeLock( "key-1", 10, first );
+			fail( "Expected PessimisticLockException" );
+		}
+		catch (PessimisticLockException e) {
+			// expected: the second transaction reads the key
+		}
+
+		// The first transaction still reads the key, so the second one cannot write it
+		try {
+			lockTable.writeLock( "key-1", 0, second );
+			fail( "Expected PessimisticLockException" );
+		}
+		catch (PessimisticLockException e) {
+			// expected: the first transaction reads the key
+		}
+
+		// Once the first transaction is over, the read lock kept by the second one is upgraded
+		lockTable.release( first );
+		lockTable.writeLock( "key-1", 0, second );
+		lockTable.release( second );
+
+		HeldLocks third = new HeldLocks();
+		lockTable.writeLock( "key-1", 0, third );
+		lockTable.release( third );
+		assertThat( lockTable.getFailedAcquisitionCount() ).isEqualTo( 2 );
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.id;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.id.Song;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test the generation of identifiers from several pools when entities are inserted concurrently.
+ *
+ * @see OgmProperties#ID_GENERATION_STRIPES
+ */
+public class StripedIdentifierGenerationTest extends OgmTestCase {
+
+	private static final int THREADS = 8;
+	private static final int SONGS_PER_THREAD = 50;
+
+	@Test
+	public void testIdentifiersAreUniqueAcrossThreads() throws Exception {
+		List<List<Long>> idsPerThread = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+
+		try {
+			List<Future<List<Long>>> inserts = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				inserts.add( executor.submit( () -> {
+					List<Long> ids = new ArrayList<>();
+					for ( int j = 0; j < SONGS_PER_THREAD; j++ ) {
+						try ( Session session = getSessionFactory().openSession() ) {
+							session.beginTransaction();
+							Song song = new Song();
+							song.setTitle( "Song " + j );
+							session.persist( song );
+							session.getTransaction().commit();
+							ids.add( song.getId() );
+						}
+					}
+					return ids;
+				} ) );
+			}
+			for ( Future<List<Long>> insert : inserts ) {
+				idsPerThread.add( insert.get( 1, TimeUnit.MINUTES ) );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		Set<Long> allIds = new HashSet<>();
+		for ( List<Long> ids : idsPerThread ) {
+			allIds.addAll( ids );
+
+			// A thread takes its identifiers from a single pool, whose blocks are handed out in ascending order
+			for ( int i = 1; i < ids.size(); i++ ) {
+				assertThat( ids.get( i ) ).isGreaterThan( ids.get( i - 1 ) );
+			}
+		}
+		assertThat( allIds ).hasSize( THREADS * SONGS_PER_THREAD );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.ID_GENERATION_STRIPES, 4 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Song.class };
+	}
+}
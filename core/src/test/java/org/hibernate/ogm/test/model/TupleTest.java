@@ -0,0 +1,84 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.model;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleColumns;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Tuple}.
+ */
+public class TupleTest {
+
+	@Test
+	public void testOperationsWithColumnSlots() {
+		TupleColumns columns = new TupleColumns( Arrays.asList( "id", "name", "age", "name" ) );
+		assertThat( columns.size() ).isEqualTo( 3 );
+		assertThat( columns.slot( "unknown" ) ).isEqualTo( -1 );
+
+		Map<String, Object> state = new HashMap<>();
+		state.put( "id", 1 );
+		state.put( "name", "Bob" );
+		state.put( "age", 42 );
+		Tuple tuple = new Tuple( new MapTupleSnapshot( state ), SnapshotType.UPDATE, columns );
+
+		assertThat( tuple.getOperations() ).isEmpty();
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "name", "age" );
+
+		tuple.put( "name", "Alice" );
+		tuple.put( columns.slot( "age" ), null );
+		tuple.remove( "id" );
+		tuple.put( "nickname", "Al" );
+
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Alice" );
+		assertThat( tuple.get( columns.slot( "name" ) ) ).isEqualTo( "Alice" );
+		assertThat( tuple.get( "age" ) ).isNull();
+		assertThat( tuple.get( "id" ) ).isNull();
+		assertThat( tuple.get( "nickname" ) ).isEqualTo( "Al" );
+		assertThat( tuple.getColumnNames() ).containsOnly( "name", "age", "nickname" );
+
+		Map<String, TupleOperation> operations = new HashMap<>();
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			operations.put( operation.getColumn(), operation );
+		}
+		assertThat( operations ).hasSize( 4 );
+		assertThat( operations.get( "name" ).getType() ).isEqualTo( TupleOperationType.PUT );
+		assertThat( operations.get( "name" ).getValue() ).isEqualTo( "Alice" );
+		assertThat( operations.get( "age" ).getType() ).isEqualTo( TupleOperationType.PUT_NULL );
+		assertThat( operations.get( "id" ).getType() ).isEqualTo( TupleOperationType.REMOVE );
+		assertThat( operations.get( "nickname" ).getType() ).isEqualTo( TupleOperationType.PUT );
+
+		tuple.put( "id", 2 );
+		assertThat( tuple.get( "id" ) ).isEqualTo( 2 );
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "name", "age", "nickname" );
+	}
+
+	@Test
+	public void testOperationsAreCreatedOnceUntilTheNextChange() {
+		TupleColumns columns = new TupleColumns( Arrays.asList( "id", "name" ) );
+		Tuple tuple = new Tuple( new MapTupleSnapshot( new HashMap<>() ), SnapshotType.INSERT, columns );
+		tuple.put( "id", 1 );
+
+		Set<TupleOperation> operations = tuple.getOperations();
+		assertThat( tuple.getOperations() ).isSameAs( operations );
+
+		tuple.put( "name", "Alice" );
+		assertThat( tuple.getOperations() ).isNotSameAs( operations ).hasSize( 2 );
+	}
+}
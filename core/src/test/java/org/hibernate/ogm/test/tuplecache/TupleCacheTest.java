@@ -0,0 +1,163 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.tuplecache;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.snapshot.spi.TupleCacheStatistics;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the cache of tuples shared by the sessions of a session factory.
+ *
+ * @see OgmProperties#TUPLE_CACHE_MAX_ENTRIES
+ */
+@SkipByGridDialect(
+		value = { GridDialectType.INFINISPAN, GridDialectType.INFINISPAN_REMOTE },
+		comment = "The dialect cannot copy its snapshots, so the tuple cache is disabled"
+)
+public class TupleCacheTest extends OgmTestCase {
+
+	private TupleCacheStatistics cache;
+
+	@Before
+	public void createHypothesis() {
+		cache = getSessionFactory().getServiceRegistry().getService( TupleCacheStatistics.class );
+
+		inTransaction( session -> {
+			Hypothesis hypothesis = new Hypothesis( "hyp-1" );
+			hypothesis.setDescription( "P = NP" );
+			session.persist( hypothesis );
+		} );
+		cache.clear();
+	}
+
+	@After
+	public void deleteHypothesis() {
+		deleteAll( Hypothesis.class, "hyp-1" );
+	}
+
+	@Test
+	public void testReadsAreServedFromTheCache() {
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+
+		inTransaction( session -> assertThat( session.get( Hypothesis.class, "hyp-1" ).getDescription() ).isEqualTo( "P = NP" ) );
+		assertThat( cache.getMissCount() - misses ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 0 );
+
+		inTransaction( session -> assertThat( session.get( Hypothesis.class, "hyp-1" ).getDescription() ).isEqualTo( "P = NP" ) );
+		assertThat( cache.getMissCount() - misses ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesTheCachedTuple() {
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ).setDescription( "P != NP" ) );
+
+		long hits = cache.getHitCount();
+		inTransaction( session -> assertThat( session.get( Hypothesis.class, "hyp-1" ).getDescription() ).isEqualTo( "P != NP" ) );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 0 );
+
+		inTransaction( session -> assertThat( session.get( Hypothesis.class, "hyp-1" ).getDescription() ).isEqualTo( "P != NP" ) );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRemovalInvalidatesTheCachedTuple() {
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ) );
+		inTransaction( session -> session.delete( session.get( Hypothesis.class, "hyp-1" ) ) );
+
+		inTransaction( session -> assertThat( session.get( Hypothesis.class, "hyp-1" ) ).isNull() );
+	}
+
+	@Test
+	public void testConcurrentSessionsReadingAndUpdatingTheSameRow() throws Exception {
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ) );
+
+		CountDownLatch firstRead = new CountDownLatch( 1 );
+		CountDownLatch secondCommitted = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> first = executor.submit( () -> {
+				try ( Session session = getSessionFactory().openSession() ) {
+					Transaction transaction = session.beginTransaction();
+					Hypothesis hypothesis = session.get( Hypothesis.class, "hyp-1" );
+					firstRead.countDown();
+					secondCommitted.await( 10, TimeUnit.SECONDS );
+
+					assertThat( hypothesis.getDescription() ).isEqualTo( "P = NP" );
+					hypothesis.setPosition( 1 );
+					transaction.commit();
+				}
+				return null;
+			} );
+
+			assertThat( firstRead.await( 10, TimeUnit.SECONDS ) ).isTrue();
+			inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ).setDescription( "P != NP" ) );
+			secondCommitted.countDown();
+			first.get( 10, TimeUnit.SECONDS );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// Each session updated its own copy of the cached snapshot, only with the column it changed
+		inTransaction( session -> {
+			Hypothesis hypothesis = session.get( Hypothesis.class, "hyp-1" );
+			assertThat( hypothesis.getDescription() ).isEqualTo( "P != NP" );
+			assertThat( hypothesis.getPosition() ).isEqualTo( 1 );
+		} );
+
+		// Both transactions completed, the row can be cached again
+		long hits = cache.getHitCount();
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ) );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRollbackReleasesTheWrittenKeys() {
+		try ( Session session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			session.get( Hypothesis.class, "hyp-1" ).setDescription( "P != NP" );
+			session.flush();
+			transaction.rollback();
+		}
+
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ) );
+
+		long hits = cache.getHitCount();
+		inTransaction( session -> session.get( Hypothesis.class, "hyp-1" ) );
+		assertThat( cache.getHitCount() - hits ).isEqualTo( 1 );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.TUPLE_CACHE_MAX_ENTRIES, 100 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+}
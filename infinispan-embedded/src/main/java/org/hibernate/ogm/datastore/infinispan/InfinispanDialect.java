@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -29,6 +31,7 @@
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -49,6 +52,7 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleColumns;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
@@ -57,11 +61,14 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.stream.CacheCollectors;
+import org.infinispan.util.function.SerializablePredicate;
 
 /**
  * EK is the entity cache key type
@@ -71,7 +78,7 @@
  * @author Emmanuel Bernard
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements MultigetGridDialect, StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
 
 	private final InfinispanEmbeddedDatastoreProvider provider;
 	private final InfinispanEmbeddedStoredProceduresManager storedProceduresDelegate;
@@ -120,10 +127,26 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
-		return getTupleFromCacheKey( cacheKey, cache );
+		return getTupleFromCacheKey( cacheKey, cache, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
-	private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> cache) {
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		// All the keys target the same "table", so they are all stored in the same cache
+		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( keys[0].getMetadata() );
+		TupleColumns columns = tupleContext.getTupleTypeContext().getTupleColumns();
+
+		// A fine-grained atomic map keeps each column in its own entry, behind the set of its column names stored
+		// under the entity key: a bulk read of the entity keys only returns these sets, not the tuples. The lookup of
+		// the atomic map reads that set anyway, so it is the only read per key.
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			tuples.add( getTupleFromCacheKey( getKeyProvider().getEntityCacheKey( key ), cache, columns ) );
+		}
+		return tuples;
+	}
+
+	private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> cache, TupleColumns columns) {
 		FineGrainedAtomicMap<String, Object> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap(
 				cache,
 				cacheKey,
@@ -133,7 +156,7 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 			return null;
 		}
 		else {
-			return new Tuple( new InfinispanTupleSnapshot( atomicMap ), SnapshotType.UPDATE );
+			return new Tuple( new InfinispanTupleSnapshot( atomicMap ), SnapshotType.UPDATE, columns );
 		}
 	}
 
@@ -144,7 +167,7 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
 		FineGrainedAtomicMap<String,Object> atomicMap =  AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, true );
-		return new Tuple( new InfinispanTupleSnapshot( atomicMap ), SnapshotType.INSERT );
+		return new Tuple( new InfinispanTupleSnapshot( atomicMap ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
@@ -210,25 +233,65 @@ public Number nextValue(NextValueRequest request) {
 	@Override
 	public void forEachTuple( ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata ) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor( entityKeyMetadata );
+		Integer streamingBatchSize = provider.getStreamingBatchSize();
 
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = new HashMap<>();
-
-			List<CacheEntry<EK, Map<String, Object>>> collect = bucket.getCache().getAdvancedCache().cacheEntrySet()
-				.stream()
-				.filter( getKeyProvider().getFilter( entityKeyMetadata ) )
-				// also collector needs to be Serializable (for non local caches)
-				.collect( CacheCollectors.serializableCollector( () -> Collectors.toList() ) );
+			Integer batchSize = streamingBatchSize;
+			if ( batchSize == null && consumer.getPartitionsHint() > 1 ) {
+				// the segments are the natural partitions of a cache, they can only be consumed in parallel when streamed
+				batchSize = bucket.getCache().getCacheConfiguration().clustering().stateTransfer().chunkSize();
+			}
 
-			for ( CacheEntry<EK, Map<String, Object>> entry : collect ) {
-				queryResult.put( entry.getKey(), entry.getValue() );
+			if ( batchSize != null ) {
+				streamTuples( consumer, bucket.getCache(), entityKeyMetadata, batchSize );
+			}
+			else {
+				collectTuples( consumer, bucket.getCache(), entityKeyMetadata );
 			}
+		}
+	}
+
+	private void collectTuples(ModelConsumer consumer, Cache<EK, Map<String, Object>> cache, EntityKeyMetadata entityKeyMetadata) {
+		Map<EK, Map<String, Object>> queryResult = new HashMap<>();
 
-			// At runtime values of queryResult will be members of class org.infinispan.atomic.impl.AtomicKeySetImpl
-			// this is because of the new implementation of FineGrainedAtomicMap Infinispan class (since 9.1)
-			// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator
-			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult );
-			consumer.consume( supplier );
+		List<CacheEntry<EK, Map<String, Object>>> collect = cache.getAdvancedCache().cacheEntrySet()
+			.stream()
+			.filter( getKeyProvider().getFilter( entityKeyMetadata ) )
+			// also collector needs to be Serializable (for non local caches)
+			.collect( CacheCollectors.serializableCollector( () -> Collectors.toList() ) );
+
+		for ( CacheEntry<EK, Map<String, Object>> entry : collect ) {
+			queryResult.put( entry.getKey(), entry.getValue() );
+		}
+
+		// At runtime values of queryResult will be members of class org.infinispan.atomic.impl.AtomicKeySetImpl
+		// this is because of the new implementation of FineGrainedAtomicMap Infinispan class (since 9.1)
+		// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator
+		InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( cache, queryResult );
+		consumer.consume( supplier );
+	}
+
+	/**
+	 * Streams the entries of the cache to the consumer without loading them all in memory.
+	 * <p>
+	 * The segments of a clustered cache are passed to the consumer as independent partitions; each segment is iterated
+	 * lazily and the owners send at most {@code batchSize} entries at a time, so the next batch is requested only when
+	 * the consumer is done with the previous one.
+	 */
+	private void streamTuples(ModelConsumer consumer, Cache<EK, Map<String, Object>> cache, EntityKeyMetadata entityKeyMetadata, int batchSize) {
+		SerializablePredicate<Entry<EK, Map<String, Object>>> filter = getKeyProvider().getFilter( entityKeyMetadata );
+		Configuration configuration = cache.getCacheConfiguration();
+		if ( configuration.clustering().cacheMode().isClustered() ) {
+			int numSegments = configuration.clustering().hash().numSegments();
+			List<TuplesSupplier> partitions = new ArrayList<>( numSegments );
+			for ( int segment = 0; segment < numSegments; segment++ ) {
+				partitions.add( new InfinispanStreamingTuplesSupplier( cache, filter, Collections.singleton( segment ), batchSize ) );
+			}
+			consumer.consume( partitions );
+		}
+		else {
+			// the iteration over a local cache is already lazy
+			consumer.consume( new InfinispanStreamingTuplesSupplier( cache, filter, null, batchSize ) );
 		}
 	}
 
@@ -288,11 +351,67 @@ public boolean hasNext() {
 		@Override
 		public Tuple next() {
 			Entry<IEK, Map<String, Object>> entry = iterator.next();
-			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache );
+			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache, null );
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private class InfinispanStreamingTuplesSupplier implements TuplesSupplier {
+
+		private final Cache<EK, Map<String, Object>> cache;
+		private final SerializablePredicate<Entry<EK, Map<String, Object>>> filter;
+		private final Set<Integer> segments;
+		private final int batchSize;
+
+		public InfinispanStreamingTuplesSupplier(Cache<EK, Map<String, Object>> cache, SerializablePredicate<Entry<EK, Map<String, Object>>> filter,
+				Set<Integer> segments, int batchSize) {
+			this.cache = cache;
+			this.filter = filter;
+			this.segments = segments;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
+			CacheStream<CacheEntry<EK, Map<String, Object>>> stream = cache.getAdvancedCache().cacheEntrySet().stream()
+					.distributedBatchSize( batchSize );
+			if ( segments != null ) {
+				stream = stream.filterKeySegments( segments );
+			}
+			stream = stream.filter( filter );
+			return new InfinispanStreamingTupleIterator( cache, stream );
+		}
+	}
+
+	private class InfinispanStreamingTupleIterator implements ClosableIterator<Tuple> {
+
+		private final Cache<EK, Map<String, Object>> cache;
+		private final CacheStream<CacheEntry<EK, Map<String, Object>>> stream;
+		private final Iterator<CacheEntry<EK, Map<String, Object>>> iterator;
+
+		public InfinispanStreamingTupleIterator(Cache<EK, Map<String, Object>> cache, CacheStream<CacheEntry<EK, Map<String, Object>>> stream) {
+			this.cache = cache;
+			this.stream = stream;
+			this.iterator = stream.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Tuple next() {
+			// the value is the key set of the atomic map, the tuple is read from the cache
+			return getTupleFromCacheKey( iterator.next().getKey(), cache, null );
 		}
 
 		@Override
 		public void close() {
+			stream.close();
 		}
 	}
 
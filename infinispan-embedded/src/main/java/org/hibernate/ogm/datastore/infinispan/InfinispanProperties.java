@@ -30,6 +30,14 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * The number of entries fetched at a time from the cache when iterating over all the tuples of an entity type, for
+	 * instance when running the mass indexer. When set, the entries of a clustered cache are streamed one segment at a
+	 * time and at most this many entries are in flight at any moment; otherwise all the matching entries of a cache are
+	 * loaded in memory first. Accepts a positive integer. Not set by default.
+	 */
+	public static final String STREAMING_BATCH_SIZE = "hibernate.ogm.infinispan.streaming_batch_size";
+
 	private InfinispanProperties() {
 	}
 }
@@ -11,9 +11,10 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
-import org.hibernate.ogm.util.impl.Log;
-import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 import java.lang.invoke.MethodHandles;
 
 /**
@@ -27,8 +28,15 @@ public class InfinispanConfiguration {
 
 	private static final String INFINISPAN_DEFAULT_CONFIG = "org/hibernate/ogm/datastore/infinispan/default-config.xml";
 
+	private static final PropertyValidator<Integer> STREAMING_BATCH_SIZE_VALIDATOR = batchSize -> {
+		if ( batchSize != null && batchSize < 1 ) {
+			throw log.invalidStreamingBatchSize( InfinispanProperties.STREAMING_BATCH_SIZE, batchSize );
+		}
+	};
+
 	private URL configUrl;
 	private String jndi;
+	private Integer streamingBatchSize;
 
 	/**
 	 * The location of the configuration file.
@@ -50,6 +58,16 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Get the number of entries fetched at a time when streaming the content of a cache.
+	 *
+	 * @see InfinispanProperties#STREAMING_BATCH_SIZE
+	 * @return the batch size or {@code null} if the tuples should not be streamed
+	 */
+	public Integer getStreamingBatchSize() {
+		return streamingBatchSize;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -68,6 +86,11 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.streamingBatchSize = propertyReader
+				.property( InfinispanProperties.STREAMING_BATCH_SIZE, Integer.class )
+				.withValidator( STREAMING_BATCH_SIZE_VALIDATOR )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
 }
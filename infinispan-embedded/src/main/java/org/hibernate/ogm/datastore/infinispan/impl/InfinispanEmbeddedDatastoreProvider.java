@@ -152,6 +152,14 @@ private boolean hasIdGeneration(Set<IdSourceKeyMetadata> idSourceKeys) {
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	/**
+	 * @return the number of entries to fetch at a time when streaming the content of a cache, or {@code null} if the
+	 * content of the caches should not be streamed
+	 */
+	public Integer getStreamingBatchSize() {
+		return config.getStreamingBatchSize();
+	}
+
 	@Override
 	public void stop() {
 		if ( persistenceStrategy != null ) {
@@ -61,4 +61,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1111, value = "Cannot instantiate stored procedure '%s' with resolved name '%s'.")
 	HibernateException cannotInstantiateStoredProcedure(String storedProcedureName, String className, @Cause Exception e);
+
+	@Message(id = 1112, value = "Invalid value given for configuration property '%1$s': %2$d. The streaming batch size must be greater than 0.")
+	HibernateException invalidStreamingBatchSize(String propertyName, int batchSize);
 }
@@ -12,9 +12,13 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.Namespace;
@@ -28,6 +32,7 @@
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
@@ -75,8 +80,9 @@ public class InfinispanDialectWithClusteredConfigurationTest {
 
 	@BeforeClass
 	public static void setupProvidersAndDialects() throws Exception {
-		SessionFactoryImplementor sessionFactory1 = getSessionFactory( "infinispan-dist.xml" );
-		SessionFactoryImplementor sessionFactory2 = getSessionFactory( "infinispan-dist-alt-counter.xml" );
+		SessionFactoryImplementor sessionFactory1 = getSessionFactory( "infinispan-dist.xml", null );
+		// The second node streams the tuples in forEachTuple
+		SessionFactoryImplementor sessionFactory2 = getSessionFactory( "infinispan-dist-alt-counter.xml", 2 );
 		provider1 = (InfinispanEmbeddedDatastoreProvider) sessionFactory1.getServiceRegistry().getService( DatastoreProvider.class );
 		provider2 = (InfinispanEmbeddedDatastoreProvider) sessionFactory2.getServiceRegistry().getService( DatastoreProvider.class );
 		dialect1 = new InfinispanDialect( provider1 );
@@ -179,22 +185,63 @@ public void shouldApplyForEachTupleInClusteredMode() throws Exception {
 		// then
 		MyConsumer consumer = new MyConsumer();
 		dialect2.forEachTuple( consumer, emptyTupleTypeContext(), keyMetadata );
-		assertThat( consumer.consumedTuple.get( "foo" ) ).isEqualTo( "bar" );
+		assertThat( consumer.values( "foo" ) ).contains( "bar" );
+	}
+
+	@Test
+	public void shouldStreamAllTuplesInClusteredMode() throws Exception {
+		// given
+		String[] columnNames = { "foo", "bar", "baz" };
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", columnNames );
+		for ( int i = 0; i < 10; i++ ) {
+			EntityKey key = new EntityKey( keyMetadata, new Object[] { i, "Streamed", 0L } );
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "streamed", i );
+			dialect1.insertOrUpdateTuple( key, new TuplePointer( tuple ), emptyTupleContext() );
+		}
+
+		// when
+		MyConsumer consumer = new MyConsumer();
+		dialect2.forEachTuple( consumer, emptyTupleTypeContext(), keyMetadata );
+
+		// then
+		assertThat( consumer.values( "streamed" ) ).containsOnly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
 	}
 
 	private final class MyConsumer implements ModelConsumer {
 
-		private Tuple consumedTuple;
+		private final List<Tuple> consumedTuples = new ArrayList<>();
 
 		@Override
 		public void consume(TuplesSupplier supplier) {
-			consumedTuple = supplier.get( null ).next();
+			ClosableIterator<Tuple> tuples = supplier.get( null );
+			try {
+				while ( tuples.hasNext() ) {
+					consumedTuples.add( tuples.next() );
+				}
+			}
+			finally {
+				tuples.close();
+			}
+		}
+
+		public Set<Object> values(String column) {
+			Set<Object> values = new HashSet<>();
+			for ( Tuple tuple : consumedTuples ) {
+				if ( tuple.get( column ) != null ) {
+					values.add( tuple.get( column ) );
+				}
+			}
+			return values;
 		}
 	}
 
-	private static InfinispanEmbeddedDatastoreProvider createAndStartNewProvider(ServiceRegistryImplementor serviceRegistry, String configFile) {
+	private static InfinispanEmbeddedDatastoreProvider createAndStartNewProvider(ServiceRegistryImplementor serviceRegistry, String configFile, Integer streamingBatchSize) {
 		Map<String, Object> configurationValues = new HashMap<String, Object>();
 		configurationValues.put( InfinispanProperties.CONFIGURATION_RESOURCE_NAME, configFile );
+		if ( streamingBatchSize != null ) {
+			configurationValues.put( InfinispanProperties.STREAMING_BATCH_SIZE, streamingBatchSize );
+		}
 		InfinispanEmbeddedDatastoreProvider provider = new InfinispanEmbeddedDatastoreProvider();
 
 		provider.configure( configurationValues );
@@ -204,14 +251,14 @@ private static InfinispanEmbeddedDatastoreProvider createAndStartNewProvider(Ser
 		return provider;
 	}
 
-	private static ServiceRegistryImplementor getServiceRegistry(String configFile) {
+	private static ServiceRegistryImplementor getServiceRegistry(String configFile, Integer streamingBatchSize) {
 		ServiceRegistryImplementor serviceRegistry = mock( ServiceRegistryImplementor.class );
 
 		JBossStandAloneJtaPlatform jtaPlatform = new JBossStandAloneJtaPlatform();
 		jtaPlatform.injectServices( serviceRegistry );
 		when( serviceRegistry.getService( JtaPlatform.class ) ).thenReturn( jtaPlatform );
 
-		InfinispanEmbeddedDatastoreProvider provider = createAndStartNewProvider( serviceRegistry, configFile );
+		InfinispanEmbeddedDatastoreProvider provider = createAndStartNewProvider( serviceRegistry, configFile, streamingBatchSize );
 		when( serviceRegistry.getService( DatastoreProvider.class ) ).thenReturn( provider );
 
 		when( serviceRegistry.getService( ClassLoaderService.class ) ).thenReturn( new ClassLoaderServiceImpl() );
@@ -224,7 +271,7 @@ private static ServiceRegistryImplementor getServiceRegistry(String configFile)
 		return serviceRegistry;
 	}
 
-	private static SessionFactoryImplementor getSessionFactory(String configFile) {
+	private static SessionFactoryImplementor getSessionFactory(String configFile, Integer streamingBatchSize) {
 		SessionFactoryImplementor sessionFactory = mock( SessionFactoryImplementor.class );
 
 		// metamodel
@@ -250,7 +297,7 @@ private static SessionFactoryImplementor getSessionFactory(String configFile) {
 				Collections.<String, CollectionPersister>singletonMap( "Foobar", foobarCollectionPersister ) );
 
 		// service registry
-		ServiceRegistryImplementor serviceRegistry = getServiceRegistry( configFile );
+		ServiceRegistryImplementor serviceRegistry = getServiceRegistry( configFile, streamingBatchSize );
 		when( sessionFactory.getServiceRegistry() ).thenReturn( serviceRegistry );
 
 		return sessionFactory;
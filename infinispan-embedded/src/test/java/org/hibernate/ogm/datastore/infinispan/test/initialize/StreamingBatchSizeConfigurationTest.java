@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.initialize;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.configuration.impl.InfinispanConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test the validation of {@link InfinispanProperties#STREAMING_BATCH_SIZE}.
+ */
+public class StreamingBatchSizeConfigurationTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void testStreamingBatchSizeIsOptional() {
+		InfinispanConfiguration configuration = new InfinispanConfiguration();
+		configuration.initConfiguration( Collections.emptyMap() );
+
+		assertThat( configuration.getStreamingBatchSize() ).isNull();
+	}
+
+	@Test
+	public void testPositiveStreamingBatchSizeIsAccepted() {
+		InfinispanConfiguration configuration = new InfinispanConfiguration();
+		configuration.initConfiguration( Collections.singletonMap( InfinispanProperties.STREAMING_BATCH_SIZE, "1" ) );
+
+		assertThat( configuration.getStreamingBatchSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStreamingBatchSizeBelowOneIsRejected() {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001112" );
+
+		new InfinispanConfiguration().initConfiguration( Collections.singletonMap( InfinispanProperties.STREAMING_BATCH_SIZE, 0 ) );
+	}
+}
@@ -16,8 +16,12 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.ogm.datastore.infinispanremote.impl.HotRodWriteBatch;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteStoredProceduresManager;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
@@ -37,7 +41,9 @@
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.impl.AbstractGroupingByEntityDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -53,7 +59,6 @@
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.OperationContext;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
-import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
@@ -135,14 +140,48 @@ private static Tuple getTuple(InfinispanRemoteDatastoreProvider provider, Entity
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
-		return new VersionedTuple();
+		return new VersionedTuple( operationContext.getTupleTypeContext().getTupleColumns() );
+	}
+
+	/**
+	 * Collects the writes of all the queued operations and sends them grouped per cache when the queue is empty,
+	 * instead of executing them entity after entity.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			HotRodWriteBatch batch = new HotRodWriteBatch();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					executeGroupedChangesToEntity( (GroupedChangesToEntityOperation) operation, batch );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					removeTuple( ( (RemoveTupleOperation) operation ).getEntityKey(), batch );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+				}
+				operation = queue.poll();
+			}
+
+			batch.flush();
+			queue.clear();
+		}
 	}
 
 	@Override
 	protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation groupedOperation) {
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		executeGroupedChangesToEntity( groupedOperation, batch );
+		batch.flush();
+	}
+
+	private void executeGroupedChangesToEntity(GroupedChangesToEntityOperation groupedOperation, HotRodWriteBatch batch) {
 		final EntityKey entityKey = groupedOperation.getEntityKey();
 		final String cacheName = cacheName( entityKey );
-		final OwningEntity owningEntity = new OwningEntity( provider, entityKey );
+		final OwningEntity owningEntity = new OwningEntity( provider, entityKey, batch );
 
 		for ( Operation operation : groupedOperation.getOperations() ) {
 			if ( operation instanceof InsertOrUpdateTupleOperation ) {
@@ -151,7 +190,7 @@ protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation gro
 				owningEntity.applyOperations( tuple );
 			}
 			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
-				insertOrUpdateAssociation( (InsertOrUpdateAssociationOperation) operation );
+				insertOrUpdateAssociation( (InsertOrUpdateAssociationOperation) operation, batch );
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
 				log.debugf( "removeAssociation for key '%s' on cache '%s'", entityKey, cacheName );
@@ -198,6 +237,8 @@ private static class OwningEntity {
 
 		private final InfinispanRemoteDatastoreProvider provider;
 
+		private final HotRodWriteBatch batch;
+
 		// Keep track of the association to remove that are not contained in the entity
 		private final List<AssociationKey> associationsToRemove = new ArrayList<>();
 
@@ -209,15 +250,16 @@ private static class OwningEntity {
 		// If the entity already exists in the datastore or not
 		private SnapshotType operationType = SnapshotType.UPDATE;
 
-		public OwningEntity(InfinispanRemoteDatastoreProvider provider, EntityKey entityKey) {
+		public OwningEntity(InfinispanRemoteDatastoreProvider provider, EntityKey entityKey, HotRodWriteBatch batch) {
 			this.provider = provider;
 			this.ownerEntityKey = entityKey;
+			this.batch = batch;
 		}
 
 		public void flushOperations() {
 			if ( !associationsToRemove.isEmpty() ) {
 				for ( AssociationKey key : associationsToRemove ) {
-					removeAssociationFromBridgeTable( provider, key );
+					removeAssociationFromBridgeTable( provider, key, batch );
 				}
 			}
 
@@ -233,23 +275,11 @@ private void flushEntity() {
 			ProtostreamPayload valuePayload = mapper.createValuePayload( versionedTuple );
 
 			if ( operationType == SnapshotType.INSERT ) {
-				insertEntity( mapper, idBuffer, valuePayload );
+				// the batch checks that the entity does not exist yet
+				batch.insert( mapper, idBuffer, valuePayload, ownerEntityKey );
 			}
 			else {
-				updateEntity( mapper, idBuffer, valuePayload );
-			}
-		}
-
-		private void updateEntity(ProtoStreamMappingAdapter mapper, ProtostreamId idBuffer, ProtostreamPayload valuePayload) {
-			mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayload ) );
-		}
-
-		private void insertEntity(ProtoStreamMappingAdapter mapper, ProtostreamId idBuffer, ProtostreamPayload valuePayload) {
-			boolean optimisticLockError;
-			ProtostreamPayload result = mapper.withinCacheEncodingContext( c -> c.putIfAbsent( idBuffer, valuePayload ) );
-			optimisticLockError = null != result;
-			if ( optimisticLockError ) {
-				throw new TupleAlreadyExistsException( ownerEntityKey );
+				batch.put( mapper, idBuffer, valuePayload );
 			}
 		}
 
@@ -260,7 +290,7 @@ public void removeAssociation(RemoveAssociationOperation removeAssociationOperat
 			if ( associationStoredWithinEntityEntry( associationKey, associationContext ) ) {
 				// The entity contains the association
 				if ( owningEntity == null ) {
-					TuplePointer entityTuplePointer = getEmbeddingEntityTuplePointer( provider, associationKey, associationContext );
+					TuplePointer entityTuplePointer = getEmbeddingEntityTuplePointer( provider, associationKey, associationContext, batch );
 					// We are removing an association inside an entity so this should always be an update
 					entityTuplePointer.getTuple().setSnapshotType( SnapshotType.UPDATE );
 					applyOperations( entityTuplePointer.getTuple() );
@@ -300,22 +330,25 @@ private Map<String, Object> getEntityFromTuple(Map<String, Object> owningEntity,
 		}
 	}
 
-	private void insertOrUpdateAssociation(InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation) {
+	private void insertOrUpdateAssociation(InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation, HotRodWriteBatch batch) {
 		AssociationKey associationKey = insertOrUpdateAssociationOperation.getAssociationKey();
 		org.hibernate.ogm.model.spi.Association association = insertOrUpdateAssociationOperation.getAssociation();
 		AssociationContext associationContext = insertOrUpdateAssociationOperation.getContext();
 
 		if ( !associationStoredWithinEntityEntry( associationKey, associationContext ) ) {
-			insertOrUpdateAssociationMappedAsDedicatedEntries( associationKey, association, associationContext );
+			insertOrUpdateAssociationMappedAsDedicatedEntries( associationKey, association, batch );
 		}
 
 		association.reset();
 	}
 
-	private static TuplePointer getEmbeddingEntityTuplePointer(InfinispanRemoteDatastoreProvider provider, AssociationKey key, AssociationContext associationContext) {
+	private static TuplePointer getEmbeddingEntityTuplePointer(InfinispanRemoteDatastoreProvider provider, AssociationKey key, AssociationContext associationContext,
+			HotRodWriteBatch batch) {
 		TuplePointer tuplePointer = associationContext.getEntityTuplePointer();
 
 		if ( tuplePointer.getTuple() == null ) {
+			// the entity might have been written by the current batch
+			batch.flush();
 			tuplePointer.setTuple( getTuple( provider, key.getEntityKey() ) );
 		}
 
@@ -331,6 +364,14 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
 	}
 
+	private void removeTuple(EntityKey key, HotRodWriteBatch batch) {
+		final String cacheName = cacheName( key );
+		log.debugf( "removeTuple for key '%s' on cache '%s'", key, cacheName );
+		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
+		ProtostreamId idBuffer = mapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+		batch.remove( mapper, idBuffer );
+	}
+
 	private static String cacheName(EntityKey key) {
 		return key.getTable();
 	}
@@ -428,7 +469,7 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 		return new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
-	private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey key, Association association, AssociationContext associationContext) {
+	private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey key, Association association, HotRodWriteBatch batch) {
 		final String cacheName = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 		log.debugf( "insertOrUpdateAssociation for key '%s' on cache '%s', mapped as dedicated entries in ad-hoc table", key, cacheName );
@@ -439,11 +480,10 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 			ProtostreamId idBuffer = mapper.createIdPayload( rowKey.getColumnNames(), rowKey.getColumnValues() );
 			switch ( type ) {
 				case PUT:
-					ProtostreamPayload valuePayloadForPut = mapper.createValuePayload( ao.getValue() );
-					mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayloadForPut ) );
+					batch.put( mapper, idBuffer, mapper.createValuePayload( ao.getValue() ) );
 					break;
 				case REMOVE:
-					mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+					batch.remove( mapper, idBuffer );
 					break;
 				case CLEAR:
 					throw new AssertionFailure( "Request for CLEAR operation on an association mapped to dedicated entries. Makes no sense?" );
@@ -451,15 +491,17 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 		}
 	}
 
-	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key) {
+	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key, HotRodWriteBatch batch) {
 		final String bridgeTable = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( bridgeTable );
+		// the query must see the rows written by the current batch
+		batch.flush();
 		Map<RowKey, Map<String, Object>> rowsMap = loadRowKeysByQuery( provider, key );
 		for ( RowKey rowKey : rowsMap.keySet() ) {
 			String[] columnNames = rowKey.getColumnNames();
 			Object[] columnValues = rowKey.getColumnValues();
 			ProtostreamId idBuffer = mapper.createIdPayload( columnNames, columnValues );
-			mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+			batch.remove( mapper, idBuffer );
 		}
 	}
 
@@ -478,6 +520,7 @@ public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeConte
 		final String cacheName = cacheName( entityKeyMetadata );
 		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 
+		// The partitions hint is ignored: Hot Rod doesn't expose the segments of a cache, the whole cache is iterated at once
 		VersionedValue<ProtostreamPayload> v = mapper.withinCacheEncodingContext( c -> {
 			consumer.consume( new InfinispanRemoteTuplesSupplier( c, cacheName ) );
 			return null;
@@ -524,10 +567,7 @@ else if ( keys.length == 1 ) {
 				keyConversionMatch.put( ek, idBuffer );
 				convertedKeys.add( idBuffer );
 			}
-			final Map<ProtostreamId, ProtostreamPayload> loadedBulk = mapper.withinCacheEncodingContext( c -> {
-				//TODO getAll doesn't support versioned entries ?!
-				return c.getAll( convertedKeys );
-			} );
+			final Map<ProtostreamId, Tuple> loadedBulk = mapper.withinCacheEncodingContext( c -> loadTuples( c, convertedKeys ) );
 
 			final List<Tuple> results = new ArrayList<>( keys.length );
 			for ( int i = 0; i < keys.length; i++ ) {
@@ -537,17 +577,90 @@ else if ( keys.length == 1 ) {
 					continue;
 				}
 				ProtostreamId protostreamId = keyConversionMatch.get( originalKey );
-				ProtostreamPayload payload = loadedBulk.get( protostreamId );
-				if ( payload == null ) {
-					results.add( null );
-					continue;
-				}
-				results.add( payload.toTuple( SnapshotType.UNKNOWN ) );
+				results.add( loadedBulk.get( protostreamId ) );
 			}
 			return results;
 		}
 	}
 
+	private Map<ProtostreamId, Tuple> loadTuples(RemoteCache<ProtostreamId, ProtostreamPayload> cache, Set<ProtostreamId> ids) {
+		final Map<ProtostreamId, Tuple> loaded = new HashMap<>();
+		if ( !provider.isMultigetVersioned() ) {
+			// getAll doesn't return the versions of the entries
+			for ( Entry<ProtostreamId, ProtostreamPayload> entry : cache.getAll( ids ).entrySet() ) {
+				loaded.put( entry.getKey(), entry.getValue().toTuple( SnapshotType.UNKNOWN ) );
+			}
+		}
+		else {
+			Map<ProtostreamId, MetadataValue<ProtostreamPayload>> entries = provider.getMultigetExecutor() == null
+					? getAllWithMetadataAsync( cache, ids )
+					: getAllWithMetadata( cache, ids, provider.getMultigetExecutor() );
+			for ( Entry<ProtostreamId, MetadataValue<ProtostreamPayload>> entry : entries.entrySet() ) {
+				loaded.put( entry.getKey(), versionedTuple( entry.getValue().getValue(), entry.getValue().getVersion() ) );
+			}
+		}
+		return loaded;
+	}
+
+	private static VersionedTuple versionedTuple(ProtostreamPayload payload, long version) {
+		VersionedTuple versionedTuple = payload.toVersionedTuple( SnapshotType.UPDATE );
+		versionedTuple.setVersion( version );
+		return versionedTuple;
+	}
+
+	/**
+	 * Reads the given entries together with their versions, dispatching one read per entry to the given executor and
+	 * waiting for all of them: Hot Rod has no bulk operation returning the versions.
+	 */
+	private static Map<ProtostreamId, MetadataValue<ProtostreamPayload>> getAllWithMetadata(RemoteCache<ProtostreamId, ProtostreamPayload> cache,
+			Set<ProtostreamId> ids, ExecutorService multigetExecutor) {
+		final Map<ProtostreamId, Future<MetadataValue<ProtostreamPayload>>> pendingReads = new HashMap<>();
+		for ( ProtostreamId id : ids ) {
+			pendingReads.put( id, multigetExecutor.submit( () -> cache.getWithMetadata( id ) ) );
+		}
+		return join( pendingReads );
+	}
+
+	/**
+	 * Reads the given entries together with their versions, starting one asynchronous read per entry from the calling
+	 * thread and waiting for all of them: a transactional cache binds each read to the transaction of the thread
+	 * starting it, so the entries are read within the current transaction.
+	 */
+	private static Map<ProtostreamId, MetadataValue<ProtostreamPayload>> getAllWithMetadataAsync(RemoteCache<ProtostreamId, ProtostreamPayload> cache,
+			Set<ProtostreamId> ids) {
+		final Map<ProtostreamId, Future<MetadataValue<ProtostreamPayload>>> pendingReads = new HashMap<>();
+		for ( ProtostreamId id : ids ) {
+			pendingReads.put( id, cache.getWithMetadataAsync( id ) );
+		}
+		return join( pendingReads );
+	}
+
+	private static Map<ProtostreamId, MetadataValue<ProtostreamPayload>> join(Map<ProtostreamId, Future<MetadataValue<ProtostreamPayload>>> pendingReads) {
+		final Map<ProtostreamId, MetadataValue<ProtostreamPayload>> loaded = new HashMap<>();
+		RuntimeException failure = null;
+		for ( Entry<ProtostreamId, Future<MetadataValue<ProtostreamPayload>>> pendingRead : pendingReads.entrySet() ) {
+			try {
+				MetadataValue<ProtostreamPayload> v = pendingRead.getValue().get();
+				if ( v != null ) {
+					loaded.put( pendingRead.getKey(), v );
+				}
+			}
+			catch (ExecutionException e) {
+				if ( failure == null ) {
+					failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : log.unableToReadMultiget( e.getCause() );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw log.interruptedDuringMultiget( e );
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+		return loaded;
+	}
+
 	private static boolean associationStoredWithinEntityEntry(AssociationKey key, AssociationContext associationContext) {
 		final String cacheName = cacheName( key );
 		final String entityTableName = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getTable();
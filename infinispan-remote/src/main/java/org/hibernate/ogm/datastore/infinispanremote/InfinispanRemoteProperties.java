@@ -118,6 +118,34 @@ public final class InfinispanRemoteProperties implements KeyValueStoreProperties
 	 */
 	public static final String DEFAULT_TRANSACTION_MODE = TransactionMode.NON_DURABLE_XA.name();
 
+	/**
+	 * Whether the id sources defined with {@link javax.persistence.TableGenerator} use a strong counter of the server
+	 * instead of an entry of the sequences cache updated with optimistic locking. Counters scale much better when
+	 * several clients insert entities concurrently.
+	 * <p>
+	 * When a counter is defined for the first time, it starts from the value stored in the sequences cache, if any.
+	 * From then on the value in the cache is no longer updated: all the applications sharing the id sources must switch
+	 * at the same time, otherwise the ones still using the cache, for example during a rolling upgrade, hand out ids
+	 * already taken from the counter.
+	 * <p>
+	 * Accepts a boolean, defaults to {@code false}.
+	 */
+	public static final String TABLE_GENERATOR_COUNTERS = "hibernate.ogm.infinispan_remote.table_generator_counters";
+
+	/**
+	 * The maximum number of entries read concurrently when several entities are loaded at once, e.g. with batch
+	 * fetching. With a value greater than 1, each entry is read with its version on a dedicated thread pool of that
+	 * size, so that the loaded entities take part in the version checks like the ones loaded one by one. Otherwise the
+	 * entries are read with a single bulk operation, which does not return the versions.
+	 * <p>
+	 * The thread pool is only used when the {@link #TRANSACTION_MODE} is {@code NONE}: within a transaction the reads
+	 * must be started by the calling thread, so they are all started at once as asynchronous operations and awaited
+	 * together.
+	 * <p>
+	 * Accepts a positive integer, defaults to 1.
+	 */
+	public static final String MULTIGET_PARALLELISM = "hibernate.ogm.infinispan_remote.multiget_parallelism";
+
 	private InfinispanRemoteProperties() {
 	}
 
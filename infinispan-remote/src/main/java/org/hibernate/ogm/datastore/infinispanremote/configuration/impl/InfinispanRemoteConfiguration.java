@@ -119,6 +119,10 @@ public class InfinispanRemoteConfiguration {
 
 	private TransactionMode transactionMode;
 
+	private boolean tableGeneratorCounters;
+
+	private int multigetParallelism;
+
 	/**
 	 * The location of the configuration file.
 	 *
@@ -176,6 +180,18 @@ public TransactionMode getTransactionMode() {
 		return transactionMode;
 	}
 
+	public boolean isTableGeneratorCounters() {
+		return tableGeneratorCounters;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#MULTIGET_PARALLELISM
+	 * @return the maximum number of entries read concurrently by a multiget
+	 */
+	public int getMultigetParallelism() {
+		return multigetParallelism;
+	}
+
 	/**
 	 * Initialize the internal values from the given {@link Map}.
 	 *
@@ -236,6 +252,16 @@ public void initConfiguration(Map<?, ?> configurationMap, ServiceRegistryImpleme
 
 		this.transactionMode = extractTransactionMode( transactionModeString );
 
+		this.tableGeneratorCounters = propertyReader
+				.property( InfinispanRemoteProperties.TABLE_GENERATOR_COUNTERS, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		this.multigetParallelism = propertyReader
+				.property( InfinispanRemoteProperties.MULTIGET_PARALLELISM, int.class )
+				.withDefault( 1 )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan Hot Rod client from configuration file at '%1$s'", configurationResource );
 	}
 
@@ -0,0 +1,187 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Collects the writes of a flush and sends them to the remote caches all at once.
+ * <p>
+ * Plain writes to the same cache are sent with a single {@code putAll}, removals and inserts as asynchronous
+ * operations; the batch then waits for all of them so the whole flush costs one or two round trips per cache instead
+ * of one per entity. Only the last write of a given key is sent.
+ * <p>
+ * Inserts keep using {@code putIfAbsent} and are sent first: if any of the inserted entities already existed, a
+ * {@link TupleAlreadyExistsException} is raised on {@link #flush()} before the other writes are sent. The inserts of
+ * the entities that did not exist are applied nonetheless, like the ones executed before a failing insert without
+ * batching: they are only undone if the transaction is rolled back.
+ */
+public class HotRodWriteBatch {
+
+	/**
+	 * The pending writes, keyed by the mapper of the target cache (there is one mapper instance per cache)
+	 */
+	private final Map<ProtoStreamMappingAdapter, CacheWrites> writesPerCache = new LinkedHashMap<>();
+
+	/**
+	 * Writes the given value, regardless of the existing one.
+	 */
+	public void put(ProtoStreamMappingAdapter mapper, ProtostreamId id, ProtostreamPayload value) {
+		CacheWrites writes = writes( mapper );
+		writes.removes.remove( id );
+		PendingInsert insert = writes.inserts.get( id );
+		if ( insert != null ) {
+			writes.inserts.put( id, new PendingInsert( insert.entityKey, value ) );
+		}
+		else {
+			writes.puts.put( id, value );
+		}
+	}
+
+	/**
+	 * Writes the given value of a new entity, the batch will fail if an entry with the same id already exists.
+	 */
+	public void insert(ProtoStreamMappingAdapter mapper, ProtostreamId id, ProtostreamPayload value, EntityKey entityKey) {
+		CacheWrites writes = writes( mapper );
+		if ( writes.inserts.containsKey( id ) ) {
+			throw new TupleAlreadyExistsException( entityKey );
+		}
+		if ( writes.removes.remove( id ) || writes.puts.containsKey( id ) ) {
+			// The entry has been written or deleted by this batch already, the datastore state is not relevant
+			writes.puts.put( id, value );
+		}
+		else {
+			writes.inserts.put( id, new PendingInsert( entityKey, value ) );
+		}
+	}
+
+	public void remove(ProtoStreamMappingAdapter mapper, ProtostreamId id) {
+		CacheWrites writes = writes( mapper );
+		writes.puts.remove( id );
+		writes.inserts.remove( id );
+		writes.removes.add( id );
+	}
+
+	public boolean isEmpty() {
+		return writesPerCache.isEmpty();
+	}
+
+	/**
+	 * Sends all the pending writes and waits for their completion.
+	 *
+	 * @throws TupleAlreadyExistsException if one of the inserted entities already existed, the other writes are not sent
+	 */
+	public void flush() {
+		if ( writesPerCache.isEmpty() ) {
+			return;
+		}
+
+		Map<EntityKey, CompletableFuture<ProtostreamPayload>> inserts = new LinkedHashMap<>();
+		for ( CacheWrites cacheWrites : writesPerCache.values() ) {
+			if ( !cacheWrites.inserts.isEmpty() ) {
+				cacheWrites.mapper.withinCacheEncodingContext( c -> {
+					for ( Map.Entry<ProtostreamId, PendingInsert> insert : cacheWrites.inserts.entrySet() ) {
+						inserts.put( insert.getValue().entityKey, c.putIfAbsentAsync( insert.getKey(), insert.getValue().value ) );
+					}
+					return null;
+				} );
+			}
+		}
+		try {
+			checkInserts( inserts );
+		}
+		catch (RuntimeException e) {
+			writesPerCache.clear();
+			throw e;
+		}
+
+		List<CompletableFuture<?>> pending = new ArrayList<>();
+		for ( CacheWrites cacheWrites : writesPerCache.values() ) {
+			cacheWrites.mapper.withinCacheEncodingContext( c -> {
+				if ( !cacheWrites.puts.isEmpty() ) {
+					pending.add( c.putAllAsync( cacheWrites.puts ) );
+				}
+				for ( ProtostreamId id : cacheWrites.removes ) {
+					pending.add( c.removeAsync( id ) );
+				}
+				return null;
+			} );
+		}
+		writesPerCache.clear();
+
+		for ( CompletableFuture<?> write : pending ) {
+			join( write );
+		}
+	}
+
+	/**
+	 * Waits for all the inserts, then raises a {@link TupleAlreadyExistsException} for the first entity that existed.
+	 */
+	private static void checkInserts(Map<EntityKey, CompletableFuture<ProtostreamPayload>> inserts) {
+		EntityKey existing = null;
+		for ( Map.Entry<EntityKey, CompletableFuture<ProtostreamPayload>> insert : inserts.entrySet() ) {
+			if ( join( insert.getValue() ) != null && existing == null ) {
+				existing = insert.getKey();
+			}
+		}
+		if ( existing != null ) {
+			throw new TupleAlreadyExistsException( existing );
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private CacheWrites writes(ProtoStreamMappingAdapter mapper) {
+		return writesPerCache.computeIfAbsent( mapper, CacheWrites::new );
+	}
+
+	private static class CacheWrites {
+
+		private final ProtoStreamMappingAdapter mapper;
+		private final Map<ProtostreamId, ProtostreamPayload> puts = new HashMap<>();
+		private final Map<ProtostreamId, PendingInsert> inserts = new LinkedHashMap<>();
+		private final Set<ProtostreamId> removes = new HashSet<>();
+
+		private CacheWrites(ProtoStreamMappingAdapter mapper) {
+			this.mapper = mapper;
+		}
+	}
+
+	private static class PendingInsert {
+
+		private final EntityKey entityKey;
+		private final ProtostreamPayload value;
+
+		private PendingInsert(EntityKey entityKey, ProtostreamPayload value) {
+			this.entityKey = entityKey;
+			this.value = value;
+		}
+	}
+}
@@ -12,10 +12,12 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteDialect;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
 import org.hibernate.ogm.datastore.infinispanremote.configuration.impl.InfinispanRemoteConfiguration;
 import org.hibernate.ogm.datastore.infinispanremote.impl.cachehandler.HotRodCacheCreationHandler;
 import org.hibernate.ogm.datastore.infinispanremote.impl.cachehandler.HotRodCacheHandler;
@@ -37,6 +39,7 @@
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.util.impl.EffectivelyFinal;
+import org.hibernate.ogm.util.impl.Executors;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -121,6 +124,14 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private TransactionMode transactionMode;
 
+	@EffectivelyFinal
+	private boolean tableGeneratorCounters;
+
+	@EffectivelyFinal
+	private int multigetParallelism;
+
+	private ExecutorService multigetExecutor;
+
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
 		return InfinispanRemoteDialect.class;
@@ -136,10 +147,24 @@ public void start() {
 		// When https://issues.jboss.org/browse/ISPN-8020 is closed, we could remove it and reuse the common hotrodClient.
 		scriptManager = HotRodClientBuilder.builder().withConfiguration( config, new GenericJBossMarshaller() ).build();
 		config = null; //no longer needed
+
+		if ( multigetParallelism > 1 ) {
+			// Reads dispatched to other threads would not be part of the current transaction
+			if ( TransactionMode.NONE.equals( transactionMode ) ) {
+				multigetExecutor = Executors.newFixedThreadPool( multigetParallelism, "Hot Rod multiget" );
+			}
+			else {
+				log.multigetReadAsynchronously( InfinispanRemoteProperties.MULTIGET_PARALLELISM, transactionMode );
+			}
+		}
 	}
 
 	@Override
 	public void stop() {
+		if ( multigetExecutor != null ) {
+			multigetExecutor.shutdownNow();
+			multigetExecutor = null;
+		}
 		hotrodClient.stop();
 	}
 
@@ -155,6 +180,8 @@ public void configure(Map configurationValues) {
 		this.createCachesEnabled = config.isCreateCachesEnabled();
 		this.cacheConfiguration = config.getCacheConfiguration();
 		this.transactionMode = config.getTransactionMode();
+		this.tableGeneratorCounters = config.isTableGeneratorCounters();
+		this.multigetParallelism = config.getMultigetParallelism();
 	}
 
 	@Override
@@ -179,7 +206,7 @@ public void registerSchemaDefinitions(SchemaDefinitions sd, Set<Sequence> sequen
 
 		this.cacheHandler = createCacheHandler( sd );
 
-		this.sequences = new HotRodSequenceCounterHandler( this, marshaller, sd.getSequenceDefinitions(), sequences );
+		this.sequences = new HotRodSequenceCounterHandler( this, marshaller, sd.getSequenceDefinitions(), sequences, tableGeneratorCounters );
 		for ( SequenceTableDefinition std : sd.getSequenceDefinitions().values() ) {
 			ProtostreamSerializerSetup.registerSequenceMarshaller( std, marshaller );
 		}
@@ -253,6 +280,24 @@ public ProtostreamAssociationMappingAdapter getCollectionsDataMapper(String cach
 		return perCacheSchemaMappers.get( cacheName );
 	}
 
+	/**
+	 * @see InfinispanRemoteProperties#MULTIGET_PARALLELISM
+	 * @return {@code true} if the entries of a multiget are read together with their versions, {@code false} if they
+	 * are read with a single bulk operation
+	 */
+	public boolean isMultigetVersioned() {
+		return multigetParallelism > 1;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#MULTIGET_PARALLELISM
+	 * @return the executor reading the entries of a multiget concurrently, {@code null} if they are read with
+	 * asynchronous operations started by the calling thread
+	 */
+	public ExecutorService getMultigetExecutor() {
+		return multigetExecutor;
+	}
+
 	public HotRodSequenceHandler getSequenceHandler() {
 		return this.sequences;
 	}
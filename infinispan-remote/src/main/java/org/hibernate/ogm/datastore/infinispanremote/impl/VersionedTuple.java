@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.impl;
 
+import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleColumns;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 
 public final class VersionedTuple extends Tuple {
@@ -20,6 +22,10 @@ public VersionedTuple(TupleSnapshot snapshot, SnapshotType snapshotType) {
 		super( snapshot, snapshotType );
 	}
 
+	public VersionedTuple(TupleColumns columns) {
+		super( EmptyTupleSnapshot.INSTANCE, SnapshotType.INSERT, columns );
+	}
+
 	public long getVersion() {
 		return version;
 	}
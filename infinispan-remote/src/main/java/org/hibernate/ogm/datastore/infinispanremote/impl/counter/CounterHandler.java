@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.infinispanremote.impl.counter;
 
 import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.Sequence;
@@ -22,7 +23,10 @@
 
 /**
  * Handle a single {@link StrongCounter} to implement id source
- * defined with {@link javax.persistence.SequenceGenerator}.
+ * defined with {@link javax.persistence.SequenceGenerator}
+ * or, optionally, with {@link javax.persistence.TableGenerator}.
+ *
+ * Each call reserves a block of values of the size of the increment.
  *
  * Constructor is not thread safe. Initialization phase is performed by a single thread.
  * {@link CounterHandler#nextValue(NextValueRequest)} is thread safe,
@@ -36,11 +40,20 @@ public class CounterHandler {
 	private final StrongCounter counter;
 
 	public CounterHandler(RemoteCacheManager cacheManager, Sequence sequence) {
+		this( cacheManager, sequence.getExportIdentifier(), sequence::getInitialValue );
+	}
+
+	/**
+	 * @param cacheManager the cache manager
+	 * @param counterName the name of the counter
+	 * @param initialValue supplies the first value if the counter is not defined yet
+	 */
+	public CounterHandler(RemoteCacheManager cacheManager, String counterName, LongSupplier initialValue) {
 		CounterManager counterManager = RemoteCounterManagerFactory.asCounterManager( cacheManager );
-		counterName = sequence.getExportIdentifier();
+		this.counterName = counterName;
 
 		if ( !counterManager.isDefined( counterName ) ) {
-			defineCounter( counterManager, counterName, sequence.getInitialValue() );
+			defineCounter( counterManager, counterName, initialValue.getAsLong() );
 		}
 		counter = counterManager.getStrongCounter( counterName );
 	}
@@ -59,7 +72,7 @@ public String getCounterName() {
 		return counterName;
 	}
 
-	private void defineCounter(CounterManager counterManager, String counterName, int initialValue) {
+	private void defineCounter(CounterManager counterManager, String counterName, long initialValue) {
 		counterManager.defineCounter(
 				counterName,
 				CounterConfiguration.builder(
@@ -27,6 +27,8 @@
  * Delegating to base class {@link HotRodSequenceHandler}
  * for the id source defined with {@link javax.persistence.TableGenerator}.
  *
+ * @see org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#TABLE_GENERATOR_COUNTERS
+ *
  * @author Fabio Massimo Ercoli
  */
 public class HotRodSequenceCounterHandler extends HotRodSequenceHandler {
@@ -36,8 +38,9 @@ public class HotRodSequenceCounterHandler extends HotRodSequenceHandler {
 	public HotRodSequenceCounterHandler(InfinispanRemoteDatastoreProvider owner,
 			OgmProtoStreamMarshaller marshaller,
 			Map<String, SequenceTableDefinition> idSchemaPerName,
-			Set<Sequence> sequences) {
-		super( owner, marshaller, idSchemaPerName );
+			Set<Sequence> sequences,
+			boolean tableGeneratorCounters) {
+		super( owner, marshaller, idSchemaPerName, tableGeneratorCounters );
 		for ( Sequence sequence : sequences ) {
 			CounterHandler handler = new CounterHandler( owner.getManager(), sequence );
 			sequenceHandlers.put( handler.getCounterName(), handler );
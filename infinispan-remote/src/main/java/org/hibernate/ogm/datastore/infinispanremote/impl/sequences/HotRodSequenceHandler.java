@@ -30,6 +30,9 @@
  * The org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteDialect#supportsSequences
  * method returns 'false' so that we don't need a new Cache for each single sequence.
  *
+ * Optionally, the values can be generated by a strong counter of the server instead, named after the cache and the
+ * sequence; see {@link SequencesPerCache}.
+ *
  * See https://github.com/infinispan/infinispan/blob/master/client/hotrod-client/src/test/java/org/infinispan/client/hotrod/ReplaceWithVersionConcurrencyTest.java
  *
  * @see org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType
@@ -43,14 +46,24 @@ public class HotRodSequenceHandler {
 	private final ConcurrentMap<String,SequencesPerCache> sequencesPerCache = new ConcurrentHashMap<>();
 	private final Map<String, SequenceTableDefinition> idSchemaPerName;
 	private final OgmProtoStreamMarshaller marshaller;
+	private final boolean useCounters;
 
 	public HotRodSequenceHandler(
 			InfinispanRemoteDatastoreProvider infinispanRemoteDatastoreProvider,
 			OgmProtoStreamMarshaller marshaller,
 			Map<String, SequenceTableDefinition> idSchemaPerName) {
+		this( infinispanRemoteDatastoreProvider, marshaller, idSchemaPerName, false );
+	}
+
+	public HotRodSequenceHandler(
+			InfinispanRemoteDatastoreProvider infinispanRemoteDatastoreProvider,
+			OgmProtoStreamMarshaller marshaller,
+			Map<String, SequenceTableDefinition> idSchemaPerName,
+			boolean useCounters) {
 		this.provider = infinispanRemoteDatastoreProvider;
 		this.idSchemaPerName = idSchemaPerName;
 		this.marshaller = marshaller;
+		this.useCounters = useCounters;
 	}
 
 	public Number getSequenceValue(NextValueRequest request) {
@@ -60,7 +73,7 @@ public Number getSequenceValue(NextValueRequest request) {
 			if ( sequenceTableDefinition == null ) {
 				throw log.valueRequestedForUnknownSequence( request.getKey().getTable(), request.getKey().getColumnValue() );
 			}
-			return new SequencesPerCache( provider.getCache( cacheName ) );
+			return new SequencesPerCache( provider.getCache( cacheName ), useCounters ? provider.getManager() : null );
 		}
 		);
 		return sequencesSet.getSequenceValue( request );
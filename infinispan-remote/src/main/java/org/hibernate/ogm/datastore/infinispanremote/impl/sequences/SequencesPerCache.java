@@ -10,24 +10,55 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.hibernate.ogm.datastore.infinispanremote.impl.counter.CounterHandler;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
 
 public class SequencesPerCache {
 
 	private final RemoteCache<SequenceId, Long> remoteCache;
+	private final RemoteCacheManager counterManager;
 	private final ConcurrentMap<IdSourceKey,HotRodSequencer> sequencers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<IdSourceKey,CounterHandler> counters = new ConcurrentHashMap<>();
 
-	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache) {
+	/**
+	 * @param remoteCache the cache containing the sequences
+	 * @param counterManager the cache manager used to access the counters backing the sequences, {@code null} to
+	 * store the values of the sequences in the cache
+	 */
+	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache, RemoteCacheManager counterManager) {
 		this.remoteCache = Objects.requireNonNull( remoteCache );
+		this.counterManager = counterManager;
 	}
 
 	public Number getSequenceValue(NextValueRequest request) {
 		IdSourceKey key = request.getKey();
+		if ( counterManager != null ) {
+			CounterHandler counter = counters.computeIfAbsent( key, v ->
+				new CounterHandler( counterManager, counterName( key ), () -> initialCounterValue( request ) )
+			);
+			return counter.nextValue( request );
+		}
 		HotRodSequencer sequencer = sequencers.computeIfAbsent( key, v ->
 			new HotRodSequencer( remoteCache, request )
 		);
 		return sequencer.getSequenceValue( request );
 	}
+
+	private static String counterName(IdSourceKey key) {
+		return key.getMetadata().getName() + "." + key.getColumnValue();
+	}
+
+	/*
+	 * The cache contains the last value returned by the sequence, if it has been used before the counter was defined.
+	 */
+	private long initialCounterValue(NextValueRequest request) {
+		Long lastValue = remoteCache.get( new SequenceId( request.getKey().getColumnValue() ) );
+		if ( lastValue == null ) {
+			return request.getInitialValue();
+		}
+		return lastValue + request.getIncrement();
+	}
 }
@@ -14,6 +14,7 @@
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.infinispan.client.hotrod.configuration.TransactionMode;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.FormatWith;
 import org.jboss.logging.annotations.LogMessage;
@@ -104,4 +105,14 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1725, value = "Provided ProtoBuf schema has an invalid cache definition: %s")
 	HibernateException providedSchemaHasAnInvalidCacheDefinition(String tableName);
+
+	@Message(id = 1726, value = "Property <%s> is set but the transaction mode is <%s>: the entries of a multiget are read with asynchronous operations started by the calling thread instead of a thread pool")
+	@LogMessage(level = INFO)
+	void multigetReadAsynchronously(String property, TransactionMode transactionMode);
+
+	@Message(id = 1727, value = "This thread was interrupted while waiting for the entries of a multiget")
+	HibernateException interruptedDuringMultiget(@Cause InterruptedException e);
+
+	@Message(id = 1728, value = "Unable to read the entries of a multiget")
+	HibernateException unableToReadMultiget(@Cause Throwable e);
 }
@@ -0,0 +1,176 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.CacheOperation;
+import org.hibernate.ogm.datastore.infinispanremote.impl.HotRodWriteBatch;
+import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Test that the writes of a flush are sent to the remote caches with as few operations as possible.
+ */
+public class HotRodWriteBatchTest {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "BoardGame", new String[] { "id" } );
+
+	private RemoteCache<ProtostreamId, ProtostreamPayload> games;
+	private ProtoStreamMappingAdapter gamesMapper;
+
+	private RemoteCache<ProtostreamId, ProtostreamPayload> players;
+	private ProtoStreamMappingAdapter playersMapper;
+
+	@Before
+	public void setUp() {
+		games = cache();
+		gamesMapper = mapper( games );
+		players = cache();
+		playersMapper = mapper( players );
+	}
+
+	@Test
+	public void testMixedWritesAreSentWithOneOperationPerKind() {
+		ProtostreamPayload dominion = payload( "Dominion" );
+
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		batch.insert( gamesMapper, id( 1 ), dominion, key( 1 ) );
+		batch.put( gamesMapper, id( 2 ), payload( "King of Tokyo" ) );
+		batch.put( gamesMapper, id( 3 ), payload( "Carcassonne" ) );
+		batch.remove( gamesMapper, id( 4 ) );
+		batch.put( playersMapper, id( 5 ), payload( "Emmanuel" ) );
+		batch.flush();
+
+		assertThat( batch.isEmpty() ).isTrue();
+
+		ArgumentCaptor<Map> gamePuts = ArgumentCaptor.forClass( Map.class );
+		verify( games ).putAllAsync( gamePuts.capture() );
+		assertThat( gamePuts.getValue().keySet() ).containsOnly( id( 2 ), id( 3 ) );
+		verify( games ).putIfAbsentAsync( id( 1 ), dominion );
+		verify( games ).removeAsync( id( 4 ) );
+		verifyNoMoreInteractions( games );
+
+		ArgumentCaptor<Map> playerPuts = ArgumentCaptor.forClass( Map.class );
+		verify( players ).putAllAsync( playerPuts.capture() );
+		assertThat( playerPuts.getValue().keySet() ).containsOnly( id( 5 ) );
+		verifyNoMoreInteractions( players );
+	}
+
+	@Test
+	public void testOnlyTheLastWriteOfAKeyIsSent() {
+		ProtostreamPayload intrigue = payload( "Dominion: Intrigue" );
+		ProtostreamPayload carcassonne = payload( "Carcassonne" );
+
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		batch.insert( gamesMapper, id( 1 ), payload( "Dominion" ), key( 1 ) );
+		batch.put( gamesMapper, id( 1 ), intrigue );
+		batch.put( gamesMapper, id( 2 ), payload( "King of Tokyo" ) );
+		batch.remove( gamesMapper, id( 2 ) );
+		batch.remove( gamesMapper, id( 3 ) );
+		batch.insert( gamesMapper, id( 3 ), carcassonne, key( 3 ) );
+		batch.flush();
+
+		verify( games ).putIfAbsentAsync( id( 1 ), intrigue );
+		verify( games ).removeAsync( id( 2 ) );
+		ArgumentCaptor<Map> puts = ArgumentCaptor.forClass( Map.class );
+		verify( games ).putAllAsync( puts.capture() );
+		assertThat( puts.getValue() ).isEqualTo( Collections.singletonMap( id( 3 ), carcassonne ) );
+		verifyNoMoreInteractions( games );
+	}
+
+	@Test
+	public void testInsertOfAnExistingEntryFails() {
+		ProtostreamPayload kingOfTokyo = payload( "King of Tokyo" );
+		when( games.putIfAbsentAsync( id( 2 ), kingOfTokyo ) ).thenReturn( CompletableFuture.completedFuture( payload( "King of Tokyo" ) ) );
+
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		batch.insert( gamesMapper, id( 1 ), payload( "Dominion" ), key( 1 ) );
+		batch.insert( gamesMapper, id( 2 ), kingOfTokyo, key( 2 ) );
+		batch.put( gamesMapper, id( 3 ), payload( "Carcassonne" ) );
+		try {
+			batch.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (TupleAlreadyExistsException e) {
+			assertThat( e.getEntityKey() ).isEqualTo( key( 2 ) );
+		}
+
+		// The inserts are all sent, the other writes are not sent once an insert failed
+		verify( games, times( 2 ) ).putIfAbsentAsync( any( ProtostreamId.class ), any( ProtostreamPayload.class ) );
+		verify( games, never() ).putAllAsync( anyMap() );
+		assertThat( batch.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testInsertOfTheSameEntryTwiceFails() {
+		HotRodWriteBatch batch = new HotRodWriteBatch();
+		batch.insert( gamesMapper, id( 1 ), payload( "Dominion" ), key( 1 ) );
+		try {
+			batch.insert( gamesMapper, id( 1 ), payload( "Dominion" ), key( 1 ) );
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (TupleAlreadyExistsException e) {
+			assertThat( e.getEntityKey() ).isEqualTo( key( 1 ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RemoteCache<ProtostreamId, ProtostreamPayload> cache() {
+		RemoteCache<ProtostreamId, ProtostreamPayload> cache = mock( RemoteCache.class );
+		when( cache.putAllAsync( anyMap() ) ).thenReturn( CompletableFuture.<Void>completedFuture( null ) );
+		when( cache.putIfAbsentAsync( any( ProtostreamId.class ), any( ProtostreamPayload.class ) ) )
+				.thenReturn( CompletableFuture.<ProtostreamPayload>completedFuture( null ) );
+		when( cache.removeAsync( any( ProtostreamId.class ) ) ).thenReturn( CompletableFuture.<ProtostreamPayload>completedFuture( null ) );
+		return cache;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ProtoStreamMappingAdapter mapper(RemoteCache<ProtostreamId, ProtostreamPayload> cache) {
+		ProtoStreamMappingAdapter mapper = mock( ProtoStreamMappingAdapter.class );
+		when( mapper.withinCacheEncodingContext( any( CacheOperation.class ) ) )
+				.thenAnswer( invocation -> ( (CacheOperation<?>) invocation.getArguments()[0] ).doOnCache( cache ) );
+		return mapper;
+	}
+
+	private static ProtostreamId id(int id) {
+		return new ProtostreamId( METADATA.getColumnNames(), new Object[] { id }, "BoardGame_id" );
+	}
+
+	private static EntityKey key(int id) {
+		return new EntityKey( METADATA, new Object[] { id } );
+	}
+
+	private static ProtostreamPayload payload(String name) {
+		Tuple tuple = new Tuple();
+		tuple.put( "name", name );
+		return new ProtostreamPayload( tuple, "BoardGame" );
+	}
+}
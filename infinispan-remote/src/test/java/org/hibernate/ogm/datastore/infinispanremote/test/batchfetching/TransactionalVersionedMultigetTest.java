@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.batchfetching;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+
+/**
+ * Test that the entries of a multiget come with their versions when they are read within a transaction, with
+ * asynchronous reads started by the calling thread.
+ *
+ * @see InfinispanRemoteProperties#MULTIGET_PARALLELISM
+ */
+public class TransactionalVersionedMultigetTest extends VersionedMultigetTest {
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( InfinispanRemoteProperties.MULTIGET_PARALLELISM, 4 );
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.batchfetching;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.batchfetching.MultiGetSingleColumnIdTest.BoardGame;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedTuple;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test that the entries read concurrently by a multiget come with their versions.
+ *
+ * @see InfinispanRemoteProperties#MULTIGET_PARALLELISM
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class VersionedMultigetTest extends OgmTestCase {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "BoardGame", new String[] { "id" } );
+
+	private static final BoardGame DOMINION = new BoardGame( 1, "Dominion" );
+	private static final BoardGame KING_OF_TOKYO = new BoardGame( 2, "King of Tokyo" );
+
+	@Test
+	public void testGetTuplesReturnsVersions() {
+		try ( OgmSession session = openSession() ) {
+			session.beginTransaction();
+			MultigetGridDialect dialect = getSessionFactory().getServiceRegistry().getService( MultigetGridDialect.class );
+
+			EntityKey[] keys = new EntityKey[] { key( KING_OF_TOKYO ), key( -666 ), key( DOMINION ) };
+			List<Tuple> tuples = dialect.getTuples( keys, tupleContext( session ) );
+
+			assertThat( tuples.get( 1 ) ).isNull();
+			assertVersioned( tuples.get( 0 ), KING_OF_TOKYO );
+			assertVersioned( tuples.get( 2 ), DOMINION );
+			session.getTransaction().commit();
+		}
+	}
+
+	private void assertVersioned(Tuple tuple, BoardGame boardGame) {
+		assertThat( tuple ).isInstanceOf( VersionedTuple.class );
+		assertThat( tuple.getSnapshotType() ).isEqualTo( SnapshotType.UPDATE );
+		assertThat( ( (VersionedTuple) tuple ).getVersion() ).isNotEqualTo( 0L );
+		assertThat( tuple.get( "name" ) ).isEqualTo( boardGame.getName() );
+	}
+
+	private TupleContext tupleContext(OgmSession session) {
+		return new GridDialectOperationContexts.TupleContextBuilder()
+				.tupleTypeContext(
+						new GridDialectOperationContexts.TupleTypeContextBuilder()
+								.selectableColumns( "name" )
+								.buildTupleTypeContext() )
+				.transactionContext( session )
+				.buildTupleContext();
+	}
+
+	private EntityKey key(BoardGame boardGame) {
+		return key( boardGame.getId() );
+	}
+
+	private EntityKey key(Integer id) {
+		return new EntityKey( METADATA, new Object[] { id } );
+	}
+
+	@Before
+	public void prepareDataset() {
+		inTransaction( session -> {
+			session.persist( DOMINION );
+			session.persist( KING_OF_TOKYO );
+		} );
+	}
+
+	@After
+	public void deleteDataset() {
+		inTransaction( session -> {
+			session.delete( session.load( BoardGame.class, DOMINION.getId() ) );
+			session.delete( session.load( BoardGame.class, KING_OF_TOKYO.getId() ) );
+		} );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( InfinispanRemoteProperties.TRANSACTION_MODE, "NONE" );
+		settings.put( InfinispanRemoteProperties.MULTIGET_PARALLELISM, 4 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { BoardGame.class };
+	}
+}
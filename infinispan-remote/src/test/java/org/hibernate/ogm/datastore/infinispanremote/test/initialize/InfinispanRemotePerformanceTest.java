@@ -28,21 +28,21 @@ public class InfinispanRemotePerformanceTest extends OgmTestCase {
 
 	@Test
 	@BMRules(rules = {
-			@BMRule(targetClass = "org.infinispan.commons.api.BasicCache",
+			@BMRule(targetClass = "org.infinispan.commons.api.AsyncCache",
 					isInterface = true,
-					targetMethod = "put(Object, Object)",
+					targetMethod = "putAllAsync(Map)",
 					helper = "org.hibernate.ogm.utils.BytemanHelper",
-					action = "countInvocation(\"put\")",
+					action = "countInvocation(\"putAll\")",
 					name = "update"),
-			@BMRule(targetClass = "org.infinispan.commons.api.BasicCache",
+			@BMRule(targetClass = "org.infinispan.commons.api.AsyncCache",
 					isInterface = true,
-					targetMethod = "putIfAbsent(Object, Object)",
+					targetMethod = "putIfAbsentAsync(Object, Object)",
 					helper = "org.hibernate.ogm.utils.BytemanHelper",
 					action = "countInvocation(\"putIfAbsent\")",
 					name = "insert"),
-			@BMRule(targetClass = "org.infinispan.client.hotrod.impl.RemoteCacheImpl",
-					isInterface = false,
-					targetMethod = "remove(Object)",
+			@BMRule(targetClass = "org.infinispan.commons.api.AsyncCache",
+					isInterface = true,
+					targetMethod = "removeAsync(Object)",
 					helper = "org.hibernate.ogm.utils.BytemanHelper",
 					action = "countInvocation(\"remove\")",
 					name = "remove"),
@@ -77,9 +77,9 @@ public void testNumberOfCallsToDatastore() throws Exception {
 		int storeEntityInvocationCount = BytemanHelper.getAndResetInvocationCount( "putIfAbsent" );
 		assertThat( storeEntityInvocationCount ).isEqualTo( 1 );
 
-		// Insert embeddeds
-		int putInvocationCount = BytemanHelper.getAndResetInvocationCount( "put" );
-		assertThat( putInvocationCount ).isEqualTo( 2 );
+		// Insert both embeddeds with a single bulk write
+		int putInvocationCount = BytemanHelper.getAndResetInvocationCount( "putAll" );
+		assertThat( putInvocationCount ).isEqualTo( 1 );
 
 		// Nothing to remove so far
 		int removeInvocationCount = BytemanHelper.getAndResetInvocationCount( "remove" );
@@ -103,7 +103,7 @@ public void testNumberOfCallsToDatastore() throws Exception {
 		assertThat( storeEntityInvocationCount ).isEqualTo( 0 );
 
 		// Update the index of remaining element
-		putInvocationCount = BytemanHelper.getAndResetInvocationCount( "put" );
+		putInvocationCount = BytemanHelper.getAndResetInvocationCount( "putAll" );
 		assertThat( putInvocationCount ).isEqualTo( 1 );
 
 		// Remove the element
@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.sequences;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispanremote.test.protobuf.EntityWithTableGenerator;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteTestHelper;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.infinispan.client.hotrod.RemoteCounterManagerFactory;
+import org.infinispan.counter.api.CounterManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the generation of the ids of a {@link javax.persistence.TableGenerator} with a strong counter.
+ *
+ * @see InfinispanRemoteProperties#TABLE_GENERATOR_COUNTERS
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class TableGeneratorCountersTest extends OgmTestCase {
+
+	private static final int ENTITIES = 10;
+
+	@Test
+	public void testIdsAreGeneratedByCounter() {
+		Set<Serializable> ids = new HashSet<>();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			inTransaction( session -> {
+				EntityWithTableGenerator entity = new EntityWithTableGenerator();
+				session.persist( entity );
+				ids.add( session.getIdentifier( entity ) );
+			} );
+		}
+		assertThat( ids ).hasSize( ENTITIES );
+
+		InfinispanRemoteDatastoreProvider provider = InfinispanRemoteTestHelper.getProvider( sessionFactory );
+		CounterManager counterManager = RemoteCounterManagerFactory.asCounterManager( provider.getManager() );
+		assertThat( counterManager.isDefined( "hibernate_sequences.tableCounter" ) ).isTrue();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( InfinispanRemoteProperties.TABLE_GENERATOR_COUNTERS, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { EntityWithTableGenerator.class };
+	}
+}
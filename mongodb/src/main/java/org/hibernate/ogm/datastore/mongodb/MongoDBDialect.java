@@ -25,6 +25,9 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -97,6 +100,7 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -120,9 +124,11 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 import org.hibernate.ogm.type.impl.ByteStringType;
@@ -164,13 +170,17 @@
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -203,7 +213,7 @@
  * @author Aleksandr Mylnikov
  */
 public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect,
-		StoredProcedureAwareGridDialect {
+		StoredProcedureAwareGridDialect, SnapshotCopyingGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -288,11 +298,11 @@ private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects
 
 	private static Tuple createTuple(EntityKey key, OperationContext operationContext, Document found) {
 		if ( found != null ) {
-			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata() ), SnapshotType.UPDATE );
+			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata() ), SnapshotType.UPDATE, operationContext.getTupleTypeContext().getTupleColumns() );
 		}
 		else if ( isInTheInsertionQueue( key, operationContext ) ) {
 			// The key has not been inserted in the db but it is in the queue
-			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata() ), SnapshotType.INSERT );
+			return new Tuple( new MongoDBTupleSnapshot( prepareIdObject( key ), key.getMetadata() ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 		}
 		else {
 			return null;
@@ -301,13 +311,13 @@ else if ( isInTheInsertionQueue( key, operationContext ) ) {
 
 	@Override
 	public Tuple createTuple(EntityKeyMetadata entityKeyMetadata, OperationContext operationContext) {
-		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata ), SnapshotType.INSERT );
+		return new Tuple( new MongoDBTupleSnapshot( new Document(), entityKeyMetadata ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
-	public Tuple createTuple(EntityKey key, OperationContext OperationContext) {
+	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		Document toSave = prepareIdObject( key );
-		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata() ), SnapshotType.INSERT );
+		return new Tuple( new MongoDBTupleSnapshot( toSave, key.getMetadata() ), SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	/**
@@ -814,6 +824,15 @@ public Number nextValue(NextValueRequest request) {
 
 		Document sequenceId = prepareIdObject( request.getKey() );
 
+		Document incrementUpdate = new Document();
+		addSubQuery( "$inc", incrementUpdate, valueColumnName, request.getIncrement() );
+
+		// Once the sequence exists, reserving the next block of values is a single atomic round trip
+		Document beforeUpdateDoc = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate );
+		if ( beforeUpdateDoc != null ) {
+			return (Number) beforeUpdateDoc.get( valueColumnName );
+		}
+
 		Document setInitialValueOnInsert = new Document();
 		addSubQuery( "$setOnInsert", setInitialValueOnInsert, valueColumnName, request.getInitialValue() + request.getIncrement() );
 
@@ -821,21 +840,25 @@ public Number nextValue(NextValueRequest request) {
 		FindOneAndUpdateOptions enableUpsert = new FindOneAndUpdateOptions().upsert( true );
 		Document originalDocument = sequenceCollection.findOneAndUpdate( sequenceId, setInitialValueOnInsert, enableUpsert );
 
-		Object nextValue = null;
 		if ( originalDocument == null ) {
 			return request.getInitialValue(); // first time we ask this value
 		}
 		else {
-			// all columns should match to find the value
-			Document incrementUpdate = new Document();
-
-			addSubQuery( "$inc", incrementUpdate, valueColumnName, request.getIncrement() );
+			// the sequence has been created concurrently in the meantime
+			beforeUpdateDoc = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate, new FindOneAndUpdateOptions().upsert( true ) );
+			return (Number) beforeUpdateDoc.get( valueColumnName );
+		}
+	}
 
-			Document beforeUpdateDoc = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate,  new FindOneAndUpdateOptions().upsert( true ) );
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		// The document of a snapshot is updated when the tuple is written
+		return ( (MongoDBTupleSnapshot) snapshot ).copy();
+	}
 
-			nextValue = beforeUpdateDoc.get( valueColumnName );
-		}
-		return (Number) nextValue;
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		return ( (MongoDBAssociationSnapshot) snapshot ).copy();
 	}
 
 	@Override
@@ -914,12 +937,74 @@ else if ( type.getReturnedClass().equals( LocalTime.class ) ) {
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
 		MongoCollection<Document> collection = getCollection( entityKeyMetadata.getTable(), tupleTypeContext.getOptionsContext() );
-		consumer.consume( new MongoDBTuplesSupplier( collection, entityKeyMetadata, provider.getBinaryStorageManager() ) );
+		int partitions = consumer.getPartitionsHint();
+		if ( partitions > 1 ) {
+			consumer.consume( partitionById( collection, entityKeyMetadata, partitions ) );
+		}
+		else {
+			consumer.consume( new MongoDBTuplesSupplier( collection, new Document(), entityKeyMetadata, provider.getBinaryStorageManager() ) );
+		}
+	}
+
+	/**
+	 * Splits the collection in ranges of {@code _id} containing roughly the same number of documents.
+	 * <p>
+	 * The boundaries are found by a single {@code $bucketAuto} stage grouping the documents by {@code _id}: each bucket
+	 * includes its minimum and excludes its maximum, the maximum of the last one excepted, so the lower bounds of the
+	 * buckets but the first one split the collection in ranges that don't overlap.
+	 * <p>
+	 * A range only matches the values of the BSON type of its bounds, so the collection is returned as a single
+	 * partition if the ids are composite (embedded documents) or not all of the same type.
+	 */
+	private List<TuplesSupplier> partitionById(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		TuplesSupplier wholeCollection = new MongoDBTuplesSupplier( collection, new Document(), entityKeyMetadata, provider.getBinaryStorageManager() );
+		if ( entityKeyMetadata.getColumnNames().length > 1 ) {
+			return Collections.singletonList( wholeCollection );
+		}
+
+		Document bucketAuto = new Document( "$bucketAuto", new Document( "groupBy", "$" + ID_FIELDNAME ).append( "buckets", partitions ) );
+		List<Object> boundaries = new ArrayList<>( partitions - 1 );
+		Class<?> idType = null;
+		boolean first = true;
+		for ( Document bucket : collection.aggregate( Collections.singletonList( bucketAuto ) ).allowDiskUse( true ) ) {
+			Document range = (Document) bucket.get( ID_FIELDNAME );
+			for ( Object bound : Arrays.asList( range.get( "min" ), range.get( "max" ) ) ) {
+				Class<?> boundType = bound instanceof Number ? Number.class : bound == null ? null : bound.getClass();
+				if ( boundType == null || boundType == Document.class || ( idType != null && idType != boundType ) ) {
+					return Collections.singletonList( wholeCollection );
+				}
+				idType = boundType;
+			}
+			if ( !first ) {
+				boundaries.add( range.get( "min" ) );
+			}
+			first = false;
+		}
+
+		List<TuplesSupplier> suppliers = new ArrayList<>( boundaries.size() + 1 );
+		Object lowerBound = null;
+		for ( Object upperBound : boundaries ) {
+			suppliers.add( new MongoDBTuplesSupplier( collection, idRange( lowerBound, upperBound ), entityKeyMetadata, provider.getBinaryStorageManager() ) );
+			lowerBound = upperBound;
+		}
+		suppliers.add( new MongoDBTuplesSupplier( collection, idRange( lowerBound, null ), entityKeyMetadata, provider.getBinaryStorageManager() ) );
+		return suppliers;
+	}
+
+	private static Document idRange(Object lowerBound, Object upperBound) {
+		Document range = new Document();
+		if ( lowerBound != null ) {
+			range.append( "$gte", lowerBound );
+		}
+		if ( upperBound != null ) {
+			range.append( "$lt", upperBound );
+		}
+		return range.isEmpty() ? new Document() : new Document( ID_FIELDNAME, range );
 	}
 
 	@Override
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDescriptor> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
-		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery().bind( queryParameters.getNamedParameters() );
 
 		EntityKeyMetadata entityKeyMetadata = backendQuery.getSingleEntityMetadataInformationOrNull() == null
 				? null
@@ -972,7 +1057,7 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 
 	@Override
 	public int executeBackendUpdateQuery(final BackendQuery<MongoDBQueryDescriptor> backendQuery, final QueryParameters queryParameters, final TupleContext tupleContext) {
-		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery().bind( queryParameters.getNamedParameters() );
 
 		if ( queryDescriptor.getOperation().equals( MongoDBQueryDescriptor.Operation.DROP_DATABASE ) ) {
 			return doDropDatabase( provider.getDatabase() );
@@ -1286,6 +1371,10 @@ else if ( hint instanceof Bson ) {
 			prepareFind.limit( queryParameters.getRowSelection().getMaxRows() );
 		}
 
+		if ( queryParameters.getRowSelection().getFetchSize() != null ) {
+			prepareFind.batchSize( queryParameters.getRowSelection().getFetchSize() );
+		}
+
 		boolean explain = criteria.containsKey( "$explain" ) && criteria.getBoolean( "$explain" );
 		if ( explain ) {
 			return new SingleTupleIterator( prepareFind.explain(), null, entityKeyMetadata );
@@ -1597,18 +1686,18 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
-			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			Map<String, BatchWriteTask> writes = new LinkedHashMap<String, BatchWriteTask>();
 
 			List<Tuple> insertTuples = new ArrayList<Tuple>();
 
 			while ( operation != null ) {
 				if ( operation instanceof GroupedChangesToEntityOperation ) {
 					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) operation;
-					executeBatchUpdate( inserts, insertTuples, entityOperation );
+					executeBatchUpdate( writes, insertTuples, entityOperation );
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, removeTupleOperation );
+					executeBatchRemove( writes, removeTupleOperation );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
@@ -1616,7 +1705,7 @@ else if ( operation instanceof RemoveTupleOperation ) {
 				operation = queue.poll();
 			}
 
-			flushInserts( provider, inserts );
+			flushWrites( provider, writes );
 			for ( Tuple insertTuple : insertTuples ) {
 				insertTuple.setSnapshotType( SnapshotType.UPDATE );
 			}
@@ -1625,20 +1714,20 @@ else if ( operation instanceof RemoveTupleOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<String, BatchWriteTask> writes, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey, tupleOperation.getTupleContext().getTupleTypeContext().getOptionsContext() );
-		BatchInsertionTask batchedInserts = inserts.get( collection );
+		BatchWriteTask batchedWrites = getOrCreateBatchWriteTask( writes, collection );
 
-		if ( batchedInserts != null && batchedInserts.containsKey( entityKey ) ) {
-			batchedInserts.remove( entityKey );
+		if ( batchedWrites.containsInsert( entityKey ) ) {
+			batchedWrites.removeInsert( entityKey );
 		}
 		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+			batchedWrites.deleteEntity( entityKey, prepareIdObject( entityKey ), getWriteConcern( tupleOperation.getTupleContext() ) );
 		}
 	}
 
-	private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTask> inserts, List<Tuple> insertTuples,
+	private void executeBatchUpdate(Map<String, BatchWriteTask> writes, List<Tuple> insertTuples,
 			GroupedChangesToEntityOperation groupedOperation) {
 		EntityKey entityKey = groupedOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey );
@@ -1658,8 +1747,8 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 					Document document = getCurrentDocument( snapshot, insertStatement, entityKey );
 					insertStatement = objectForInsert( tuple, document );
 
-					getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection )
-							.put( entityKey, insertStatement );
+					getOrCreateBatchWriteTask( writes, collection )
+							.insert( entityKey, insertStatement );
 					insertTuples.add( tuple );
 				}
 				else {
@@ -1700,7 +1789,8 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationSnapshot.getQueryObject();
 					Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
-					associationCollection.updateOne( query, update, updateOptions );
+					getOrCreateBatchWriteTask( writes, associationCollection )
+							.write( new UpdateOneModel<Document>( query, update, updateOptions ), getWriteConcern( associationContext ) );
 				}
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
@@ -1725,14 +1815,10 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 					addUnsetToQuery( updateStatement, collectionRole );
 				}
 				else {
-					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext ).withWriteConcern( getWriteConcern( associationContext ) );
+					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationKeyToObject( associationKey, storageStrategy );
-					DeleteResult result = associationCollection.deleteMany( query );
-					long nAffected = -1;
-					if ( result.wasAcknowledged() ) {
-						nAffected = result.getDeletedCount();
-					}
-					log.removedAssociation( nAffected );
+					getOrCreateBatchWriteTask( writes, associationCollection )
+							.deleteAssociation( new DeleteManyModel<Document>( query ), getWriteConcern( associationContext ) );
 				}
 			}
 			else {
@@ -1749,7 +1835,8 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			Document fieldsToDelete = updateStatement.get( "$unset", Document.class );
 			provider.getBinaryStorageManager().removeFieldsFromBinaryStorage( fieldsToDelete, entityKey.getMetadata(), documentId.get( "_id" ) );
 
-			collection. withWriteConcern( writeConcern ).updateOne( documentId, updateStatement, updateOptions );
+			getOrCreateBatchWriteTask( writes, collection )
+					.write( new UpdateOneModel<Document>( documentId, updateStatement, updateOptions ), writeConcern );
 		}
 	}
 
@@ -1772,45 +1859,101 @@ private static Document getCurrentDocument(MongoDBTupleSnapshot snapshot, Docume
 		return insertStatement != null ? insertStatement : snapshot.getDbObject();
 	}
 
-	private static BatchInsertionTask getOrCreateBatchInsertionTask(Map<MongoCollection<Document>, BatchInsertionTask> inserts,
-			EntityKeyMetadata entityKeyMetadata, MongoCollection<Document> collection) {
-		BatchInsertionTask insertsForCollection = inserts.get( collection );
+	private static BatchWriteTask getOrCreateBatchWriteTask(Map<String, BatchWriteTask> writes, MongoCollection<Document> collection) {
+		String collectionName = collection.getNamespace().getCollectionName();
+		BatchWriteTask writesForCollection = writes.get( collectionName );
 
-		if ( insertsForCollection == null ) {
-			insertsForCollection = new BatchInsertionTask( entityKeyMetadata );
-			inserts.put( collection, insertsForCollection );
+		if ( writesForCollection == null ) {
+			writesForCollection = new BatchWriteTask( collection );
+			writes.put( collectionName, writesForCollection );
 		}
 
-		return insertsForCollection;
+		return writesForCollection;
+	}
+
+	private static void flushWrites(MongoDBDatastoreProvider provider, Map<String, BatchWriteTask> writes) {
+		ExecutorService flushExecutor = provider.getFlushExecutor();
+		if ( flushExecutor == null || writes.size() < 2 ) {
+			for ( BatchWriteTask batchWriteTask : writes.values() ) {
+				flushWrites( provider, batchWriteTask );
+			}
+		}
+		else {
+			// Dispatch the collections concurrently and wait for all of them, so the flush takes as long as the
+			// slowest collection rather than the sum of all of them
+			List<Future<?>> pendingWrites = new ArrayList<>( writes.size() );
+			for ( BatchWriteTask batchWriteTask : writes.values() ) {
+				pendingWrites.add( flushExecutor.submit( () -> flushWrites( provider, batchWriteTask ) ) );
+			}
+			awaitAll( pendingWrites );
+		}
+		writes.clear();
 	}
 
-	private static void flushInserts(MongoDBDatastoreProvider provider, Map<MongoCollection<Document>, BatchInsertionTask> inserts) {
-		for ( Map.Entry<MongoCollection<Document>, BatchInsertionTask> entry : inserts.entrySet() ) {
-			MongoCollection<Document> collection = entry.getKey();
-			if ( entry.getValue().isEmpty() ) {
-				// has been emptied due to subsequent removals before flushes
-				continue;
+	/**
+	 * Sends all the writes to a collection with a single ordered bulk write: updates and removals in the order they
+	 * have been queued, followed by the inserts.
+	 */
+	private static void flushWrites(MongoDBDatastoreProvider provider, BatchWriteTask batchWriteTask) {
+		if ( batchWriteTask.isEmpty() ) {
+			// the inserts have been emptied due to subsequent removals before flushes
+			return;
+		}
+
+		List<WriteModel<Document>> requests = new ArrayList<>( batchWriteTask.getWrites() );
+		for ( Map.Entry<EntityKey, Document> insert : batchWriteTask.getInserts().entrySet() ) {
+			Document documentToInsert = insert.getValue();
+			Object documentId = documentToInsert.get( "_id" );
+			provider.getBinaryStorageManager().storeContentToBinaryStorage( documentToInsert, insert.getKey().getMetadata(), documentId );
+			requests.add( new InsertOneModel<>( documentToInsert ) );
+		}
+
+		BulkWriteResult result;
+		try {
+			result = batchWriteTask.getCollection().bulkWrite( requests, new BulkWriteOptions().ordered( true ) );
+		}
+		catch ( DuplicateKeyException | MongoBulkWriteException dke ) {
+			// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
+			// so we determine if it concerns the primary key by matching on the message
+			if ( batchWriteTask.getInsertedEntityKeyMetadata() != null && PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
+				throw new TupleAlreadyExistsException( batchWriteTask.getInsertedEntityKeyMetadata(), dke );
+			}
+			else {
+				throw log.constraintViolationOnFlush( dke.getMessage(), dke );
 			}
+		}
 
+		if ( batchWriteTask.hasAssociationRemovals() ) {
+			log.removedAssociation( result.wasAcknowledged() ? result.getDeletedCount() : -1 );
+		}
+		for ( Map.Entry<EntityKey, Object> deleted : batchWriteTask.getDeletedEntities().entrySet() ) {
+			provider.getBinaryStorageManager().removeEntityFromBinaryStorage( deleted.getKey().getMetadata(), deleted.getValue() );
+		}
+	}
+
+	/**
+	 * Waits for the completion of all the given writes. The first failure is rethrown as is once all the writes are
+	 * done, so that a {@link TupleAlreadyExistsException} surfaces the same way as with a synchronous flush.
+	 */
+	private static void awaitAll(List<Future<?>> writes) {
+		RuntimeException failure = null;
+		for ( Future<?> write : writes ) {
 			try {
-				for ( Document documentToInsert : entry.getValue().getAll() ) {
-					Object documentId = documentToInsert.get( "_id" );
-					provider.getBinaryStorageManager().storeContentToBinaryStorage( documentToInsert, entry.getValue().entityKeyMetadata, documentId );
-				}
-				collection.insertMany( entry.getValue().getAll() );
+				write.get();
 			}
-			catch ( DuplicateKeyException | MongoBulkWriteException dke ) {
-				// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
-				// so we determine if it concerns the primary key by matching on the message
-				if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
-					throw new TupleAlreadyExistsException( entry.getValue().getEntityKeyMetadata(), dke );
-				}
-				else {
-					throw log.constraintViolationOnFlush( dke.getMessage(), dke );
+			catch (ExecutionException e) {
+				if ( failure == null ) {
+					failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : log.unableToFlush( e.getCause() );
 				}
 			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw log.interruptedDuringFlush( e );
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
 		}
-		inserts.clear();
 	}
 
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
@@ -2015,18 +2158,20 @@ public void close() {
 	private static class MongoDBTuplesSupplier implements TuplesSupplier {
 
 		private final MongoCollection<Document> collection;
+		private final Document filter;
 		private final EntityKeyMetadata entityKeyMetadata;
 		private final GridFSStorageManager binaryStorageManager;
 
-		public MongoDBTuplesSupplier(MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata, GridFSStorageManager binaryStorageManager) {
+		public MongoDBTuplesSupplier(MongoCollection<Document> collection, Document filter, EntityKeyMetadata entityKeyMetadata, GridFSStorageManager binaryStorageManager) {
 			this.collection = collection;
+			this.filter = filter;
 			this.entityKeyMetadata = entityKeyMetadata;
 			this.binaryStorageManager = binaryStorageManager;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MongoDBResultsCursor( collection.find().iterator(), entityKeyMetadata, binaryStorageManager );
+			return new MongoDBResultsCursor( collection.find( filter ).iterator(), entityKeyMetadata, binaryStorageManager );
 		}
 	}
 
@@ -2108,38 +2253,85 @@ public void close() {
 		}
 	}
 
-	private static class BatchInsertionTask {
+	/**
+	 * The writes to a given collection, sent with a single bulk write when the batch is flushed.
+	 */
+	private static class BatchWriteTask {
 
-		private final EntityKeyMetadata entityKeyMetadata;
+		private final MongoCollection<Document> collection;
+		private final List<WriteModel<Document>> writes;
 		private final Map<EntityKey, Document> inserts;
+		private final Map<EntityKey, Object> deletedEntities;
+		private EntityKeyMetadata insertedEntityKeyMetadata;
+		private WriteConcern writeConcern;
+		private boolean associationRemovals;
 
-		public BatchInsertionTask(EntityKeyMetadata entityKeyMetadata) {
-			this.entityKeyMetadata = entityKeyMetadata;
-			this.inserts = new HashMap<EntityKey, Document>();
+		public BatchWriteTask(MongoCollection<Document> collection) {
+			this.collection = collection;
+			this.writes = new ArrayList<WriteModel<Document>>();
+			this.inserts = new LinkedHashMap<EntityKey, Document>();
+			this.deletedEntities = new LinkedHashMap<EntityKey, Object>();
+		}
+
+		/**
+		 * @return the collection, with a write concern satisfying the requirements of all the writes
+		 */
+		public MongoCollection<Document> getCollection() {
+			return writeConcern != null ? collection.withWriteConcern( writeConcern ) : collection;
+		}
+
+		public EntityKeyMetadata getInsertedEntityKeyMetadata() {
+			return insertedEntityKeyMetadata;
+		}
+
+		public List<WriteModel<Document>> getWrites() {
+			return writes;
+		}
+
+		public Map<EntityKey, Document> getInserts() {
+			return inserts;
+		}
+
+		public Map<EntityKey, Object> getDeletedEntities() {
+			return deletedEntities;
+		}
+
+		public boolean hasAssociationRemovals() {
+			return associationRemovals;
+		}
+
+		public void write(WriteModel<Document> write, WriteConcern writeConcern) {
+			writes.add( write );
+			this.writeConcern = mergeWriteConcern( this.writeConcern, writeConcern );
 		}
 
-		public EntityKeyMetadata getEntityKeyMetadata() {
-			return entityKeyMetadata;
+		public void deleteEntity(EntityKey entityKey, Document idObject, WriteConcern writeConcern) {
+			write( new DeleteOneModel<Document>( idObject ), writeConcern );
+			deletedEntities.put( entityKey, idObject.get( ID_FIELDNAME ) );
 		}
 
-		public List<Document> getAll() {
-			return new ArrayList<Document>( inserts.values() );
+		public void deleteAssociation(DeleteManyModel<Document> delete, WriteConcern writeConcern) {
+			write( delete, writeConcern );
+			associationRemovals = true;
 		}
 
-		public boolean containsKey(EntityKey entityKey) {
+		public boolean containsInsert(EntityKey entityKey) {
 			return inserts.containsKey( entityKey );
 		}
 
-		public Document remove(EntityKey entityKey) {
+		public Document removeInsert(EntityKey entityKey) {
 			return inserts.remove( entityKey );
 		}
 
-		public void put(EntityKey entityKey, Document object) {
+		public void insert(EntityKey entityKey, Document object) {
 			inserts.put( entityKey, object );
+			// The binary content of a re-inserted entity is replaced when the insert is flushed
+			deletedEntities.remove( entityKey );
+			insertedEntityKeyMetadata = entityKey.getMetadata();
 		}
 
 		public boolean isEmpty() {
-			return inserts.isEmpty();
+			return writes.isEmpty() && inserts.isEmpty();
 		}
 	}
 }
@@ -89,6 +89,14 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String MONGO_DRIVER_SETTINGS_PREFIX = "hibernate.ogm.mongodb.driver";
 
+	/**
+	 * The maximum number of collections written concurrently when a batch of operations is flushed. With a value
+	 * greater than 1, the bulk writes of the different collections are dispatched to a dedicated thread pool of that size
+	 * and awaited together at the end of the flush, instead of being executed one collection after the other on the
+	 * calling thread. Accepts a positive integer. Defaults to 1.
+	 */
+	public static final String FLUSH_PARALLELISM = "hibernate.ogm.mongodb.flush_parallelism";
+
 	private MongoDBProperties() {
 	}
 }
@@ -105,6 +105,20 @@ public void removeEntityFromBinaryStorage(Document deletedDocument, EntityKeyMet
 		removeFieldsFromBinaryStorage( deletedDocument, entityKeyMetadata, deletedDocument.get( "_id" ) );
 	}
 
+	/**
+	 * Removes the content of all the binary fields of a deleted entity, without requiring the deleted document.
+	 */
+	public void removeEntityFromBinaryStorage(EntityKeyMetadata entityKeyMetadata, Object documentId) {
+		GridFSFields storageFields = tableEntityTypeMapping.get( entityKeyMetadata.getTable() );
+		if ( storageFields != null ) {
+			for ( Field gridfsField : storageFields.getFields() ) {
+				String gridfsBucketName = bucketName( entityKeyMetadata, gridfsField.getName() );
+				GridFSBucket gridFSFilesBucket = getGridFSFilesBucket( mongoDatabase, gridfsBucketName );
+				deleteExistingContent( gridfsField.getName(), documentId, gridFSFilesBucket );
+			}
+		}
+	}
+
 	public void removeFieldsFromBinaryStorage(Document fieldsToDelete, EntityKeyMetadata entityKeyMetadata, Object documentId) {
 		if ( fieldsToDelete != null && entityKeyMetadata != null ) {
 			GridFSFields storageFields = tableEntityTypeMapping.get( entityKeyMetadata.getTable() );
@@ -51,6 +51,7 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	private final AuthenticationMechanismType authenticationMechanism;
 	private final ConfigurationPropertyReader propertyReader;
 	private final String authenticationDatabaseName;
+	private final int flushParallelism;
 
 	/**
 	 * Creates a new {@link MongoDBConfiguration}.
@@ -68,6 +69,9 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationDatabaseName = propertyReader.property( MongoDBProperties.AUTHENTICATION_DATABASE, String.class )
 				.withDefault( DEFAULT_AUTHENTICATION_DATABASE )
 				.getValue();
+		this.flushParallelism = propertyReader.property( MongoDBProperties.FLUSH_PARALLELISM, Integer.class )
+				.withDefault( 1 )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readConcern = globalOptions.getUnique( ReadConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
@@ -138,6 +142,14 @@ private Map<String, Method> createSettingsMap() {
 		return settingsMap;
 	}
 
+	/**
+	 * @see MongoDBProperties#FLUSH_PARALLELISM
+	 * @return the maximum number of collections written concurrently during a flush
+	 */
+	public int getFlushParallelism() {
+		return flushParallelism;
+	}
+
 	private String getAuthenticationDatabaseName() {
 		return authenticationDatabaseName;
 	}
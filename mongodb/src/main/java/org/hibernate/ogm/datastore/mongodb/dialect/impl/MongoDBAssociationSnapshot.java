@@ -33,10 +33,21 @@ public class MongoDBAssociationSnapshot extends AssociationRows {
 	private static final String EMBEDDABLE_COLUMN_PREFIX = ".value.";
 
 	private final Document dbObject;
+	private final AssociationKey associationKey;
+	private final AssociationStorageStrategy storageStrategy;
 
 	public MongoDBAssociationSnapshot(Document document, AssociationKey associationKey, AssociationStorageStrategy storageStrategy) {
 		super( associationKey, getRows( document, associationKey, storageStrategy ), MongoDBAssociationRowFactory.INSTANCE );
 		this.dbObject = document;
+		this.associationKey = associationKey;
+		this.storageStrategy = storageStrategy;
+	}
+
+	/**
+	 * @return a snapshot of the same association on top of a deep copy of the underlying document
+	 */
+	public MongoDBAssociationSnapshot copy() {
+		return new MongoDBAssociationSnapshot( MongoHelpers.deepCopy( dbObject ), associationKey, storageStrategy );
 	}
 
 	//not for embedded
@@ -39,6 +39,13 @@ public Document getDbObject() {
 		return dbObject;
 	}
 
+	/**
+	 * @return a snapshot of the same entity on top of a deep copy of the underlying document
+	 */
+	public MongoDBTupleSnapshot copy() {
+		return new MongoDBTupleSnapshot( MongoHelpers.deepCopy( dbObject ), keyMetadata );
+	}
+
 	@Override
 	public Set<String> getColumnNames() {
 		return dbObject.keySet();
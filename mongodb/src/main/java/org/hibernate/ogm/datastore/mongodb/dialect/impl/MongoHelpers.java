@@ -6,6 +6,9 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.bson.Document;
@@ -108,6 +111,36 @@ public static Object getValueOrNull(Document entity, String dotPath) {
 		return entity.get( field );
 	}
 
+	/**
+	 * Copies a {@link Document} and the documents and lists nested within it, so that the copy can be updated
+	 * independently from the given document.
+	 *
+	 * @param document the document to copy
+	 * @return a deep copy of the document
+	 */
+	public static Document deepCopy(Document document) {
+		Document copy = new Document();
+		for ( Map.Entry<String, Object> entry : document.entrySet() ) {
+			copy.put( entry.getKey(), deepCopyValue( entry.getValue() ) );
+		}
+		return copy;
+	}
+
+	private static Object deepCopyValue(Object value) {
+		if ( value instanceof Document ) {
+			return deepCopy( (Document) value );
+		}
+		else if ( value instanceof List ) {
+			List<?> list = (List<?>) value;
+			List<Object> copy = new ArrayList<>( list.size() );
+			for ( Object element : list ) {
+				copy.add( deepCopyValue( element ) );
+			}
+			return copy;
+		}
+		return value;
+	}
+
 	/**
 	 * Links the two field names into a single left.right field name.
 	 * If the left field is empty, right is returned
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
@@ -37,6 +38,7 @@
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.impl.Executors;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -62,6 +64,8 @@ public class MongoDBDatastoreProvider extends BaseDatastoreProvider implements S
 
 	private GridFSStorageManager binaryStorageManager;
 
+	private ExecutorService flushExecutor;
+
 	public MongoDBDatastoreProvider() {
 	}
 
@@ -125,6 +129,10 @@ public void start() {
 			lookupDatabase();
 		}
 
+		if ( config.getFlushParallelism() > 1 ) {
+			flushExecutor = Executors.newFixedThreadPool( config.getFlushParallelism(), "MongoDB flush" );
+		}
+
 		// clear resources
 		this.jndiService = null;
 	}
@@ -175,6 +183,10 @@ protected MongoClient createMongoClient(MongoDBConfiguration config) {
 
 	@Override
 	public void stop() {
+		if ( flushExecutor != null ) {
+			flushExecutor.shutdownNow();
+			flushExecutor = null;
+		}
 		log.disconnectingFromMongo();
 		mongo.close();
 	}
@@ -183,6 +195,15 @@ public MongoDatabase getDatabase() {
 		return mongoDb;
 	}
 
+	/**
+	 * @see org.hibernate.ogm.datastore.mongodb.MongoDBProperties#FLUSH_PARALLELISM
+	 * @return the executor writing the collections of a flush concurrently, {@code null} if they are written on the
+	 * calling thread
+	 */
+	public ExecutorService getFlushExecutor() {
+		return flushExecutor;
+	}
+
 	private MongoDatabase extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
@@ -144,4 +144,13 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1240, value = "Procedures returning muliple documents are not supported. Procedure '%1$s' returned %2$d results")
 	HibernateException multipleDocumentReturnedByStoredProcedure(String storedProcedureName, int size);
+
+	@Message(id = 1241, value = "Interrupted while waiting for the completion of the flush")
+	HibernateException interruptedDuringFlush(@Cause InterruptedException e);
+
+	@Message(id = 1242, value = "Unable to flush the batched operations")
+	HibernateException unableToFlush(@Cause Throwable e);
+
+	@Message(id = 1243, value = "Bulk update and delete statements can only select the documents with a query filter, not with an aggregation: %s")
+	HibernateException bulkStatementRequiresQueryFilter(Object selection);
 }
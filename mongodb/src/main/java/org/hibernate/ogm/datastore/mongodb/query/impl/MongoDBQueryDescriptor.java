@@ -12,11 +12,16 @@
 import static org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor.Operation.UPDATE;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.bson.Document;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.AggregationRenderer;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParameter;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 
 /**
  * Describes a query to be executed against MongoDB.
@@ -227,6 +232,59 @@ public String getReduceFunction() {
 		return reduceFunction;
 	}
 
+	/**
+	 * Returns a query whose criteria contain the values of the given parameters in place of the
+	 * {@link MongoDBQueryParameter}s of a JP-QL query parsed once for all its parameter values. The documents without
+	 * parameters are shared with this query.
+	 *
+	 * @param parameters the named parameters of the query
+	 * @return the query with the parameter values or this query if its criteria don't contain any parameter
+	 */
+	public MongoDBQueryDescriptor bind(Map<String, TypedGridValue> parameters) {
+		Object boundCriteria = bind( criteria, parameters );
+		if ( boundCriteria == criteria ) {
+			return this;
+		}
+		return new MongoDBQueryDescriptor( collectionName, operation, (Document) boundCriteria, projection, orderBy, options, updateOrInsertOne,
+				updateOrInsertMany, unwinds, distinctFieldName, mapFunction, reduceFunction, aggregation );
+	}
+
+	private static Object bind(Object value, Map<String, TypedGridValue> parameters) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			TypedGridValue parameter = parameters.get( ( (MongoDBQueryParameter) value ).getName() );
+			return parameter == null ? null : parameter.getValue();
+		}
+		else if ( value instanceof Document ) {
+			Document document = (Document) value;
+			Document bound = null;
+			for ( Entry<String, Object> entry : document.entrySet() ) {
+				Object boundValue = bind( entry.getValue(), parameters );
+				if ( boundValue != entry.getValue() ) {
+					if ( bound == null ) {
+						bound = new Document( document );
+					}
+					bound.put( entry.getKey(), boundValue );
+				}
+			}
+			return bound == null ? document : bound;
+		}
+		else if ( value instanceof List ) {
+			List<?> list = (List<?>) value;
+			List<Object> bound = null;
+			for ( int i = 0; i < list.size(); i++ ) {
+				Object boundValue = bind( list.get( i ), parameters );
+				if ( boundValue != list.get( i ) ) {
+					if ( bound == null ) {
+						bound = new ArrayList<>( list );
+					}
+					bound.set( i, boundValue );
+				}
+			}
+			return bound == null ? list : bound;
+		}
+		return value;
+	}
+
 	@Override
 	public String toString() {
 		return String.format( "MongoDBQueryDescriptor [collectionName=%s, %s=%s, %s=%s, %s%s]",
@@ -7,13 +7,18 @@
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
 import java.util.Map;
+import java.util.Map.Entry;
 
+import org.bson.Document;
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.hql.QueryParser;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor.Operation;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.query.spi.BaseQueryParserService;
 import org.hibernate.ogm.query.spi.QueryParserService;
@@ -49,6 +54,66 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 				"must be passed to the query parser." );
 	}
 
+	/**
+	 * Parses the query with {@link MongoDBQueryParameter}s in place of the parameter values; they are bound by the
+	 * dialect before the query is executed. Queries needing the value of a parameter to be created, e.g. the pattern of
+	 * a {@code LIKE} predicate, are parsed for each set of parameter values instead.
+	 */
+	@Override
+	public QueryParsingResult parseParameterizedQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		QueryParser queryParser = new QueryParser();
+		MongoDBProcessingChain processingChain = new MongoDBProcessingChain( sessionFactory, getDefinedEntityNames( sessionFactory ) );
+
+		MongoDBQueryParsingResult result;
+		try {
+			result = queryParser.parseQuery( queryString, processingChain );
+		}
+		catch (NonParameterizableQueryException e) {
+			log.debugf( "Query %s will be parsed for each set of parameter values: %s", queryString, e.getMessage() );
+			return null;
+		}
+		log.createdQuery( queryString, result );
+
+		return result;
+	}
+
+	/**
+	 * Creates an {@code updateMany} setting the assigned columns, or unsetting them when they are assigned
+	 * {@code null}, or a {@code deleteMany}; both use the query filter of the selection.
+	 */
+	@Override
+	public Object createBulkUpdateQuery(SessionFactoryImplementor sessionFactory, QueryParsingResult selection, Map<String, TypedGridValue> columnValues, Map<String, TypedGridValue> namedParameters) {
+		MongoDBQueryParsingResult result = (MongoDBQueryParsingResult) selection;
+		if ( result.getOperation() != Operation.FIND ) {
+			throw log.bulkStatementRequiresQueryFilter( result );
+		}
+
+		Document criteria = result.getQuery() != null ? result.getQuery() : new Document();
+		if ( columnValues == null ) {
+			return new MongoDBQueryDescriptor( result.getCollectionName(), Operation.DELETEMANY, criteria, null, null, null, null, null, null, null, null, null, null );
+		}
+
+		Document set = new Document();
+		Document unset = new Document();
+		for ( Entry<String, TypedGridValue> columnValue : columnValues.entrySet() ) {
+			if ( columnValue.getValue().getValue() == null ) {
+				unset.append( columnValue.getKey(), "" );
+			}
+			else {
+				set.append( columnValue.getKey(), columnValue.getValue().getValue() );
+			}
+		}
+
+		Document update = new Document();
+		if ( !set.isEmpty() ) {
+			update.append( "$set", set );
+		}
+		if ( !unset.isEmpty() ) {
+			update.append( "$unset", unset );
+		}
+		return new MongoDBQueryDescriptor( result.getCollectionName(), Operation.UPDATEMANY, criteria, null, null, null, update, null, null, null, null, null, null );
+	}
+
 	@Override
 	public boolean supportsParameters() {
 		return false;
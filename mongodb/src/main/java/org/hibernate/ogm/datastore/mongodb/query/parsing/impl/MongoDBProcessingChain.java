@@ -32,6 +32,18 @@ public class MongoDBProcessingChain implements AstProcessingChain<MongoDBQueryPa
 	private final MongoDBQueryRendererDelegate rendererDelegate;
 
 	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, Map<String, Object> namedParameters) {
+		this( sessionFactory, entityNames, namedParameters, false );
+	}
+
+	/**
+	 * Creates a processing chain replacing the named parameters with {@link MongoDBQueryParameter}s, bound when the
+	 * query is executed.
+	 */
+	public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames) {
+		this( sessionFactory, entityNames, null, true );
+	}
+
+	private MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, Map<String, Object> namedParameters, boolean parameterized) {
 		this.resolverProcessor = new QueryResolverProcessor( new HibernateOGMQueryResolverDelegate() );
 
 		MongoDBPropertyHelper propertyHelper = new MongoDBPropertyHelper( sessionFactory, entityNames );
@@ -39,7 +51,8 @@ public MongoDBProcessingChain(SessionFactoryImplementor sessionFactory, EntityNa
 				sessionFactory,
 				entityNames,
 				propertyHelper,
-				namedParameters
+				namedParameters,
+				parameterized
 		);
 		this.rendererProcessor = new QueryRendererProcessor( rendererDelegate );
 		this.rendererDelegate = rendererDelegate;
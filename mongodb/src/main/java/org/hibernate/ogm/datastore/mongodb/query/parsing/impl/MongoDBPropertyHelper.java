@@ -56,6 +56,9 @@ protected Type getPropertyType(String entityType, List<String> propertyPath) {
 
 	@Override
 	public Object convertToBackendType(String entityType, List<String> propertyPath, Object value) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			return checkParameterizable( entityType, propertyPath, value );
+		}
 		Type propertyType = getPropertyType( entityType, propertyPath );
 		if ( isElementCollection( propertyType ) ) {
 			// For collection of elements we return the type of the collection
@@ -65,6 +68,18 @@ public Object convertToBackendType(String entityType, List<String> propertyPath,
 		return ogmType.convertToBackendType( value, sessionFactory );
 	}
 
+	/**
+	 * The value of a parameter is converted by the grid type of the parameter when it is bound, which is only
+	 * equivalent to the conversion by the grid type of the property for single-column basic properties.
+	 */
+	private Object checkParameterizable(String entityType, List<String> propertyPath, Object parameter) {
+		Type propertyType = super.getPropertyType( entityType, propertyPath );
+		if ( propertyType.isComponentType() || propertyType.isAssociationType() || propertyType.isCollectionType() ) {
+			throw new NonParameterizableQueryException( "Parameter " + parameter + " is compared to property " + StringHelper.join( propertyPath, "." ) );
+		}
+		return parameter;
+	}
+
 	public String getColumnName(OgmEntityPersister persister, List<String> propertyPath) {
 		String propertyName = StringHelper.join( propertyPath, "." );
 		String identifierPropertyName = persister.getIdentifierPropertyName();
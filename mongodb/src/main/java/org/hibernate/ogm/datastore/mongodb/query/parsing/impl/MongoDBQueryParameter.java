@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
+
+import java.io.Serializable;
+
+/**
+ * A named parameter of a query parsed once for all its parameter values, replaced by its value when the query is
+ * executed.
+ *
+ * @see org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor#bind(java.util.Map)
+ */
+public class MongoDBQueryParameter implements Serializable {
+
+	private final String name;
+
+	public MongoDBQueryParameter(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return ":" + name;
+	}
+}
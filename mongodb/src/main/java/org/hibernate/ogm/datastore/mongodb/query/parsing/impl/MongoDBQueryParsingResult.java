@@ -42,6 +42,14 @@ public MongoDBQueryParsingResult(Class<?> entityType, String collectionName, Doc
 		this.aggregation = aggregation;
 	}
 
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
 	public Document getQuery() {
 		return query;
 	}
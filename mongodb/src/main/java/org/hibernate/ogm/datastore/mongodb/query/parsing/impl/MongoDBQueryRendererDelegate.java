@@ -7,8 +7,10 @@
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -48,15 +50,25 @@ public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDeleg
 	 */
 	private List<String> unwinds;
 
+	/**
+	 * Whether the named parameters are replaced with {@link MongoDBQueryParameter}s rather than with their values.
+	 */
+	private final boolean parameterized;
+
 	public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MongoDBPropertyHelper propertyHelper, Map<String, Object> namedParameters) {
+		this( sessionFactory, entityNames, propertyHelper, namedParameters, false );
+	}
+
+	public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MongoDBPropertyHelper propertyHelper, Map<String, Object> namedParameters, boolean parameterized) {
 		super(
 				propertyHelper,
 				entityNames,
 				SingleEntityQueryBuilder.getInstance( new MongoDBPredicateFactory( propertyHelper ), propertyHelper ),
-				namedParameters );
+				parameterized ? QueryParameterPlaceholders.INSTANCE : namedParameters );
 
 		this.sessionFactory = sessionFactory;
 		this.propertyHelper = propertyHelper;
+		this.parameterized = parameterized;
 	}
 
 	@Override
@@ -196,6 +208,28 @@ private Document getProjectionDocument() {
 		return projectionDocument;
 	}
 
+	@Override
+	public void predicateLike(String patternValue, Character escapeCharacter) {
+		// The pattern is converted into a regular expression when the query is parsed
+		if ( parameterized && patternValue.startsWith( ":" ) ) {
+			throw new NonParameterizableQueryException( "The pattern of a LIKE predicate is a parameter" );
+		}
+		super.predicateLike( patternValue, escapeCharacter );
+	}
+
+	@Override
+	public void predicateIn(List<String> list) {
+		// A parameter may hold several values
+		if ( parameterized ) {
+			for ( String value : list ) {
+				if ( value.startsWith( ":" ) ) {
+					throw new NonParameterizableQueryException( "An IN predicate contains a parameter" );
+				}
+			}
+		}
+		super.predicateIn( list );
+	}
+
 	@Override
 	public void activateAggregation(AggregationPropertyPath.Type aggregationType) {
 		if ( aggregationType == Type.COUNT || aggregationType == Type.COUNT_DISTINCT ) {
@@ -218,4 +252,27 @@ protected void addSortField(PropertyPath propertyPath, String collateName, boole
 		// order they're inserted here, which is the order within the original statement
 		orderBy.put( columnName, isAscending ? 1 : -1 );
 	}
+
+	/**
+	 * The named parameter values of a parameterized query: the value of each parameter is the placeholder for it.
+	 */
+	private static class QueryParameterPlaceholders extends AbstractMap<String, Object> {
+
+		private static final QueryParameterPlaceholders INSTANCE = new QueryParameterPlaceholders();
+
+		@Override
+		public Object get(Object name) {
+			return new MongoDBQueryParameter( (String) name );
+		}
+
+		@Override
+		public boolean containsKey(Object name) {
+			return true;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return Collections.emptySet();
+		}
+	}
 }
@@ -0,0 +1,18 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
+
+/**
+ * Thrown while parsing a query once for all its parameter values if the value of one of its parameters is needed to
+ * create the MongoDB query; such a query is parsed for each set of parameter values instead.
+ */
+class NonParameterizableQueryException extends RuntimeException {
+
+	NonParameterizableQueryException(String message) {
+		super( message );
+	}
+}
@@ -109,6 +109,37 @@ public void testImplicitFlushWithInsertsAndDelete() throws Exception {
 		Assertions.assertThat( LeakingMongoDBDialect.queueSize ).isEqualTo( 2 * numInsert );
 	}
 
+	@Test
+	public void testInsertsUpdatesAndDeletesInSameFlush() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		Helicopter updated = helicopter( "H_1" );
+		Helicopter deleted = helicopter( "H_2" );
+		session.persist( updated );
+		session.persist( deleted );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		session.get( Helicopter.class, updated.getUUID() ).setName( "H_1_updated" );
+		session.delete( session.get( Helicopter.class, deleted.getUUID() ) );
+		Helicopter inserted = helicopter( "H_3" );
+		session.persist( inserted );
+		session.getTransaction().commit();
+		session.close();
+
+		Assertions.assertThat( LeakingMongoDBDialect.queueSize ).isEqualTo( 3 );
+
+		session = openSession();
+		session.beginTransaction();
+		Assertions.assertThat( session.get( Helicopter.class, updated.getUUID() ).getName() ).isEqualTo( "H_1_updated" );
+		Assertions.assertThat( session.get( Helicopter.class, deleted.getUUID() ) ).isNull();
+		Assertions.assertThat( session.get( Helicopter.class, inserted.getUUID() ).getName() ).isEqualTo( "H_3" );
+		session.getTransaction().commit();
+		session.close();
+	}
+
 	@After
 	public void clean() {
 		Session session = openSession();
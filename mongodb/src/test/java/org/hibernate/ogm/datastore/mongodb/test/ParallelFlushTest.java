@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test the flush of batched operations when the collections are written concurrently.
+ *
+ * @see MongoDBProperties#FLUSH_PARALLELISM
+ */
+public class ParallelFlushTest extends OgmTestCase {
+
+	@Test
+	public void testInsertsInSeveralCollections() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		Helicopter helicopter = helicopter( "Lama" );
+		session.persist( helicopter );
+		session.persist( hypothesis( "hyp-1" ) );
+		session.persist( hypothesis( "hyp-2" ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		assertThat( session.get( Helicopter.class, helicopter.getUUID() ).getName() ).isEqualTo( "Lama" );
+		assertThat( session.get( Hypothesis.class, "hyp-1" ) ).isNotNull();
+		assertThat( session.get( Hypothesis.class, "hyp-2" ) ).isNotNull();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testDuplicateInsertIsDetected() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( hypothesis( "hyp-1" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		session.persist( helicopter( "Puma" ) );
+		session.persist( hypothesis( "hyp-1" ) );
+		try {
+			session.getTransaction().commit();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (Exception e) {
+			assertThat( messages( e ) ).matches( "(?s).*OGM000067.*" );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@After
+	public void clean() {
+		Session session = openSession();
+		session.beginTransaction();
+		for ( Object entity : session.createQuery( "FROM Helicopter" ).list() ) {
+			session.delete( entity );
+		}
+		for ( Object entity : session.createQuery( "FROM Hypothesis" ).list() ) {
+			session.delete( entity );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private static String messages(Throwable e) {
+		StringBuilder messages = new StringBuilder();
+		for ( Throwable cause = e; cause != null; cause = cause.getCause() ) {
+			messages.append( cause.getMessage() ).append( '\n' );
+		}
+		return messages.toString();
+	}
+
+	private static Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	private static Hypothesis hypothesis(String id) {
+		Hypothesis hypothesis = new Hypothesis( id );
+		hypothesis.setDescription( id );
+		return hypothesis;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class, Hypothesis.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( MongoDBProperties.FLUSH_PARALLELISM, 4 );
+	}
+}
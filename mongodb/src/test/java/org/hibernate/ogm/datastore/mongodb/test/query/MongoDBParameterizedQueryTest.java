@@ -0,0 +1,85 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.ogm.query.spi.QueryParsingStatistics;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that JP-QL queries are parsed once for all the values of their parameters, unless a parameter value is needed
+ * to create the MongoDB query.
+ */
+public class MongoDBParameterizedQueryTest extends OgmTestCase {
+
+	private QueryParsingStatistics statistics;
+
+	@Before
+	public void init() {
+		inTransaction( session -> {
+			session.persist( hypothesis( "1", 1, "Alea iacta est." ) );
+			session.persist( hypothesis( "2", 2, "Quo vadis?" ) );
+			session.persist( hypothesis( "3", 3, "Nomen est omen." ) );
+		} );
+
+		statistics = getSessionFactory().getServiceRegistry().getService( QueryParsingStatistics.class );
+		statistics.clear();
+	}
+
+	@After
+	public void tearDown() {
+		deleteAll( Hypothesis.class, "1", "2", "3" );
+	}
+
+	@Test
+	public void testQueryIsParsedOnceForAllParameterValues() {
+		inTransaction( session -> {
+			for ( int position = 1; position <= 3; position++ ) {
+				List<?> results = session.createQuery( "FROM Hypothesis h WHERE h.position >= :position AND h.description <> :description" )
+						.setParameter( "position", position )
+						.setParameter( "description", "Quo vadis?" )
+						.list();
+				assertThat( results ).hasSize( position == 1 ? 2 : 1 );
+			}
+		} );
+
+		assertThat( statistics.getParameterizedQueryCount() ).isEqualTo( 1 );
+		assertThat( statistics.getCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLikeQueryIsParsedForEachParameterValue() {
+		inTransaction( session -> {
+			String query = "FROM Hypothesis h WHERE h.description LIKE :pattern";
+			assertThat( session.createQuery( query ).setParameter( "pattern", "%est." ).list() ).onProperty( "id" ).containsOnly( "1", "3" );
+			assertThat( session.createQuery( query ).setParameter( "pattern", "Quo%" ).list() ).onProperty( "id" ).containsOnly( "2" );
+			assertThat( session.createQuery( query ).setParameter( "pattern", "%est." ).list() ).onProperty( "id" ).containsOnly( "1", "3" );
+		} );
+
+		assertThat( statistics.getParameterizedQueryCount() ).isEqualTo( 0 );
+		assertThat( statistics.getCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static Hypothesis hypothesis(String id, int position, String description) {
+		Hypothesis hypothesis = new Hypothesis( id );
+		hypothesis.setPosition( position );
+		hypothesis.setDescription( description );
+		return hypothesis;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+}
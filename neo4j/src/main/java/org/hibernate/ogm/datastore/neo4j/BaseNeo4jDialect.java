@@ -10,6 +10,7 @@
 import static org.hibernate.ogm.datastore.neo4j.query.parsing.cypherdsl.impl.CypherDSL.skip;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -20,6 +21,7 @@
 import java.util.regex.Pattern;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jAssociationQueries;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jTypeConverter;
@@ -31,6 +33,7 @@
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.dialect.snapshot.spi.SnapshotCopyingGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -47,6 +50,7 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -63,7 +67,8 @@
  * @author Davide D'Alto
  */
 public abstract class BaseNeo4jDialect<E extends BaseNeo4jEntityQueries, A extends BaseNeo4jAssociationQueries> extends BaseGridDialect
-		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect {
+		implements QueryableGridDialect<String>, ServiceRegistryAwareService, SessionFactoryLifecycleAwareDialect, MultigetGridDialect,
+		SnapshotCopyingGridDialect {
 
 	public static final String CONSTRAINT_VIOLATION_CODE = "Neo.ClientError.Schema.ConstraintValidationFailed";
 
@@ -114,7 +119,7 @@ public ServiceRegistryImplementor getServiceRegistry() {
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
-		return new Tuple();
+		return new Tuple( EmptyTupleSnapshot.INSTANCE, SnapshotType.INSERT, operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
@@ -220,6 +225,22 @@ public static boolean isPartOfRegularEmbedded(String[] keyColumnNames, String co
 		return isPartOfEmbedded( column ) && !ArrayHelper.contains( keyColumnNames, column );
 	}
 
+	/**
+	 * Turns the lower bounds of the partitions of a label into contiguous, non overlapping ranges [from, to) of node
+	 * ids, the last one being open.
+	 *
+	 * @param lowerBounds the node ids starting each partition, in ascending order
+	 * @return the ranges, each one as a {@code [from, to)} array
+	 */
+	protected static List<long[]> nodeIdRanges(List<Long> lowerBounds) {
+		List<long[]> ranges = new ArrayList<>( lowerBounds.size() );
+		for ( int i = 0; i < lowerBounds.size(); i++ ) {
+			long to = i + 1 < lowerBounds.size() ? lowerBounds.get( i + 1 ) : Long.MAX_VALUE;
+			ranges.add( new long[] { lowerBounds.get( i ), to } );
+		}
+		return ranges;
+	}
+
 	@Override
 	public int executeBackendUpdateQuery(BackendQuery<String> query, QueryParameters queryParameters, TupleContext tupleContext) {
 		// TODO implement. org.hibernate.ogm.datastore.mongodb.MongoDBDialect.executeBackendUpdateQuery(BackendQuery<MongoDBQueryDescriptor>, QueryParameters) might be helpful as a reference.
@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,6 +20,7 @@
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.query.parsing.impl.Neo4jBasedQueryParserService;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.bolt.dialect.impl.BoltNeo4jAssociatedNodesHelper;
 import org.hibernate.ogm.datastore.neo4j.remote.bolt.dialect.impl.BoltNeo4jAssociationQueries;
@@ -33,9 +35,13 @@
 import org.hibernate.ogm.datastore.neo4j.remote.bolt.impl.BoltNeo4jDatastoreProvider;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationPropertiesRow;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jBatchExecutor;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jWriteBatch;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -58,6 +64,7 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleOperation;
@@ -87,11 +94,12 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, BatchableGridDialect {
 
 	public static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private final BoltNeo4jSequenceGenerator sequenceGenerator;
+	private final BoltBatchExecutor batchExecutor = new BoltBatchExecutor();
 
 	public BoltNeo4jDialect(BoltNeo4jDatastoreProvider provider) {
 		super( BoltNeo4jTypeConverter.INSTANCE );
@@ -157,6 +165,10 @@ public int executeBackendUpdateQuery(BackendQuery<String> query, QueryParameters
 		Transaction transaction = transaction( tupleContext );
 		StatementResult statementResult = transaction.run( statement );
 		validateNativeQuery( statementResult );
+		if ( statementResult.keys().contains( Neo4jBasedQueryParserService.UPDATED_ENTITIES_COLUMN ) ) {
+			// A bulk update or delete, returning the number of entities
+			return statementResult.single().get( Neo4jBasedQueryParserService.UPDATED_ENTITIES_COLUMN ).asInt();
+		}
 		ResultSummary summary = statementResult.consume();
 		return updatesCount( summary );
 	}
@@ -207,6 +219,7 @@ private Object[] columnValues(Map<String, Object> node, EntityKeyMetadata metada
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executePendingOperations( operationContext );
 		Transaction tx = transaction( operationContext );
 		BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		NodeWithEmbeddedNodes owner = queries.findEntity( tx, key.getColumnValues() );
@@ -223,7 +236,8 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 						key.getMetadata(),
 						toOneEntities,
 						operationContext.getTupleTypeContext() ),
-				SnapshotType.UPDATE );
+				SnapshotType.UPDATE,
+				operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
@@ -232,6 +246,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executePendingOperations( tupleContext );
 		// We only support one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
 		// The result returned by the query might not be in the same order as the keys.
@@ -292,9 +307,16 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 			updateTuple( key, statements, properties, tupleContext );
 		}
 		saveToOneAssociations( statements, key, toOneAssociations, tupleContext );
+		runAll( transaction( tupleContext ), statements, key );
+		tuple.setSnapshotType( SnapshotType.UPDATE );
+	}
+
+	private void runAll(Transaction tx, List<Statement> statements, EntityKey key) {
 		try {
-			runAll( transaction( tupleContext ), statements );
-			tuple.setSnapshotType( SnapshotType.UPDATE );
+			for ( Statement statement : statements ) {
+				StatementResult result = tx.run( statement );
+				validate( result );
+			}
 		}
 		catch (ClientException e) {
 			switch ( e.code() ) {
@@ -306,13 +328,6 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		}
 	}
 
-	private void runAll(Transaction tx, List<Statement> statements) {
-		for ( Statement statement : statements ) {
-			StatementResult result = tx.run( statement );
-			validate( result );
-		}
-	}
-
 	private void validate(StatementResult result) {
 		result.hasNext();
 	}
@@ -376,8 +391,9 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Transaction tx = (Transaction) transactionContext.getTransactionId();
-				getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).removeToOneAssociation( tx, entityKey.getColumnValues(), associationRole );
+				// The relationship is removed before the other changes
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).removeToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.add( 0, statement );
 			}
 		}
 	}
@@ -418,8 +434,20 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		getEntityQueries( key.getMetadata(), tupleContext ).removeEntity( transaction( tupleContext ), key.getColumnValues() );
 	}
 
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		// The snapshot only holds the values read from the server and they are not updated afterwards
+		return snapshot;
+	}
+
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		return ( (RemoteNeo4jAssociationSnapshot) snapshot ).copy();
+	}
+
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Transaction tx = transaction( associationContext );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( tx, entityKey.getColumnValues() );
@@ -577,6 +605,24 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		getAssociationQueries( key.getMetadata() ).removeAssociation( tx, key );
 	}
 
+	/**
+	 * Executes the operations collected during a flush, grouping the writes by label or relationship type.
+	 *
+	 * @see RemoteNeo4jBatchExecutor
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		batchExecutor.execute( queue );
+	}
+
+	private void executePendingOperations(OperationContext operationContext) {
+		// The operations of the current flush have to be executed first, or they won't be visible
+		OperationsQueue queue = operationContext.getOperationsQueue();
+		if ( queue != null ) {
+			executeBatch( queue );
+		}
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
@@ -587,10 +633,32 @@ public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeConte
 		DatastoreProvider datastoreProvider = getServiceRegistry().getService( DatastoreProvider.class );
 		BoltNeo4jDatastoreProvider neo4jProvider = (BoltNeo4jDatastoreProvider) datastoreProvider;
 		BoltNeo4jClient client = neo4jProvider.getClient();
-		BoltTuplesSupplier tupleSupplier = new BoltTuplesSupplier( getEntityQueries( entityKeyMetadata, tupleTypeContext ), entityKeyMetadata, tupleTypeContext, client );
+		BoltNeo4jEntityQueries entityQueries = getEntityQueries( entityKeyMetadata, tupleTypeContext );
+		if ( consumer.getPartitionsHint() > 1 ) {
+			List<Long> lowerBounds = findPartitionLowerBounds( client, entityQueries, consumer.getPartitionsHint() );
+			if ( lowerBounds.size() > 1 ) {
+				List<TuplesSupplier> partitions = new ArrayList<>( lowerBounds.size() );
+				for ( long[] range : nodeIdRanges( lowerBounds ) ) {
+					partitions.add( new BoltTuplesSupplier( entityQueries, entityKeyMetadata, tupleTypeContext, client, range ) );
+				}
+				consumer.consume( partitions );
+				return;
+			}
+		}
+		BoltTuplesSupplier tupleSupplier = new BoltTuplesSupplier( entityQueries, entityKeyMetadata, tupleTypeContext, client, null );
 		consumer.consume( tupleSupplier );
 	}
 
+	private static List<Long> findPartitionLowerBounds(BoltNeo4jClient client, BoltNeo4jEntityQueries entityQueries, int partitions) {
+		try ( Session session = client.getDriver().session() ) {
+			try ( Transaction tx = session.beginTransaction() ) {
+				List<Long> lowerBounds = entityQueries.findPartitionLowerBounds( tx, partitions );
+				tx.success();
+				return lowerBounds;
+			}
+		}
+	}
+
 	@Override
 	public ClosableIterator<Tuple> callStoredProcedure(
 			String storedProcedureName, ProcedureQueryParameters queryParameters, TupleContext tupleContext) {
@@ -613,29 +681,120 @@ public ClosableIterator<Tuple> callStoredProcedure(
 		}
 	}
 
+	/**
+	 * Runs the statements of a flush in the Bolt transaction.
+	 */
+	private class BoltBatchExecutor extends RemoteNeo4jBatchExecutor<Transaction, List<Statement>> {
+
+		@Override
+		protected Transaction transaction(TransactionContext transactionContext) {
+			return (Transaction) transactionContext.getTransactionId();
+		}
+
+		@Override
+		protected BoltNeo4jEntityQueries getEntityQueries(EntityKey key, TupleContext tupleContext) {
+			return BoltNeo4jDialect.this.getEntityQueries( key.getMetadata(), tupleContext );
+		}
+
+		@Override
+		protected BoltNeo4jAssociationQueries getAssociationQueries(AssociationKey key) {
+			return BoltNeo4jDialect.this.getAssociationQueries( key.getMetadata() );
+		}
+
+		@Override
+		protected EntityKey getTargetKey(Tuple associationRow, AssociationContext associationContext) {
+			return getEntityKey( associationRow, associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata() );
+		}
+
+		@Override
+		protected List<Statement> applyTupleOperations(EntityKey key, Tuple tuple, Map<String, Object> properties, Map<String, EntityKey> toOneAssociations, TupleContext tupleContext) {
+			List<Statement> statements = new ArrayList<>();
+			BoltNeo4jDialect.this.applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+			return statements.isEmpty() ? null : statements;
+		}
+
+		@Override
+		protected void executeStatements(Transaction tx, EntityKey key, List<Statement> statements) {
+			runAll( tx, statements, key );
+		}
+
+		@Override
+		protected void applyAssociationOperation(Transaction tx, AssociationKey key, Association association, AssociationOperation operation, AssociationContext associationContext) {
+			BoltNeo4jDialect.this.applyAssociationOperation( association, key, operation, associationContext );
+		}
+
+		@Override
+		protected void removeAssociation(Transaction tx, AssociationKey key, AssociationContext associationContext) {
+			BoltNeo4jDialect.this.removeAssociation( key, associationContext );
+		}
+
+		@Override
+		protected void removeTuple(Transaction tx, EntityKey key, TupleContext tupleContext) {
+			BoltNeo4jDialect.this.removeTuple( key, tupleContext );
+		}
+
+		@Override
+		protected void createNodes(Transaction tx, Map<String, Map<EntityKey, Map<String, Object>>> createdNodes) {
+			for ( Map.Entry<String, Map<EntityKey, Map<String, Object>>> entry : createdNodes.entrySet() ) {
+				Collection<EntityKey> keys = entry.getValue().keySet();
+				try {
+					validate( tx.run( entry.getKey(), RemoteNeo4jWriteBatch.rowsParameter( entry.getValue().values() ) ) );
+				}
+				catch (ClientException e) {
+					switch ( e.code() ) {
+						case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
+							throw extractException( RemoteNeo4jWriteBatch.keyInError( keys, e.getMessage() ), e );
+						default:
+							throw new HibernateException( e.getMessage() );
+					}
+				}
+			}
+		}
+
+		@Override
+		protected void write(Transaction tx, Map<String, Collection<Map<String, Object>>> writes) {
+			for ( Map.Entry<String, Collection<Map<String, Object>>> entry : writes.entrySet() ) {
+				try {
+					validate( tx.run( entry.getKey(), RemoteNeo4jWriteBatch.rowsParameter( entry.getValue() ) ) );
+				}
+				catch (ClientException e) {
+					throw new HibernateException( e.getMessage() );
+				}
+			}
+		}
+	}
+
 	private static class BoltTuplesSupplier implements TuplesSupplier {
 
 		private final BoltNeo4jEntityQueries entityQueries;
 		private final EntityKeyMetadata entityKeyMetadata;
 		private final TupleTypeContext tupleTypeContext;
 		private final BoltNeo4jClient boltClient;
+		private final long[] nodeIdRange;
 
+		/**
+		 * @param nodeIdRange the range [from, to) of node ids to return, {@code null} to return all the nodes
+		 */
 		public BoltTuplesSupplier(
 				BoltNeo4jEntityQueries entityQueries,
 				EntityKeyMetadata entityKeyMetadata,
 				TupleTypeContext tupleTypeContext,
-				BoltNeo4jClient boltClient) {
+				BoltNeo4jClient boltClient,
+				long[] nodeIdRange) {
 			this.entityQueries = entityQueries;
 			this.entityKeyMetadata = entityKeyMetadata;
 			this.tupleTypeContext = tupleTypeContext;
 			this.boltClient = boltClient;
+			this.nodeIdRange = nodeIdRange;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
 			boolean shouldCloseTransaction = transactionContext == null;
 			Transaction tx = transaction( transactionContext );
-			ClosableIterator<NodeWithEmbeddedNodes> entities = entityQueries.findEntitiesWithEmbedded( tx );
+			ClosableIterator<NodeWithEmbeddedNodes> entities = nodeIdRange == null
+					? entityQueries.findEntitiesWithEmbedded( tx )
+					: entityQueries.findEntitiesWithEmbedded( tx, nodeIdRange[0], nodeIdRange[1] );
 			return new BoltNeo4jNodesTupleIterator( tx, entityQueries, entityKeyMetadata, tupleTypeContext, entities, shouldCloseTransaction );
 		}
 
@@ -9,6 +9,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.RelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,6 +34,7 @@
 import org.hibernate.ogm.datastore.neo4j.logging.impl.GraphLogger;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.query.parsing.impl.Neo4jBasedQueryParserService;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
@@ -56,10 +58,12 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 import org.neo4j.graphdb.ConstraintViolationException;
 import org.neo4j.graphdb.Direction;
@@ -120,7 +124,8 @@ public Tuple getTuple(EntityKey key, OperationContext context) {
 						context.getTupleTypeContext().getAllAssociatedEntityKeyMetadata(),
 						context.getTupleTypeContext().getAllRoles(),
 						key.getMetadata()
-				), SnapshotType.UPDATE
+				), SnapshotType.UPDATE,
+				context.getTupleTypeContext().getTupleColumns()
 		);
 	}
 
@@ -179,7 +184,8 @@ else if ( !node.hasProperty( properties[i] ) && values[i] != null ) {
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext tupleContext) {
-		return new Tuple( EmbeddedNeo4jTupleSnapshot.emptySnapshot( key.getMetadata() ), SnapshotType.INSERT );
+		return new Tuple( EmbeddedNeo4jTupleSnapshot.emptySnapshot( key.getMetadata() ), SnapshotType.INSERT,
+				tupleContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
@@ -290,6 +296,16 @@ private Relationship createRelationshipWithTargetNode(AssociationKey association
 		return relationship;
 	}
 
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		return ( (EmbeddedNeo4jTupleSnapshot) snapshot ).copy();
+	}
+
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		return ( (EmbeddedNeo4jAssociationSnapshot) snapshot ).copy();
+	}
+
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
 		EntityKey entityKey = associationKey.getEntityKey();
@@ -532,7 +548,19 @@ private void putOneToOneAssociation(Tuple tuple, Node node, TupleOperation opera
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
-		ResourceIterator<Node> queryNodes = getEntityQueries( entityKeyMetadata, tupleTypeContext ).findEntities( dataBase );
+		EmbeddedNeo4jEntityQueries entityQueries = getEntityQueries( entityKeyMetadata, tupleTypeContext );
+		if ( consumer.getPartitionsHint() > 1 ) {
+			List<Long> lowerBounds = entityQueries.findPartitionLowerBounds( dataBase, consumer.getPartitionsHint() );
+			if ( lowerBounds.size() > 1 ) {
+				List<TuplesSupplier> partitions = new ArrayList<>( lowerBounds.size() );
+				for ( long[] range : nodeIdRanges( lowerBounds ) ) {
+					partitions.add( new EmbeddedNeo4jRangeTuplesSupplier( entityQueries, range[0], range[1], tupleTypeContext, entityKeyMetadata ) );
+				}
+				consumer.consume( partitions );
+				return;
+			}
+		}
+		ResourceIterator<Node> queryNodes = entityQueries.findEntities( dataBase );
 		consumer.consume( new EmbeddedNeo4jTuplesSupplier( queryNodes, tupleTypeContext, entityKeyMetadata ) );
 	}
 
@@ -575,6 +603,34 @@ public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
 		}
 	}
 
+	/**
+	 * Runs the query for the nodes in the range only when the tuples are requested, so that it is executed by the
+	 * thread consuming the partition.
+	 */
+	private class EmbeddedNeo4jRangeTuplesSupplier implements TuplesSupplier {
+
+		private final EmbeddedNeo4jEntityQueries entityQueries;
+		private final long from;
+		private final long to;
+		private final TupleTypeContext tupleTypeContext;
+		private final EntityKeyMetadata entityKeyMetadata;
+
+		public EmbeddedNeo4jRangeTuplesSupplier(EmbeddedNeo4jEntityQueries entityQueries, long from, long to, TupleTypeContext tupleTypeContext,
+				EntityKeyMetadata entityKeyMetadata) {
+			this.entityQueries = entityQueries;
+			this.from = from;
+			this.to = to;
+			this.tupleTypeContext = tupleTypeContext;
+			this.entityKeyMetadata = entityKeyMetadata;
+		}
+
+		@Override
+		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
+			ResourceIterator<Node> nodes = entityQueries.findEntities( dataBase, from, to );
+			return new EmbeddedNeo4jNodesTupleIterator( nodes, entityKeyMetadata, tupleTypeContext );
+		}
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
@@ -601,6 +657,10 @@ public int executeBackendUpdateQuery(BackendQuery<String> backendQuery, QueryPar
 		String nativeQuery = buildNativeQuery( backendQuery, queryParameters );
 		try {
 			Result result = dataBase.execute( nativeQuery, parameters );
+			if ( result.columns().contains( Neo4jBasedQueryParserService.UPDATED_ENTITIES_COLUMN ) ) {
+				// A bulk update or delete, returning the number of entities
+				return ( (Number) result.next().get( Neo4jBasedQueryParserService.UPDATED_ENTITIES_COLUMN ) ).intValue();
+			}
 			return summaryUpdates( result );
 		}
 		catch (QueryExecutionException qe) {
@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,10 +20,13 @@
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.query.parsing.impl.Neo4jBasedQueryParserService;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationPropertiesRow;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jBatchExecutor;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jWriteBatch;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.neo4j.remote.http.dialect.impl.HttpNeo4jAssociatedNodesHelper;
 import org.hibernate.ogm.datastore.neo4j.remote.http.dialect.impl.HttpNeo4jAssociationQueries;
@@ -42,6 +47,8 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -64,9 +71,11 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 
 /**
@@ -81,7 +90,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, BatchableGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -91,6 +100,7 @@ public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, H
 	private final HttpNeo4jClient client;
 
 	private final HttpNeo4jSequenceGenerator sequenceGenerator;
+	private final HttpBatchExecutor batchExecutor = new HttpBatchExecutor();
 
 	public HttpNeo4jDialect(HttpNeo4jDatastoreProvider provider) {
 		super( HttpNeo4jTypeConverter.INSTANCE );
@@ -110,6 +120,7 @@ protected HttpNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata enti
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executePendingOperations( operationContext );
 		HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		Long txId = transactionId( operationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes owner = queries.findEntity( client, txId, key.getColumnValues() );
@@ -126,7 +137,8 @@ public Tuple getTuple(EntityKey key, OperationContext operationContext) {
 						key.getMetadata(),
 						toOneEntities,
 						operationContext.getTupleTypeContext() ),
-				SnapshotType.UPDATE );
+				SnapshotType.UPDATE,
+				operationContext.getTupleTypeContext().getTupleColumns() );
 	}
 
 	@Override
@@ -135,6 +147,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executePendingOperations( tupleContext );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
@@ -216,13 +229,16 @@ private void updateTuple(EntityKey key, Statements statements, Map<String, Objec
 
 	private void validate(StatementsResponse readEntity, EntityKey key) {
 		if ( !readEntity.getErrors().isEmpty() ) {
-			ErrorResponse errorResponse = readEntity.getErrors().get( 0 );
-			switch ( errorResponse.getCode() ) {
-				case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
-					throw extractException( key, errorResponse );
-				default:
-					throw new HibernateException( String.valueOf( errorResponse ) );
-			}
+			throw translate( key, readEntity.getErrors().get( 0 ) );
+		}
+	}
+
+	private HibernateException translate(EntityKey key, ErrorResponse errorResponse) {
+		switch ( errorResponse.getCode() ) {
+			case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
+				return extractException( key, errorResponse );
+			default:
+				return new HibernateException( String.valueOf( errorResponse ) );
 		}
 	}
 
@@ -317,8 +333,20 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 		return properties;
 	}
 
+	@Override
+	public TupleSnapshot copyTupleSnapshot(TupleSnapshot snapshot) {
+		// The snapshot only holds the values read from the server and they are not updated afterwards
+		return snapshot;
+	}
+
+	@Override
+	public AssociationSnapshot copyAssociationSnapshot(AssociationSnapshot snapshot) {
+		return ( (RemoteNeo4jAssociationSnapshot) snapshot ).copy();
+	}
+
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() ).findEntity( client, transactionId, entityKey.getColumnValues() );
@@ -446,8 +474,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				getEntityQueries( entityKey.getMetadata(), tupleContext ).removeToOneAssociation( client, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext ).removeToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.getStatements().add( 0, statement );
 			}
 		}
 	}
@@ -482,9 +510,72 @@ private void putOneToOneAssociation(EntityKey ownerKey, Tuple tuple, Map<String,
 		}
 	}
 
+	/**
+	 * Executes the operations collected during a flush, grouping the writes by label or relationship type.
+	 * <p>
+	 * Only the creation of the nodes is sent right away, the other statements are queued and sent with the next request
+	 * of the transaction or at commit.
+	 *
+	 * @see RemoteNeo4jBatchExecutor
+	 * @see HttpNeo4jClient#queueQueriesInOpenTransaction(Long, Statements, java.util.function.Function)
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		batchExecutor.execute( queue );
+	}
+
+	/*
+	 * Returns the statement for an operation on a collection of embeddables or for the removal of relationships, null if
+	 * there is nothing to do.
+	 */
+	private Statement associationOperationStatement(AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+		HttpNeo4jAssociationQueries queries = getAssociationQueries( key.getMetadata() );
+		switch ( operation.getType() ) {
+			case CLEAR:
+				return queries.removeAssociationStatement( key );
+			case PUT:
+				AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+				EntityKey embeddedKey = getEntityKey( operation.getValue(), associatedEntityKeyMetadata );
+				if ( emptyNode( embeddedKey ) ) {
+					return null;
+				}
+				return queries.createRelationshipForEmbeddedAssociationStatement( key, embeddedKey, relationshipProperties( key, operation ) );
+			case REMOVE:
+				return queries.removeAssociationRowStatement( key, operation.getKey() );
+			default:
+				throw new AssertionFailure( "Unrecognized association operation: " + operation.getType() );
+		}
+	}
+
+	private void queue(Long txId, Statement statement) {
+		Statements statements = new Statements();
+		statements.addStatement( statement );
+		client.queueQueriesInOpenTransaction( txId, statements, null );
+	}
+
+	private void executePendingOperations(OperationContext operationContext) {
+		// The operations of the current flush have to be executed first, or they won't be visible
+		OperationsQueue queue = operationContext.getOperationsQueue();
+		if ( queue != null ) {
+			executeBatch( queue );
+		}
+	}
+
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
-		HttpTuplesSupplier tupleSupplier = new HttpTuplesSupplier( getEntityQueries( entityKeyMetadata, tupleTypeContext ), entityKeyMetadata, tupleTypeContext, client );
+		HttpNeo4jEntityQueries entityQueries = getEntityQueries( entityKeyMetadata, tupleTypeContext );
+		if ( consumer.getPartitionsHint() > 1 ) {
+			List<Long> lowerBounds = entityQueries.findPartitionLowerBounds( client, null, consumer.getPartitionsHint() );
+			if ( lowerBounds.size() > 1 ) {
+				List<TuplesSupplier> partitions = new ArrayList<>( lowerBounds.size() );
+				for ( long[] range : nodeIdRanges( lowerBounds ) ) {
+					partitions.add( new HttpTuplesSupplier( entityQueries, entityKeyMetadata, tupleTypeContext, client, range ) );
+				}
+				consumer.consume( partitions );
+				return;
+			}
+		}
+		HttpTuplesSupplier tupleSupplier = new HttpTuplesSupplier( entityQueries, entityKeyMetadata, tupleTypeContext, client, null );
 		consumer.consume( tupleSupplier );
 	}
 
@@ -513,27 +604,119 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName,
 		return new HttpNeo4jMapsTupleIterator( response.getResults().get( 0 ) );
 	}
 
+	/**
+	 * Queues the statements of a flush in the open transaction; only the nodes are created right away.
+	 */
+	private class HttpBatchExecutor extends RemoteNeo4jBatchExecutor<Long, Statements> {
+
+		@Override
+		protected Long transaction(TransactionContext transactionContext) {
+			return transactionId( transactionContext );
+		}
+
+		@Override
+		protected HttpNeo4jEntityQueries getEntityQueries(EntityKey key, TupleContext tupleContext) {
+			return HttpNeo4jDialect.this.getEntityQueries( key.getMetadata(), tupleContext );
+		}
+
+		@Override
+		protected HttpNeo4jAssociationQueries getAssociationQueries(AssociationKey key) {
+			return HttpNeo4jDialect.this.getAssociationQueries( key.getMetadata() );
+		}
+
+		@Override
+		protected EntityKey getTargetKey(Tuple associationRow, AssociationContext associationContext) {
+			return getEntityKey( associationRow, associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata() );
+		}
+
+		@Override
+		protected Statements applyTupleOperations(EntityKey key, Tuple tuple, Map<String, Object> properties, Map<String, EntityKey> toOneAssociations, TupleContext tupleContext) {
+			Statements statements = new Statements();
+			HttpNeo4jDialect.this.applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+			return statements.getStatements().isEmpty() ? null : statements;
+		}
+
+		@Override
+		protected void executeStatements(Long txId, EntityKey key, Statements statements) {
+			// An error is still reported for the entity of the statements
+			client.queueQueriesInOpenTransaction( txId, statements, error -> translate( key, error ) );
+		}
+
+		@Override
+		protected void applyAssociationOperation(Long txId, AssociationKey key, Association association, AssociationOperation operation, AssociationContext associationContext) {
+			Statement statement = associationOperationStatement( key, operation, associationContext );
+			if ( statement != null ) {
+				queue( txId, statement );
+			}
+		}
+
+		@Override
+		protected void removeAssociation(Long txId, AssociationKey key, AssociationContext associationContext) {
+			// The relationships are managed from the main side of the association
+			if ( !key.getMetadata().isInverse() ) {
+				queue( txId, HttpNeo4jDialect.this.getAssociationQueries( key.getMetadata() ).removeAssociationStatement( key ) );
+			}
+		}
+
+		@Override
+		protected void removeTuple(Long txId, EntityKey key, TupleContext tupleContext) {
+			queue( txId, HttpNeo4jDialect.this.getEntityQueries( key.getMetadata(), tupleContext ).removeEntityStatement( key.getColumnValues() ) );
+		}
+
+		@Override
+		protected void createNodes(Long txId, Map<String, Map<EntityKey, Map<String, Object>>> createdNodes) {
+			Statements statements = new Statements();
+			List<EntityKey> keys = new ArrayList<>();
+			for ( Map.Entry<String, Map<EntityKey, Map<String, Object>>> entry : createdNodes.entrySet() ) {
+				statements.addStatement( entry.getKey(), RemoteNeo4jWriteBatch.rowsParameter( entry.getValue().values() ), Statement.AS_ROW );
+				keys.addAll( entry.getValue().keySet() );
+			}
+			StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
+			if ( !response.getErrors().isEmpty() ) {
+				ErrorResponse errorResponse = response.getErrors().get( 0 );
+				validate( response, RemoteNeo4jWriteBatch.keyInError( keys, errorResponse.getMessage() ) );
+			}
+		}
+
+		@Override
+		protected void write(Long txId, Map<String, Collection<Map<String, Object>>> writes) {
+			Statements statements = new Statements();
+			for ( Map.Entry<String, Collection<Map<String, Object>>> entry : writes.entrySet() ) {
+				statements.addStatement( entry.getKey(), RemoteNeo4jWriteBatch.rowsParameter( entry.getValue() ), Statement.AS_ROW );
+			}
+			client.queueQueriesInOpenTransaction( txId, statements, null );
+		}
+	}
+
 	private static class HttpTuplesSupplier implements TuplesSupplier {
 
 		private final HttpNeo4jEntityQueries entityQueries;
 		private final EntityKeyMetadata entityKeyMetadata;
 		private final TupleTypeContext tupleTypeContext;
 		private final HttpNeo4jClient httpClient;
+		private final long[] nodeIdRange;
 
+		/**
+		 * @param nodeIdRange the range [from, to) of node ids to return, {@code null} to return all the nodes
+		 */
 		public HttpTuplesSupplier(HttpNeo4jEntityQueries entityQueries,
 				EntityKeyMetadata entityKeyMetadata,
 				TupleTypeContext tupleTypeContext,
-				HttpNeo4jClient httpClient) {
+				HttpNeo4jClient httpClient,
+				long[] nodeIdRange) {
 			this.entityQueries = entityQueries;
 			this.entityKeyMetadata = entityKeyMetadata;
 			this.tupleTypeContext = tupleTypeContext;
 			this.httpClient = httpClient;
+			this.nodeIdRange = nodeIdRange;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
 			Long txId = transactionContext == null ? null : (Long) transactionContext.getTransactionId();
-			ClosableIterator<NodeWithEmbeddedNodes> entities = entityQueries.findEntitiesWithEmbedded( httpClient, txId );
+			ClosableIterator<NodeWithEmbeddedNodes> entities = nodeIdRange == null
+					? entityQueries.findEntitiesWithEmbedded( httpClient, txId )
+					: entityQueries.findEntitiesWithEmbedded( httpClient, txId, nodeIdRange[0], nodeIdRange[1] );
 			return new HttpNeo4jNodesTupleIterator( httpClient, txId, entityQueries, entityKeyMetadata, tupleTypeContext, entities );
 		}
 	}
@@ -594,6 +777,12 @@ public int executeBackendUpdateQuery(BackendQuery<String> query, QueryParameters
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
 		validate( response, nativeQuery );
+		StatementResult result = response.getResults().get( 0 );
+		int column = result.getColumns().indexOf( Neo4jBasedQueryParserService.UPDATED_ENTITIES_COLUMN );
+		if ( column >= 0 ) {
+			// A bulk update or delete, returning the number of entities
+			return ( (Number) result.getData().get( 0 ).getRow().get( column ) ).intValue();
+		}
 		return UNKNOWN_UPDATES;
 	}
 
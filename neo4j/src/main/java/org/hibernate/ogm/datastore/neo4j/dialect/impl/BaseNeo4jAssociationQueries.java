@@ -44,6 +44,7 @@ public abstract class BaseNeo4jAssociationQueries extends BaseNeo4jQueries {
 	protected final String matchOwnerEntityNode;
 	protected final String findRelationshipQuery;
 	protected final String createRelationshipQuery;
+	protected final String createRelationshipsQuery;
 	protected final String removeAssociationQuery;
 	protected final String removeAssociationRowQuery;
 
@@ -52,7 +53,8 @@ public BaseNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, Ass
 		this.removeAssociationQuery = initRemoveAssociationQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.removeAssociationRowQuery = initRemoveAssociationRowQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.findRelationshipQuery = initFindRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
-		this.createRelationshipQuery = initCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
+		this.createRelationshipQuery = initCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata ) + " RETURN r";
+		this.createRelationshipsQuery = unwindRows( initCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata ) );
 		this.matchOwnerEntityNode = initMatchOwnerEntityNode( ownerEntityKeyMetadata );
 	}
 
@@ -105,7 +107,6 @@ private static String initFindRelationshipQuery(EntityKeyMetadata ownerEntityKey
 	/*
 	 * MATCH (o:ENTITY:table1 {id: {0}}), (t:ENTITY:table2 {id: {1}})
 	 * MERGE (o) -[r:role {props}]-> (t)
-	 * RETURN r
 	 */
 	private static String initCreateRelationshipQuery(EntityKeyMetadata ownerEntityKeyMetadata, AssociationKeyMetadata associationKeyMetadata) {
 		EntityKeyMetadata targetEntityKeyMetadata = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
@@ -125,7 +126,6 @@ private static String initCreateRelationshipQuery(EntityKeyMetadata ownerEntityK
 			appendProperties( queryBuilder, associationKeyMetadata.getRowKeyIndexColumnNames(), offset );
 		}
 		queryBuilder.append( "]-> (t)" );
-		queryBuilder.append( " RETURN r" );
 		return queryBuilder.toString();
 	}
 
@@ -219,6 +219,18 @@ private static String initRemoveAssociationRowQuery(EntityKeyMetadata ownerEntit
 		return queryBuilder.toString();
 	}
 
+	/**
+	 * @return the query creating the relationships of the rows in the parameter {@link #ROWS_PARAMETER}
+	 * @see #createRelationshipRow(Object[], Object[], Object[])
+	 */
+	public String getCreateRelationshipsQuery() {
+		return createRelationshipsQuery;
+	}
+
+	public Map<String, Object> createRelationshipRow(Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+		return params( ArrayHelper.concat( Arrays.asList( ownerKeyValues, targetKeyValues, relationshipProperties ) ) );
+	}
+
 	/**
 	 * Removes the relationship(s) representing the given association. If the association refers to an embedded entity
 	 * (collection), the referenced entities are removed as well.
@@ -12,6 +12,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,11 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	public static final String FIRST_EMBEDDED_REL_ALIAS = "r";
 	public static final String EMBEDDED_REL_ALIAS = "r2";
 
+	/**
+	 * The name of the parameter containing the properties to set on a node.
+	 */
+	public static final String PROPERTIES_PARAMETER = "props";
+
 	private static final int CACHE_CAPACITY = 1000;
 	private static final int CACHE_CONCURRENCY_LEVEL = 20;
 
@@ -52,7 +58,6 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	 * true if we the keys are mapped with a single property
 	 */
 	protected final boolean singlePropertyKey;
-	protected final String[] keyColumns;
 	protected final String multiGetQuery;
 
 	private final Map<String, String> findEmbeddedNodeQueries;
@@ -61,20 +66,24 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
-	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
 
 	private final String removeToOneAssociation;
 	private final String createEmbeddedNodeQuery;
 	private final String findEntityQuery;
 	private final String findEntityWithEmbeddedEndNodeQuery;
 	private final String findEntitiesQuery;
+	private final String findEntitiesInRangeQuery;
+	private final String partitionLowerBoundsQuery;
 	private final String findAssociationPartialQuery;
 	private final String createEntityQuery;
 	private final String createEntityWithPropertiesQuery;
+	private final String createEntitiesQuery;
 	private final String updateEntityProperties;
+	private final String updateEntitiesPropertiesQuery;
 	private final String removeEntityQuery;
 	private final String updateEmbeddedNodeQuery;
 	private final Map<String, String> updateToOneQuery;
+	private final Map<String, String> updateToOneRowsQuery;
 	private final Map<String, String> findAssociatedEntityQuery;
 
 	/**
@@ -90,19 +99,23 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.includeEmbedded = includeEmbedded;
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEmbeddedNodeQuery = initCreateEmbeddedNodeQuery( entityKeyMetadata );
 		this.findEntityQuery = initFindEntityQuery( entityKeyMetadata, includeEmbedded );
 		this.findEntityWithEmbeddedEndNodeQuery = initFindEntityQueryWithEmbeddedEndNode( entityKeyMetadata );
 		this.findEntitiesQuery = initFindEntitiesQuery( entityKeyMetadata, includeEmbedded );
+		this.findEntitiesInRangeQuery = initFindEntitiesInRangeQuery( entityKeyMetadata, includeEmbedded );
+		this.partitionLowerBoundsQuery = initPartitionLowerBoundsQuery( entityKeyMetadata );
 		this.createEntityQuery = initCreateEntityQuery( entityKeyMetadata );
 		this.updateEntityProperties = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEntityWithPropertiesQuery = initCreateEntityWithPropertiesQuery( entityKeyMetadata );
+		this.createEntitiesQuery = initCreateEntitiesQuery( entityKeyMetadata );
+		this.updateEntitiesPropertiesQuery = initUpdateEntitiesPropertiesQuery( entityKeyMetadata );
 		this.removeEntityQuery = initRemoveEntityQuery( entityKeyMetadata );
 		this.updateEmbeddedNodeQuery = initUpdateEmbeddedNodeQuery( entityKeyMetadata );
 		this.updateToOneQuery = initUpdateToOneQuery( entityKeyMetadata, tupleTypeContext );
+		this.updateToOneRowsQuery = initUpdateToOneRowsQuery( updateToOneQuery );
 		this.findAssociatedEntityQuery = initFindAssociatedEntityQuery( entityKeyMetadata, tupleTypeContext );
 		this.findEmbeddedNodeQueries = initFindEmbeddedNodeQuery( entityKeyMetadata, tupleTypeContext );
 
@@ -112,7 +125,6 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.removePropertyQueries = initRemovePropertyQueries( entityKeyMetadata, tupleTypeContext );
 		this.removeToOneAssociation = initRemoveToOneAssociation( entityKeyMetadata, tupleTypeContext );
 		this.singlePropertyKey = entityKeyMetadata.getColumnNames().length == 1;
-		this.keyColumns = entityKeyMetadata.getColumnNames();
 	}
 
 	private String initRemoveToOneAssociation(EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
@@ -148,37 +160,57 @@ private Map<String, String> initRemovePropertyQueries(EntityKeyMetadata entityKe
 
 	/*
 	 * This method will initialize the query string for a multi get.
-	 * The query is different in the two scenarios:
-	 * 1) the id is mapped on a single property:
+	 * The query is the same whatever the number of keys, the values are passed as a list in the parameter {0}.
 	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE n.id IN {0}
-	 * RETURN n
+	 * Example with a single property id:
 	 *
-	 * 2) id is mapped on multiple columns:
+	 * MATCH (n:ENTITY:table)  WHERE n.id IN {0}
+	 * RETURN n
 	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE
+	 * Example when the id is mapped on several properties, where {0} is a list of maps like {"0": ..., "1": ...}:
 	 *
-	 * In this case the query depends on how many id we are retrieving and it will be completed later
+	 * UNWIND {0} AS key
+	 * MATCH (n:ENTITY:table {`id.property1`: key.`0`, `id.property2`: key.`1`})
+	 * RETURN n
 	 */
 	private static String initMultiGetEntitiesQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded) {
-		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
-		queryBuilder.append( "(" );
-		queryBuilder.append( ENTITY_ALIAS );
-		queryBuilder.append( ":" );
-		queryBuilder.append( ENTITY );
-		queryBuilder.append( ":" );
-		appendLabel( entityKeyMetadata, queryBuilder );
-		queryBuilder.append( ") " );
-		queryBuilder.append( " WHERE " );
-		if ( entityKeyMetadata.getColumnNames().length == 1 ) {
+		String[] columnNames = entityKeyMetadata.getColumnNames();
+		StringBuilder queryBuilder = new StringBuilder();
+		if ( columnNames.length == 1 ) {
+			queryBuilder.append( "MATCH " );
+			queryBuilder.append( "(" );
+			queryBuilder.append( ENTITY_ALIAS );
+			queryBuilder.append( ":" );
+			queryBuilder.append( ENTITY );
+			queryBuilder.append( ":" );
+			appendLabel( entityKeyMetadata, queryBuilder );
+			queryBuilder.append( ") " );
+			queryBuilder.append( " WHERE " );
 			queryBuilder.append( ENTITY_ALIAS );
 			queryBuilder.append( "." );
-			escapeIdentifier( queryBuilder, entityKeyMetadata.getColumnNames()[0] );
+			escapeIdentifier( queryBuilder, columnNames[0] );
 			queryBuilder.append( " IN {0}" );
-			appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
 		}
+		else {
+			queryBuilder.append( "UNWIND {0} AS key MATCH (" );
+			queryBuilder.append( ENTITY_ALIAS );
+			queryBuilder.append( ":" );
+			queryBuilder.append( ENTITY );
+			queryBuilder.append( ":" );
+			appendLabel( entityKeyMetadata, queryBuilder );
+			queryBuilder.append( " {" );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				escapeIdentifier( queryBuilder, columnNames[i] );
+				queryBuilder.append( ": key.`" );
+				queryBuilder.append( i );
+				queryBuilder.append( "`" );
+				if ( i < columnNames.length - 1 ) {
+					queryBuilder.append( ", " );
+				}
+			}
+			queryBuilder.append( "})" );
+		}
+		appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
 		return queryBuilder.toString();
 	}
 
@@ -261,6 +293,14 @@ private Map<String, String> initUpdateToOneQuery(EntityKeyMetadata ownerEntityKe
 		return Collections.emptyMap();
 	}
 
+	private static Map<String, String> initUpdateToOneRowsQuery(Map<String, String> updateToOneQuery) {
+		Map<String, String> queries = new HashMap<>( updateToOneQuery.size() );
+		for ( Entry<String, String> entry : updateToOneQuery.entrySet() ) {
+			queries.put( entry.getKey(), unwindRows( entry.getValue() ) );
+		}
+		return queries;
+	}
+
 	private Map<String, String> initFindAssociatedEntityQuery(EntityKeyMetadata ownerEntityKeyMetadata, TupleTypeContext tupleTypeContext) {
 		if ( tupleTypeContext != null ) {
 			Map<String, AssociatedEntityKeyMetadata> allAssociatedEntityKeyMetadata = tupleTypeContext.getAllAssociatedEntityKeyMetadata();
@@ -519,6 +559,60 @@ private static String initFindEntitiesQuery(EntityKeyMetadata entityKeyMetadata,
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:table)
+	 * WHERE id(owner) >= {0} AND id(owner) < {1}
+	 * OPTIONAL MATCH (owner)-[r]->(emb)
+	 * ...
+	 */
+	private static String initFindEntitiesInRangeQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded) {
+		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
+		queryBuilder.append( "(" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( ")" );
+		queryBuilder.append( " WHERE id(" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ") >= {0} AND id(" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ") < {1}" );
+		appendOptionalMatchOwnerEmbeddedNodes( queryBuilder );
+		appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Returns the node ids found every size / {0} nodes of the label, in ascending order: each one is the lower bound
+	 * of a partition containing about the same number of nodes.
+	 *
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:table)
+	 * WITH id(owner) AS nodeId ORDER BY nodeId
+	 * WITH collect(nodeId) AS nodeIds WHERE size(nodeIds) > 0
+	 * RETURN [i IN range(0, size(nodeIds) - 1, (size(nodeIds) + {0} - 1) / {0}) | nodeIds[i]]
+	 */
+	private static String initPartitionLowerBoundsQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
+		queryBuilder.append( "(" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( ") WITH id(" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ") AS nodeId ORDER BY nodeId" );
+		queryBuilder.append( " WITH collect(nodeId) AS nodeIds WHERE size(nodeIds) > 0" );
+		queryBuilder.append( " RETURN [i IN range(0, size(nodeIds) - 1, (size(nodeIds) + {0} - 1) / {0}) | nodeIds[i]]" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example: CREATE (n:ENTITY:table {id: {0}}) RETURN n
 	 */
@@ -545,6 +639,33 @@ private static String initCreateEntityWithPropertiesQuery(EntityKeyMetadata enti
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example: UNWIND {rows} AS row CREATE (n:ENTITY:table) SET n = row
+	 */
+	private static String initCreateEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row CREATE (n:" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( ") SET n = row" );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example: UNWIND {rows} AS row MATCH (owner:ENTITY:table {id: row.`0`}) SET owner += row.props
+	 */
+	private static String initUpdateEntitiesPropertiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendMatchOwnerEntityNode( queryBuilder, entityKeyMetadata );
+		queryBuilder.append( " SET " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( " += row." );
+		queryBuilder.append( PROPERTIES_PARAMETER );
+		return unwindRows( queryBuilder.toString() );
+	}
+
 	/*
 	 * Example: MATCH (n:ENTITY:table {id: {0}}) OPTIONAL MATCH (n) - [r] - () DELETE n, r
 	 */
@@ -624,65 +745,14 @@ public String getFindAssociationQuery(String relationshipType, AssociationKeyMet
 	}
 
 	/*
-	 * When the id is mapped on several properties
+	 * When the id is mapped on several properties, the parameters of the multiGetQuery.
 	 */
-	protected String getMultiGetQueryCacheQuery(EntityKey[] keys) {
-		int numberOfKeys = keys.length;
-		String query = multiGetQueryCache.get( numberOfKeys );
-		if ( query == null ) {
-			query = createMultiGetOnMultiplePropertiesId( numberOfKeys );
-			String cached = multiGetQueryCache.putIfAbsent( numberOfKeys, query );
-			if ( cached != null ) {
-				query = cached;
-			}
-		}
-		return query;
-	}
-
 	protected Map<String, Object> multiGetParams(EntityKey[] keys) {
-		// We assume only one metadata type
-		int numberOfColumnNames = keys[0].getColumnNames().length;
-		int numberOfParams = keys.length * numberOfColumnNames;
-		int counter = 0;
-		Map<String, Object> params = new HashMap<>( numberOfParams );
-		for ( int row = 0; row < keys.length; row++ ) {
-			for ( int col = 0; col < keys[row].getColumnValues().length; col++ ) {
-				params.put( String.valueOf( counter++ ), keys[row].getColumnValues()[col] );
-			}
-		}
-		return params;
-	}
-
-	/*
-	 * Example:
-	 *
-	 * MATCH (n:ENTITY:table)
-	 * WHERE (n.id.property1 = {0} AND n.id.property2 = {1} ) OR (n.id.property1 = {2} AND n.id.property2 = {3} )
-	 * RETURN n
-	 */
-	private String createMultiGetOnMultiplePropertiesId(int keysNumber) {
-		StringBuilder builder = new StringBuilder( multiGetQuery );
-		int counter = 0;
-		for ( int row = 0; row < keysNumber; row++ ) {
-			builder.append( "(" );
-			for ( int col = 0; col < keyColumns.length; col++ ) {
-				builder.append( ENTITY_ALIAS );
-				builder.append( "." );
-				escapeIdentifier( builder, keyColumns[col] );
-				builder.append( " = {" );
-				builder.append( counter++ );
-				builder.append( "}" );
-				if ( col < keyColumns.length - 1 ) {
-					builder.append( " AND " );
-				}
-			}
-			builder.append( ")" );
-			if ( row < keysNumber - 1 ) {
-				builder.append( " OR " );
-			}
+		List<Map<String, Object>> keyValues = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			keyValues.add( params( key.getColumnValues() ) );
 		}
-		appendGetEmbeddedNodesIfNeeded( includeEmbedded, builder );
-		return builder.toString();
+		return Collections.singletonMap( "0", (Object) keyValues );
 	}
 
 	public String getUpdateEntityPropertiesQuery( Map<String, Object> properties ) {
@@ -717,6 +787,14 @@ public String getFindEntitiesQuery() {
 		return findEntitiesQuery;
 	}
 
+	public String getFindEntitiesInRangeQuery() {
+		return findEntitiesInRangeQuery;
+	}
+
+	public String getPartitionLowerBoundsQuery() {
+		return partitionLowerBoundsQuery;
+	}
+
 	public String getFindAssociationPartialQuery() {
 		return findAssociationPartialQuery;
 	}
@@ -741,6 +819,43 @@ public String getUpdateToOneQuery(String associationRole) {
 		return updateToOneQuery.get( associationRole );
 	}
 
+	/**
+	 * @return the query creating the nodes of the rows in the parameter {@link #ROWS_PARAMETER}, each row being the
+	 * properties of a node
+	 */
+	public String getCreateEntitiesQuery() {
+		return createEntitiesQuery;
+	}
+
+	/**
+	 * @return the query updating the properties of the nodes of the rows in the parameter {@link #ROWS_PARAMETER}
+	 * @see #updateEntityPropertiesRow(Object[], Map)
+	 */
+	public String getUpdateEntitiesPropertiesQuery() {
+		return updateEntitiesPropertiesQuery;
+	}
+
+	/**
+	 * @param associationRole the role of the to-one association
+	 * @return the query replacing the to-one association of the rows in the parameter {@link #ROWS_PARAMETER}
+	 * @see #updateToOneAssociationRow(Object[], Object[])
+	 */
+	public String getUpdateToOneRowsQuery(String associationRole) {
+		return updateToOneRowsQuery.get( associationRole );
+	}
+
+	public Map<String, Object> updateEntityPropertiesRow(Object[] columnValues, Map<String, Object> properties) {
+		Map<String, Object> row = params( columnValues );
+		row.put( PROPERTIES_PARAMETER, properties );
+		return row;
+	}
+
+	public Map<String, Object> updateToOneAssociationRow(Object[] ownerKeyValues, Object[] targetKeyValues) {
+		Map<String, Object> row = params( ownerKeyValues );
+		row.putAll( params( targetKeyValues, ownerKeyValues.length ) );
+		return row;
+	}
+
 	public String getFindAssociatedEntityQuery(String associationRole) {
 		return findAssociatedEntityQuery.get( associationRole );
 	}
@@ -11,6 +11,7 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.neo4j.graphdb.Result;
@@ -23,6 +24,33 @@
  */
 class BaseNeo4jQueries {
 
+	/**
+	 * The name of the parameter containing the rows of a query executed for several nodes or relationships at once.
+	 */
+	public static final String ROWS_PARAMETER = "rows";
+
+	private static final Pattern POSITIONAL_PARAMETER = Pattern.compile( "\\{(\\d+)\\}" );
+
+	/*
+	 * Returns a query executing the given one for each element of the parameter {rows}, where each row contains the
+	 * parameters of the original query.
+	 *
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:table {id: {0}}) SET owner.name = {1}
+	 *
+	 * becomes:
+	 *
+	 * UNWIND {rows} AS row MATCH (owner:ENTITY:table {id: row.`0`}) SET owner.name = row.`1`
+	 */
+	protected static String unwindRows(String query) {
+		StringBuilder queryBuilder = new StringBuilder( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row " );
+		queryBuilder.append( POSITIONAL_PARAMETER.matcher( query ).replaceAll( "row.`$1`" ) );
+		return queryBuilder.toString();
+	}
+
 	protected static void appendLabel(EntityKeyMetadata entityKeyMetadata, StringBuilder queryBuilder) {
 		escapeIdentifier( queryBuilder, entityKeyMetadata.getTable() );
 	}
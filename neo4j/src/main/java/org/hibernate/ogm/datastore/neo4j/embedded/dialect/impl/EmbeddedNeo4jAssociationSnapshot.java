@@ -6,12 +6,15 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 
 /**
  * Represents the association snapshot as loaded by Neo4j.
@@ -46,4 +49,15 @@ public int size() {
 	public Set<RowKey> getRowKeys() {
 		return tuples.keySet();
 	}
+
+	/**
+	 * @return a copy of this snapshot, with new tuples on top of the snapshots of the rows, which are not updated once read
+	 */
+	public EmbeddedNeo4jAssociationSnapshot copy() {
+		Map<RowKey, Tuple> copy = new HashMap<RowKey, Tuple>( tuples.size() );
+		for ( Entry<RowKey, Tuple> entry : tuples.entrySet() ) {
+			copy.put( entry.getKey(), new Tuple( entry.getValue().getSnapshot(), SnapshotType.UPDATE ) );
+		}
+		return new EmbeddedNeo4jAssociationSnapshot( copy );
+	}
 }
@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
@@ -102,9 +104,8 @@ public ResourceIterator<Node> findEntities(GraphDatabaseService executionEngine,
 	 * When the id is mapped on several properties
 	 */
 	private ResourceIterator<Node> multiPropertiesIdFindEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
-		String query = getMultiGetQueryCacheQuery( keys );
 		Map<String, Object> params = multiGetParams( keys );
-		Result result = executionEngine.execute( query, params );
+		Result result = executionEngine.execute( multiGetQuery, params );
 		return result.columnAs( ENTITY_ALIAS );
 	}
 
@@ -145,6 +146,39 @@ public ResourceIterator<Node> findEntities(GraphDatabaseService executionEngine)
 		return result.columnAs( BaseNeo4jEntityQueries.ENTITY_ALIAS );
 	}
 
+	/**
+	 * Find the nodes representing the entity with an id in the range [{@code from}, {@code to}).
+	 *
+	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param from the lowest node id (inclusive)
+	 * @param to the highest node id (exclusive)
+	 * @return an iterator over the nodes representing an entity
+	 */
+	public ResourceIterator<Node> findEntities(GraphDatabaseService executionEngine, long from, long to) {
+		Result result = executionEngine.execute( getFindEntitiesInRangeQuery(), params( new Object[] { from, to } ) );
+		return result.columnAs( BaseNeo4jEntityQueries.ENTITY_ALIAS );
+	}
+
+	/**
+	 * Find the ids splitting the nodes representing the entity in partitions of about the same size.
+	 *
+	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param partitions the maximum number of partitions
+	 * @return the node id starting each partition, in ascending order; empty if there are no nodes
+	 */
+	public List<Long> findPartitionLowerBounds(GraphDatabaseService executionEngine, int partitions) {
+		try ( Result result = executionEngine.execute( getPartitionLowerBoundsQuery(), params( new Object[] { partitions } ) ) ) {
+			List<Long> lowerBounds = new ArrayList<>( partitions );
+			if ( result.hasNext() ) {
+				String column = result.columns().get( 0 );
+				for ( Object nodeId : (List<?>) result.next().get( column ) ) {
+					lowerBounds.add( ( (Number) nodeId ).longValue() );
+				}
+			}
+			return lowerBounds;
+		}
+	}
+
 	/**
 	 * Remove the nodes representing the entity and the embedded elements attached to it.
 	 *
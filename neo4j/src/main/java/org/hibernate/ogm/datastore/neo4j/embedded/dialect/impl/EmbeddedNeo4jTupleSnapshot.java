@@ -132,6 +132,16 @@ public void setNode(Node node) {
 		this.node = node;
 	}
 
+	/**
+	 * A copy reads the properties of the same node; as a {@link Node} reads them within the transaction of the current
+	 * thread, it never returns stale values.
+	 *
+	 * @return a snapshot of the same node, which is not affected when a node is set on this snapshot
+	 */
+	public EmbeddedNeo4jTupleSnapshot copy() {
+		return new EmbeddedNeo4jTupleSnapshot( node, associatedEntityKeyMetadata, rolesByColumn, entityKeyMetadata );
+	}
+
 	/**
 	 * Whether this snapshot has been newly created (meaning it doesn't have an actual {@link Node} yet) or not. A node
 	 * will be in the "new" state between the {@code createTuple()} call and the next {@code insertOrUpdateTuple()}
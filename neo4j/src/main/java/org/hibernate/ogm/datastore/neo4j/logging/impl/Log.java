@@ -99,4 +99,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = WARN)
 	@Message(id = 1422, value = "Neo4j does not support named indexes. Property name='%1$s' is ignored!")
 	void cannotSetNameForIndex(String name);
+
+	@Message(id = 1423, value = "Bulk updates can only set the properties stored in the entity node, not '%s'")
+	HibernateException bulkUpdateOfEmbeddedColumnNotSupported(String column);
+
+	@Message(id = 1424, value = "Bulk updates can only set values of type String, Character, Number or Boolean in Neo4j; column '%1$s' is assigned '%2$s'")
+	HibernateException unsupportedBulkUpdateValue(String column, Object value);
 }
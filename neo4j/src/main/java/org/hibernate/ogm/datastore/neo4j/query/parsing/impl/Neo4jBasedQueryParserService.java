@@ -6,18 +6,22 @@
  */
 package org.hibernate.ogm.datastore.neo4j.query.parsing.impl;
 
+import static org.hibernate.ogm.datastore.neo4j.query.parsing.cypherdsl.impl.CypherDSL.identifier;
+
 import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.hql.QueryParser;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
 import org.hibernate.ogm.query.spi.BaseQueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
 import org.hibernate.ogm.service.impl.SessionFactoryEntityNamesResolver;
-import org.hibernate.ogm.util.impl.Log;
-import org.hibernate.ogm.util.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 
 /**
@@ -25,6 +29,13 @@
  */
 public class Neo4jBasedQueryParserService extends BaseQueryParserService {
 
+	/**
+	 * The column of the number of entities updated or deleted by a bulk update query.
+	 */
+	public static final String UPDATED_ENTITIES_COLUMN = "ogm_updated_entities";
+
+	private static final String SET_PARAMETER_PREFIX = "ogm_set_";
+
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private volatile SessionFactoryEntityNamesResolver entityNamesResolver;
@@ -45,6 +56,63 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 		return result;
 	}
 
+	/**
+	 * Creates a Cypher query matching the target nodes like the selection, then setting their properties or deleting
+	 * them with their embedded nodes. The assigned values are bound as parameters and the query returns the number of
+	 * entities in the column {@link #UPDATED_ENTITIES_COLUMN}.
+	 * <p>
+	 * Example: MATCH (n:Entity) WHERE n.status = {status} WITH DISTINCT n SET n.status = {ogm_set_0} RETURN count(DISTINCT n) AS ogm_updated_entities
+	 */
+	@Override
+	public Object createBulkUpdateQuery(SessionFactoryImplementor sessionFactory, QueryParsingResult selection, Map<String, TypedGridValue> columnValues, Map<String, TypedGridValue> namedParameters) {
+		Neo4jQueryParsingResult result = (Neo4jQueryParsingResult) selection;
+		String alias = result.getTargetAlias();
+
+		StringBuilder queryBuilder = new StringBuilder( result.getMatchClauses() );
+		queryBuilder.append( " WITH DISTINCT " );
+		identifier( queryBuilder, alias );
+		if ( columnValues == null ) {
+			queryBuilder.append( " OPTIONAL MATCH (" );
+			identifier( queryBuilder, alias );
+			queryBuilder.append( ")-[]->(ogm_e:EMBEDDED), ogm_path=(ogm_e)-[*0..]->(:EMBEDDED)" );
+			queryBuilder.append( " FOREACH (ogm_en IN nodes(ogm_path) | DETACH DELETE ogm_en)" );
+			queryBuilder.append( " WITH DISTINCT " );
+			identifier( queryBuilder, alias );
+			queryBuilder.append( " DETACH DELETE " );
+			identifier( queryBuilder, alias );
+		}
+		else {
+			queryBuilder.append( " SET " );
+			int counter = 0;
+			for ( Entry<String, TypedGridValue> columnValue : columnValues.entrySet() ) {
+				if ( counter > 0 ) {
+					queryBuilder.append( ", " );
+				}
+				String parameterName = SET_PARAMETER_PREFIX + counter++;
+				appendAssignment( queryBuilder, alias, columnValue.getKey(), parameterName, columnValue.getValue().getValue() );
+				namedParameters.put( parameterName, columnValue.getValue() );
+			}
+		}
+		queryBuilder.append( " RETURN count(DISTINCT " );
+		identifier( queryBuilder, alias );
+		queryBuilder.append( ") AS " ).append( UPDATED_ENTITIES_COLUMN );
+
+		String query = queryBuilder.toString();
+		log.createdQuery( query, result );
+		return query;
+	}
+
+	private static void appendAssignment(StringBuilder queryBuilder, String alias, String column, String parameterName, Object value) {
+		if ( column.contains( "." ) ) {
+			throw log.bulkUpdateOfEmbeddedColumnNotSupported( column );
+		}
+		if ( value != null && !( value instanceof String || value instanceof Character || value instanceof Number || value instanceof Boolean ) ) {
+			throw log.unsupportedBulkUpdateValue( column, value );
+		}
+		identifier( queryBuilder, alias, column );
+		queryBuilder.append( " = {" ).append( parameterName ).append( "}" );
+	}
+
 	@Override
 	public boolean supportsParameters() {
 		return true;
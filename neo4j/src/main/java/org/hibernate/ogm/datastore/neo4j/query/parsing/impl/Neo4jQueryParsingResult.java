@@ -15,11 +15,19 @@ public class Neo4jQueryParsingResult implements QueryParsingResult {
 	private final Class<?> entityType;
 	private final String query;
 	private final List<String> projections;
+	private final String targetAlias;
+	private final String matchClauses;
 
 	public Neo4jQueryParsingResult(Class<?> entityType, List<String> projections, String query) {
+		this( entityType, projections, query, null, null );
+	}
+
+	public Neo4jQueryParsingResult(Class<?> entityType, List<String> projections, String query, String targetAlias, String matchClauses) {
 		this.entityType = entityType;
 		this.projections = projections;
 		this.query = query;
+		this.targetAlias = targetAlias;
+		this.matchClauses = matchClauses;
 	}
 
 	public Class<?> getEntityType() {
@@ -30,6 +38,21 @@ public List<String> getProjections() {
 		return projections;
 	}
 
+	/**
+	 * @return the identifier of the target entity nodes in the query
+	 */
+	public String getTargetAlias() {
+		return targetAlias;
+	}
+
+	/**
+	 * @return the {@code MATCH} and {@code WHERE} clauses of the query, without the {@code RETURN} and
+	 * {@code ORDER BY} clauses
+	 */
+	public String getMatchClauses() {
+		return matchClauses;
+	}
+
 	@Override
 	public String toString() {
 		return "Neo4jQueryParsingResult [entityType=" + entityType + ", query=" + query + ", projections=" + projections + "]";
@@ -85,9 +85,10 @@ public Neo4jQueryParsingResult getResult() {
 		match( queryBuilder, targetAlias, label );
 		where( queryBuilder, targetAlias );
 		optionalMatch( queryBuilder, targetAlias );
+		String matchClauses = queryBuilder.toString();
 		returns( queryBuilder, targetAlias );
 		orderBy( queryBuilder );
-		return new Neo4jQueryParsingResult( targetType, projections, queryBuilder.toString() );
+		return new Neo4jQueryParsingResult( targetType, projections, queryBuilder.toString(), targetAlias, matchClauses );
 	}
 
 	private void match(StringBuilder queryBuilder, String targetAlias, String label) {
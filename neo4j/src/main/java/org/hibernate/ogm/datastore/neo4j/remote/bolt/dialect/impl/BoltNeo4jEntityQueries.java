@@ -30,6 +30,7 @@
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.types.Node;
 import org.neo4j.driver.v1.types.Relationship;
 
@@ -79,6 +80,26 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(Transact
 		return closableIterator( results );
 	}
 
+	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(Transaction tx, long from, long to) {
+		StatementResult results = tx.run( getFindEntitiesInRangeQuery(), params( new Object[] { from, to } ) );
+		return closableIterator( results );
+	}
+
+	/**
+	 * Find the ids splitting the nodes representing the entity in partitions of about the same size.
+	 *
+	 * @param tx the transaction used to run the query
+	 * @param partitions the maximum number of partitions
+	 * @return the node id starting each partition, in ascending order; empty if there are no nodes
+	 */
+	public List<Long> findPartitionLowerBounds(Transaction tx, int partitions) {
+		StatementResult result = tx.run( getPartitionLowerBoundsQuery(), params( new Object[] { partitions } ) );
+		if ( !result.hasNext() ) {
+			return Collections.emptyList();
+		}
+		return result.single().get( 0 ).asList( Values.ofLong() );
+	}
+
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntities(EntityKey[] keys, Transaction tx) {
 		if ( singlePropertyKey ) {
 			return singlePropertyIdFindEntities( keys, tx );
@@ -92,9 +113,8 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntities(EntityKey[] keys, Tr
 	 * When the id is mapped on several properties
 	 */
 	private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(EntityKey[] keys, Transaction tx) {
-		String query = getMultiGetQueryCacheQuery( keys );
 		Map<String, Object> params = multiGetParams( keys );
-		StatementResult results = tx.run( query, params );
+		StatementResult results = tx.run( multiGetQuery, params );
 		return closableIterator( results );
 	}
 
@@ -245,9 +265,9 @@ public Statement removeColumnStatement(Object[] columnValues, String column, Tra
 		return new Statement( query, params );
 	}
 
-	public void removeToOneAssociation(Transaction tx, Object[] columnValues, String associationRole) {
+	public Statement removeToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		tx.run( getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	public Statement getUpdateEntityPropertiesStatement(Object[] columnValues, Map<String, Object> properties) {
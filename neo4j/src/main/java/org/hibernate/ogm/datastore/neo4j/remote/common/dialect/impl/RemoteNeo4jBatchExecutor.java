@@ -0,0 +1,282 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jAssociationQueries;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.TransactionContext;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+
+/**
+ * Executes the operations collected during a flush for the remote dialects.
+ * <p>
+ * The nodes are created first, with one statement per label. The other operations are then executed in order; the
+ * updates of the node properties, the to-one associations and the relationships of the associations are grouped in a
+ * {@link RemoteNeo4jWriteBatch}, and each group is written before the next operation that cannot be grouped.
+ * <p>
+ * The dialects implement how the statements are sent to the server.
+ *
+ * @param <T> the transaction the statements are executed in
+ * @param <S> the statements resulting from the changes to a node which cannot be grouped
+ */
+public abstract class RemoteNeo4jBatchExecutor<T, S> {
+
+	public void execute(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		RemoteNeo4jWriteBatch batch = new RemoteNeo4jWriteBatch();
+		List<Object> steps = new ArrayList<>();
+		T tx = null;
+
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			if ( operation instanceof GroupedChangesToEntityOperation ) {
+				for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+					if ( groupedOperation instanceof InsertOrUpdateTupleOperation ) {
+						InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) groupedOperation;
+						tx = transaction( tupleOperation.getTupleContext().getTransactionContext() );
+						steps.add( nodeChanges( tupleOperation, batch ) );
+					}
+					else if ( groupedOperation instanceof InsertOrUpdateAssociationOperation ) {
+						tx = transaction( ( (InsertOrUpdateAssociationOperation) groupedOperation ).getContext().getTransactionContext() );
+						steps.add( groupedOperation );
+					}
+					else if ( groupedOperation instanceof RemoveAssociationOperation ) {
+						tx = transaction( ( (RemoveAssociationOperation) groupedOperation ).getContext().getTransactionContext() );
+						steps.add( groupedOperation );
+					}
+					else {
+						throw new UnsupportedOperationException( "Operation not supported: " + groupedOperation.getClass().getSimpleName() );
+					}
+				}
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				tx = transaction( ( (RemoveTupleOperation) operation ).getTupleContext().getTransactionContext() );
+				steps.add( operation );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+			}
+			operation = queue.poll();
+		}
+		queue.clear();
+
+		if ( tx != null ) {
+			createNodes( tx, batch );
+			for ( Object step : steps ) {
+				executeStep( tx, step, batch );
+			}
+			flushWrites( tx, batch );
+			for ( Tuple tuple : batch.getInsertedTuples() ) {
+				tuple.setSnapshotType( SnapshotType.UPDATE );
+			}
+		}
+	}
+
+	private NodeChanges<S> nodeChanges(InsertOrUpdateTupleOperation tupleOperation, RemoteNeo4jWriteBatch batch) {
+		EntityKey key = tupleOperation.getEntityKey();
+		TupleContext tupleContext = tupleOperation.getTupleContext();
+		Tuple tuple = tupleOperation.getTuplePointer().getTuple();
+		NodeChanges<S> changes = new NodeChanges<>( key, tupleContext );
+		changes.statements = applyTupleOperations( key, tuple, changes.properties, changes.toOneAssociations, tupleContext );
+		if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
+			String query = getEntityQueries( key, tupleContext ).getCreateEntitiesQuery();
+			if ( !batch.createNode( query, key, changes.properties, tuple ) ) {
+				throw new TupleAlreadyExistsException( key );
+			}
+			changes.created = true;
+		}
+		return changes;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void executeStep(T tx, Object step, RemoteNeo4jWriteBatch batch) {
+		if ( step instanceof NodeChanges ) {
+			executeNodeChanges( tx, (NodeChanges<S>) step, batch );
+		}
+		else if ( step instanceof InsertOrUpdateAssociationOperation ) {
+			executeAssociationOperations( tx, (InsertOrUpdateAssociationOperation) step, batch );
+		}
+		else if ( step instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) step;
+			flushWrites( tx, batch );
+			removeAssociation( tx, removeAssociationOperation.getAssociationKey(), removeAssociationOperation.getContext() );
+		}
+		else {
+			RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) step;
+			flushWrites( tx, batch );
+			removeTuple( tx, removeTupleOperation.getEntityKey(), removeTupleOperation.getTupleContext() );
+		}
+	}
+
+	private void executeNodeChanges(T tx, NodeChanges<S> changes, RemoteNeo4jWriteBatch batch) {
+		if ( changes.statements != null ) {
+			flushWrites( tx, batch );
+			executeStatements( tx, changes.key, changes.statements );
+		}
+		BaseNeo4jEntityQueries queries = getEntityQueries( changes.key, changes.tupleContext );
+		if ( !changes.created && !changes.properties.isEmpty() ) {
+			Map<String, Object> row = queries.updateEntityPropertiesRow( changes.key.getColumnValues(), changes.properties );
+			batch.write( queries.getUpdateEntitiesPropertiesQuery(), row, row );
+		}
+		for ( Map.Entry<String, EntityKey> entry : changes.toOneAssociations.entrySet() ) {
+			Map<String, Object> row = queries.updateToOneAssociationRow( changes.key.getColumnValues(), entry.getValue().getColumnValues() );
+			batch.write( queries.getUpdateToOneRowsQuery( entry.getKey() ), changes.key, row );
+		}
+	}
+
+	private void executeAssociationOperations(T tx, InsertOrUpdateAssociationOperation operation, RemoteNeo4jWriteBatch batch) {
+		AssociationKey key = operation.getAssociationKey();
+		// The relationships are managed from the main side of the association
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
+		AssociationContext associationContext = operation.getContext();
+		for ( AssociationOperation action : operation.getAssociation().getOperations() ) {
+			if ( action.getType() == AssociationOperationType.PUT && key.getMetadata().getAssociationKind() == AssociationKind.ASSOCIATION ) {
+				Tuple associationRow = action.getValue();
+				EntityKey targetKey = getTargetKey( associationRow, associationContext );
+				BaseNeo4jAssociationQueries queries = getAssociationQueries( key );
+				Map<String, Object> row = queries.createRelationshipRow( key.getEntityKey().getColumnValues(), targetKey.getColumnValues(),
+						relationshipProperties( key, associationRow ) );
+				batch.write( queries.getCreateRelationshipsQuery(), row, row );
+			}
+			else {
+				flushWrites( tx, batch );
+				applyAssociationOperation( tx, key, operation.getAssociation(), action, associationContext );
+			}
+		}
+	}
+
+	private void createNodes(T tx, RemoteNeo4jWriteBatch batch) {
+		Map<String, Map<EntityKey, Map<String, Object>>> createdNodes = batch.drainCreatedNodes();
+		if ( !createdNodes.isEmpty() ) {
+			createNodes( tx, createdNodes );
+		}
+	}
+
+	private void flushWrites(T tx, RemoteNeo4jWriteBatch batch) {
+		if ( batch.hasWrites() ) {
+			write( tx, batch.drainWrites() );
+		}
+	}
+
+	private static Object[] relationshipProperties(AssociationKey associationKey, Tuple associationRow) {
+		String[] indexColumns = associationKey.getMetadata().getRowKeyIndexColumnNames();
+		Object[] properties = new Object[indexColumns.length];
+		for ( int i = 0; i < indexColumns.length; i++ ) {
+			properties[i] = associationRow.get( indexColumns[i] );
+		}
+		return properties;
+	}
+
+	/**
+	 * @param transactionContext the context of an operation
+	 * @return the transaction of the operation
+	 */
+	protected abstract T transaction(TransactionContext transactionContext);
+
+	protected abstract BaseNeo4jEntityQueries getEntityQueries(EntityKey key, TupleContext tupleContext);
+
+	protected abstract BaseNeo4jAssociationQueries getAssociationQueries(AssociationKey key);
+
+	/**
+	 * @param associationRow a row of an association between entities
+	 * @param associationContext the context of the association
+	 * @return the key of the entity targeted by the row
+	 */
+	protected abstract EntityKey getTargetKey(Tuple associationRow, AssociationContext associationContext);
+
+	/**
+	 * Collects the changes to the node of an entity resulting from the operations on its tuple.
+	 *
+	 * @param key the key of the entity
+	 * @param tuple the tuple of the entity
+	 * @param properties the properties to set on the node, to be filled
+	 * @param toOneAssociations the targets of the to-one associations to update, per role, to be filled
+	 * @param tupleContext the context of the tuple
+	 * @return the statements for the other changes, {@code null} if there are none
+	 */
+	protected abstract S applyTupleOperations(EntityKey key, Tuple tuple, Map<String, Object> properties, Map<String, EntityKey> toOneAssociations, TupleContext tupleContext);
+
+	/**
+	 * Executes the statements returned by {@link #applyTupleOperations(EntityKey, Tuple, Map, Map, TupleContext)}.
+	 */
+	protected abstract void executeStatements(T tx, EntityKey key, S statements);
+
+	/**
+	 * Applies an operation on an association that is not grouped: an operation on a collection of embeddables or the
+	 * removal of relationships.
+	 */
+	protected abstract void applyAssociationOperation(T tx, AssociationKey key, Association association, AssociationOperation operation, AssociationContext associationContext);
+
+	protected abstract void removeAssociation(T tx, AssociationKey key, AssociationContext associationContext);
+
+	protected abstract void removeTuple(T tx, EntityKey key, TupleContext tupleContext);
+
+	/**
+	 * Creates the nodes of a batch.
+	 *
+	 * @param tx the transaction
+	 * @param createdNodes the properties of the nodes to create, per entity key and query
+	 * @see RemoteNeo4jWriteBatch#drainCreatedNodes()
+	 */
+	protected abstract void createNodes(T tx, Map<String, Map<EntityKey, Map<String, Object>>> createdNodes);
+
+	/**
+	 * Writes the grouped rows of a batch.
+	 *
+	 * @param tx the transaction
+	 * @param writes the rows to write, per query
+	 * @see RemoteNeo4jWriteBatch#drainWrites()
+	 */
+	protected abstract void write(T tx, Map<String, Collection<Map<String, Object>>> writes);
+
+	/**
+	 * The changes to the node of an entity, as resulting from the operations on its tuple.
+	 */
+	private static class NodeChanges<S> {
+
+		private final EntityKey key;
+		private final TupleContext tupleContext;
+		private final Map<String, Object> properties = new HashMap<>();
+		private final Map<String, EntityKey> toOneAssociations = new HashMap<>();
+		private S statements;
+		private boolean created;
+
+		NodeChanges(EntityKey key, TupleContext tupleContext) {
+			this.key = key;
+			this.tupleContext = tupleContext;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Collects the writes of a flush that can be executed for several nodes or relationships with a single statement.
+ * <p>
+ * The rows are grouped by query, that is by label for the nodes and by type for the relationships, so that each group
+ * can be sent as one {@code UNWIND} statement. The nodes are kept apart from the other writes as they are created
+ * before anything else: the relationships of a flush can then be created whatever the order of the entities.
+ *
+ * @see BaseNeo4jEntityQueries#getCreateEntitiesQuery()
+ */
+public class RemoteNeo4jWriteBatch {
+
+	private final Map<String, Map<EntityKey, Map<String, Object>>> createdNodes = new LinkedHashMap<>();
+	private final Map<String, Map<Object, Map<String, Object>>> writes = new LinkedHashMap<>();
+	private final List<Tuple> insertedTuples = new ArrayList<>();
+
+	/**
+	 * Adds the creation of a node.
+	 *
+	 * @param query the query creating the nodes with the label of the new one
+	 * @param key the key of the entity
+	 * @param properties the properties of the node
+	 * @param tuple the inserted tuple
+	 * @return {@code false} if the node is already created by this batch, {@code true} otherwise
+	 */
+	public boolean createNode(String query, EntityKey key, Map<String, Object> properties, Tuple tuple) {
+		Map<EntityKey, Map<String, Object>> rows = createdNodes.computeIfAbsent( query, q -> new LinkedHashMap<>() );
+		if ( rows.containsKey( key ) ) {
+			return false;
+		}
+		rows.put( key, properties );
+		insertedTuples.add( tuple );
+		return true;
+	}
+
+	/**
+	 * Adds a row to the given query. A row with the same identifier replaces the previous one.
+	 *
+	 * @param query the query to execute for each row
+	 * @param rowId identifies the row, for example the key of the owner of a to-one association
+	 * @param row the parameters of the row
+	 */
+	public void write(String query, Object rowId, Map<String, Object> row) {
+		writes.computeIfAbsent( query, q -> new LinkedHashMap<>() ).put( rowId, row );
+	}
+
+	public boolean hasWrites() {
+		return !writes.isEmpty();
+	}
+
+	/**
+	 * Returns the nodes to create and forgets about them.
+	 *
+	 * @return the properties of the nodes to create, per entity key and query
+	 */
+	public Map<String, Map<EntityKey, Map<String, Object>>> drainCreatedNodes() {
+		Map<String, Map<EntityKey, Map<String, Object>>> drained = new LinkedHashMap<>( createdNodes );
+		createdNodes.clear();
+		return drained;
+	}
+
+	/**
+	 * Returns the pending writes and forgets about them.
+	 *
+	 * @return the rows to write, per query
+	 */
+	public Map<String, Collection<Map<String, Object>>> drainWrites() {
+		Map<String, Collection<Map<String, Object>>> drained = new LinkedHashMap<>();
+		for ( Map.Entry<String, Map<Object, Map<String, Object>>> entry : writes.entrySet() ) {
+			drained.put( entry.getKey(), entry.getValue().values() );
+		}
+		writes.clear();
+		return drained;
+	}
+
+	/**
+	 * @return the tuples of the nodes created by this batch
+	 */
+	public List<Tuple> getInsertedTuples() {
+		return insertedTuples;
+	}
+
+	/**
+	 * @param rows the rows of a query
+	 * @return the parameters of a query executed for each of the given rows
+	 */
+	public static Map<String, Object> rowsParameter(Collection<Map<String, Object>> rows) {
+		return Collections.singletonMap( BaseNeo4jEntityQueries.ROWS_PARAMETER, new ArrayList<>( rows ) );
+	}
+
+	/**
+	 * Looks for the key a constraint violation refers to, the error message ending with the value of the property
+	 * (e.g. {@code Node(0) already exists with label `Person` and property `id` = 'john'}).
+	 *
+	 * @param keys the keys of the nodes created by the failed statement
+	 * @param message the error message
+	 * @return the key of the node violating the constraint if it could be found, the first key otherwise
+	 */
+	public static EntityKey keyInError(Collection<EntityKey> keys, String message) {
+		for ( EntityKey key : keys ) {
+			if ( key.getColumnValues().length == 1 ) {
+				String value = String.valueOf( key.getColumnValues()[0] );
+				if ( message.endsWith( "= '" + value + "'" ) || message.endsWith( "= " + value ) ) {
+					return key;
+				}
+			}
+		}
+		return keys.iterator().next();
+	}
+}
@@ -16,6 +16,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Graph;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statement;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
@@ -40,6 +41,10 @@ public void removeAssociation(HttpNeo4jClient dataBase, Long txId, AssociationKe
 		executeQuery( dataBase, txId, removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
 	}
 
+	public Statement removeAssociationStatement(AssociationKey associationKey) {
+		return new Statement( removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
+	}
+
 	public Relationship findRelationship(HttpNeo4jClient dataBase, Long txId, AssociationKey associationKey, RowKey rowKey) {
 		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
 		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
@@ -61,6 +66,12 @@ public Relationship createRelationshipForEmbeddedAssociation(HttpNeo4jClient exe
 		return result.getRelationships().get( 0 );
 	}
 
+	public Statement createRelationshipForEmbeddedAssociationStatement(AssociationKey associationKey, EntityKey embeddedKey, Object[] relationshipProperties) {
+		String query = initCreateEmbeddedAssociationQuery( associationKey, embeddedKey );
+		Object[] queryValues = createRelationshipForEmbeddedQueryValues( associationKey, embeddedKey, relationshipProperties );
+		return new Statement( query, params( queryValues ) );
+	}
+
 	public Relationship createRelationship(HttpNeo4jClient dataBase, Long txId, Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
 		Object[] concat = ArrayHelper.concat( Arrays.asList( ownerKeyValues, targetKeyValues, relationshipProperties ) );
 		Map<String, Object> params = params( concat );
@@ -74,6 +85,12 @@ public void removeAssociationRow(HttpNeo4jClient database, Long txId, Associatio
 		executeQuery( database, txId, removeAssociationRowQuery, params( queryValues ) );
 	}
 
+	public Statement removeAssociationRowStatement(AssociationKey associationKey, RowKey rowKey) {
+		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
+		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
+		return new Statement( removeAssociationRowQuery, params( queryValues ) );
+	}
+
 	private static Graph executeQuery(HttpNeo4jClient executionEngine, Long txId, String query, Map<String, Object> properties) {
 		Statements statements = new Statements();
 		statements.addStatement( query, properties );
@@ -187,6 +187,10 @@ public void removeEntity(HttpNeo4jClient executionEngine, Long txId, Object[] co
 		executeQueryAndReturnGraph( executionEngine, txId, getRemoveEntityQuery(), params( columnValues ) );
 	}
 
+	public Statement removeEntityStatement(Object[] columnValues) {
+		return new Statement( getRemoveEntityQuery(), params( columnValues ) );
+	}
+
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4jClient executionEngine, Long txId) {
 		Statements statements = new Statements();
 		statements.addStatement( getFindEntitiesQuery() );
@@ -194,6 +198,30 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4
 		return closableIterator( result );
 	}
 
+	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4jClient executionEngine, Long txId, long from, long to) {
+		List<StatementResult> result = executeQuery( executionEngine, txId, getFindEntitiesInRangeQuery(), params( new Object[] { from, to } ) );
+		return closableIterator( result );
+	}
+
+	/**
+	 * Find the ids splitting the nodes representing the entity in partitions of about the same size.
+	 *
+	 * @param executionEngine the {@link HttpNeo4jClient} used to run the query
+	 * @param txId the id of the open transaction, {@code null} to run the query in a new transaction
+	 * @param partitions the maximum number of partitions
+	 * @return the node id starting each partition, in ascending order; empty if there are no nodes
+	 */
+	public List<Long> findPartitionLowerBounds(HttpNeo4jClient executionEngine, Long txId, int partitions) {
+		List<StatementResult> result = executeQuery( executionEngine, txId, getPartitionLowerBoundsQuery(), params( new Object[] { partitions } ), Statement.AS_ROW );
+		List<Long> lowerBounds = new ArrayList<>( partitions );
+		if ( result != null && !result.get( 0 ).getData().isEmpty() ) {
+			for ( Object nodeId : (List<?>) row( result ).getRow().get( 0 ) ) {
+				lowerBounds.add( ( (Number) nodeId ).longValue() );
+			}
+		}
+		return lowerBounds;
+	}
+
 	/**
 	 * Find the nodes corresponding to an array of entity keys.
 	 *
@@ -214,9 +242,8 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntities(HttpNeo4jClient exec
 	 * When the id is mapped on several properties
 	 */
 	private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(HttpNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
-		String query = getMultiGetQueryCacheQuery( keys );
 		Map<String, Object> params = multiGetParams( keys );
-		List<StatementResult> results = executeQuery( executionEngine, txId, query, params );
+		List<StatementResult> results = executeQuery( executionEngine, txId, multiGetQuery, params );
 		return closableIterator( results );
 	}
 
@@ -450,9 +477,9 @@ public Node findEmbeddedNode(HttpNeo4jClient neo4jClient, Long txId, Object[] ke
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement removeToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
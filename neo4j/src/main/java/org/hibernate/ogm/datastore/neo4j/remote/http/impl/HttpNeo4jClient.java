@@ -7,15 +7,24 @@
 package org.hibernate.ogm.datastore.neo4j.remote.http.impl;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import javax.ws.rs.core.Response;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jConfiguration;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jDatabaseIdentifier;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statement;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.request.impl.HttpNeo4jAuthenticationFacade;
@@ -50,6 +59,11 @@ public class HttpNeo4jClient implements AutoCloseable {
 
 	private final RemoteNeo4jDatabaseIdentifier database;
 
+	/**
+	 * The statements queued for each open transaction, sent with the next request for the same transaction
+	 */
+	private final ConcurrentMap<Long, PendingStatements> pendingStatements = new ConcurrentHashMap<>();
+
 	public HttpNeo4jClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
 		this.database = database;
 		this.client = createRestClient( database, configuration );
@@ -98,10 +112,42 @@ public void validateConnection() {
 	 */
 	@Override
 	public void close() {
+		// The statements of the transactions left open are lost, like the transactions themselves
+		pendingStatements.clear();
 		client.close();
 	}
 
+	/**
+	 * Executes the given statements in an open transaction, after the statements queued for it.
+	 * <p>
+	 * If a queued statement fails, the exception returned by its error translator is thrown; otherwise the response
+	 * only contains the results of the given statements and their errors.
+	 *
+	 * @param txId the id of the open transaction
+	 * @param statements the statements to execute
+	 * @return the response to the given statements
+	 */
 	public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements statements) {
+		PendingStatements pending = pendingStatements.remove( txId );
+		if ( pending == null ) {
+			return executeQueries( txId, statements );
+		}
+
+		// The queued statements are executed first, in the same request
+		int pendingCount = pending.size();
+		Statements all = new Statements();
+		all.getStatements().addAll( pending.statements.getStatements() );
+		all.getStatements().addAll( statements.getStatements() );
+		StatementsResponse response = executeQueries( txId, all );
+		pending.validate( response );
+		List<StatementResult> results = response.getResults();
+		if ( results != null ) {
+			response.setResults( results.subList( Math.min( pendingCount, results.size() ), results.size() ) );
+		}
+		return response;
+	}
+
+	private StatementsResponse executeQueries(Long txId, Statements statements) {
 		Response response = neo4jFacade.executeQuery( txId, statements );
 		try {
 			return response.readEntity( StatementsResponse.class );
@@ -111,6 +157,27 @@ public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements
 		}
 	}
 
+	/**
+	 * Queues statements whose results are not needed. They are sent with the next request for the same transaction or
+	 * when the transaction is committed; an error will be reported at that time.
+	 *
+	 * @param txId the id of the open transaction
+	 * @param statements the statements to execute
+	 * @param errorTranslator creates the exception reporting the error of one of the statements, {@code null} to
+	 * report it as a {@link HibernateException}
+	 */
+	public void queueQueriesInOpenTransaction(Long txId, Statements statements, Function<ErrorResponse, HibernateException> errorTranslator) {
+		pendingStatements.computeIfAbsent( txId, id -> new PendingStatements() ).add( statements, errorTranslator );
+	}
+
+	/**
+	 * Executes the given statements in a transaction of their own. The statements queued for the open transactions
+	 * are neither sent nor visible: only use it for statements independent from them, such as schema changes or
+	 * sequence increments.
+	 *
+	 * @param statements the statements to execute
+	 * @return the response to the given statements
+	 */
 	public StatementsResponse executeQueriesInNewTransaction(Statements statements) {
 		Response response = neo4jFacade.executeQuery( statements );
 		try {
@@ -139,12 +206,71 @@ private Long transactionId(URI location) {
 	}
 
 	public void commit(Long txId) {
-		Response response = neo4jFacade.commit( txId );
-		response.close();
+		PendingStatements pending = pendingStatements.remove( txId );
+		if ( pending == null ) {
+			Response response = neo4jFacade.commit( txId );
+			response.close();
+		}
+		else {
+			Response response = neo4jFacade.commit( txId, pending.statements );
+			try {
+				pending.validate( response.readEntity( StatementsResponse.class ) );
+			}
+			finally {
+				response.close();
+			}
+		}
+	}
+
+	/**
+	 * Discards the statements queued for a transaction which is not going to be committed.
+	 *
+	 * @param txId the id of the transaction
+	 */
+	public void discardQueuedQueries(Long txId) {
+		pendingStatements.remove( txId );
 	}
 
 	public void rollback(Long txId) {
+		discardQueuedQueries( txId );
 		Response response = neo4jFacade.rollback( txId );
 		response.close();
 	}
+
+	/**
+	 * The statements queued for a transaction, with the translator of the errors of each of them.
+	 */
+	private static class PendingStatements {
+
+		private final Statements statements = new Statements();
+		private final List<Function<ErrorResponse, HibernateException>> errorTranslators = new ArrayList<>();
+
+		private void add(Statements queued, Function<ErrorResponse, HibernateException> errorTranslator) {
+			for ( Statement statement : queued.getStatements() ) {
+				statements.addStatement( statement );
+				errorTranslators.add( errorTranslator );
+			}
+		}
+
+		private int size() {
+			return errorTranslators.size();
+		}
+
+		/**
+		 * Throws the exception reporting the error of the response if it has been raised by one of the queued
+		 * statements.
+		 */
+		private void validate(StatementsResponse response) {
+			if ( response.getErrors() == null || response.getErrors().isEmpty() ) {
+				return;
+			}
+			// The statements are executed in order until the first failing one, which has no result
+			int failed = response.getResults() == null ? 0 : response.getResults().size();
+			if ( failed < size() ) {
+				ErrorResponse error = response.getErrors().get( 0 );
+				Function<ErrorResponse, HibernateException> errorTranslator = errorTranslators.get( failed );
+				throw errorTranslator != null ? errorTranslator.apply( error ) : new HibernateException( String.valueOf( error ) );
+			}
+		}
+	}
 }
@@ -35,6 +35,10 @@ public interface HttpNeo4jTransactionFacade {
 	@Path("/transaction/{transactionId}/commit")
 	Response commit(@PathParam("transactionId") long transactionId);
 
+	@POST
+	@Path("/transaction/{transactionId}/commit")
+	Response commit(@PathParam("transactionId") long transactionId, Statements statements);
+
 	@DELETE
 	@Path("/transaction/{transactionId}")
 	Response rollback(@PathParam("transactionId") long transactionId);
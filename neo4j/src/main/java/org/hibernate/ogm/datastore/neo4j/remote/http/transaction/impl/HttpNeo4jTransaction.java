@@ -37,5 +37,7 @@ public Long getId() {
 
 	@Override
 	public void close() {
+		// The transaction is over, whatever the way it ended
+		remote.discardQueuedQueries( txId );
 	}
 }
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.mapping;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.backendtck.associations.manytoone.JUG;
+import org.hibernate.ogm.backendtck.associations.manytoone.Member;
+import org.junit.Test;
+
+/**
+ * Test that the changes to many entities in the same flush are all applied.
+ */
+public class BatchedFlushTest extends Neo4jJpaTestCase {
+
+	private static final int MEMBERS = 50;
+
+	@Test
+	public void testManyEntitiesInTheSameFlush() throws Exception {
+		EntityManager em = getFactory().createEntityManager();
+		em.getTransaction().begin();
+		JUG summerCamp = new JUG( "summer_camp" );
+		summerCamp.setName( "JUG Summer Camp" );
+		JUG parisJug = new JUG( "paris_jug" );
+		parisJug.setName( "Paris JUG" );
+		em.persist( summerCamp );
+		em.persist( parisJug );
+		for ( int i = 0; i < MEMBERS; i++ ) {
+			Member member = new Member( "member_" + i );
+			member.setName( "Member " + i );
+			member.setMemberOf( summerCamp );
+			em.persist( member );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		assertNumberOfNodes( MEMBERS + 2 );
+		assertNumberOfRelationships( MEMBERS );
+
+		em.getTransaction().begin();
+		parisJug = em.find( JUG.class, parisJug.getId() );
+		for ( int i = 0; i < MEMBERS; i += 2 ) {
+			Member member = em.find( Member.class, "member_" + i );
+			member.setName( "Renamed member " + i );
+			member.setMemberOf( parisJug );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		assertNumberOfNodes( MEMBERS + 2 );
+		assertNumberOfRelationships( MEMBERS );
+
+		em.getTransaction().begin();
+		Member moved = em.find( Member.class, "member_0" );
+		Member stayed = em.find( Member.class, "member_1" );
+		assertThat( moved.getName() ).isEqualTo( "Renamed member 0" );
+		assertThat( moved.getMemberOf().getId() ).isEqualTo( "paris_jug" );
+		assertThat( stayed.getName() ).isEqualTo( "Member 1" );
+		assertThat( stayed.getMemberOf().getId() ).isEqualTo( "summer_camp" );
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class[] { JUG.class, Member.class };
+	}
+}
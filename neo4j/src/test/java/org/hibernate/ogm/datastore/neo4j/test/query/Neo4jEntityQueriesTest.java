@@ -14,8 +14,14 @@
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jEntityQueries;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.junit.Test;
 import org.neo4j.graphdb.GraphDatabaseService;
@@ -39,6 +45,23 @@ public void testCreationWithCompositeId() throws Exception {
 		verify( executionEngine ).execute( eq( expected ), anyMap() );
 	}
 
+	@Test
+	public void testMultiGetWithCompositeId() throws Exception {
+		String expected = "UNWIND {0} AS key MATCH (" + ENTITY_ALIAS + ":ENTITY:Example {`id.name`: key.`0`, `id.surname`: key.`1`}) RETURN " + ENTITY_ALIAS;
+
+		EntityKeyMetadata metadata = metadata( "Example", "id.name", "id.surname" );
+		GraphDatabaseService executionEngine = createExecutionEngine();
+		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata );
+		EntityKey[] keys = new EntityKey[] {
+				new EntityKey( metadata, new Object[] { "Davide", "D'Alto" } ),
+				new EntityKey( metadata, new Object[] { "Emmanuel", "Bernard" } )
+		};
+		entityQueries.findEntities( executionEngine, keys );
+
+		Map<String, Object> expectedParams = Collections.<String, Object>singletonMap( "0", Arrays.asList( key( "Davide", "D'Alto" ), key( "Emmanuel", "Bernard" ) ) );
+		verify( executionEngine ).execute( eq( expected ), eq( expectedParams ) );
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testUpdateEmbeddedColumnQuery() throws Exception {
@@ -89,6 +112,14 @@ public void testUpdateNestedEmbeddedColumnQuery() throws Exception {
 		verify( executionEngine ).execute( eq( expected ), anyMap() );
 	}
 
+	private Map<String, Object> key(Object... columnValues) {
+		Map<String, Object> key = new HashMap<>();
+		for ( int i = 0; i < columnValues.length; i++ ) {
+			key.put( String.valueOf( i ), columnValues[i] );
+		}
+		return key;
+	}
+
 	private EntityKeyMetadata metadata(String tableName, String... columnNames) {
 		EntityKeyMetadata metadata = new DefaultEntityKeyMetadata( tableName, columnNames );
 		return metadata;
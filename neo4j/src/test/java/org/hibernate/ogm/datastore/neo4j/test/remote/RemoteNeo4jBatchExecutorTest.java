@@ -0,0 +1,213 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
+import org.hibernate.ogm.datastore.neo4j.remote.bolt.dialect.impl.BoltNeo4jAssociationQueries;
+import org.hibernate.ogm.datastore.neo4j.remote.bolt.dialect.impl.BoltNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jBatchExecutor;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.TransactionContext;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.junit.Test;
+
+/**
+ * Counts the statements sent by the {@link RemoteNeo4jBatchExecutor} to flush the changes to several nodes.
+ */
+public class RemoteNeo4jBatchExecutorTest {
+
+	private static final int ENTITIES = 10;
+
+	private static final EntityKeyMetadata PERSON = new DefaultEntityKeyMetadata( "Person", new String[] { "id" } );
+	private static final EntityKeyMetadata ADDRESS = new DefaultEntityKeyMetadata( "Address", new String[] { "id" } );
+
+	private final TupleContext tupleContext = tupleContext();
+	private final CountingBatchExecutor executor = new CountingBatchExecutor();
+
+	@Test
+	public void testInsertsWithTheSameLabelAreSentWithOneStatement() {
+		OperationsQueue queue = new OperationsQueue();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			insert( queue, PERSON, i );
+		}
+
+		executor.execute( queue );
+
+		assertThat( executor.queries ).containsExactly( executor.getEntityQueries( PERSON ).getCreateEntitiesQuery() );
+		assertThat( executor.rowCounts ).containsExactly( ENTITIES );
+	}
+
+	@Test
+	public void testInsertsAreSentWithOneStatementPerLabel() {
+		OperationsQueue queue = new OperationsQueue();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			insert( queue, PERSON, i );
+			insert( queue, ADDRESS, i );
+		}
+
+		executor.execute( queue );
+
+		assertThat( executor.queries ).containsExactly(
+				executor.getEntityQueries( PERSON ).getCreateEntitiesQuery(),
+				executor.getEntityQueries( ADDRESS ).getCreateEntitiesQuery() );
+		assertThat( executor.rowCounts ).containsExactly( ENTITIES, ENTITIES );
+	}
+
+	@Test
+	public void testUpdatesWithTheSameLabelAreSentWithOneStatement() {
+		OperationsQueue queue = new OperationsQueue();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			update( queue, PERSON, i );
+		}
+
+		executor.execute( queue );
+
+		assertThat( executor.queries ).containsExactly( executor.getEntityQueries( PERSON ).getUpdateEntitiesPropertiesQuery() );
+		assertThat( executor.rowCounts ).containsExactly( ENTITIES );
+	}
+
+	@Test
+	public void testRemovalSendsTheUpdatesCollectedBeforeIt() {
+		String updateQuery = executor.getEntityQueries( PERSON ).getUpdateEntitiesPropertiesQuery();
+		OperationsQueue queue = new OperationsQueue();
+		update( queue, PERSON, 0 );
+		update( queue, PERSON, 1 );
+		queue.add( new RemoveTupleOperation( new EntityKey( PERSON, new Object[] { 2 } ), tupleContext ) );
+		update( queue, PERSON, 3 );
+
+		executor.execute( queue );
+
+		assertThat( executor.queries ).containsExactly( updateQuery, CountingBatchExecutor.REMOVE_TUPLE, updateQuery );
+		assertThat( executor.rowCounts ).containsExactly( 2, 1, 1 );
+	}
+
+	private void insert(OperationsQueue queue, EntityKeyMetadata metadata, int id) {
+		Tuple tuple = new Tuple();
+		tuple.put( "id", id );
+		tuple.put( "name", "name-" + id );
+		queue.add( new InsertOrUpdateTupleOperation( new TuplePointer( tuple ), new EntityKey( metadata, new Object[] { id } ), tupleContext ) );
+	}
+
+	private void update(OperationsQueue queue, EntityKeyMetadata metadata, int id) {
+		Tuple tuple = new Tuple( EmptyTupleSnapshot.INSTANCE, SnapshotType.UPDATE );
+		tuple.put( "name", "new-name-" + id );
+		queue.add( new InsertOrUpdateTupleOperation( new TuplePointer( tuple ), new EntityKey( metadata, new Object[] { id } ), tupleContext ) );
+	}
+
+	private static TupleContext tupleContext() {
+		TupleContext tupleContext = mock( TupleContext.class );
+		when( tupleContext.getTransactionContext() ).thenReturn( mock( TransactionContext.class ) );
+		return tupleContext;
+	}
+
+	/**
+	 * Records the statements the dialects would send, with the number of rows of each.
+	 */
+	private static class CountingBatchExecutor extends RemoteNeo4jBatchExecutor<TransactionContext, Object> {
+
+		private static final String REMOVE_TUPLE = "remove tuple";
+
+		private final Map<EntityKeyMetadata, BoltNeo4jEntityQueries> entityQueries = new HashMap<>();
+		private final List<String> queries = new ArrayList<>();
+		private final List<Integer> rowCounts = new ArrayList<>();
+
+		BoltNeo4jEntityQueries getEntityQueries(EntityKeyMetadata metadata) {
+			return entityQueries.computeIfAbsent( metadata, m -> new BoltNeo4jEntityQueries( m, null ) );
+		}
+
+		@Override
+		protected TransactionContext transaction(TransactionContext transactionContext) {
+			return transactionContext;
+		}
+
+		@Override
+		protected BoltNeo4jEntityQueries getEntityQueries(EntityKey key, TupleContext tupleContext) {
+			return getEntityQueries( key.getMetadata() );
+		}
+
+		@Override
+		protected BoltNeo4jAssociationQueries getAssociationQueries(AssociationKey key) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected EntityKey getTargetKey(Tuple associationRow, AssociationContext associationContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected Object applyTupleOperations(EntityKey key, Tuple tuple, Map<String, Object> properties, Map<String, EntityKey> toOneAssociations, TupleContext tupleContext) {
+			for ( TupleOperation operation : tuple.getOperations() ) {
+				if ( operation.getType() == TupleOperationType.PUT ) {
+					properties.put( operation.getColumn(), operation.getValue() );
+				}
+			}
+			return null;
+		}
+
+		@Override
+		protected void executeStatements(TransactionContext tx, EntityKey key, Object statements) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected void applyAssociationOperation(TransactionContext tx, AssociationKey key, Association association, AssociationOperation operation, AssociationContext associationContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected void removeAssociation(TransactionContext tx, AssociationKey key, AssociationContext associationContext) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected void removeTuple(TransactionContext tx, EntityKey key, TupleContext tupleContext) {
+			queries.add( REMOVE_TUPLE );
+			rowCounts.add( 1 );
+		}
+
+		@Override
+		protected void createNodes(TransactionContext tx, Map<String, Map<EntityKey, Map<String, Object>>> createdNodes) {
+			for ( Map.Entry<String, Map<EntityKey, Map<String, Object>>> entry : createdNodes.entrySet() ) {
+				queries.add( entry.getKey() );
+				rowCounts.add( entry.getValue().size() );
+			}
+		}
+
+		@Override
+		protected void write(TransactionContext tx, Map<String, Collection<Map<String, Object>>> writes) {
+			for ( Map.Entry<String, Collection<Map<String, Object>>> entry : writes.entrySet() ) {
+				queries.add( entry.getKey() );
+				rowCounts.add( entry.getValue().size() );
+			}
+		}
+	}
+}
@@ -85,6 +85,31 @@ public void testManualRollback() throws Exception {
 		assertThatOnlyTheseNodesExist( gameNode1 );
 	}
 
+	@Test
+	public void testManualRollbackAfterFlush() throws Exception {
+		Game game1 = new Game( "game-1", "Title 1" );
+		EntityManager em = getFactory().createEntityManager();
+		em.getTransaction().begin();
+		em.persist( game1 );
+		em.getTransaction().commit();
+		em.clear();
+
+		em.getTransaction().begin();
+		Game loaded = em.find( Game.class, game1.getId() );
+		loaded.setTitle( "New " + game1.getTitle() );
+		em.flush();
+		em.remove( loaded );
+		em.flush();
+		em.getTransaction().rollback();
+		em.close();
+
+		NodeForGraphAssertions gameNode1 = node( "g1", Game.class.getSimpleName(), ENTITY.name() )
+				.property( "id", game1.getId() )
+				.property( "title", game1.getTitle() );
+
+		assertThatOnlyTheseNodesExist( gameNode1 );
+	}
+
 	@Override
 	public Class<?>[] getAnnotatedClasses() {
 		return new Class<?>[] { Game.class };
@@ -18,8 +18,14 @@
  * <li>Generate the JMH benchmark classes by running {@code mvn compile -pl performance} from the root dir</li>
  * <li>Adapt the settings in {@code persistence.xml} and/or {@code native-settings.properties} as per your environment
  * (both under {@code src/main/resources)}
- * <li>(optional:) Adapt the includes below to run a sub-set of all benchmarks
+ * <li>Start the remote datastores to benchmark (MongoDB, Infinispan Server); Infinispan Embedded and Neo4j Embedded
+ * run within the benchmark JVM
+ * <li>(optional:) Adapt the includes below to run a sub-set of all benchmarks, e.g. {@code .*infinispan\.remote.*}
+ * for the Hot Rod native API suite only, and the {@code datastore} parameter of the Hibernate OGM benchmarks
  * </ul>
+ * The {@code perftest.ogm} package contains the benchmarks using Hibernate OGM, run for each datastore but MongoDB;
+ * the {@code nativeapi} package of each datastore, under {@code perftest.<datastore>}, the same operations using the
+ * API of the datastore. MongoDB has its own Hibernate OGM suite, under {@code perftest.mongodb.ogm}.
  * Refer to the <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH documentation</a> to learn more about the
  * Java Micro-benchmark Harness in general.
  *
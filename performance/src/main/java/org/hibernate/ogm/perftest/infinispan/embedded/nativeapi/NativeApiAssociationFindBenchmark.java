@@ -0,0 +1,138 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.embedded.nativeapi;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of association navigation using the native Infinispan Embedded API.
+ */
+public class NativeApiAssociationFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	private static final int NUMBER_OF_REFERENCABLE_ENTITIES = 100;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		CacheManagerHolder cacheManagerHolder;
+
+		@Setup
+		public void insertTestData(CacheManagerHolder cacheManagerHolder) throws Exception {
+			this.cacheManagerHolder = cacheManagerHolder;
+
+			Cache<Integer, Map<String, Object>> fieldsOfScienceCache = cacheManagerHolder.getCache( FIELD_OF_SCIENCE_CACHE );
+
+			// insert referenced objects
+			for ( int i = 0; i < NUMBER_OF_REFERENCABLE_ENTITIES; i++ ) {
+				Map<String, Object> fieldOfScience = new HashMap<String, Object>( 2 );
+
+				fieldOfScience.put( "complexity", cacheManagerHolder.rand.nextDouble() );
+				fieldOfScience.put( "name", "The dark sciences of " + cacheManagerHolder.rand.nextInt( 26 ) );
+
+				fieldsOfScienceCache.put( i, fieldOfScience );
+			}
+
+			// insert referencing objects
+			Cache<Long, Map<String, Object>> scientistCache = cacheManagerHolder.getCache( SCIENTIST_CACHE );
+
+			Map<Long, Map<String, Object>> scientists = new HashMap<Long, Map<String, Object>>( 1000 );
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				Map<String, Object> scientist = new HashMap<String, Object>( 4 );
+
+				scientist.put( "bio", "This is a decent size bio made of " + cacheManagerHolder.rand.nextDouble() + " stuffs" );
+				scientist.put( "dob", new Date() );
+				scientist.put( "name", "Jessie " + cacheManagerHolder.rand.nextInt() );
+
+				List<Integer> interests = new ArrayList<Integer>( 10 );
+				for ( int j = 0; j < 10; j++ ) {
+					interests.add( cacheManagerHolder.rand.nextInt( NUMBER_OF_REFERENCABLE_ENTITIES ) );
+				}
+				scientist.put( "interestedIn", interests );
+
+				scientists.put( i, scientist );
+
+				if ( i % 1000 == 0 ) {
+					scientistCache.putAll( scientists );
+					System.out.println( "Inserted " + i + " entities" );
+					scientists = new HashMap<Long, Map<String, Object>>( 1000 );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void getEntitiesWithAssociationById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		CacheManagerHolder stateHolder = inserter.cacheManagerHolder;
+		Cache<Long, Map<String, Object>> scientistCache = stateHolder.getCache( SCIENTIST_CACHE );
+		Cache<Integer, Map<String, Object>> fieldsOfScienceCache = stateHolder.getCache( FIELD_OF_SCIENCE_CACHE );
+
+		stateHolder.transactionManager.begin();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			Map<String, Object> scientist = scientistCache.get( id );
+
+			if ( scientist == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( scientist.get( "bio" ) );
+			@SuppressWarnings("unchecked")
+			List<Integer> interests = (List<Integer>) scientist.get( "interestedIn" );
+
+			for ( Integer interestId : interests ) {
+				Map<String, Object> fieldOfScience = fieldsOfScienceCache.get( interestId );
+
+				if ( fieldOfScience == null ) {
+					throw new IllegalArgumentException( "Couldn't find entry with id " + interestId );
+				}
+
+				blackhole.consume( fieldOfScience.get( "name" ) );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		CacheManagerHolder cacheManagerHolder = new CacheManagerHolder();
+		cacheManagerHolder.setupDatastore();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( cacheManagerHolder );
+
+		new NativeApiAssociationFindBenchmark().getEntitiesWithAssociationById( inserter, null );
+
+		cacheManagerHolder.stopDatastore();
+	}
+}
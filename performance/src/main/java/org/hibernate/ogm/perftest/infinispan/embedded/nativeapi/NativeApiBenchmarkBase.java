@@ -0,0 +1,75 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.embedded.nativeapi;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.TransactionManager;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.transaction.TransactionMode;
+import org.infinispan.transaction.lookup.JBossStandaloneJTAManagerLookup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for Infinispan Embedded native API benchmarks.
+ * <p>
+ * Entries are stored as maps of property names and values, one cache per entity type. The caches are transactional,
+ * with the same JTA transaction manager as the default configuration of Hibernate OGM, and the benchmarks run each
+ * invocation in a transaction, as Hibernate OGM does.
+ */
+public class NativeApiBenchmarkBase {
+
+	static final String AUTHOR_CACHE = "Author";
+	static final String SCIENTIST_CACHE = "Scientist";
+	static final String FIELD_OF_SCIENCE_CACHE = "FieldOfScience";
+
+	@State(Scope.Benchmark)
+	public static class CacheManagerHolder {
+
+		EmbeddedCacheManager cacheManager;
+		TransactionManager transactionManager;
+		AtomicLong idGenerator;
+		Random rand;
+
+		@Setup
+		public void setupDatastore() throws Exception {
+			ConfigurationBuilder builder = new ConfigurationBuilder();
+			builder.transaction()
+					.transactionMode( TransactionMode.TRANSACTIONAL )
+					.transactionManagerLookup( new JBossStandaloneJTAManagerLookup() );
+			Configuration configuration = builder.build();
+
+			cacheManager = new DefaultCacheManager();
+			cacheManager.defineConfiguration( AUTHOR_CACHE, configuration );
+			cacheManager.defineConfiguration( SCIENTIST_CACHE, configuration );
+			cacheManager.defineConfiguration( FIELD_OF_SCIENCE_CACHE, configuration );
+			transactionManager = cacheManager.getCache( AUTHOR_CACHE ).getAdvancedCache().getTransactionManager();
+
+			idGenerator = new AtomicLong();
+			rand = new Random();
+		}
+
+		@TearDown
+		public void stopDatastore() {
+			cacheManager.stop();
+		}
+
+		<K> Cache<K, Map<String, Object>> getCache(String cacheName) {
+			return cacheManager.getCache( cacheName );
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.embedded.nativeapi;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of find-by-id operations using the native Infinispan Embedded API.
+ * <p>
+ * There is no query benchmark: Hibernate OGM queries a Lucene index through Hibernate Search, which the native API
+ * can only match with the Infinispan query module.
+ */
+public class NativeApiFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		CacheManagerHolder cacheManagerHolder;
+
+		@Setup
+		public void insertTestData(CacheManagerHolder cacheManagerHolder) throws Exception {
+			this.cacheManagerHolder = cacheManagerHolder;
+
+			Cache<Long, Map<String, Object>> authorCache = cacheManagerHolder.getCache( AUTHOR_CACHE );
+
+			Map<Long, Map<String, Object>> authors = new HashMap<Long, Map<String, Object>>( 1000 );
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				Map<String, Object> author = new HashMap<String, Object>( 5 );
+
+				author.put( "bio", "This is a decent size bio made of " + cacheManagerHolder.rand.nextDouble() + " stuffs" );
+				author.put( "dob", new Date() );
+				author.put( "fname", "Jessie " + cacheManagerHolder.rand.nextInt() );
+				author.put( "lname", "Landis " + cacheManagerHolder.rand.nextInt() );
+				author.put( "mname", "" + cacheManagerHolder.rand.nextInt( 26 ) );
+
+				authors.put( i, author );
+
+				if ( i % 1000 == 0 ) {
+					authorCache.putAll( authors );
+					System.out.println( "Inserted " + i + " entities" );
+					authors = new HashMap<Long, Map<String, Object>>( 1000 );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		CacheManagerHolder cacheManagerHolder = inserter.cacheManagerHolder;
+		Cache<Long, Map<String, Object>> authorCache = cacheManagerHolder.getCache( AUTHOR_CACHE );
+
+		cacheManagerHolder.transactionManager.begin();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = cacheManagerHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			Map<String, Object> author = authorCache.get( id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.get( "lname" ) );
+		}
+
+		cacheManagerHolder.transactionManager.commit();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.embedded.nativeapi;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for measuring performance of insert operations using the native Infinispan Embedded API.
+ */
+public class NativeApiInsertBenchmark extends NativeApiBenchmarkBase {
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntities(CacheManagerHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(25)
+	public void insertEntitiesWithThreadCount_025(CacheManagerHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	private void doInsertEntities(CacheManagerHolder stateHolder) throws Exception {
+		Cache<Long, Map<String, Object>> authorCache = stateHolder.getCache( AUTHOR_CACHE );
+
+		stateHolder.transactionManager.begin();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			Map<String, Object> author = new HashMap<String, Object>( 5 );
+
+			author.put( "bio", "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.put( "dob", new Date() );
+			author.put( "fname", "Jessie " + stateHolder.rand.nextInt() );
+			author.put( "lname", "Landis " + stateHolder.rand.nextInt() );
+			author.put( "mname", "" + stateHolder.rand.nextInt( 26 ) );
+
+			authorCache.put( stateHolder.idGenerator.incrementAndGet(), author );
+		}
+
+		stateHolder.transactionManager.commit();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntitiesWithElementCollection(CacheManagerHolder stateHolder) throws Exception {
+		Cache<Long, Map<String, Object>> scientistCache = stateHolder.getCache( SCIENTIST_CACHE );
+
+		stateHolder.transactionManager.begin();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			Map<String, Object> scientist = new HashMap<String, Object>( 4 );
+
+			scientist.put( "bio", "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			scientist.put( "dob", new Date() );
+			scientist.put( "name", "Jessie " + stateHolder.rand.nextInt() );
+
+			List<Map<String, Object>> papers = new ArrayList<Map<String, Object>>( 20 );
+
+			for ( int j = 0; j < 20; j++ ) {
+				Map<String, Object> paper = new HashMap<String, Object>( 3 );
+
+				paper.put( "title", "Highly academic vol. " + stateHolder.rand.nextLong() );
+				paper.put( "published", new Date() );
+				paper.put( "wordCount", stateHolder.rand.nextInt( 8000 ) );
+
+				papers.add( paper );
+			}
+
+			scientist.put( "publishedPapers", papers );
+
+			scientistCache.put( stateHolder.idGenerator.incrementAndGet(), scientist );
+		}
+
+		stateHolder.transactionManager.commit();
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		CacheManagerHolder stateHolder = new CacheManagerHolder();
+		stateHolder.setupDatastore();
+
+		new NativeApiInsertBenchmark().insertEntities( stateHolder );
+
+		stateHolder.stopDatastore();
+	}
+}
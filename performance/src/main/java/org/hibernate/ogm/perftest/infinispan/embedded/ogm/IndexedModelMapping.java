@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.embedded.ogm;
+
+import java.lang.annotation.ElementType;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.search.annotations.Analyze;
+import org.hibernate.search.annotations.Factory;
+import org.hibernate.search.cfg.SearchMapping;
+
+/**
+ * Indexes the properties queried by the Infinispan Embedded benchmarks.
+ * <p>
+ * JP-QL queries are run by Hibernate Search with this datastore. The mapping is programmatic, so that the model shared
+ * with the other datastores is not indexed when running their benchmarks.
+ */
+public class IndexedModelMapping {
+
+	@Factory
+	public SearchMapping getSearchMapping() {
+		SearchMapping mapping = new SearchMapping();
+		mapping.entity( AuthorWithSequence.class )
+				.indexed()
+				.property( "mname", ElementType.FIELD )
+					.field().analyze( Analyze.NO );
+		return mapping;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.remote.nativeapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of association navigation using the native Infinispan Remote (Hot Rod) API.
+ */
+public class NativeApiAssociationFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	private static final int NUMBER_OF_REFERENCABLE_ENTITIES = 100;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		RemoteCacheManagerHolder cacheManagerHolder;
+
+		@Setup
+		public void insertTestData(RemoteCacheManagerHolder cacheManagerHolder) throws Exception {
+			this.cacheManagerHolder = cacheManagerHolder;
+
+			RemoteCache<Integer, FieldOfScience> fieldsOfScienceCache = cacheManagerHolder.getCache( FIELD_OF_SCIENCE_CACHE );
+
+			// insert referenced objects
+			Map<Integer, FieldOfScience> fieldsOfScience = new HashMap<Integer, FieldOfScience>( NUMBER_OF_REFERENCABLE_ENTITIES );
+			for ( int i = 0; i < NUMBER_OF_REFERENCABLE_ENTITIES; i++ ) {
+				FieldOfScience fieldOfScience = new FieldOfScience();
+
+				fieldOfScience.setComplexity( cacheManagerHolder.rand.nextDouble() );
+				fieldOfScience.setName( "The dark sciences of " + cacheManagerHolder.rand.nextInt( 26 ) );
+
+				fieldsOfScience.put( i, fieldOfScience );
+			}
+
+			fieldsOfScienceCache.putAll( fieldsOfScience );
+
+			// insert referencing objects
+			RemoteCache<Long, Scientist> scientistCache = cacheManagerHolder.getCache( SCIENTIST_CACHE );
+
+			Map<Long, Scientist> scientists = new HashMap<Long, Scientist>( 1000 );
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				Scientist scientist = new Scientist();
+
+				scientist.setBio( "This is a decent size bio made of " + cacheManagerHolder.rand.nextDouble() + " stuffs" );
+				scientist.setDob( System.currentTimeMillis() );
+				scientist.setName( "Jessie " + cacheManagerHolder.rand.nextInt() );
+
+				for ( int j = 0; j < 10; j++ ) {
+					scientist.getInterestedIn().add( cacheManagerHolder.rand.nextInt( NUMBER_OF_REFERENCABLE_ENTITIES ) );
+				}
+
+				scientists.put( i, scientist );
+
+				if ( i % 1000 == 0 ) {
+					scientistCache.putAll( scientists );
+					System.out.println( "Inserted " + i + " entities" );
+					scientists = new HashMap<Long, Scientist>( 1000 );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void getEntitiesWithAssociationById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		RemoteCacheManagerHolder stateHolder = inserter.cacheManagerHolder;
+		RemoteCache<Long, Scientist> scientistCache = stateHolder.getCache( SCIENTIST_CACHE );
+		RemoteCache<Integer, FieldOfScience> fieldsOfScienceCache = stateHolder.getCache( FIELD_OF_SCIENCE_CACHE );
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			Scientist scientist = scientistCache.get( id );
+
+			if ( scientist == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( scientist.getBio() );
+
+			for ( Integer interestId : scientist.getInterestedIn() ) {
+				FieldOfScience fieldOfScience = fieldsOfScienceCache.get( interestId );
+
+				if ( fieldOfScience == null ) {
+					throw new IllegalArgumentException( "Couldn't find entry with id " + interestId );
+				}
+
+				blackhole.consume( fieldOfScience.getName() );
+			}
+		}
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		RemoteCacheManagerHolder cacheManagerHolder = new RemoteCacheManagerHolder();
+		cacheManagerHolder.setupDatastore();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( cacheManagerHolder );
+
+		new NativeApiAssociationFindBenchmark().getEntitiesWithAssociationById( inserter, null );
+
+		cacheManagerHolder.stopDatastore();
+	}
+}
@@ -0,0 +1,281 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.remote.nativeapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.marshall.ProtoStreamMarshaller;
+import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.annotations.ProtoField;
+import org.infinispan.protostream.annotations.ProtoMessage;
+import org.infinispan.protostream.annotations.ProtoSchemaBuilder;
+import org.infinispan.query.remote.client.ProtobufMetadataManagerConstants;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for Infinispan Remote (Hot Rod) native API benchmarks.
+ * <p>
+ * Entries are Protobuf-encoded, as required by remote queries. The schema is generated from the annotated classes
+ * below and registered on the server before the benchmarks run.
+ */
+public class NativeApiBenchmarkBase {
+
+	static final String AUTHOR_CACHE = "NativeAuthor";
+	static final String SCIENTIST_CACHE = "NativeScientist";
+	static final String FIELD_OF_SCIENCE_CACHE = "NativeFieldOfScience";
+
+	private static final String SCHEMA_FILE_NAME = "perftest_native_api.proto";
+
+	private static Properties properties = new Properties();
+
+	static {
+		try ( InputStream resourceAsStream = NativeApiBenchmarkBase.class.getClassLoader().getResourceAsStream( "native-settings.properties" ) ) {
+			properties.load( resourceAsStream );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class RemoteCacheManagerHolder {
+
+		RemoteCacheManager cacheManager;
+		AtomicLong idGenerator;
+		Random rand;
+
+		@Setup
+		public void setupDatastore() throws Exception {
+			cacheManager = getRemoteCacheManager();
+			registerSchema( cacheManager );
+
+			for ( String cacheName : new String[] { AUTHOR_CACHE, SCIENTIST_CACHE, FIELD_OF_SCIENCE_CACHE } ) {
+				cacheManager.administration().getOrCreateCache( cacheName, (String) null ).clear();
+			}
+
+			idGenerator = new AtomicLong();
+			rand = new Random();
+		}
+
+		@TearDown
+		public void stopDatastore() {
+			cacheManager.stop();
+		}
+
+		<K, V> RemoteCache<K, V> getCache(String cacheName) {
+			return cacheManager.getCache( cacheName );
+		}
+	}
+
+	protected static RemoteCacheManager getRemoteCacheManager() {
+		ConfigurationBuilder builder = new ConfigurationBuilder();
+
+		builder.addServers( properties.getProperty( "hotrod.server_list" ) );
+		builder.connectionTimeout( 1000 );
+		builder.marshaller( new ProtoStreamMarshaller() );
+
+		return new RemoteCacheManager( builder.build() );
+	}
+
+	private static void registerSchema(RemoteCacheManager cacheManager) throws IOException {
+		SerializationContext serializationContext = ProtoStreamMarshaller.getSerializationContext( cacheManager );
+
+		String schema = new ProtoSchemaBuilder()
+				.fileName( SCHEMA_FILE_NAME )
+				.packageName( "perftest" )
+				.addClass( Author.class )
+				.addClass( ResearchPaper.class )
+				.addClass( Scientist.class )
+				.addClass( FieldOfScience.class )
+				.build( serializationContext );
+
+		RemoteCache<String, String> metadataCache = cacheManager.getCache( ProtobufMetadataManagerConstants.PROTOBUF_METADATA_CACHE_NAME );
+		metadataCache.put( SCHEMA_FILE_NAME, schema );
+	}
+
+	@ProtoMessage(name = "Author")
+	public static class Author {
+
+		private String fname;
+		private String lname;
+		private String mname;
+		private long dob;
+		private String bio;
+
+		@ProtoField(number = 1)
+		public String getFname() {
+			return fname;
+		}
+
+		public void setFname(String fname) {
+			this.fname = fname;
+		}
+
+		@ProtoField(number = 2)
+		public String getLname() {
+			return lname;
+		}
+
+		public void setLname(String lname) {
+			this.lname = lname;
+		}
+
+		@ProtoField(number = 3)
+		public String getMname() {
+			return mname;
+		}
+
+		public void setMname(String mname) {
+			this.mname = mname;
+		}
+
+		@ProtoField(number = 4, required = true)
+		public long getDob() {
+			return dob;
+		}
+
+		public void setDob(long dob) {
+			this.dob = dob;
+		}
+
+		@ProtoField(number = 5)
+		public String getBio() {
+			return bio;
+		}
+
+		public void setBio(String bio) {
+			this.bio = bio;
+		}
+	}
+
+	@ProtoMessage(name = "ResearchPaper")
+	public static class ResearchPaper {
+
+		private String title;
+		private long published;
+		private int wordCount;
+
+		@ProtoField(number = 1)
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		@ProtoField(number = 2, required = true)
+		public long getPublished() {
+			return published;
+		}
+
+		public void setPublished(long published) {
+			this.published = published;
+		}
+
+		@ProtoField(number = 3, required = true)
+		public int getWordCount() {
+			return wordCount;
+		}
+
+		public void setWordCount(int wordCount) {
+			this.wordCount = wordCount;
+		}
+	}
+
+	@ProtoMessage(name = "Scientist")
+	public static class Scientist {
+
+		private String name;
+		private long dob;
+		private String bio;
+		private List<ResearchPaper> publishedPapers = new ArrayList<ResearchPaper>();
+		private List<Integer> interestedIn = new ArrayList<Integer>();
+
+		@ProtoField(number = 1)
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@ProtoField(number = 2, required = true)
+		public long getDob() {
+			return dob;
+		}
+
+		public void setDob(long dob) {
+			this.dob = dob;
+		}
+
+		@ProtoField(number = 3)
+		public String getBio() {
+			return bio;
+		}
+
+		public void setBio(String bio) {
+			this.bio = bio;
+		}
+
+		@ProtoField(number = 4, collectionImplementation = ArrayList.class)
+		public List<ResearchPaper> getPublishedPapers() {
+			return publishedPapers;
+		}
+
+		public void setPublishedPapers(List<ResearchPaper> publishedPapers) {
+			this.publishedPapers = publishedPapers;
+		}
+
+		@ProtoField(number = 5, collectionImplementation = ArrayList.class)
+		public List<Integer> getInterestedIn() {
+			return interestedIn;
+		}
+
+		public void setInterestedIn(List<Integer> interestedIn) {
+			this.interestedIn = interestedIn;
+		}
+	}
+
+	@ProtoMessage(name = "FieldOfScience")
+	public static class FieldOfScience {
+
+		private String name;
+		private double complexity;
+
+		@ProtoField(number = 1)
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@ProtoField(number = 2, required = true)
+		public double getComplexity() {
+			return complexity;
+		}
+
+		public void setComplexity(double complexity) {
+			this.complexity = complexity;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.remote.nativeapi;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.Search;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of find-by-id / query operations using the native Infinispan Remote (Hot Rod)
+ * API.
+ */
+public class NativeApiFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		RemoteCacheManagerHolder cacheManagerHolder;
+
+		@Setup
+		public void insertTestData(RemoteCacheManagerHolder cacheManagerHolder) throws Exception {
+			this.cacheManagerHolder = cacheManagerHolder;
+
+			RemoteCache<Long, Author> authorCache = cacheManagerHolder.getCache( AUTHOR_CACHE );
+
+			Map<Long, Author> authors = new HashMap<Long, Author>( 1000 );
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				Author author = new Author();
+
+				author.setBio( "This is a decent size bio made of " + cacheManagerHolder.rand.nextDouble() + " stuffs" );
+				author.setDob( System.currentTimeMillis() );
+				author.setFname( "Jessie " + cacheManagerHolder.rand.nextInt() );
+				author.setLname( "Landis " + cacheManagerHolder.rand.nextInt() );
+				author.setMname( "" + cacheManagerHolder.rand.nextInt( 26 ) );
+
+				authors.put( i, author );
+
+				if ( i % 1000 == 0 ) {
+					authorCache.putAll( authors );
+					System.out.println( "Inserted " + i + " entities" );
+					authors = new HashMap<Long, Author>( 1000 );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		RemoteCacheManagerHolder cacheManagerHolder = inserter.cacheManagerHolder;
+		RemoteCache<Long, Author> authorCache = cacheManagerHolder.getCache( AUTHOR_CACHE );
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = cacheManagerHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			Author author = authorCache.get( id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.getLname() );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityByProperty(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		RemoteCacheManagerHolder cacheManagerHolder = inserter.cacheManagerHolder;
+		QueryFactory queryFactory = Search.getQueryFactory( cacheManagerHolder.getCache( AUTHOR_CACHE ) );
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			int mName = cacheManagerHolder.rand.nextInt( 26 );
+
+			Query query = queryFactory.create( "FROM perftest.Author WHERE mname = :mname" );
+			query.setParameter( "mname", "" + mName );
+			query.maxResults( 50 );
+			List<Author> authors = query.list();
+
+			for ( Author author : authors ) {
+				blackhole.consume( author.getLname() );
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.infinispan.remote.nativeapi;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for measuring performance of insert operations using the native Infinispan Remote (Hot Rod) API.
+ */
+public class NativeApiInsertBenchmark extends NativeApiBenchmarkBase {
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntities(RemoteCacheManagerHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(25)
+	public void insertEntitiesWithThreadCount_025(RemoteCacheManagerHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	private void doInsertEntities(RemoteCacheManagerHolder stateHolder) {
+		RemoteCache<Long, Author> authorCache = stateHolder.getCache( AUTHOR_CACHE );
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			Author author = new Author();
+
+			author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.setDob( System.currentTimeMillis() );
+			author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+			author.setLname( "Landis " + stateHolder.rand.nextInt() );
+			author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+			authorCache.put( stateHolder.idGenerator.incrementAndGet(), author );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntitiesWithElementCollection(RemoteCacheManagerHolder stateHolder) throws Exception {
+		RemoteCache<Long, Scientist> scientistCache = stateHolder.getCache( SCIENTIST_CACHE );
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			Scientist scientist = new Scientist();
+
+			scientist.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			scientist.setDob( System.currentTimeMillis() );
+			scientist.setName( "Jessie " + stateHolder.rand.nextInt() );
+
+			for ( int j = 0; j < 20; j++ ) {
+				ResearchPaper paper = new ResearchPaper();
+
+				paper.setTitle( "Highly academic vol. " + stateHolder.rand.nextLong() );
+				paper.setPublished( System.currentTimeMillis() );
+				paper.setWordCount( stateHolder.rand.nextInt( 8000 ) );
+
+				scientist.getPublishedPapers().add( paper );
+			}
+
+			scientistCache.put( stateHolder.idGenerator.incrementAndGet(), scientist );
+		}
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		RemoteCacheManagerHolder stateHolder = new RemoteCacheManagerHolder();
+		stateHolder.setupDatastore();
+
+		new NativeApiInsertBenchmark().insertEntities( stateHolder );
+
+		stateHolder.stopDatastore();
+	}
+}
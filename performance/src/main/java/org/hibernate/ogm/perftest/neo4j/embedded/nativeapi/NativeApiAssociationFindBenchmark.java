@@ -0,0 +1,132 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j.embedded.nativeapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of association navigation using the native Neo4j Embedded API.
+ */
+public class NativeApiAssociationFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	private static final int NUMBER_OF_REFERENCABLE_ENTITIES = 100;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		GraphDatabaseHolder databaseHolder;
+
+		@Setup
+		public void insertTestData(GraphDatabaseHolder databaseHolder) throws Exception {
+			this.databaseHolder = databaseHolder;
+
+			// insert referenced objects
+			List<Node> fieldsOfScience = new ArrayList<Node>( NUMBER_OF_REFERENCABLE_ENTITIES );
+			try ( Transaction tx = databaseHolder.db.beginTx() ) {
+				for ( int i = 0; i < NUMBER_OF_REFERENCABLE_ENTITIES; i++ ) {
+					Node fieldOfScience = databaseHolder.db.createNode( FIELD_OF_SCIENCE );
+
+					fieldOfScience.setProperty( "id", i );
+					fieldOfScience.setProperty( "complexity", databaseHolder.rand.nextDouble() );
+					fieldOfScience.setProperty( "name", "The dark sciences of " + databaseHolder.rand.nextInt( 26 ) );
+
+					fieldsOfScience.add( fieldOfScience );
+				}
+
+				tx.success();
+			}
+
+			// insert referencing objects
+			Transaction tx = null;
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				if ( i % 1000 == 0 ) {
+					tx = databaseHolder.db.beginTx();
+				}
+
+				Node scientist = databaseHolder.db.createNode( SCIENTIST );
+
+				scientist.setProperty( "id", i );
+				scientist.setProperty( "bio", "This is a decent size bio made of " + databaseHolder.rand.nextDouble() + " stuffs" );
+				scientist.setProperty( "dob", System.currentTimeMillis() );
+				scientist.setProperty( "name", "Jessie " + databaseHolder.rand.nextInt() );
+
+				for ( int j = 0; j < 10; j++ ) {
+					Node fieldOfScience = fieldsOfScience.get( databaseHolder.rand.nextInt( NUMBER_OF_REFERENCABLE_ENTITIES ) );
+					scientist.createRelationshipTo( fieldOfScience, INTERESTED_IN );
+				}
+
+				if ( i % 1000 == 999 || i == NUMBER_OF_TEST_ENTITIES ) {
+					tx.success();
+					tx.close();
+					System.out.println( "Inserted " + i + " entities" );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void getEntitiesWithAssociationById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		GraphDatabaseHolder databaseHolder = inserter.databaseHolder;
+
+		try ( Transaction tx = databaseHolder.db.beginTx() ) {
+			for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+				long id = databaseHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+				Node scientist = databaseHolder.db.findNode( SCIENTIST, "id", id );
+
+				if ( scientist == null ) {
+					throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+				}
+
+				blackhole.consume( scientist.getProperty( "bio" ) );
+
+				for ( Relationship interest : scientist.getRelationships( Direction.OUTGOING, INTERESTED_IN ) ) {
+					blackhole.consume( interest.getEndNode().getProperty( "name" ) );
+				}
+			}
+
+			tx.success();
+		}
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		GraphDatabaseHolder databaseHolder = new GraphDatabaseHolder();
+		databaseHolder.setupDatastore();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( databaseHolder );
+
+		new NativeApiAssociationFindBenchmark().getEntitiesWithAssociationById( inserter, null );
+
+		databaseHolder.stopDatastore();
+	}
+}
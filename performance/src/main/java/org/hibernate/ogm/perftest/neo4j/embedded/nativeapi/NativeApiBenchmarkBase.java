@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j.embedded.nativeapi;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.factory.GraphDatabaseFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for Neo4j Embedded native API benchmarks.
+ */
+public class NativeApiBenchmarkBase {
+
+	static final Label AUTHOR = Label.label( "Author" );
+	static final Label SCIENTIST = Label.label( "Scientist" );
+	static final Label RESEARCH_PAPER = Label.label( "ResearchPaper" );
+	static final Label FIELD_OF_SCIENCE = Label.label( "FieldOfScience" );
+
+	static final RelationshipType PUBLISHED_PAPERS = RelationshipType.withName( "publishedPapers" );
+	static final RelationshipType INTERESTED_IN = RelationshipType.withName( "interestedIn" );
+
+	private static Properties properties = new Properties();
+
+	static {
+		try ( InputStream resourceAsStream = NativeApiBenchmarkBase.class.getClassLoader().getResourceAsStream( "native-settings.properties" ) ) {
+			properties.load( resourceAsStream );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class GraphDatabaseHolder {
+
+		GraphDatabaseService db;
+		AtomicLong idGenerator;
+		Random rand;
+
+		@Setup
+		public void setupDatastore() throws Exception {
+			db = new GraphDatabaseFactory().newEmbeddedDatabase( new File( properties.getProperty( "neo4j.database_path" ) ) );
+			db.execute( "MATCH (n) DETACH DELETE n" ).close();
+
+			// Schema changes and data changes cannot be mixed in the same transaction
+			db.execute( "CREATE CONSTRAINT ON (n:Author) ASSERT n.id IS UNIQUE" ).close();
+			db.execute( "CREATE CONSTRAINT ON (n:Scientist) ASSERT n.id IS UNIQUE" ).close();
+			db.execute( "CREATE CONSTRAINT ON (n:FieldOfScience) ASSERT n.id IS UNIQUE" ).close();
+			db.execute( "CREATE INDEX ON :Author(mname)" ).close();
+			db.execute( "CALL db.awaitIndexes()" ).close();
+
+			idGenerator = new AtomicLong();
+			rand = new Random();
+		}
+
+		@TearDown
+		public void stopDatastore() {
+			db.shutdown();
+		}
+	}
+}
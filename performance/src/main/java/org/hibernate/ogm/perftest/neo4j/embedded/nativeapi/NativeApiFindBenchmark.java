@@ -0,0 +1,112 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j.embedded.nativeapi;
+
+import java.util.Collections;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for measuring performance of find-by-id / query operations using the native Neo4j Embedded API.
+ */
+public class NativeApiFindBenchmark extends NativeApiBenchmarkBase {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	private static final String AUTHOR_BY_MNAME_QUERY = "MATCH (n:Author) WHERE n.mname = {mname} RETURN n LIMIT 50";
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		GraphDatabaseHolder databaseHolder;
+
+		@Setup
+		public void insertTestData(GraphDatabaseHolder databaseHolder) throws Exception {
+			this.databaseHolder = databaseHolder;
+
+			Transaction tx = null;
+			for ( long i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				if ( i % 1000 == 0 ) {
+					tx = databaseHolder.db.beginTx();
+				}
+
+				Node author = databaseHolder.db.createNode( AUTHOR );
+
+				author.setProperty( "id", i );
+				author.setProperty( "bio", "This is a decent size bio made of " + databaseHolder.rand.nextDouble() + " stuffs" );
+				author.setProperty( "dob", System.currentTimeMillis() );
+				author.setProperty( "fname", "Jessie " + databaseHolder.rand.nextInt() );
+				author.setProperty( "lname", "Landis " + databaseHolder.rand.nextInt() );
+				author.setProperty( "mname", "" + databaseHolder.rand.nextInt( 26 ) );
+
+				if ( i % 1000 == 999 || i == NUMBER_OF_TEST_ENTITIES ) {
+					tx.success();
+					tx.close();
+					System.out.println( "Inserted " + i + " entities" );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		GraphDatabaseHolder databaseHolder = inserter.databaseHolder;
+
+		try ( Transaction tx = databaseHolder.db.beginTx() ) {
+			for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+				long id = databaseHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+				Node author = databaseHolder.db.findNode( AUTHOR, "id", id );
+
+				if ( author == null ) {
+					throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+				}
+
+				blackhole.consume( author.getProperty( "lname" ) );
+			}
+
+			tx.success();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityByProperty(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		GraphDatabaseHolder databaseHolder = inserter.databaseHolder;
+
+		try ( Transaction tx = databaseHolder.db.beginTx() ) {
+			for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+				int mName = databaseHolder.rand.nextInt( 26 );
+
+				try ( Result result = databaseHolder.db.execute( AUTHOR_BY_MNAME_QUERY, Collections.<String, Object>singletonMap( "mname", "" + mName ) ) ) {
+					while ( result.hasNext() ) {
+						Node author = (Node) result.next().get( "n" );
+						blackhole.consume( author.getProperty( "lname" ) );
+					}
+				}
+			}
+
+			tx.success();
+		}
+	}
+}
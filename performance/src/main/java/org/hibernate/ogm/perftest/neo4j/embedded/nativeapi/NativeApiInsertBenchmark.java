@@ -0,0 +1,95 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j.embedded.nativeapi;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark for measuring performance of insert operations using the native Neo4j Embedded API.
+ */
+public class NativeApiInsertBenchmark extends NativeApiBenchmarkBase {
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntities(GraphDatabaseHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(25)
+	public void insertEntitiesWithThreadCount_025(GraphDatabaseHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	private void doInsertEntities(GraphDatabaseHolder stateHolder) {
+		try ( Transaction tx = stateHolder.db.beginTx() ) {
+			for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+				Node author = stateHolder.db.createNode( AUTHOR );
+
+				author.setProperty( "id", stateHolder.idGenerator.incrementAndGet() );
+				author.setProperty( "bio", "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				author.setProperty( "dob", System.currentTimeMillis() );
+				author.setProperty( "fname", "Jessie " + stateHolder.rand.nextInt() );
+				author.setProperty( "lname", "Landis " + stateHolder.rand.nextInt() );
+				author.setProperty( "mname", "" + stateHolder.rand.nextInt( 26 ) );
+			}
+
+			tx.success();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntitiesWithElementCollection(GraphDatabaseHolder stateHolder) throws Exception {
+		try ( Transaction tx = stateHolder.db.beginTx() ) {
+			for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+				Node scientist = stateHolder.db.createNode( SCIENTIST );
+
+				scientist.setProperty( "id", stateHolder.idGenerator.incrementAndGet() );
+				scientist.setProperty( "bio", "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				scientist.setProperty( "dob", System.currentTimeMillis() );
+				scientist.setProperty( "name", "Jessie " + stateHolder.rand.nextInt() );
+
+				for ( int j = 0; j < 20; j++ ) {
+					Node paper = stateHolder.db.createNode( RESEARCH_PAPER );
+
+					paper.setProperty( "title", "Highly academic vol. " + stateHolder.rand.nextLong() );
+					paper.setProperty( "published", System.currentTimeMillis() );
+					paper.setProperty( "wordCount", stateHolder.rand.nextInt( 8000 ) );
+
+					scientist.createRelationshipTo( paper, PUBLISHED_PAPERS );
+				}
+			}
+
+			tx.success();
+		}
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		GraphDatabaseHolder stateHolder = new GraphDatabaseHolder();
+		stateHolder.setupDatastore();
+
+		new NativeApiInsertBenchmark().insertEntities( stateHolder );
+
+		stateHolder.stopDatastore();
+	}
+}
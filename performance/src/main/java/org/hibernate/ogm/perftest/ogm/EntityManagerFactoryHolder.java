@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.ogm;
+
+import java.util.Random;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
+import org.hibernate.ogm.datastore.neo4j.embedded.impl.EmbeddedNeo4jDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and making it available to the benchmarks
+ * using the sequence-based model.
+ * <p>
+ * The benchmarks are run for each datastore, using the persistence unit {@code perfTestPu-<datastore>}; a sub-set can
+ * be selected with the JMH option {@code -p datastore=...}. The datastore is emptied before each run: the caches of
+ * Infinispan Embedded only live in memory, the others are cleared.
+ */
+@State(Scope.Benchmark)
+public class EntityManagerFactoryHolder {
+
+	@Param({ "infinispan-embedded", "infinispan-remote", "neo4j-embedded" })
+	String datastore = "infinispan-embedded";
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		entityManagerFactory = Persistence.createEntityManagerFactory( "perfTestPu-" + datastore );
+		clearDatastore( entityManagerFactory );
+
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+
+	private void clearDatastore(EntityManagerFactory entityManagerFactory) {
+		DatastoreProvider provider = entityManagerFactory.unwrap( SessionFactoryImplementor.class ).getServiceRegistry().getService( DatastoreProvider.class );
+		if ( provider instanceof InfinispanRemoteDatastoreProvider ) {
+			InfinispanRemoteDatastoreProvider remoteProvider = (InfinispanRemoteDatastoreProvider) provider;
+			for ( String cacheName : remoteProvider.getMappedCacheNames() ) {
+				remoteProvider.getCache( cacheName ).clear();
+			}
+		}
+		else if ( provider instanceof EmbeddedNeo4jDatastoreProvider ) {
+			// The sequences are created when the factory starts, they must survive the clean-up
+			( (EmbeddedNeo4jDatastoreProvider) provider ).getDatabase().execute( "MATCH (n) WHERE NOT n:SEQUENCE DETACH DELETE n" ).close();
+		}
+	}
+}
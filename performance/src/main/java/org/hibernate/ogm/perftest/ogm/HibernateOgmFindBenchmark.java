@@ -0,0 +1,142 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.ogm;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring performance of find-by-id and JP-QL query operations using Hibernate OGM with
+ * each datastore of {@link EntityManagerFactoryHolder#datastore}.
+ */
+public class HibernateOgmFindBenchmark {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		private EntityManagerFactoryHolder stateHolder;
+
+		@Setup
+		public void insertTestData(EntityManagerFactoryHolder stateHolder) throws Exception {
+			this.stateHolder = stateHolder;
+
+			EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+			for ( int i = 0; i <= NUMBER_OF_TEST_ENTITIES; i++ ) {
+				if ( i % 1000 == 0 ) {
+					stateHolder.transactionManager.begin();
+					entityManager.joinTransaction();
+				}
+
+				AuthorWithSequence author = new AuthorWithSequence();
+
+				author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+				author.setDob( new Date() );
+				author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+				author.setLname( "Landis " + stateHolder.rand.nextInt() );
+				author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+				entityManager.persist( author );
+
+				if ( i % 1000 == 0 ) {
+					stateHolder.transactionManager.commit();
+					System.out.println( "Inserted " + i + " entities" );
+				}
+			}
+
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		EntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.getLname() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityByPropertyUsingJpql(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		EntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			int mName = stateHolder.rand.nextInt( 26 );
+
+			TypedQuery<AuthorWithSequence> query = entityManager.createNamedQuery( "author_by_mname", AuthorWithSequence.class );
+			query.setMaxResults( 50 );
+			query.setParameter( "mname", "" + mName );
+			List<AuthorWithSequence> authors = query.getResultList();
+
+			for ( AuthorWithSequence author : authors ) {
+				blackhole.consume( author.getLname() );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		EntityManagerFactoryHolder stateHolder = new EntityManagerFactoryHolder();
+		stateHolder.setupEntityManagerFactory();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( stateHolder );
+
+		new HibernateOgmFindBenchmark().findEntityByPropertyUsingJpql( inserter, null );
+
+		stateHolder.closeEntityManagerFactory();
+	}
+}